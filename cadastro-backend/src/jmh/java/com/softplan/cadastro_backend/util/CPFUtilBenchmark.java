@@ -0,0 +1,88 @@
+package com.softplan.cadastro_backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparação entre a limpeza e a validação de CPF do {@link CPFUtil} e a implementação anterior,
+ * baseada em expressão regular e streams.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec}; o perfilador {@code gc} informa a
+ * memória alocada por operação ({@code gc.alloc.rate.norm}, em B/op).
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CPFUtilBenchmark {
+
+    @Param({"529.982.247-25", "52998224725"})
+    public String cpf;
+
+    @Benchmark
+    public String limparAnterior() {
+        return Anterior.limparCPF(cpf);
+    }
+
+    @Benchmark
+    public String limpar() {
+        return CPFUtil.limparCPF(cpf);
+    }
+
+    @Benchmark
+    public boolean validarAnterior() {
+        return Anterior.isCPFValido(cpf);
+    }
+
+    @Benchmark
+    public boolean validar() {
+        return CPFUtil.isCPFValido(cpf);
+    }
+
+    @Benchmark
+    public long paraNumero() {
+        return CPFUtil.paraNumero(cpf);
+    }
+
+    /**
+     * Implementação anterior do {@link CPFUtil}, mantida apenas como referência de desempenho.
+     */
+    static final class Anterior {
+
+        private Anterior() {
+        }
+
+        static String limparCPF(String cpf) {
+            if (isNuloOuVazio(cpf)) {
+                return null;
+            }
+            return cpf.replaceAll("[^\\d]", "");
+        }
+
+        static boolean isCPFValido(String cpf) {
+            String cpfNumeros = limparCPF(cpf);
+            if (isNuloOuVazio(cpfNumeros) || cpfNumeros.length() != 11
+                    || cpfNumeros.chars().distinct().count() == 1) {
+                return false;
+            }
+            return CPFUtil.isDigitosVerificadoresValidos(cpfNumeros);
+        }
+
+        private static boolean isNuloOuVazio(String cpf) {
+            return cpf == null || cpf.trim().isEmpty();
+        }
+    }
+}
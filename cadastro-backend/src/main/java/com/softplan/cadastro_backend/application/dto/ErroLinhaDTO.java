@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha rejeitada em uma importação de arquivo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Linha rejeitada em uma importação de arquivo.")
+public class ErroLinhaDTO {
+
+    @Schema(description = "Número da linha no arquivo (o cabeçalho é a linha 1)", example = "42")
+    private long linha;
+
+    @Schema(description = "Motivo da rejeição", example = "CPF inválido")
+    private String erro;
+}
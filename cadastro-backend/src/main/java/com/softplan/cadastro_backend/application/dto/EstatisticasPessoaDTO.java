@@ -0,0 +1,39 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Quantidades de pessoas cadastradas agrupadas por sexo, estado, faixa etária e mês de cadastro.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Quantidades de pessoas cadastradas agrupadas por sexo, estado, faixa etária e mês de cadastro.")
+public class EstatisticasPessoaDTO {
+
+    @Schema(description = "Total de pessoas cadastradas", example = "1520")
+    private long total;
+
+    @Schema(description = "Quantidade por sexo", example = "{\"MASCULINO\": 700, \"FEMININO\": 800, \"NAO_DEFINIDO\": 20}")
+    private Map<String, Long> porSexo;
+
+    @Schema(description = "Quantidade por estado do endereço", example = "{\"SP\": 900, \"RJ\": 600, \"NAO_INFORMADO\": 20}")
+    private Map<String, Long> porEstado;
+
+    @Schema(description = "Quantidade por faixa etária (idade pelo ano de nascimento)", example = "{\"18-29\": 500, \"30-44\": 1020}")
+    private Map<String, Long> porFaixaEtaria;
+
+    @Schema(description = "Quantidade por mês de cadastro (yyyy-MM)", example = "{\"2025-01\": 120, \"2025-02\": 98}")
+    private Map<String, Long> porMesCadastro;
+
+    @Schema(description = "Data e hora do último cálculo do resumo")
+    private LocalDateTime atualizadoEm;
+}
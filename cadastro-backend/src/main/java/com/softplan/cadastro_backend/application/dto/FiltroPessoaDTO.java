@@ -0,0 +1,45 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da busca de pessoas. Todos são opcionais e combinados com "e".
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtros da busca de pessoas. Todos são opcionais e combinados com \"e\".")
+public class FiltroPessoaDTO {
+
+    @Schema(description = "Início do nome (sem diferenciar maiúsculas)", example = "gab")
+    private String nome;
+
+    @Schema(description = "E-mail exato (sem diferenciar maiúsculas)", example = "gabriel@email.com")
+    private String email;
+
+    @Schema(description = "Sexo da pessoa", example = "MASCULINO")
+    private SexoEnum sexo;
+
+    @Schema(description = "Cidade de residência (sem diferenciar maiúsculas)", example = "São Paulo")
+    private String cidade;
+
+    @Schema(description = "Estado de residência (sem diferenciar maiúsculas)", example = "SP")
+    private String estado;
+
+    @Schema(description = "CEP exato", example = "01234-567")
+    private String cep;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Data de nascimento mínima, inclusiva (YYYY-MM-DD)", example = "1980-01-01")
+    private LocalDate nascimentoDe;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Data de nascimento máxima, inclusiva (YYYY-MM-DD)", example = "1999-12-31")
+    private LocalDate nascimentoAte;
+}
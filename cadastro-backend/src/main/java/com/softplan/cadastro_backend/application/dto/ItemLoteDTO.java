@@ -0,0 +1,54 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado do processamento de um item de um cadastro em lote.
+ * <p>
+ * Apenas um entre {@code id} e {@code erro} é preenchido.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado do processamento de um item de um cadastro em lote.")
+public class ItemLoteDTO {
+
+    @Schema(description = "Posição do item no array enviado (a partir de 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "ID da pessoa criada", example = "1")
+    private Long id;
+
+    @Schema(description = "Motivo da rejeição do item", example = "CPF inválido")
+    private String erro;
+
+    /**
+     * Cria o resultado de um item gravado.
+     *
+     * @param indice posição do item.
+     * @param id     ID da pessoa criada.
+     * @return o resultado.
+     */
+    public static ItemLoteDTO criado(int indice, Long id) {
+        return new ItemLoteDTO(indice, id, null);
+    }
+
+    /**
+     * Cria o resultado de um item rejeitado.
+     *
+     * @param indice posição do item.
+     * @param erro   motivo da rejeição.
+     * @return o resultado.
+     */
+    public static ItemLoteDTO rejeitado(int indice, String erro) {
+        return new ItemLoteDTO(indice, null, erro);
+    }
+}
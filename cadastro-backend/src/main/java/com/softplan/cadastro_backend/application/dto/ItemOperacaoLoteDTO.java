@@ -0,0 +1,61 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.softplan.cadastro_backend.domain.enums.TipoOperacaoLote;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado do processamento de uma operação de uma alteração em lote.
+ * <p>
+ * A operação foi executada se {@code erro} não estiver preenchido.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado do processamento de uma operação de uma alteração em lote.")
+public class ItemOperacaoLoteDTO {
+
+    @Schema(description = "Posição da operação no array enviado (a partir de 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "ID da pessoa", example = "1")
+    private Long id;
+
+    @Schema(description = "Operação solicitada", example = "REMOVER")
+    private TipoOperacaoLote operacao;
+
+    @Schema(description = "Motivo da rejeição da operação", example = "Pessoa não encontrada")
+    private String erro;
+
+    /**
+     * Cria o resultado de uma operação executada.
+     *
+     * @param indice   posição da operação.
+     * @param id       ID da pessoa.
+     * @param operacao operação executada.
+     * @return o resultado.
+     */
+    public static ItemOperacaoLoteDTO executado(int indice, Long id, TipoOperacaoLote operacao) {
+        return new ItemOperacaoLoteDTO(indice, id, operacao, null);
+    }
+
+    /**
+     * Cria o resultado de uma operação rejeitada.
+     *
+     * @param indice   posição da operação.
+     * @param id       ID da pessoa, se informado.
+     * @param operacao operação solicitada, se informada.
+     * @param erro     motivo da rejeição.
+     * @return o resultado.
+     */
+    public static ItemOperacaoLoteDTO rejeitado(int indice, Long id, TipoOperacaoLote operacao, String erro) {
+        return new ItemOperacaoLoteDTO(indice, id, operacao, erro);
+    }
+}
@@ -0,0 +1,50 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado da validação de um item, sem gravação, de um lote de pessoas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado da validação de um item de um lote de pessoas, sem gravação.")
+public class ItemValidacaoDTO {
+
+    @Schema(description = "Posição do item no array enviado (a partir de 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "Se o item seria aceito no cadastro", example = "false")
+    private boolean valido;
+
+    @Schema(description = "Motivo pelo qual o item seria rejeitado", example = "CPF inválido")
+    private String erro;
+
+    /**
+     * Cria o resultado de um item válido.
+     *
+     * @param indice posição do item.
+     * @return o resultado.
+     */
+    public static ItemValidacaoDTO valido(int indice) {
+        return new ItemValidacaoDTO(indice, true, null);
+    }
+
+    /**
+     * Cria o resultado de um item inválido.
+     *
+     * @param indice posição do item.
+     * @param erro   motivo da rejeição.
+     * @return o resultado.
+     */
+    public static ItemValidacaoDTO invalido(int indice, String erro) {
+        return new ItemValidacaoDTO(indice, false, erro);
+    }
+}
@@ -0,0 +1,63 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import com.softplan.cadastro_backend.domain.enums.TipoJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Situação e progresso de uma tarefa em segundo plano.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Situação e progresso de uma tarefa de importação ou exportação em segundo plano.")
+public class JobDTO {
+
+    @Schema(description = "ID da tarefa", example = "1")
+    private Long id;
+
+    @Schema(description = "Tipo da tarefa", example = "IMPORTACAO")
+    private TipoJob tipo;
+
+    @Schema(description = "Formato do arquivo gerado (apenas exportação)", example = "CSV")
+    private String formato;
+
+    @Schema(description = "Situação da tarefa", example = "EM_EXECUCAO")
+    private SituacaoJob situacao;
+
+    @Schema(description = "Quantidade de blocos em que a tarefa foi dividida", example = "50")
+    private int totalBlocos;
+
+    @Schema(description = "Quantidade de blocos já processados", example = "20")
+    private int blocosConcluidos;
+
+    @Schema(description = "Percentual de blocos processados", example = "40")
+    private int percentual;
+
+    @Schema(description = "Registros lidos (importação) ou escritos (exportação) até o momento", example = "200000")
+    private long lidos;
+
+    @Schema(description = "Pessoas criadas até o momento (importação)", example = "199995")
+    private long importados;
+
+    @Schema(description = "Registros rejeitados até o momento (importação)", example = "5")
+    private long rejeitados;
+
+    @Schema(description = "Motivo da falha, se a tarefa falhou")
+    private String erro;
+
+    @Schema(description = "Data e hora do envio da tarefa")
+    private LocalDateTime criadoEm;
+
+    @Schema(description = "Data e hora da conclusão ou falha da tarefa")
+    private LocalDateTime concluidoEm;
+}
@@ -0,0 +1,28 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import com.softplan.cadastro_backend.domain.enums.TipoOperacaoLote;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Operação de uma alteração em lote: atualização ou remoção de uma pessoa pelo ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Operação de uma alteração em lote: atualização ou remoção de uma pessoa pelo ID.")
+public class OperacaoLoteDTO {
+
+    @Schema(description = "Operação a executar", example = "ATUALIZAR")
+    private TipoOperacaoLote operacao;
+
+    @Schema(description = "ID da pessoa", example = "1")
+    private Long id;
+
+    @Schema(description = "Novos dados da pessoa (somente na atualização)")
+    private PessoaDTOV2 pessoa;
+}
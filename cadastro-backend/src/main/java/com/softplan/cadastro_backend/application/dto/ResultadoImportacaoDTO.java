@@ -0,0 +1,39 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação de arquivo: totais e as linhas rejeitadas.
+ * <p>
+ * O relatório traz apenas as primeiras linhas rejeitadas, até o limite configurado; os totais
+ * consideram o arquivo inteiro.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de uma importação de arquivo: totais e as linhas rejeitadas.")
+public class ResultadoImportacaoDTO {
+
+    @Schema(description = "Quantidade de registros lidos (sem o cabeçalho)", example = "500000")
+    private long lidos;
+
+    @Schema(description = "Quantidade de pessoas criadas", example = "499990")
+    private long importados;
+
+    @Schema(description = "Quantidade de registros rejeitados", example = "10")
+    private long rejeitados;
+
+    @Schema(description = "Linhas rejeitadas, em ordem, até o limite do relatório")
+    private List<ErroLinhaDTO> erros;
+
+    @Schema(description = "Indica se havia mais linhas rejeitadas do que as listadas", example = "false")
+    private boolean errosOmitidos;
+}
@@ -0,0 +1,29 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de um cadastro em lote: totais e o resultado de cada item, na ordem de envio.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de um cadastro em lote: totais e o resultado de cada item, na ordem de envio.")
+public class ResultadoLoteDTO {
+
+    @Schema(description = "Quantidade de pessoas criadas", example = "998")
+    private int criados;
+
+    @Schema(description = "Quantidade de itens rejeitados", example = "2")
+    private int rejeitados;
+
+    @Schema(description = "Resultado de cada item")
+    private List<ItemLoteDTO> itens;
+}
@@ -0,0 +1,32 @@
+package com.softplan.cadastro_backend.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma alteração em lote: totais e o resultado de cada operação, na ordem de envio.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de uma alteração em lote: totais e o resultado de cada operação, na ordem de envio.")
+public class ResultadoOperacoesLoteDTO {
+
+    @Schema(description = "Quantidade de pessoas atualizadas", example = "950")
+    private int atualizados;
+
+    @Schema(description = "Quantidade de pessoas removidas", example = "48")
+    private int removidos;
+
+    @Schema(description = "Quantidade de operações rejeitadas", example = "2")
+    private int rejeitados;
+
+    @Schema(description = "Resultado de cada operação")
+    private List<ItemOperacaoLoteDTO> itens;
+}
@@ -0,0 +1,45 @@
+package com.softplan.cadastro_backend.application.export;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos suportados pela exportação do cadastro de pessoas.
+ */
+@Getter
+public enum FormatoExportacao {
+
+    /**
+     * Um objeto JSON (no formato do {@code PessoaDTOV2}) por linha.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * Valores separados por vírgula, com cabeçalho na primeira linha.
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extensao;
+
+    FormatoExportacao(MediaType mediaType, String extensao) {
+        this.mediaType = mediaType;
+        this.extensao = extensao;
+    }
+
+    /**
+     * Converte o formato informado na requisição, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param valor formato desejado ("ndjson" ou "csv").
+     * @return o formato correspondente.
+     * @throws IllegalArgumentException se o formato não for suportado.
+     */
+    public static FormatoExportacao de(String valor) {
+        for (FormatoExportacao formato : values()) {
+            if (formato.name().equalsIgnoreCase(valor)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação não suportado: " + valor);
+    }
+}
@@ -0,0 +1,122 @@
+package com.softplan.cadastro_backend.application.export;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de registros CSV (RFC 4180) em fluxo, um registro por vez.
+ * <p>
+ * Aceita campos entre aspas com vírgulas, aspas duplicadas e quebras de linha, no mesmo formato
+ * gerado por {@link PessoaCsv}. Apenas o registro corrente é mantido em memória.
+ * </p>
+ */
+public class LeitorCsv {
+
+    private final Reader entrada;
+    private final StringBuilder campo = new StringBuilder();
+    private long linhaAtual;
+    private long linhaRegistro;
+    private int pendente = -2;
+
+    /**
+     * Cria o leitor. A entrada deve ser bufferizada pelo chamador.
+     *
+     * @param entrada texto CSV.
+     */
+    public LeitorCsv(Reader entrada) {
+        this(entrada, 1);
+    }
+
+    /**
+     * Cria o leitor para um trecho de arquivo, numerando as linhas a partir da informada.
+     *
+     * @param entrada       texto CSV.
+     * @param primeiraLinha número da primeira linha do trecho no arquivo original.
+     */
+    public LeitorCsv(Reader entrada, long primeiraLinha) {
+        this.entrada = entrada;
+        this.linhaAtual = primeiraLinha;
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return os campos do registro (campos vazios como {@code ""}), ou {@code null} no fim da entrada.
+     * @throws IllegalArgumentException se a entrada terminar com aspas não fechadas.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    public List<String> proximo() throws IOException {
+        int c = ler();
+        if (c == -1) {
+            return null;
+        }
+        linhaRegistro = linhaAtual;
+        List<String> campos = new ArrayList<>();
+        campo.setLength(0);
+        boolean entreAspas = false;
+        while (true) {
+            if (entreAspas) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Aspas não fechadas no registro da linha " + linhaRegistro);
+                }
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        c = seguinte;
+                        continue;
+                    }
+                } else {
+                    contarLinha(c);
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int seguinte = ler();
+                    if (seguinte != '\n') {
+                        pendente = seguinte;
+                    }
+                }
+                if (c != -1) {
+                    linhaAtual++;
+                }
+                campos.add(campo.toString());
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+            c = ler();
+        }
+    }
+
+    /**
+     * @return número da linha (a partir de 1) em que começa o último registro lido.
+     */
+    public long linha() {
+        return linhaRegistro;
+    }
+
+    private int ler() throws IOException {
+        if (pendente != -2) {
+            int c = pendente;
+            pendente = -2;
+            return c;
+        }
+        return entrada.read();
+    }
+
+    private void contarLinha(int c) {
+        if (c == '\n') {
+            linhaAtual++;
+        }
+    }
+}
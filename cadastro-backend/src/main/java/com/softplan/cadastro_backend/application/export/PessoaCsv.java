@@ -0,0 +1,182 @@
+package com.softplan.cadastro_backend.application.export;
+
+import com.softplan.cadastro_backend.application.dto.EnderecoDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Layout CSV do cadastro de pessoas.
+ * <p>
+ * As colunas seguem os campos do {@link PessoaDTOV2}, com o endereço achatado.
+ * </p>
+ */
+@UtilityClass
+public class PessoaCsv {
+
+    /**
+     * Linha de cabeçalho do arquivo CSV.
+     */
+    public static final String CABECALHO = "id,nome,sexo,email,dataNascimento,naturalidade,nacionalidade,cpf,"
+            + "logradouro,numero,complemento,bairro,cidade,estado,cep";
+
+    /**
+     * Quantidade de colunas de cada linha.
+     */
+    public static final int QUANTIDADE_COLUNAS = CABECALHO.split(",").length;
+
+    /**
+     * Converte os campos de uma linha CSV em DTO, sem validar as regras de negócio.
+     * <p>
+     * Campos vazios são tratados como ausentes. A coluna {@code id} é ignorada, pois o ID é
+     * sempre gerado no cadastro; assim, um arquivo exportado pode ser importado diretamente.
+     * </p>
+     *
+     * @param campos campos da linha, na ordem de {@link #CABECALHO}.
+     * @return o DTO correspondente.
+     * @throws IllegalArgumentException se a quantidade de colunas, o sexo ou a data forem inválidos.
+     */
+    public static PessoaDTOV2 ler(List<String> campos) {
+        if (campos.size() != QUANTIDADE_COLUNAS) {
+            throw new IllegalArgumentException("Quantidade de colunas inválida: esperado " + QUANTIDADE_COLUNAS
+                    + ", encontrado " + campos.size());
+        }
+        EnderecoDTO endereco = EnderecoDTO.builder()
+                .logradouro(valor(campos, 8))
+                .numero(valor(campos, 9))
+                .complemento(valor(campos, 10))
+                .bairro(valor(campos, 11))
+                .cidade(valor(campos, 12))
+                .estado(valor(campos, 13))
+                .cep(valor(campos, 14))
+                .build();
+        boolean semEndereco = campos.subList(8, QUANTIDADE_COLUNAS).stream().allMatch(String::isEmpty);
+        return PessoaDTOV2.builder()
+                .nome(valor(campos, 1))
+                .sexo(sexo(valor(campos, 2)))
+                .email(valor(campos, 3))
+                .dataNascimento(data(valor(campos, 4)))
+                .naturalidade(valor(campos, 5))
+                .nacionalidade(valor(campos, 6))
+                .cpf(valor(campos, 7))
+                .endereco(semEndereco ? null : endereco)
+                .build();
+    }
+
+    private static String valor(List<String> campos, int indice) {
+        String valor = campos.get(indice);
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static SexoEnum sexo(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return SexoEnum.valueOf(valor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Sexo inválido: " + valor);
+        }
+    }
+
+    private static LocalDate data(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida: " + valor);
+        }
+    }
+
+    /**
+     * Escreve uma pessoa como uma linha CSV, terminada por quebra de linha.
+     *
+     * @param pessoa DTO da pessoa.
+     * @param saida  destino da escrita.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void escrever(PessoaDTOV2 pessoa, Writer saida) throws IOException {
+        EnderecoDTO endereco = pessoa.getEndereco();
+        escreverCampo(pessoa.getId(), saida);
+        escreverCampo(pessoa.getNome(), saida);
+        escreverCampo(pessoa.getSexo(), saida);
+        escreverCampo(pessoa.getEmail(), saida);
+        escreverCampo(pessoa.getDataNascimento(), saida);
+        escreverCampo(pessoa.getNaturalidade(), saida);
+        escreverCampo(pessoa.getNacionalidade(), saida);
+        escreverCampo(pessoa.getCpf(), saida);
+        escreverCampo(endereco != null ? endereco.getLogradouro() : null, saida);
+        escreverCampo(endereco != null ? endereco.getNumero() : null, saida);
+        escreverCampo(endereco != null ? endereco.getComplemento() : null, saida);
+        escreverCampo(endereco != null ? endereco.getBairro() : null, saida);
+        escreverCampo(endereco != null ? endereco.getCidade() : null, saida);
+        escreverCampo(endereco != null ? endereco.getEstado() : null, saida);
+        String cep = endereco != null ? endereco.getCep() : null;
+        if (cep != null) {
+            escreverTexto(cep, saida);
+        }
+        saida.write('\n');
+    }
+
+    /**
+     * Escreve os campos de um registro lido por {@link LeitorCsv}, terminado por quebra de linha.
+     * <p>
+     * Os campos são escritos com aspas apenas quando necessário; as quebras de linha dentro dos
+     * campos são mantidas, de modo que a numeração das linhas se preserva na releitura.
+     * </p>
+     *
+     * @param campos campos do registro.
+     * @param saida  destino da escrita.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void escreverRegistro(List<String> campos, Writer saida) throws IOException {
+        for (int i = 0; i < campos.size(); i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            escreverTexto(campos.get(i), saida);
+        }
+        saida.write('\n');
+    }
+
+    private static void escreverCampo(Object valor, Writer saida) throws IOException {
+        if (valor != null) {
+            escreverTexto(valor.toString(), saida);
+        }
+        saida.write(',');
+    }
+
+    private static void escreverTexto(String texto, Writer saida) throws IOException {
+        if (!precisaAspas(texto)) {
+            saida.write(texto);
+            return;
+        }
+        saida.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '"') {
+                saida.write('"');
+            }
+            saida.write(c);
+        }
+        saida.write('"');
+    }
+
+    private static boolean precisaAspas(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,7 +2,13 @@ package com.softplan.cadastro_backend.application.mapper;
 
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+
+import java.util.Map;
 
 /**
  * Interface responsável pelo mapeamento entre a entidade {@link Pessoa}
@@ -27,6 +33,30 @@ public interface PessoaMapper {
      */
     PessoaDTOV2 toDtoV2(Pessoa pessoa);
 
+    /**
+     * Converte uma projeção {@link PessoaResumo} para um {@link PessoaDTO} (versão 1).
+     *
+     * @param resumo projeção a ser convertida.
+     * @return DTO correspondente.
+     */
+    PessoaDTO toDto(PessoaResumo resumo);
+
+    /**
+     * Converte uma projeção {@link PessoaDetalhe} para um {@link PessoaDTOV2} (versão 2).
+     *
+     * @param detalhe projeção a ser convertida.
+     * @return DTO correspondente com endereço.
+     */
+    PessoaDTOV2 toDtoV2(PessoaDetalhe detalhe);
+
+    /**
+     * Converte uma projeção {@link PessoaCampos} para o objeto JSON com apenas os campos solicitados.
+     *
+     * @param campos projeção a ser convertida.
+     * @return mapa ordenado de propriedade para valor, no mesmo formato dos DTOs.
+     */
+    Map<String, Object> toMapa(PessoaCampos campos);
+
     /**
      * Converte um {@link PessoaDTO} para a entidade {@link Pessoa}.
      * Utilizado para criação, onde o endereço não é informado.
@@ -45,6 +75,17 @@ public interface PessoaMapper {
      */
     Pessoa toEntity(PessoaDTOV2 pessoaDTOV2);
 
+    /**
+     * Converte um {@link PessoaDTOV2} para a entidade {@link Pessoa} sem lançar exceção de
+     * validação: as regras violadas são acumuladas no resultado informado.
+     * Utilizado no processamento em lote, em que cada item inválido é apenas rejeitado.
+     *
+     * @param pessoaDTOV2 DTO contendo os dados da pessoa.
+     * @param resultado   resultado que recebe as regras violadas.
+     * @return Entidade Pessoa com endereço preenchido, ou null se alguma regra foi violada.
+     */
+    Pessoa toEntity(PessoaDTOV2 pessoaDTOV2, ResultadoValidacao resultado);
+
     /**
      * Atualiza (merge) uma entidade existente com os dados do {@link PessoaDTO},
      * sem sobrescrever o endereço já existente.
@@ -3,10 +3,18 @@ package com.softplan.cadastro_backend.application.mapper;
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
 import com.softplan.cadastro_backend.application.validation.PessoaValidator;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.model.Endereco;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
 import com.softplan.cadastro_backend.util.CPFUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 public class PessoaMapperImpl implements PessoaMapper {
 
@@ -45,6 +53,55 @@ public class PessoaMapperImpl implements PessoaMapper {
                 .build();
     }
 
+    @Override
+    public PessoaDTO toDto(PessoaResumo resumo) {
+        if (resumo == null) {
+            return null;
+        }
+        return PessoaDTO.builder()
+                .id(resumo.id())
+                .nome(resumo.nome())
+                .sexo(resumo.sexo())
+                .email(resumo.email())
+                .dataNascimento(resumo.dataNascimento())
+                .naturalidade(resumo.naturalidade())
+                .nacionalidade(resumo.nacionalidade())
+                .cpf(CPFUtil.limparCPF(resumo.cpf()))
+                .build();
+    }
+
+    @Override
+    public PessoaDTOV2 toDtoV2(PessoaDetalhe detalhe) {
+        if (detalhe == null) {
+            return null;
+        }
+        return PessoaDTOV2.builder()
+                .id(detalhe.id())
+                .nome(detalhe.nome())
+                .sexo(detalhe.sexo())
+                .email(detalhe.email())
+                .dataNascimento(detalhe.dataNascimento())
+                .naturalidade(detalhe.naturalidade())
+                .nacionalidade(detalhe.nacionalidade())
+                .cpf(CPFUtil.limparCPF(detalhe.cpf()))
+                .endereco(EnderecoMapper.toDto(detalhe.endereco()))
+                .build();
+    }
+
+    @Override
+    public Map<String, Object> toMapa(PessoaCampos campos) {
+        if (campos == null) {
+            return null;
+        }
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        campos.valores().forEach((campo, valor) -> mapa.put(campo.getAtributo(), switch (campo) {
+            case CPF -> CPFUtil.limparCPF((String) valor);
+            case ENDERECO -> EnderecoMapper.toDto((Endereco) valor);
+            default -> valor;
+        }));
+        return mapa;
+    }
+
     @Override
     public Pessoa toEntity(PessoaDTO pessoaDTO) {
         if (pessoaDTO == null) {
@@ -73,6 +130,21 @@ public class PessoaMapperImpl implements PessoaMapper {
             return null;
         }
         PessoaValidator.validarPessoaDTOV2(pessoaDTOV2);
+        return paraEntidade(pessoaDTOV2);
+    }
+
+    @Override
+    public Pessoa toEntity(PessoaDTOV2 pessoaDTOV2, ResultadoValidacao resultado) {
+        if (pessoaDTOV2 == null) {
+            return null;
+        }
+        if (!PessoaValidator.verificarPessoaDTOV2(pessoaDTOV2, resultado).isValido()) {
+            return null;
+        }
+        return paraEntidade(pessoaDTOV2);
+    }
+
+    private static Pessoa paraEntidade(PessoaDTOV2 pessoaDTOV2) {
         Pessoa.PessoaBuilder builder = Pessoa.builder()
                 .nome(pessoaDTOV2.getNome())
                 .sexo(pessoaDTOV2.getSexo())
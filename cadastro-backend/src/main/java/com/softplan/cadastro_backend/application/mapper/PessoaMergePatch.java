@@ -0,0 +1,141 @@
+package com.softplan.cadastro_backend.application.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.softplan.cadastro_backend.application.validation.PessoaValidator;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.util.CPFUtil;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conversão de um documento JSON Merge Patch (RFC 7396) nas alterações de uma pessoa.
+ * <p>
+ * Propriedades ausentes não são alteradas; {@code null} limpa o campo. O endereço é mesclado
+ * campo a campo. Cada campo informado é verificado isoladamente, com as regras de
+ * {@link PessoaValidator}; os campos obrigatórios não podem ser limpos. Como no cadastro
+ * completo, todas as violações do documento são informadas juntas.
+ * </p>
+ */
+@UtilityClass
+public class PessoaMergePatch {
+
+    private static final Set<String> CAMPOS = Set.of("nome", "sexo", "email", "dataNascimento", "cpf",
+            "naturalidade", "nacionalidade");
+    private static final Set<String> CAMPOS_ENDERECO = Set.of("logradouro", "numero", "complemento", "bairro",
+            "cidade", "estado", "cep");
+
+    /**
+     * Converte o documento nas alterações a aplicar.
+     *
+     * @param patch documento JSON Merge Patch.
+     * @return valores por atributo da entidade (os do endereço como {@code endereco.<campo>}), na ordem do documento.
+     * @throws IllegalArgumentException se o documento não for um objeto.
+     * @throws com.softplan.cadastro_backend.presentation.exception.DomainValidationException se houver campo
+     *                                  desconhecido ou valor inválido, com todas as violações encontradas.
+     */
+    public static Map<String, Object> alteracoes(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("O corpo deve ser um objeto JSON");
+        }
+        Map<String, Object> alteracoes = new LinkedHashMap<>();
+        ResultadoValidacao resultado = new ResultadoValidacao();
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> campo = it.next();
+            String nome = campo.getKey();
+            JsonNode valor = campo.getValue();
+            switch (nome) {
+                case "endereco" -> endereco(valor, alteracoes, resultado);
+                case "id" -> resultado.adicionar("O id não pode ser alterado");
+                default -> {
+                    if (!CAMPOS.contains(nome)) {
+                        resultado.adicionar("Campo não suportado: " + nome);
+                    } else if (isTexto(nome, valor, resultado)) {
+                        alteracoes.put(nome, valor(nome, valor.textValue(), resultado));
+                    }
+                }
+            }
+        }
+        resultado.lancarSeInvalido();
+        return alteracoes;
+    }
+
+    private static Object valor(String campo, String texto, ResultadoValidacao resultado) {
+        return switch (campo) {
+            case "nome" -> {
+                PessoaValidator.verificarNome(texto, resultado);
+                yield texto;
+            }
+            case "sexo" -> sexo(texto, resultado);
+            case "email" -> {
+                PessoaValidator.verificarEmail(texto, resultado);
+                yield texto;
+            }
+            case "dataNascimento" -> dataNascimento(texto, resultado);
+            case "cpf" -> {
+                PessoaValidator.verificarCpf(texto, resultado);
+                yield CPFUtil.limparCPF(texto);
+            }
+            default -> texto;
+        };
+    }
+
+    private static SexoEnum sexo(String sexo, ResultadoValidacao resultado) {
+        if (sexo == null) {
+            return SexoEnum.NAO_DEFINIDO;
+        }
+        try {
+            return SexoEnum.valueOf(sexo);
+        } catch (IllegalArgumentException e) {
+            resultado.adicionar("Sexo inválido: " + sexo);
+            return null;
+        }
+    }
+
+    private static LocalDate dataNascimento(String texto, ResultadoValidacao resultado) {
+        LocalDate data = null;
+        if (texto != null) {
+            try {
+                data = LocalDate.parse(texto);
+            } catch (DateTimeParseException e) {
+                resultado.adicionar("Data de nascimento inválida: " + texto);
+                return null;
+            }
+        }
+        PessoaValidator.verificarDataNascimento(data, resultado);
+        return data;
+    }
+
+    private static void endereco(JsonNode valor, Map<String, Object> alteracoes, ResultadoValidacao resultado) {
+        if (valor.isNull()) {
+            PessoaValidator.verificarEndereco(null, resultado);
+            return;
+        }
+        if (!valor.isObject()) {
+            resultado.adicionar("O campo endereco deve ser um objeto");
+            return;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = valor.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> campo = it.next();
+            String nome = "endereco." + campo.getKey();
+            if (!CAMPOS_ENDERECO.contains(campo.getKey())) {
+                resultado.adicionar("Campo não suportado: " + nome);
+            } else if (isTexto(nome, campo.getValue(), resultado)) {
+                alteracoes.put(nome, campo.getValue().textValue());
+            }
+        }
+    }
+
+    // Só texto ou null são aceitos; outro tipo é registrado como violação e o campo é ignorado
+    private static boolean isTexto(String campo, JsonNode valor, ResultadoValidacao resultado) {
+        boolean texto = valor.isNull() || valor.isTextual();
+        resultado.se(!texto, "O campo " + campo + " deve ser texto");
+        return texto;
+    }
+}
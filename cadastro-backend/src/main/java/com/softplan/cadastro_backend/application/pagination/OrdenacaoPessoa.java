@@ -0,0 +1,38 @@
+package com.softplan.cadastro_backend.application.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Ordenações estáveis suportadas pela paginação por cursor de pessoas.
+ * <p>
+ * Ambas terminam no ID, garantindo uma ordem total mesmo quando há nomes repetidos.
+ * </p>
+ */
+@Schema(description = "Ordenações suportadas pela paginação por cursor.")
+public enum OrdenacaoPessoa {
+
+    @Schema(description = "Ordena pelo ID da pessoa")
+    ID,
+
+    @Schema(description = "Ordena pelo nome e, em caso de empate, pelo ID")
+    NOME;
+
+    /**
+     * Converte o valor informado na requisição, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param valor valor da ordenação (ex.: "id" ou "nome").
+     * @return a ordenação correspondente; {@link #ID} se o valor for nulo ou vazio.
+     * @throws IllegalArgumentException se a ordenação não for suportada.
+     */
+    public static OrdenacaoPessoa de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return ID;
+        }
+        for (OrdenacaoPessoa ordenacao : values()) {
+            if (ordenacao.name().equalsIgnoreCase(valor.trim())) {
+                return ordenacao;
+            }
+        }
+        throw new IllegalArgumentException("Ordenação não suportada: " + valor);
+    }
+}
@@ -0,0 +1,45 @@
+package com.softplan.cadastro_backend.application.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados obtida por cursor.
+ *
+ * @param itens         itens da página, na ordem solicitada.
+ * @param proximoCursor token para obter a próxima página, ou {@code null} se esta for a última.
+ * @param <T>           tipo dos itens.
+ */
+public record PaginaCursor<T>(List<T> itens, String proximoCursor) {
+
+    /**
+     * Monta uma página a partir de uma consulta que buscou {@code limite + 1} registros.
+     * <p>
+     * O registro excedente apenas indica que existe uma próxima página e não é devolvido.
+     * </p>
+     *
+     * @param registros  registros retornados pela consulta (no máximo {@code limite + 1}).
+     * @param limite     quantidade de itens solicitada.
+     * @param cursorDe   função que gera o cursor a partir do último item da página.
+     * @param <T>        tipo dos itens.
+     * @return a página correspondente.
+     */
+    public static <T> PaginaCursor<T> de(List<T> registros, int limite, Function<T, PessoaCursor> cursorDe) {
+        if (registros.size() <= limite) {
+            return new PaginaCursor<>(registros, null);
+        }
+        List<T> itens = registros.subList(0, limite);
+        return new PaginaCursor<>(itens, cursorDe.apply(itens.get(limite - 1)).codificar());
+    }
+
+    /**
+     * Converte os itens da página mantendo o cursor.
+     *
+     * @param conversor função de conversão de cada item.
+     * @param <R>       tipo resultante.
+     * @return nova página com os itens convertidos.
+     */
+    public <R> PaginaCursor<R> map(Function<T, R> conversor) {
+        return new PaginaCursor<>(itens.stream().map(conversor).toList(), proximoCursor);
+    }
+}
@@ -0,0 +1,66 @@
+package com.softplan.cadastro_backend.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição opaca utilizada na paginação por cursor (keyset) de pessoas.
+ * <p>
+ * O cursor guarda a chave de ordenação do último registro entregue, permitindo que a próxima
+ * página seja obtida com uma consulta de busca ({@code WHERE chave > ultimaChave}) em vez de
+ * {@code OFFSET}. Assim, o custo de cada página não cresce com a profundidade da navegação.
+ * </p>
+ *
+ * @param ordenacao ordenação à qual o cursor pertence.
+ * @param id        ID do último registro entregue.
+ * @param nome      nome do último registro entregue (apenas para {@link OrdenacaoPessoa#NOME}).
+ */
+public record PessoaCursor(OrdenacaoPessoa ordenacao, Long id, String nome) {
+
+    private static final char SEPARADOR = ':';
+
+    /**
+     * Cria o cursor que antecede o primeiro registro da ordenação informada.
+     *
+     * @param ordenacao ordenação desejada.
+     * @return cursor inicial.
+     */
+    public static PessoaCursor inicio(OrdenacaoPessoa ordenacao) {
+        return new PessoaCursor(ordenacao, 0L, ordenacao == OrdenacaoPessoa.NOME ? "" : null);
+    }
+
+    /**
+     * Codifica o cursor em um token opaco e seguro para URLs.
+     *
+     * @return token Base64 (URL-safe, sem preenchimento).
+     */
+    public String codificar() {
+        String conteudo = ordenacao == OrdenacaoPessoa.NOME
+                ? ordenacao.name() + SEPARADOR + id + SEPARADOR + nome
+                : ordenacao.name() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token gerado por {@link #codificar()}.
+     *
+     * @param token token opaco recebido do cliente.
+     * @return cursor correspondente.
+     * @throws IllegalArgumentException se o token for inválido.
+     */
+    public static PessoaCursor decodificar(String token) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int primeiroSeparador = conteudo.indexOf(SEPARADOR);
+            OrdenacaoPessoa ordenacao = OrdenacaoPessoa.valueOf(conteudo.substring(0, primeiroSeparador));
+            if (ordenacao == OrdenacaoPessoa.NOME) {
+                int segundoSeparador = conteudo.indexOf(SEPARADOR, primeiroSeparador + 1);
+                Long id = Long.valueOf(conteudo.substring(primeiroSeparador + 1, segundoSeparador));
+                return new PessoaCursor(ordenacao, id, conteudo.substring(segundoSeparador + 1));
+            }
+            return new PessoaCursor(ordenacao, Long.valueOf(conteudo.substring(primeiroSeparador + 1)), null);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+    }
+}
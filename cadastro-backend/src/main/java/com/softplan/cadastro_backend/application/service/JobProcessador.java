@@ -0,0 +1,83 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.domain.enums.TipoJob;
+import com.softplan.cadastro_backend.domain.model.Job;
+import com.softplan.cadastro_backend.domain.model.JobBloco;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+/**
+ * Executor dos blocos das tarefas em segundo plano, presente em cada nó da aplicação.
+ * <p>
+ * Periodicamente, retira blocos da fila compartilhada até esvaziá-la. Cada reserva é confirmada
+ * antes do processamento, de modo que os demais nós seguem retirando os blocos seguintes.
+ * </p>
+ * <p>
+ * Um bloco de importação é gravado e concluído em uma única transação. Se a reserva tiver vencido
+ * durante o processamento, a conclusão não altera o bloco e a transação é desfeita, descartando
+ * as pessoas gravadas; o bloco fica com o nó que o retomou.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JobProcessador {
+
+    // Identificação do nó gravada nos blocos reservados (pid@host)
+    private static final String RESPONSAVEL = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JobService jobService;
+    private final PessoaImportacaoService pessoaImportacaoService;
+    private final PessoaExportService pessoaExportService;
+    private final TransactionOperations transacao;
+
+    /**
+     * Processa os blocos disponíveis na fila.
+     */
+    @Scheduled(fixedDelayString = "${cadastro.jobs.intervalo:PT1S}")
+    public void processarPendentes() {
+        Optional<JobBloco> bloco;
+        while ((bloco = jobService.reservarBloco(RESPONSAVEL)).isPresent()) {
+            processar(bloco.get());
+        }
+    }
+
+    /**
+     * Processa um bloco reservado e registra a conclusão ou a falha.
+     *
+     * @param bloco bloco reservado.
+     */
+    void processar(JobBloco bloco) {
+        Job job = bloco.getJob();
+        try {
+            if (job.getTipo() == TipoJob.IMPORTACAO) {
+                importar(bloco);
+            } else {
+                StringWriter trecho = new StringWriter();
+                long escritos = pessoaExportService.exportarIntervalo(FormatoExportacao.valueOf(job.getFormato()),
+                        bloco.getIdInicial(), bloco.getIdFinal(), trecho);
+                jobService.concluirExportacao(bloco, trecho.toString(), escritos);
+            }
+        } catch (IOException | RuntimeException e) {
+            jobService.falharBloco(bloco, e.getMessage());
+        }
+    }
+
+    private void importar(JobBloco bloco) {
+        transacao.executeWithoutResult(status -> {
+            ResultadoImportacaoDTO resultado = pessoaImportacaoService.importarBloco(bloco.getConteudo(),
+                    bloco.getPrimeiraLinha());
+            if (!jobService.concluirImportacao(bloco, resultado)) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+}
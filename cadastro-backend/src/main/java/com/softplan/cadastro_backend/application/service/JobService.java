@@ -0,0 +1,429 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ErroLinhaDTO;
+import com.softplan.cadastro_backend.application.dto.JobDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.application.export.LeitorCsv;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import com.softplan.cadastro_backend.domain.enums.TipoJob;
+import com.softplan.cadastro_backend.domain.model.Job;
+import com.softplan.cadastro_backend.domain.model.JobBloco;
+import com.softplan.cadastro_backend.domain.repository.JobBlocoRepository;
+import com.softplan.cadastro_backend.domain.repository.JobRepository;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.presentation.exception.JobNaoConcluidoException;
+import com.softplan.cadastro_backend.presentation.exception.JobNaoEncontradoException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serviço das tarefas de importação e exportação executadas em segundo plano.
+ * <p>
+ * Ao ser enviada, a tarefa é dividida em blocos gravados no banco: linhas do arquivo, na
+ * importação, ou faixas de ID, na exportação. Os blocos formam uma fila compartilhada por todos
+ * os nós da aplicação, que os reservam com {@code SELECT ... FOR UPDATE SKIP LOCKED} (ver
+ * {@link JobProcessador}); assim, a vazão cresce com a quantidade de nós e uma tarefa sobrevive à
+ * parada do nó que a recebeu.
+ * </p>
+ * <p>
+ * Um bloco com falha volta para a fila até esgotar as tentativas; um bloco reservado por um nó
+ * que parou é retomado após o tempo máximo de processamento. As pessoas de um bloco de importação
+ * são gravadas na mesma transação que conclui o bloco, condicionada à reserva vigente: a tentativa
+ * interrompida, ou cuja reserva venceu, é desfeita por inteiro, e a nova tentativa não encontra
+ * as linhas gravadas pela anterior.
+ * </p>
+ */
+@Service
+public class JobService {
+
+    private static final TypeReference<List<ErroLinhaDTO>> TIPO_ERROS = new TypeReference<>() {
+    };
+    private static final int TAMANHO_MAXIMO_ERRO = 900;
+
+    private final JobRepository jobRepository;
+    private final JobBlocoRepository blocoRepository;
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final PessoaExportService pessoaExportService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int linhasPorBloco;
+    private final long idsPorBloco;
+    private final int maximoTentativas;
+    private final Duration tempoMaximoBloco;
+    private final int limiteErros;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param jobRepository        repositório das tarefas.
+     * @param blocoRepository      repositório dos blocos das tarefas.
+     * @param pessoaJdbcRepository repositório JDBC de pessoas.
+     * @param pessoaExportService  serviço de exportação do cadastro.
+     * @param objectMapper         mapper JSON da aplicação.
+     * @param clock                relógio da aplicação.
+     * @param linhasPorBloco       quantidade de linhas do arquivo em cada bloco de importação.
+     * @param idsPorBloco          largura da faixa de IDs de cada bloco de exportação.
+     * @param maximoTentativas     quantidade máxima de reservas de um bloco.
+     * @param tempoMaximoBloco     tempo após o qual um bloco em execução pode ser retomado por outro nó.
+     * @param limiteErros          quantidade máxima de linhas rejeitadas listadas no resultado.
+     */
+    public JobService(JobRepository jobRepository,
+                      JobBlocoRepository blocoRepository,
+                      PessoaJdbcRepository pessoaJdbcRepository,
+                      PessoaExportService pessoaExportService,
+                      ObjectMapper objectMapper,
+                      Clock clock,
+                      @Value("${cadastro.jobs.linhas-por-bloco:10000}") int linhasPorBloco,
+                      @Value("${cadastro.jobs.ids-por-bloco:10000}") long idsPorBloco,
+                      @Value("${cadastro.jobs.tentativas:3}") int maximoTentativas,
+                      @Value("${cadastro.jobs.tempo-maximo-bloco:PT10M}") Duration tempoMaximoBloco,
+                      @Value("${cadastro.importacao.limite-erros:1000}") int limiteErros) {
+        this.jobRepository = jobRepository;
+        this.blocoRepository = blocoRepository;
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.pessoaExportService = pessoaExportService;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.linhasPorBloco = linhasPorBloco;
+        this.idsPorBloco = idsPorBloco;
+        this.maximoTentativas = maximoTentativas;
+        this.tempoMaximoBloco = tempoMaximoBloco;
+        this.limiteErros = limiteErros;
+    }
+
+    /**
+     * Envia a importação de um arquivo CSV no layout de {@link PessoaCsv}, com cabeçalho.
+     * <p>
+     * O arquivo é lido em fluxo e gravado em blocos; a tarefa só fica visível para os nós quando
+     * o arquivo inteiro tiver sido dividido.
+     * </p>
+     *
+     * @param entrada conteúdo do arquivo, em UTF-8.
+     * @return a tarefa criada.
+     * @throws IllegalArgumentException se o cabeçalho for inválido ou o arquivo terminar com aspas não fechadas.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    @Transactional
+    public JobDTO submeterImportacao(InputStream entrada) throws IOException {
+        LeitorCsv leitor = PessoaImportacaoService.abrir(entrada);
+        Job job = jobRepository.save(novo(TipoJob.IMPORTACAO, null));
+        StringWriter bloco = new StringWriter();
+        long primeiraLinha = 0;
+        int linhas = 0;
+        int sequencia = 0;
+        List<String> campos;
+        while ((campos = leitor.proximo()) != null) {
+            if (linhas == 0) {
+                primeiraLinha = leitor.linha();
+            }
+            PessoaCsv.escreverRegistro(campos, bloco);
+            if (++linhas == linhasPorBloco) {
+                blocoRepository.incluir(job.getId(), sequencia++, primeiraLinha, null, null, bloco.toString());
+                bloco.getBuffer().setLength(0);
+                linhas = 0;
+            }
+        }
+        if (linhas > 0) {
+            blocoRepository.incluir(job.getId(), sequencia++, primeiraLinha, null, null, bloco.toString());
+        }
+        return paraDto(registrarBlocos(job, sequencia));
+    }
+
+    /**
+     * Envia a exportação do cadastro, dividida em faixas de ID.
+     * <p>
+     * A exportação abrange os IDs existentes no envio; pessoas incluídas depois, com IDs maiores,
+     * não fazem parte do arquivo.
+     * </p>
+     *
+     * @param formato formato do arquivo gerado.
+     * @return a tarefa criada.
+     */
+    @Transactional
+    public JobDTO submeterExportacao(FormatoExportacao formato) {
+        Job job = jobRepository.save(novo(TipoJob.EXPORTACAO, formato.name()));
+        int sequencia = 0;
+        Optional<long[]> faixa = pessoaJdbcRepository.buscarFaixaIds();
+        if (faixa.isPresent()) {
+            long maior = faixa.get()[1];
+            for (long inicio = faixa.get()[0]; inicio <= maior; inicio += idsPorBloco) {
+                blocoRepository.incluir(job.getId(), sequencia++, null, inicio,
+                        Math.min(inicio + idsPorBloco - 1, maior), null);
+            }
+        }
+        return paraDto(registrarBlocos(job, sequencia));
+    }
+
+    /**
+     * Consulta a situação e o progresso de uma tarefa.
+     *
+     * @param id ID da tarefa.
+     * @return a tarefa.
+     * @throws JobNaoEncontradoException se a tarefa não existir.
+     */
+    @Transactional(readOnly = true)
+    public JobDTO consultar(Long id) {
+        return paraDto(buscar(id));
+    }
+
+    /**
+     * Monta o resultado de uma importação: totais e as primeiras linhas rejeitadas, em ordem.
+     * <p>
+     * Pode ser consultado durante a execução, com os blocos concluídos até o momento.
+     * </p>
+     *
+     * @param id ID da tarefa.
+     * @return resultado da importação.
+     * @throws JobNaoEncontradoException se a tarefa não existir.
+     * @throws IllegalArgumentException  se a tarefa não for uma importação.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoImportacaoDTO resultadoImportacao(Long id) {
+        Job job = buscar(id, TipoJob.IMPORTACAO);
+        List<ErroLinhaDTO> erros = new ArrayList<>();
+        for (Integer sequencia : blocoRepository.findSequenciasComErros(id)) {
+            if (erros.size() >= limiteErros) {
+                break;
+            }
+            List<ErroLinhaDTO> doBloco = lerErros(blocoRepository.findErros(id, sequencia));
+            erros.addAll(doBloco.subList(0, Math.min(doBloco.size(), limiteErros - erros.size())));
+        }
+        return ResultadoImportacaoDTO.builder()
+                .lidos(job.getLidos())
+                .importados(job.getImportados())
+                .rejeitados(job.getRejeitados())
+                .erros(erros)
+                .errosOmitidos(job.getRejeitados() > erros.size())
+                .build();
+    }
+
+    /**
+     * Verifica se a exportação está concluída e informa o formato do arquivo gerado.
+     *
+     * @param id ID da tarefa.
+     * @return formato do arquivo.
+     * @throws JobNaoEncontradoException se a tarefa não existir.
+     * @throws IllegalArgumentException  se a tarefa não for uma exportação.
+     * @throws JobNaoConcluidoException  se a exportação não estiver concluída.
+     */
+    @Transactional(readOnly = true)
+    public FormatoExportacao formatoExportacaoConcluida(Long id) {
+        Job job = buscar(id, TipoJob.EXPORTACAO);
+        if (job.getSituacao() != SituacaoJob.CONCLUIDO) {
+            throw new JobNaoConcluidoException(id);
+        }
+        return FormatoExportacao.valueOf(job.getFormato());
+    }
+
+    /**
+     * Escreve o arquivo gerado por uma exportação concluída, concatenando os trechos dos blocos.
+     * <p>
+     * Apenas um trecho fica em memória por vez.
+     * </p>
+     *
+     * @param id    ID da tarefa.
+     * @param saida fluxo de saída (não é fechado por este método).
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void escreverExportacao(Long id, OutputStream saida) throws IOException {
+        FormatoExportacao formato = formatoExportacaoConcluida(id);
+        int totalBlocos = buscar(id).getTotalBlocos();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        pessoaExportService.escreverCabecalho(formato, writer);
+        for (int sequencia = 0; sequencia < totalBlocos; sequencia++) {
+            String trecho = blocoRepository.findSaida(id, sequencia);
+            if (trecho != null) {
+                writer.write(trecho);
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reserva o próximo bloco da fila para o nó informado.
+     * <p>
+     * Blocos retomados de um nó parado que já esgotaram as tentativas fazem a tarefa falhar e
+     * não são devolvidos.
+     * </p>
+     *
+     * @param responsavel identificação do nó.
+     * @return o bloco reservado, com a tarefa, ou vazio se a fila estiver vazia.
+     */
+    @Transactional
+    public Optional<JobBloco> reservarBloco(String responsavel) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        Optional<Long> id;
+        while ((id = blocoRepository.bloquearProximo(agora.minus(tempoMaximoBloco))).isPresent()) {
+            blocoRepository.reservar(id.get(), responsavel, agora);
+            JobBloco bloco = blocoRepository.findById(id.get()).orElseThrow();
+            if (bloco.getTentativas() <= maximoTentativas) {
+                jobRepository.iniciar(bloco.getJob().getId());
+                return Optional.of(bloco);
+            }
+            encerrarComFalha(bloco, "Tempo máximo de processamento excedido", agora);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Conclui um bloco de importação e soma os totais à tarefa.
+     * <p>
+     * Deve participar da transação que gravou as pessoas do bloco: se a reserva não for mais a
+     * vigente, o chamador desfaz a transação e as pessoas não são gravadas.
+     * </p>
+     *
+     * @param bloco     bloco reservado.
+     * @param resultado resultado da importação das linhas do bloco.
+     * @return {@code false} se a reserva venceu (bloco retomado por outro nó ou já concluído).
+     */
+    @Transactional
+    public boolean concluirImportacao(JobBloco bloco, ResultadoImportacaoDTO resultado) {
+        String erros = resultado.getErros().isEmpty() ? null : escreverErros(resultado.getErros());
+        return concluir(bloco, null, erros, resultado.getLidos(), resultado.getImportados(), resultado.getRejeitados());
+    }
+
+    /**
+     * Conclui um bloco de exportação, guardando o trecho gerado.
+     *
+     * @param bloco    bloco reservado.
+     * @param trecho   trecho do arquivo gerado pelo bloco.
+     * @param escritos quantidade de pessoas escritas.
+     */
+    @Transactional
+    public void concluirExportacao(JobBloco bloco, String trecho, long escritos) {
+        concluir(bloco, trecho.isEmpty() ? null : trecho, null, escritos, 0, 0);
+    }
+
+    /**
+     * Registra a falha no processamento de um bloco: o bloco volta para a fila ou, se esgotou as
+     * tentativas, a tarefa falha.
+     *
+     * @param bloco bloco reservado.
+     * @param erro  motivo da falha.
+     */
+    @Transactional
+    public void falharBloco(JobBloco bloco, String erro) {
+        String motivo = resumir(erro);
+        if (bloco.getTentativas() < maximoTentativas) {
+            blocoRepository.devolver(bloco.getId(), bloco.getTentativas(), motivo);
+        } else {
+            encerrarComFalha(bloco, motivo, LocalDateTime.now(clock));
+        }
+    }
+
+    // Uma reserva vencida (bloco retomado por outro nó) não altera o bloco nem os totais
+    private boolean concluir(JobBloco bloco, String saida, String erros, long lidos, long importados, long rejeitados) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        if (blocoRepository.concluir(bloco.getId(), bloco.getTentativas(), saida, erros, agora) == 0) {
+            return false;
+        }
+        Long jobId = bloco.getJob().getId();
+        jobRepository.registrarBloco(jobId, lidos, importados, rejeitados);
+        jobRepository.concluirSeCompleto(jobId, agora);
+        return true;
+    }
+
+    private void encerrarComFalha(JobBloco bloco, String erro, LocalDateTime agora) {
+        if (blocoRepository.falhar(bloco.getId(), bloco.getTentativas(), erro, agora) == 0) {
+            return;
+        }
+        Long jobId = bloco.getJob().getId();
+        jobRepository.falhar(jobId, "Bloco " + bloco.getSequencia() + ": " + erro, agora);
+        blocoRepository.cancelarPendentes(jobId, agora);
+    }
+
+    private Job novo(TipoJob tipo, String formato) {
+        return Job.builder()
+                .tipo(tipo)
+                .formato(formato)
+                .situacao(SituacaoJob.PENDENTE)
+                .criadoEm(LocalDateTime.now(clock))
+                .build();
+    }
+
+    // Uma tarefa sem blocos (arquivo ou cadastro vazio) é concluída no envio
+    private Job registrarBlocos(Job job, int totalBlocos) {
+        job.setTotalBlocos(totalBlocos);
+        if (totalBlocos == 0) {
+            job.setSituacao(SituacaoJob.CONCLUIDO);
+            job.setConcluidoEm(job.getCriadoEm());
+        }
+        return job;
+    }
+
+    private Job buscar(Long id) {
+        return jobRepository.findById(id).orElseThrow(() -> new JobNaoEncontradoException(id));
+    }
+
+    private Job buscar(Long id, TipoJob tipo) {
+        Job job = buscar(id);
+        if (job.getTipo() != tipo) {
+            throw new IllegalArgumentException("A tarefa com ID " + id + " não é do tipo " + tipo + ".");
+        }
+        return job;
+    }
+
+    private String escreverErros(List<ErroLinhaDTO> erros) {
+        try {
+            return objectMapper.writeValueAsString(erros);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ErroLinhaDTO> lerErros(String erros) {
+        try {
+            return objectMapper.readValue(erros, TIPO_ERROS);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String resumir(String erro) {
+        if (erro == null || erro.isBlank()) {
+            return "Erro inesperado";
+        }
+        return erro.length() > TAMANHO_MAXIMO_ERRO ? erro.substring(0, TAMANHO_MAXIMO_ERRO) : erro;
+    }
+
+    private static JobDTO paraDto(Job job) {
+        return JobDTO.builder()
+                .id(job.getId())
+                .tipo(job.getTipo())
+                .formato(job.getFormato())
+                .situacao(job.getSituacao())
+                .totalBlocos(job.getTotalBlocos())
+                .blocosConcluidos(job.getBlocosConcluidos())
+                .percentual(job.getTotalBlocos() == 0 ? 100 : job.getBlocosConcluidos() * 100 / job.getTotalBlocos())
+                .lidos(job.getLidos())
+                .importados(job.getImportados())
+                .rejeitados(job.getRejeitados())
+                .erro(job.getErro())
+                .criadoEm(job.getCriadoEm())
+                .concluidoEm(job.getConcluidoEm())
+                .build();
+    }
+}
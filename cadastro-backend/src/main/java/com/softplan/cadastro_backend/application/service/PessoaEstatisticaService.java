@@ -0,0 +1,246 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.softplan.cadastro_backend.application.dto.EstatisticasPessoaDTO;
+import com.softplan.cadastro_backend.domain.enums.DimensaoEstatistica;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.PessoaEstatistica;
+import com.softplan.cadastro_backend.domain.model.PessoaEstatisticaControle;
+import com.softplan.cadastro_backend.domain.model.PessoaEstatisticaId;
+import com.softplan.cadastro_backend.domain.repository.PessoaEstatisticaControleRepository;
+import com.softplan.cadastro_backend.domain.repository.PessoaEstatisticaRepository;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Serviço das estatísticas agregadas do cadastro de pessoas.
+ * <p>
+ * As quantidades ficam no resumo {@code pessoa_estatistica}, recalculado em segundo plano
+ * quando há alterações no cadastro e na primeira execução de cada dia, já que as faixas etárias
+ * mudam com a data. A leitura percorre apenas os grupos do resumo, nunca a
+ * tabela {@code pessoa}. O recálculo periódico evita que cada escrita concorra pelas mesmas
+ * linhas de contador (por exemplo, a do sexo mais frequente).
+ * </p>
+ * <p>
+ * A indicação de resumo desatualizado fica na linha {@code pessoa_estatistica_controle}, visível
+ * a todos os nós. O recálculo bloqueia essa linha e atualiza o resumo grupo a grupo na mesma
+ * transação, de modo que só um nó recalcula por vez e a leitura nunca vê o resumo vazio.
+ * </p>
+ */
+@Service
+public class PessoaEstatisticaService {
+
+    /**
+     * Valor usado para grupos sem informação (estado ou data de cadastro ausentes).
+     */
+    public static final String NAO_INFORMADO = "NAO_INFORMADO";
+
+    private static final int[] INICIO_FAIXAS = {0, 18, 30, 45, 60};
+    private static final String[] FAIXAS = {"0-17", "18-29", "30-44", "45-59", "60+"};
+
+    private final PessoaRepository pessoaRepository;
+    private final PessoaEstatisticaRepository estatisticaRepository;
+    private final PessoaEstatisticaControleRepository controleRepository;
+    private final TransactionOperations transacao;
+    private final Clock clock;
+
+    // Alterações deste nó ainda não registradas na linha de controle. Começa marcado para que o
+    // resumo seja calculado na inicialização
+    private final AtomicBoolean desatualizado = new AtomicBoolean(true);
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaRepository      repositório de pessoas.
+     * @param estatisticaRepository repositório do resumo estatístico.
+     * @param controleRepository    repositório da linha de controle do resumo.
+     * @param transacao             execução da marcação e do recálculo em transações próprias.
+     * @param clock                 relógio usado na data do cálculo.
+     */
+    public PessoaEstatisticaService(PessoaRepository pessoaRepository,
+                                    PessoaEstatisticaRepository estatisticaRepository,
+                                    PessoaEstatisticaControleRepository controleRepository,
+                                    TransactionOperations transacao,
+                                    Clock clock) {
+        this.pessoaRepository = pessoaRepository;
+        this.estatisticaRepository = estatisticaRepository;
+        this.controleRepository = controleRepository;
+        this.transacao = transacao;
+        this.clock = clock;
+    }
+
+    /**
+     * Marca o resumo como desatualizado após cada alteração confirmada no cadastro.
+     *
+     * @param evento a alteração realizada.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarPessoa(PessoaAlteradaEvent evento) {
+        desatualizado.set(true);
+    }
+
+    /**
+     * Registra as alterações deste nó na linha de controle e recalcula o resumo se ele estiver
+     * pendente e nenhum outro nó já o estiver recalculando.
+     * <p>
+     * A marcação aguarda o recálculo em andamento, de modo que alterações concorrentes provocam
+     * um novo recálculo na execução seguinte.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${cadastro.estatisticas.intervalo:PT1M}")
+    public void atualizarSeNecessario() {
+        if (desatualizado.getAndSet(false)) {
+            try {
+                transacao.executeWithoutResult(status -> marcarPendente());
+            } catch (RuntimeException e) {
+                desatualizado.set(true);
+                throw e;
+            }
+        }
+        transacao.executeWithoutResult(status -> controleRepository
+                .bloquearSePendente(LocalDate.now(clock).atStartOfDay())
+                .ifPresent(id -> atualizarResumo()));
+    }
+
+    /**
+     * Recalcula todas as linhas do resumo a partir da tabela {@code pessoa}, aguardando um
+     * recálculo em andamento em outro nó.
+     */
+    @Transactional
+    public void recalcular() {
+        controleRepository.bloquear();
+        atualizarResumo();
+    }
+
+    /**
+     * Consulta as estatísticas a partir do resumo.
+     *
+     * @return as quantidades por sexo, estado, faixa etária e mês de cadastro.
+     */
+    @Transactional(readOnly = true)
+    public EstatisticasPessoaDTO consultar() {
+        Map<String, Long> porSexo = new LinkedHashMap<>();
+        Map<String, Long> porEstado = new LinkedHashMap<>();
+        Map<String, Long> porFaixaEtaria = new LinkedHashMap<>();
+        Map<String, Long> porMesCadastro = new LinkedHashMap<>();
+        long total = 0;
+        LocalDateTime atualizadoEm = null;
+
+        List<PessoaEstatistica> linhas = new ArrayList<>(estatisticaRepository.findAll());
+        linhas.sort(Comparator.comparing((PessoaEstatistica linha) -> linha.getId().getValor()));
+        for (PessoaEstatistica linha : linhas) {
+            String valor = linha.getId().getValor();
+            long quantidade = linha.getQuantidade();
+            switch (linha.getId().getDimensao()) {
+                case SEXO -> {
+                    porSexo.put(valor, quantidade);
+                    total += quantidade;
+                }
+                case ESTADO -> porEstado.put(valor, quantidade);
+                case FAIXA_ETARIA -> porFaixaEtaria.put(valor, quantidade);
+                case MES_CADASTRO -> porMesCadastro.put(valor, quantidade);
+            }
+            atualizadoEm = linha.getAtualizadoEm();
+        }
+
+        return EstatisticasPessoaDTO.builder()
+                .total(total)
+                .porSexo(porSexo)
+                .porEstado(porEstado)
+                .porFaixaEtaria(ordenarFaixas(porFaixaEtaria))
+                .porMesCadastro(porMesCadastro)
+                .atualizadoEm(atualizadoEm)
+                .build();
+    }
+
+    private void marcarPendente() {
+        if (controleRepository.marcarPendente() == 0) {
+            controleRepository.save(new PessoaEstatisticaControle(PessoaEstatisticaControleRepository.ID, true, null));
+        }
+    }
+
+    private void atualizarResumo() {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        Map<PessoaEstatisticaId, Long> quantidades = new LinkedHashMap<>();
+        adicionar(quantidades, DimensaoEstatistica.SEXO, pessoaRepository.contarPorSexo(),
+                valor -> ((SexoEnum) valor).name());
+        adicionar(quantidades, DimensaoEstatistica.ESTADO, pessoaRepository.contarPorEstado(),
+                valor -> ((String) valor).trim().toUpperCase(Locale.ROOT));
+        adicionar(quantidades, DimensaoEstatistica.FAIXA_ETARIA, contarPorFaixaEtaria(agora.toLocalDate()),
+                String::valueOf);
+        adicionar(quantidades, DimensaoEstatistica.MES_CADASTRO, pessoaRepository.contarPorMesCadastro(),
+                valor -> formatarMes(((Number) valor).intValue()));
+
+        // Atualiza os grupos existentes no lugar; remove apenas os que deixaram de existir
+        List<PessoaEstatistica> removidas = new ArrayList<>();
+        for (PessoaEstatistica linha : estatisticaRepository.findAll()) {
+            Long quantidade = quantidades.remove(linha.getId());
+            if (quantidade == null) {
+                removidas.add(linha);
+            } else {
+                linha.atualizar(quantidade, agora);
+            }
+        }
+        List<PessoaEstatistica> novas = new ArrayList<>();
+        quantidades.forEach((id, quantidade) -> novas.add(new PessoaEstatistica(id, quantidade, agora)));
+
+        estatisticaRepository.deleteAll(removidas);
+        estatisticaRepository.saveAll(novas);
+        controleRepository.concluir(agora);
+    }
+
+    private static void adicionar(Map<PessoaEstatisticaId, Long> quantidades, DimensaoEstatistica dimensao,
+                                  List<Object[]> contagens, Function<Object, String> formatar) {
+        for (Object[] contagem : contagens) {
+            String valor = contagem[0] == null ? NAO_INFORMADO : formatar.apply(contagem[0]);
+            quantidades.merge(new PessoaEstatisticaId(dimensao, valor.isEmpty() ? NAO_INFORMADO : valor),
+                    ((Number) contagem[1]).longValue(), Long::sum);
+        }
+    }
+
+    private static String formatarMes(int anoMes) {
+        return String.format("%04d-%02d", anoMes / 100, anoMes % 100);
+    }
+
+    /**
+     * Conta as pessoas de cada faixa pela idade completa na data informada, omitindo as faixas vazias.
+     */
+    private List<Object[]> contarPorFaixaEtaria(LocalDate hoje) {
+        Object[] contagem = pessoaRepository.contarPorFaixaEtaria(hoje.minusYears(INICIO_FAIXAS[1]),
+                hoje.minusYears(INICIO_FAIXAS[2]), hoje.minusYears(INICIO_FAIXAS[3]),
+                hoje.minusYears(INICIO_FAIXAS[4])).get(0);
+        List<Object[]> porFaixa = new ArrayList<>();
+        for (int i = 0; i < FAIXAS.length; i++) {
+            if (((Number) contagem[i]).longValue() > 0) {
+                porFaixa.add(new Object[]{FAIXAS[i], contagem[i]});
+            }
+        }
+        return porFaixa;
+    }
+
+    private static Map<String, Long> ordenarFaixas(Map<String, Long> porFaixa) {
+        Map<String, Long> ordenado = new LinkedHashMap<>();
+        for (String faixa : FAIXAS) {
+            if (porFaixa.containsKey(faixa)) {
+                ordenado.put(faixa, porFaixa.get(faixa));
+            }
+        }
+        return ordenado;
+    }
+}
@@ -0,0 +1,144 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serviço responsável pela exportação completa do cadastro de pessoas.
+ * <p>
+ * As pessoas são lidas do banco com um cursor e escritas na saída à medida que chegam, de modo
+ * que o consumo de memória não depende do tamanho da tabela e o primeiro byte é enviado antes
+ * do término da consulta.
+ * </p>
+ */
+@Service
+public class PessoaExportService {
+
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final PessoaMapper pessoaMapper;
+    private final ObjectWriter jsonWriter;
+    private final int tamanhoBloco;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaJdbcRepository repositório JDBC de pessoas.
+     * @param pessoaMapper         mapper para conversão entre entidade e DTO.
+     * @param objectMapper         mapper JSON da aplicação.
+     * @param tamanhoBloco         quantidade de linhas buscadas por ida ao banco.
+     */
+    public PessoaExportService(PessoaJdbcRepository pessoaJdbcRepository,
+                               PessoaMapper pessoaMapper,
+                               ObjectMapper objectMapper,
+                               @Value("${cadastro.export.fetch-size:1000}") int tamanhoBloco) {
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.pessoaMapper = pessoaMapper;
+        this.jsonWriter = objectMapper.writerFor(PessoaDTOV2.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Exporta todas as pessoas no formato informado.
+     * <p>
+     * A saída é descarregada após o primeiro registro e, depois, a cada bloco lido do banco.
+     * </p>
+     *
+     * @param formato formato da exportação.
+     * @param saida   fluxo de saída (não é fechado por este método).
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void exportar(FormatoExportacao formato, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escreverCabecalho(formato, writer);
+        long[] escritos = {0};
+        try {
+            pessoaJdbcRepository.percorrerTodas(tamanhoBloco, pessoa -> {
+                try {
+                    escrever(formato, pessoaMapper.toDtoV2(pessoa), writer);
+                    if (++escritos[0] == 1 || escritos[0] % tamanhoBloco == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Exporta, sem cabeçalho, as pessoas com ID na faixa informada.
+     * <p>
+     * Usado pelas exportações em segundo plano, em que cada bloco gera o trecho de uma faixa de IDs
+     * e o arquivo final é a concatenação dos trechos em ordem.
+     * </p>
+     *
+     * @param formato   formato da exportação.
+     * @param idInicial menor ID da faixa (inclusive).
+     * @param idFinal   maior ID da faixa (inclusive).
+     * @param saida     destino da escrita.
+     * @return quantidade de pessoas escritas.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public long exportarIntervalo(FormatoExportacao formato, long idInicial, long idFinal, Writer saida)
+            throws IOException {
+        long[] escritos = {0};
+        try {
+            pessoaJdbcRepository.percorrerIntervalo(idInicial, idFinal, tamanhoBloco, pessoa -> {
+                try {
+                    escrever(formato, pessoaMapper.toDtoV2(pessoa), saida);
+                    escritos[0]++;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return escritos[0];
+    }
+
+    /**
+     * Escreve o cabeçalho do formato, se houver.
+     *
+     * @param formato formato da exportação.
+     * @param writer  destino da escrita.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void escreverCabecalho(FormatoExportacao formato, Writer writer) throws IOException {
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(PessoaCsv.CABECALHO);
+            writer.write('\n');
+        }
+    }
+
+    private void escrever(FormatoExportacao formato, PessoaDTOV2 pessoa, Writer writer) throws IOException {
+        if (formato == FormatoExportacao.CSV) {
+            PessoaCsv.escrever(pessoa, writer);
+        } else {
+            jsonWriter.writeValue(writer, pessoa);
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.softplan.cadastro_backend.application.dto.ErroLinhaDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.LeitorCsv;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço responsável pela importação de pessoas a partir de arquivos CSV.
+ * <p>
+ * O arquivo é lido em fluxo, em blocos de linhas. As linhas de cada bloco são convertidas e
+ * validadas em paralelo em um pool de tamanho fixo, e as válidas são gravadas em lotes JDBC.
+ * Apenas um bloco fica em memória por vez e o relatório guarda até um número fixo de erros,
+ * portanto o consumo de memória não depende do tamanho do arquivo.
+ * </p>
+ * <p>
+ * CPFs repetidos são detectados dentro do bloco e, contra o banco, para os blocos anteriores, que
+ * já estão gravados quando o bloco seguinte é verificado.
+ * </p>
+ */
+@Service
+public class PessoaImportacaoService implements DisposableBean {
+
+    private final PessoaLoteService pessoaLoteService;
+    private final PessoaMapper pessoaMapper;
+    private final ExecutorService validadores;
+    private final int quantidadeValidadores;
+    private final int tamanhoBloco;
+    private final int limiteErros;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaLoteService     serviço de gravação em lote.
+     * @param pessoaMapper          mapper para conversão e validação das linhas.
+     * @param quantidadeValidadores quantidade de threads de validação ({@code 0} para o número de processadores).
+     * @param tamanhoBloco          quantidade de linhas validadas e gravadas por vez.
+     * @param limiteErros           quantidade máxima de linhas rejeitadas listadas no relatório.
+     */
+    public PessoaImportacaoService(PessoaLoteService pessoaLoteService,
+                                   PessoaMapper pessoaMapper,
+                                   @Value("${cadastro.importacao.validadores:0}") int quantidadeValidadores,
+                                   @Value("${cadastro.lote.tamanho-bloco:500}") int tamanhoBloco,
+                                   @Value("${cadastro.importacao.limite-erros:1000}") int limiteErros) {
+        this.pessoaLoteService = pessoaLoteService;
+        this.pessoaMapper = pessoaMapper;
+        this.quantidadeValidadores = quantidadeValidadores > 0
+                ? quantidadeValidadores : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.validadores = Executors.newFixedThreadPool(this.quantidadeValidadores, tarefa -> {
+            Thread thread = new Thread(tarefa, "importacao-validador-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tamanhoBloco = tamanhoBloco;
+        this.limiteErros = limiteErros;
+    }
+
+    /**
+     * Importa as pessoas de um arquivo CSV no layout de {@link PessoaCsv}, com cabeçalho.
+     * <p>
+     * Linhas inválidas ou com CPF já cadastrado são rejeitadas sem interromper a importação; os
+     * blocos já gravados permanecem mesmo que a leitura do restante do arquivo falhe.
+     * </p>
+     *
+     * @param entrada conteúdo do arquivo, em UTF-8.
+     * @return totais e linhas rejeitadas.
+     * @throws IllegalArgumentException se o cabeçalho não corresponder ao layout esperado.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    public ResultadoImportacaoDTO importar(InputStream entrada) throws IOException {
+        return importar(abrir(entrada));
+    }
+
+    /**
+     * Importa um trecho de arquivo CSV, sem cabeçalho, separado por {@link JobService}.
+     *
+     * @param registros     registros CSV do trecho.
+     * @param primeiraLinha número, no arquivo original, da linha em que começa o trecho.
+     * @return totais e linhas rejeitadas do trecho, numeradas como no arquivo original.
+     */
+    public ResultadoImportacaoDTO importarBloco(String registros, long primeiraLinha) {
+        try {
+            return importar(new LeitorCsv(new StringReader(registros), primeiraLinha));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Abre o arquivo CSV e confere o cabeçalho.
+     *
+     * @param entrada conteúdo do arquivo, em UTF-8.
+     * @return leitor posicionado após o cabeçalho.
+     * @throws IllegalArgumentException se o cabeçalho não corresponder ao layout esperado.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    static LeitorCsv abrir(InputStream entrada) throws IOException {
+        LeitorCsv leitor = new LeitorCsv(new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8)));
+        List<String> cabecalho = leitor.proximo();
+        if (cabecalho == null || !PessoaCsv.CABECALHO.equals(String.join(",", cabecalho).replace("\uFEFF", ""))) {
+            throw new IllegalArgumentException("Cabeçalho inválido; esperado: " + PessoaCsv.CABECALHO);
+        }
+        return leitor;
+    }
+
+    private ResultadoImportacaoDTO importar(LeitorCsv leitor) throws IOException {
+        Relatorio relatorio = new Relatorio(limiteErros);
+        List<Linha> bloco = new ArrayList<>(tamanhoBloco);
+        List<String> campos;
+        while ((campos = ler(leitor, relatorio)) != null) {
+            if (campos.size() == 1 && campos.get(0).isBlank()) {
+                continue;
+            }
+            bloco.add(new Linha(leitor.linha(), campos));
+            if (bloco.size() == tamanhoBloco) {
+                processar(bloco, relatorio);
+                bloco.clear();
+            }
+        }
+        processar(bloco, relatorio);
+        return relatorio.resultado();
+    }
+
+    // Aspas não fechadas no fim do arquivo: o registro incompleto é rejeitado e a leitura termina
+    private static List<String> ler(LeitorCsv leitor, Relatorio relatorio) throws IOException {
+        try {
+            return leitor.proximo();
+        } catch (IllegalArgumentException e) {
+            relatorio.lidos++;
+            relatorio.rejeitado(leitor.linha(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void processar(List<Linha> bloco, Relatorio relatorio) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        relatorio.lidos += bloco.size();
+        Object[] convertidas = validar(bloco);
+        List<PessoaLoteService.Pendente> validas = new ArrayList<>(bloco.size());
+        for (int i = 0; i < bloco.size(); i++) {
+            if (convertidas[i] instanceof Pessoa pessoa) {
+                validas.add(new PessoaLoteService.Pendente(bloco.get(i).numero(), pessoa));
+            } else {
+                relatorio.rejeitado(bloco.get(i).numero(), (String) convertidas[i]);
+            }
+        }
+        pessoaLoteService.gravar(validas, relatorio);
+    }
+
+    /**
+     * Converte e valida as linhas em paralelo, dividindo o bloco entre os validadores.
+     *
+     * @return para cada linha, a {@link Pessoa} convertida ou a mensagem de erro.
+     */
+    private Object[] validar(List<Linha> bloco) {
+        Object[] resultado = new Object[bloco.size()];
+        int fatia = Math.max(1, (bloco.size() + quantidadeValidadores - 1) / quantidadeValidadores);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int inicio = 0; inicio < bloco.size(); inicio += fatia) {
+            int de = inicio;
+            int ate = Math.min(inicio + fatia, bloco.size());
+            tarefas.add(validadores.submit(() -> {
+                for (int i = de; i < ate; i++) {
+                    resultado[i] = converter(bloco.get(i).campos());
+                }
+            }));
+        }
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na validação das linhas", e.getCause());
+        }
+        return resultado;
+    }
+
+    // A leitura da linha lança exceção para sexo ou data ilegíveis; as regras violadas são acumuladas
+    private Object converter(List<String> campos) {
+        PessoaDTOV2 dto;
+        try {
+            dto = PessoaCsv.ler(campos);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        ResultadoValidacao resultado = new ResultadoValidacao();
+        Pessoa pessoa = pessoaMapper.toEntity(dto, resultado);
+        return pessoa != null ? pessoa : resultado.getMensagem();
+    }
+
+    @Override
+    public void destroy() {
+        validadores.shutdownNow();
+    }
+
+    /**
+     * Linha lida do arquivo.
+     */
+    private record Linha(long numero, List<String> campos) {
+    }
+
+    /**
+     * Totais da importação e as primeiras linhas rejeitadas.
+     */
+    private static final class Relatorio implements PessoaLoteService.DestinoResultado {
+
+        private final int limiteErros;
+        private final List<ErroLinhaDTO> erros = new ArrayList<>();
+        private long lidos;
+        private long importados;
+        private long rejeitados;
+
+        private Relatorio(int limiteErros) {
+            this.limiteErros = limiteErros;
+        }
+
+        @Override
+        public void criado(long linha, Long id) {
+            importados++;
+        }
+
+        @Override
+        public void rejeitado(long linha, String erro) {
+            rejeitados++;
+            if (erros.size() < limiteErros) {
+                erros.add(new ErroLinhaDTO(linha, erro));
+            }
+        }
+
+        private ResultadoImportacaoDTO resultado() {
+            erros.sort((a, b) -> Long.compare(a.getLinha(), b.getLinha()));
+            return ResultadoImportacaoDTO.builder()
+                    .lidos(lidos)
+                    .importados(importados)
+                    .rejeitados(rejeitados)
+                    .erros(erros)
+                    .errosOmitidos(rejeitados > erros.size())
+                    .build();
+        }
+    }
+}
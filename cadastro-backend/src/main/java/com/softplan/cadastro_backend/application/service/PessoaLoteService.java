@@ -0,0 +1,252 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ItemLoteDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoLoteDTO;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.converter.CpfConverter;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serviço responsável pelo cadastro de pessoas em lote.
+ * <p>
+ * O array JSON recebido é lido item a item, sem ser carregado por inteiro em memória. Cada item
+ * é validado individualmente e os válidos são gravados em blocos, com um único lote JDBC por
+ * bloco. Um item inválido ou com CPF já cadastrado é rejeitado sem interromper os demais.
+ * </p>
+ */
+@Service
+public class PessoaLoteService {
+
+    static final String CPF_DUPLICADO = "Já existe uma pessoa com esse CPF";
+    static final String REJEITADO_PELO_BANCO = "Dados rejeitados pelo banco de dados";
+    static final String LEITURA_INTERROMPIDA = "; os itens seguintes não foram lidos";
+
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final PessoaMapper pessoaMapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoBloco;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaJdbcRepository repositório JDBC de pessoas.
+     * @param pessoaMapper         mapper para conversão e validação dos itens.
+     * @param objectMapper         mapper JSON da aplicação.
+     * @param eventPublisher       publicador dos eventos de alteração.
+     * @param tamanhoBloco         quantidade de pessoas gravadas por lote JDBC.
+     */
+    public PessoaLoteService(PessoaJdbcRepository pessoaJdbcRepository,
+                             PessoaMapper pessoaMapper,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${cadastro.lote.tamanho-bloco:500}") int tamanhoBloco) {
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.pessoaMapper = pessoaMapper;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Cadastra as pessoas de um array JSON no formato da versão 2.
+     * <p>
+     * Cada bloco é gravado em sua própria transação. Se o JSON estiver malformado no meio do
+     * array, os itens lidos até ali são gravados e o resultado é retornado normalmente, com a
+     * posição malformada como último item rejeitado; os itens seguintes não são lidos.
+     * </p>
+     *
+     * @param entrada corpo da requisição, contendo um array JSON de {@link PessoaDTOV2}.
+     * @return o resultado de cada item, na ordem de envio.
+     * @throws IllegalArgumentException se o corpo não começar com um array JSON.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    public ResultadoLoteDTO criarEmLote(InputStream entrada) throws IOException {
+        List<ItemLoteDTO> itens = new ArrayList<>();
+        DestinoResultado destino = destinoPara(itens);
+        List<Pendente> bloco = new ArrayList<>(tamanhoBloco);
+        int indice = 0;
+        try (JsonParser parser = objectMapper.createParser(entrada)) {
+            iniciarArray(parser, "O corpo deve ser um array JSON de pessoas");
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode item = parser.readValueAsTree();
+                    try {
+                        ResultadoValidacao resultado = new ResultadoValidacao();
+                        Pessoa pessoa = converter(item, resultado);
+                        if (pessoa != null) {
+                            bloco.add(new Pendente(indice, pessoa));
+                        } else {
+                            destino.rejeitado(indice, resultado.getMensagem());
+                        }
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        destino.rejeitado(indice, mensagem(e));
+                    }
+                    indice++;
+                    if (bloco.size() == tamanhoBloco) {
+                        gravar(bloco, destino);
+                        bloco.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // JSON malformado: o que foi lido até aqui é gravado e informado; o restante é ignorado
+                destino.rejeitado(indice, mensagem(e) + LEITURA_INTERROMPIDA);
+            }
+        }
+        gravar(bloco, destino);
+
+        itens.sort(Comparator.comparingInt(ItemLoteDTO::getIndice));
+        int criados = (int) itens.stream().filter(item -> item.getId() != null).count();
+        return ResultadoLoteDTO.builder()
+                .criados(criados)
+                .rejeitados(itens.size() - criados)
+                .itens(itens)
+                .build();
+    }
+
+    // Regras violadas são acumuladas no resultado; exceções só para item ausente ou JSON inválido
+    private Pessoa converter(JsonNode item, ResultadoValidacao resultado) throws JsonProcessingException {
+        PessoaDTOV2 dto = objectMapper.treeToValue(item, PessoaDTOV2.class);
+        if (dto == null) {
+            throw new IllegalArgumentException("Item nulo");
+        }
+        if (dto.getId() != null) {
+            throw new IllegalArgumentException("Não informe o id para o cadastro de pessoa");
+        }
+        return pessoaMapper.toEntity(dto, resultado);
+    }
+
+    /**
+     * Grava um bloco com um único lote JDBC, informando o resultado de cada item ao destino.
+     * <p>
+     * CPFs repetidos no bloco ou já cadastrados são rejeitados antes do envio. Se mesmo assim o
+     * lote violar a restrição de unicidade (cadastro concorrente), o bloco é regravado item a item
+     * para identificar os itens rejeitados. Cada tentativa é desfeita isoladamente pelo repositório,
+     * então a regravação funciona também dentro da transação de um bloco de importação. Cada pessoa
+     * criada publica um {@link PessoaAlteradaEvent}.
+     * </p>
+     *
+     * @param bloco   itens válidos a gravar.
+     * @param destino recebe o resultado de cada item.
+     */
+    void gravar(List<Pendente> bloco, DestinoResultado destino) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        long[] cpfs = bloco.stream().mapToLong(pendente -> CpfConverter.paraColuna(pendente.pessoa().getCpf()))
+                .toArray();
+        long[] existentes = pessoaJdbcRepository.buscarCpfsCadastrados(cpfs);
+        Set<Long> vistos = new HashSet<>();
+        List<Pendente> validos = new ArrayList<>(bloco.size());
+        for (int i = 0; i < cpfs.length; i++) {
+            Pendente pendente = bloco.get(i);
+            if (Arrays.binarySearch(existentes, cpfs[i]) >= 0 || !vistos.add(cpfs[i])) {
+                destino.rejeitado(pendente.indice(), CPF_DUPLICADO);
+            } else {
+                validos.add(pendente);
+            }
+        }
+
+        if (validos.isEmpty()) {
+            return;
+        }
+        try {
+            pessoaJdbcRepository.inserirEmLote(validos.stream().map(Pendente::pessoa).toList());
+            validos.forEach(pendente -> registrarCriada(pendente, destino));
+        } catch (DataIntegrityViolationException e) {
+            for (Pendente pendente : validos) {
+                try {
+                    pessoaJdbcRepository.inserirEmLote(List.of(pendente.pessoa()));
+                    registrarCriada(pendente, destino);
+                } catch (DataIntegrityViolationException rejeitada) {
+                    destino.rejeitado(pendente.indice(), rejeitada instanceof DuplicateKeyException
+                            ? CPF_DUPLICADO : REJEITADO_PELO_BANCO);
+                }
+            }
+        }
+    }
+
+    private void registrarCriada(Pendente pendente, DestinoResultado destino) {
+        Pessoa pessoa = pendente.pessoa();
+        destino.criado(pendente.indice(), pessoa.getId());
+        eventPublisher.publishEvent(PessoaAlteradaEvent.de(pessoa.getId(), pessoa.getCpf()));
+    }
+
+    /**
+     * Posiciona o leitor no início do array JSON.
+     *
+     * @param parser leitor do corpo da requisição.
+     * @param erro   mensagem usada se o corpo não começar com um array.
+     * @throws IllegalArgumentException se o corpo não começar com um array JSON válido.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    static void iniciarArray(JsonParser parser, String erro) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(erro);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(erro + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static DestinoResultado destinoPara(List<ItemLoteDTO> itens) {
+        return new DestinoResultado() {
+            @Override
+            public void criado(long indice, Long id) {
+                itens.add(ItemLoteDTO.criado((int) indice, id));
+            }
+
+            @Override
+            public void rejeitado(long indice, String erro) {
+                itens.add(ItemLoteDTO.rejeitado((int) indice, erro));
+            }
+        };
+    }
+
+    private static String mensagem(Exception e) {
+        return e instanceof JsonProcessingException json ? "JSON inválido: " + json.getOriginalMessage() : e.getMessage();
+    }
+
+    /**
+     * Item válido aguardando a gravação do bloco.
+     *
+     * @param indice posição do item na entrada (índice do array ou linha do arquivo).
+     * @param pessoa pessoa a gravar.
+     */
+    record Pendente(long indice, Pessoa pessoa) {
+    }
+
+    /**
+     * Recebe o resultado de cada item de um bloco gravado.
+     */
+    interface DestinoResultado {
+
+        void criado(long indice, Long id);
+
+        void rejeitado(long indice, String erro);
+    }
+}
@@ -0,0 +1,287 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ItemOperacaoLoteDTO;
+import com.softplan.cadastro_backend.application.dto.OperacaoLoteDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoOperacoesLoteDTO;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.enums.TipoOperacaoLote;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serviço responsável pela atualização e remoção de pessoas em lote.
+ * <p>
+ * O array JSON de operações é lido item a item e executado em blocos, cada um em sua própria
+ * transação: as pessoas do bloco são bloqueadas com uma única consulta, as remoções viram um único
+ * {@code DELETE} e as atualizações um único lote JDBC. Uma operação inválida, de pessoa inexistente
+ * ou com CPF de outra pessoa é rejeitada sem interromper as demais.
+ * </p>
+ */
+@Service
+public class PessoaOperacaoLoteService {
+
+    static final String PESSOA_NAO_ENCONTRADA = "Pessoa não encontrada";
+    static final String ID_REPETIDO = "Mais de uma operação para o mesmo id";
+
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final PessoaMapper pessoaMapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transacao;
+    private final int tamanhoBloco;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaJdbcRepository repositório JDBC de pessoas.
+     * @param pessoaMapper         mapper para conversão e validação das pessoas.
+     * @param objectMapper         mapper JSON da aplicação.
+     * @param eventPublisher       publicador dos eventos de alteração.
+     * @param transacao            execução de cada bloco em uma transação.
+     * @param tamanhoBloco         quantidade de operações executadas por transação.
+     */
+    public PessoaOperacaoLoteService(PessoaJdbcRepository pessoaJdbcRepository,
+                                     PessoaMapper pessoaMapper,
+                                     ObjectMapper objectMapper,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionOperations transacao,
+                                     @Value("${cadastro.lote.tamanho-bloco:500}") int tamanhoBloco) {
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.pessoaMapper = pessoaMapper;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transacao = transacao;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Executa as operações de um array JSON de {@link OperacaoLoteDTO}.
+     * <p>
+     * Cada pessoa só pode aparecer em uma operação do array. Se o JSON estiver malformado no meio
+     * do array, as operações lidas até ali são executadas e o resultado é retornado normalmente,
+     * com a posição malformada como última operação rejeitada.
+     * </p>
+     *
+     * @param entrada corpo da requisição, contendo o array de operações.
+     * @return o resultado de cada operação, na ordem de envio.
+     * @throws IllegalArgumentException se o corpo não começar com um array JSON.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    public ResultadoOperacoesLoteDTO executar(InputStream entrada) throws IOException {
+        List<ItemOperacaoLoteDTO> itens = new ArrayList<>();
+        List<Operacao> bloco = new ArrayList<>(tamanhoBloco);
+        Set<Long> ids = new HashSet<>();
+        int indice = 0;
+        try (JsonParser parser = objectMapper.createParser(entrada)) {
+            PessoaLoteService.iniciarArray(parser, "O corpo deve ser um array JSON de operações");
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode item = parser.readValueAsTree();
+                    OperacaoLoteDTO dto = null;
+                    try {
+                        dto = objectMapper.treeToValue(item, OperacaoLoteDTO.class);
+                        ResultadoValidacao resultado = new ResultadoValidacao();
+                        Operacao operacao = converter(indice, dto, resultado);
+                        if (operacao == null) {
+                            itens.add(ItemOperacaoLoteDTO.rejeitado(indice, dto.getId(), dto.getOperacao(),
+                                    resultado.getMensagem()));
+                        } else if (!ids.add(operacao.id())) {
+                            throw new IllegalArgumentException(ID_REPETIDO);
+                        } else {
+                            bloco.add(operacao);
+                        }
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        itens.add(ItemOperacaoLoteDTO.rejeitado(indice, dto != null ? dto.getId() : null,
+                                dto != null ? dto.getOperacao() : null, mensagem(e)));
+                    }
+                    indice++;
+                    if (bloco.size() == tamanhoBloco) {
+                        executarBloco(bloco, itens);
+                        bloco.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // JSON malformado: o que foi lido até aqui é executado e informado; o restante é ignorado
+                itens.add(ItemOperacaoLoteDTO.rejeitado(indice, null, null,
+                        mensagem(e) + PessoaLoteService.LEITURA_INTERROMPIDA));
+            }
+        }
+        executarBloco(bloco, itens);
+
+        itens.sort(Comparator.comparingInt(ItemOperacaoLoteDTO::getIndice));
+        int atualizados = contar(itens, TipoOperacaoLote.ATUALIZAR);
+        int removidos = contar(itens, TipoOperacaoLote.REMOVER);
+        return ResultadoOperacoesLoteDTO.builder()
+                .atualizados(atualizados)
+                .removidos(removidos)
+                .rejeitados(itens.size() - atualizados - removidos)
+                .itens(itens)
+                .build();
+    }
+
+    // Regras violadas da pessoa são acumuladas no resultado (retorno null); exceções só para operação malformada
+    private Operacao converter(int indice, OperacaoLoteDTO dto, ResultadoValidacao resultado) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Item nulo");
+        }
+        if (dto.getOperacao() == null) {
+            throw new IllegalArgumentException("A operação é obrigatória");
+        }
+        if (dto.getId() == null) {
+            throw new IllegalArgumentException("O id é obrigatório");
+        }
+        if (dto.getOperacao() == TipoOperacaoLote.REMOVER) {
+            return new Operacao(indice, dto.getOperacao(), dto.getId(), null);
+        }
+        PessoaDTOV2 pessoaDTO = dto.getPessoa();
+        if (pessoaDTO == null) {
+            throw new IllegalArgumentException("Os dados da pessoa são obrigatórios na atualização");
+        }
+        if (pessoaDTO.getId() != null && !pessoaDTO.getId().equals(dto.getId())) {
+            throw new IllegalArgumentException("O id da pessoa difere do id da operação");
+        }
+        Pessoa pessoa = pessoaMapper.toEntity(pessoaDTO, resultado);
+        if (pessoa == null) {
+            return null;
+        }
+        pessoa.setId(dto.getId());
+        return new Operacao(indice, dto.getOperacao(), dto.getId(), pessoa);
+    }
+
+    /**
+     * Executa um bloco em uma única transação e publica os eventos após a confirmação.
+     * <p>
+     * Se, mesmo após as verificações, o bloco violar a restrição de unicidade do CPF (alteração
+     * concorrente), a transação é desfeita e as operações são reexecutadas uma a uma, cada uma em
+     * sua própria transação, para identificar as rejeitadas.
+     * </p>
+     *
+     * @param bloco operações válidas do bloco.
+     * @param itens recebe o resultado de cada operação.
+     */
+    void executarBloco(List<Operacao> bloco, List<ItemOperacaoLoteDTO> itens) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        BlocoExecutado executado;
+        try {
+            executado = transacao.execute(status -> aplicar(bloco));
+        } catch (DataIntegrityViolationException e) {
+            if (bloco.size() > 1) {
+                bloco.forEach(operacao -> executarBloco(List.of(operacao), itens));
+            } else {
+                Operacao operacao = bloco.get(0);
+                itens.add(ItemOperacaoLoteDTO.rejeitado(operacao.indice(), operacao.id(), operacao.tipo(),
+                        e instanceof DuplicateKeyException
+                                ? PessoaLoteService.CPF_DUPLICADO : PessoaLoteService.REJEITADO_PELO_BANCO));
+            }
+            return;
+        }
+        itens.addAll(executado.itens());
+        executado.eventos().forEach(eventPublisher::publishEvent);
+    }
+
+    private BlocoExecutado aplicar(List<Operacao> bloco) {
+        List<ItemOperacaoLoteDTO> itens = new ArrayList<>(bloco.size());
+        List<PessoaAlteradaEvent> eventos = new ArrayList<>(bloco.size());
+        Map<Long, String> cpfsAtuais = pessoaJdbcRepository.bloquearCpfsPorId(
+                bloco.stream().map(Operacao::id).toList());
+
+        List<Operacao> remocoes = new ArrayList<>();
+        List<Operacao> atualizacoes = new ArrayList<>();
+        for (Operacao operacao : bloco) {
+            if (!cpfsAtuais.containsKey(operacao.id())) {
+                itens.add(operacao.rejeitada(PESSOA_NAO_ENCONTRADA));
+            } else if (operacao.tipo() == TipoOperacaoLote.REMOVER) {
+                remocoes.add(operacao);
+            } else {
+                atualizacoes.add(operacao);
+            }
+        }
+
+        pessoaJdbcRepository.removerPorIds(remocoes.stream().map(Operacao::id).toList());
+        for (Operacao operacao : remocoes) {
+            itens.add(operacao.executada());
+            eventos.add(PessoaAlteradaEvent.de(operacao.id(), cpfsAtuais.get(operacao.id())));
+        }
+
+        // Removidas antes, as pessoas do bloco já não ocupam os seus CPFs
+        Map<String, Long> donosCpfs = pessoaJdbcRepository.buscarIdsPorCpf(
+                atualizacoes.stream().map(operacao -> operacao.pessoa().getCpf()).toList());
+        Set<String> vistos = new HashSet<>();
+        List<Operacao> validas = new ArrayList<>(atualizacoes.size());
+        for (Operacao operacao : atualizacoes) {
+            String cpf = operacao.pessoa().getCpf();
+            Long dono = donosCpfs.get(cpf);
+            if ((dono != null && !dono.equals(operacao.id())) || !vistos.add(cpf)) {
+                itens.add(operacao.rejeitada(PessoaLoteService.CPF_DUPLICADO));
+            } else {
+                validas.add(operacao);
+            }
+        }
+
+        pessoaJdbcRepository.atualizarEmLote(validas.stream().map(Operacao::pessoa).toList());
+        for (Operacao operacao : validas) {
+            itens.add(operacao.executada());
+            eventos.add(PessoaAlteradaEvent.de(operacao.id(), cpfsAtuais.get(operacao.id()),
+                    operacao.pessoa().getCpf()));
+        }
+        return new BlocoExecutado(itens, eventos);
+    }
+
+    private static int contar(List<ItemOperacaoLoteDTO> itens, TipoOperacaoLote tipo) {
+        return (int) itens.stream().filter(item -> item.getErro() == null && item.getOperacao() == tipo).count();
+    }
+
+    private static String mensagem(Exception e) {
+        return e instanceof JsonProcessingException json ? "JSON inválido: " + json.getOriginalMessage() : e.getMessage();
+    }
+
+    /**
+     * Operação válida aguardando a execução do bloco.
+     *
+     * @param indice posição da operação no array.
+     * @param tipo   operação a executar.
+     * @param id     ID da pessoa.
+     * @param pessoa novos dados da pessoa, somente na atualização.
+     */
+    record Operacao(int indice, TipoOperacaoLote tipo, Long id, Pessoa pessoa) {
+
+        ItemOperacaoLoteDTO executada() {
+            return ItemOperacaoLoteDTO.executado(indice, id, tipo);
+        }
+
+        ItemOperacaoLoteDTO rejeitada(String erro) {
+            return ItemOperacaoLoteDTO.rejeitado(indice, id, tipo, erro);
+        }
+    }
+
+    /**
+     * Resultado de um bloco confirmado: o de cada operação e os eventos a publicar.
+     */
+    private record BlocoExecutado(List<ItemOperacaoLoteDTO> itens, List<PessoaAlteradaEvent> eventos) {
+    }
+}
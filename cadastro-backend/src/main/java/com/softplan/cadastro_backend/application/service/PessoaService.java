@@ -1,13 +1,49 @@
 package com.softplan.cadastro_backend.application.service;
 
+import com.softplan.cadastro_backend.application.dto.FiltroPessoaDTO;
+import com.softplan.cadastro_backend.application.pagination.OrdenacaoPessoa;
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
+import com.softplan.cadastro_backend.application.pagination.PessoaCursor;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Endereco;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
 import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaProjecao;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import com.softplan.cadastro_backend.domain.repository.specification.PessoaSpecifications;
+import com.softplan.cadastro_backend.infrastructure.config.CacheConfig;
+import com.softplan.cadastro_backend.infrastructure.persistence.AlteracaoPessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeAproximada;
+import com.softplan.cadastro_backend.infrastructure.persistence.GravacaoPorCpf;
+import com.softplan.cadastro_backend.infrastructure.persistence.InclusaoAgrupadaPessoa;
+import com.softplan.cadastro_backend.presentation.exception.CpfJaCadastradoException;
 import com.softplan.cadastro_backend.presentation.exception.PessoaNaoEncontradaException;
+import com.softplan.cadastro_backend.presentation.exception.VersaoDesatualizadaException;
+import com.softplan.cadastro_backend.util.CPFUtil;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço responsável pelas operações de gerenciamento de pessoas.
@@ -19,7 +55,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PessoaService {
 
+    /**
+     * Quantidade máxima de registros por página na listagem por cursor.
+     */
+    public static final int LIMITE_MAXIMO_PAGINA = 1000;
+
+    /**
+     * Quantidade máxima de resultados da busca aproximada por nome.
+     */
+    public static final int LIMITE_MAXIMO_BUSCA_APROXIMADA = 100;
+
     private final PessoaRepository pessoaRepository;
+    private final BuscaNomeAproximada buscaNomeAproximada;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GravacaoPorCpf gravacaoPorCpf;
+    private final AlteracaoPessoa alteracaoPessoa;
+    private final InclusaoAgrupadaPessoa inclusaoAgrupada;
 
     /**
      * Busca uma pessoa pelo ID.
@@ -35,60 +86,114 @@ public class PessoaService {
 
     /**
      * Cria uma nova pessoa no sistema.
+     * <p>
+     * A unicidade do CPF é garantida pela restrição do banco, sem consulta prévia: a inclusão é
+     * enviada imediatamente e a violação é convertida em {@link CpfJaCadastradoException}.
+     * </p>
+     * <p>
+     * Com a inclusão agrupada habilitada, as inclusões concorrentes são reunidas por uma breve
+     * janela e gravadas em uma única transação, cada uma recebendo o seu próprio resultado.
+     * </p>
      *
      * @param pessoa A pessoa a ser criada.
      * @return A pessoa criada.
+     * @throws CpfJaCadastradoException se o CPF já estiver cadastrado.
      */
     public Pessoa criarPessoa(Pessoa pessoa) {
-        return pessoaRepository.save(pessoa);
+        Pessoa pessoaCriada;
+        try {
+            pessoaCriada = inclusaoAgrupada.isHabilitada()
+                    ? inclusaoAgrupada.incluir(pessoa)
+                    : pessoaRepository.saveAndFlush(pessoa);
+        } catch (DataIntegrityViolationException e) {
+            throw violacaoDoCpf(pessoa.getCpf(), e);
+        }
+        eventPublisher.publishEvent(PessoaAlteradaEvent.de(pessoaCriada.getId(), pessoaCriada.getCpf()));
+        return pessoaCriada;
     }
 
     /**
-     * Busca uma pessoa pelo CPF.
+     * Inclui a pessoa ou, se o CPF já estiver cadastrado, substitui os dados da existente, com um
+     * único comando no banco.
      *
-     * @param cpf CPF da pessoa.
-     * @return A pessoa encontrada.
-     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     * @param pessoa A pessoa a ser gravada; o ID e as datas são preenchidos com os gravados.
+     * @return true se a pessoa foi incluída; false se foi atualizada.
      */
-    public Pessoa buscarPessoaPorCpf(String cpf) {
-        return pessoaRepository.findByCpf(cpf)
-                .orElseThrow(() -> new PessoaNaoEncontradaException(cpf));
+    public boolean gravarPorCpf(Pessoa pessoa) {
+        boolean incluida = gravacaoPorCpf.gravar(pessoa);
+        eventPublisher.publishEvent(PessoaAlteradaEvent.de(pessoa.getId(), pessoa.getCpf()));
+        return incluida;
     }
 
     /**
-     * Verifica se já existe uma pessoa cadastrada com o CPF informado.
+     * Atualiza os dados de uma pessoa existente.
      *
-     * @param cpf CPF a ser verificado.
-     * @return true se já existir uma pessoa com esse CPF; false caso contrário.
+     * @param id               Identificador da pessoa a ser atualizada.
+     * @param pessoaAtualizada Objeto contendo os dados atualizados.
+     * @return A pessoa atualizada.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
      */
-    public boolean existePorCpf(String cpf) {
-        return pessoaRepository.findByCpf(cpf).isPresent();
+    public Pessoa atualizarPessoa(Long id, Pessoa pessoaAtualizada) {
+        return atualizarPessoa(id, pessoaAtualizada, null);
     }
 
     /**
-     * Atualiza os dados de uma pessoa existente.
+     * Atualiza os dados de uma pessoa existente, se ela estiver na versão esperada.
+     * <p>
+     * Os dados são substituídos com um único {@code UPDATE}, sem carregar a pessoa antes. Sem
+     * endereço, o endereço atual é mantido.
+     * </p>
      *
      * @param id               Identificador da pessoa a ser atualizada.
      * @param pessoaAtualizada Objeto contendo os dados atualizados.
+     * @param versaoEsperada   Versão que a pessoa deve ter, ou null para atualizar qualquer versão.
      * @return A pessoa atualizada.
      * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     * @throws VersaoDesatualizadaException se a pessoa não estiver na versão esperada.
+     * @throws CpfJaCadastradoException     se o novo CPF já pertencer a outra pessoa.
      */
-    public Pessoa atualizarPessoa(Long id, Pessoa pessoaAtualizada) {
-        Pessoa pessoaExistente = buscarPessoaPorId(id);
-
-        pessoaExistente.setNome(pessoaAtualizada.getNome());
-        pessoaExistente.setSexo(pessoaAtualizada.getSexo());
-        pessoaExistente.setEmail(pessoaAtualizada.getEmail());
-        pessoaExistente.setDataNascimento(pessoaAtualizada.getDataNascimento());
-        pessoaExistente.setNaturalidade(pessoaAtualizada.getNaturalidade());
-        pessoaExistente.setNacionalidade(pessoaAtualizada.getNacionalidade());
-        pessoaExistente.setCpf(pessoaAtualizada.getCpf());
-
-        if (pessoaAtualizada.getEndereco() != null) {
-            pessoaExistente.setEndereco(pessoaAtualizada.getEndereco());
-        }
+    @Transactional
+    public Pessoa atualizarPessoa(Long id, Pessoa pessoaAtualizada, Long versaoEsperada) {
+        return alterarParcialmente(id, atributos(pessoaAtualizada), versaoEsperada);
+    }
 
-        return pessoaRepository.save(pessoaExistente);
+    /**
+     * Altera apenas os atributos informados de uma pessoa, com um único comando no banco.
+     * <p>
+     * A entidade não é carregada antes: a pessoa alterada e o CPF anterior voltam do próprio
+     * {@code UPDATE}, que também confere a versão esperada. Somente se nenhuma linha for
+     * alterada é feita uma consulta, para distinguir a pessoa inexistente da versão desatualizada.
+     * Sem alterações, a pessoa é apenas consultada.
+     * </p>
+     *
+     * @param id             Identificador da pessoa.
+     * @param alteracoes     Valores validados por atributo (ver
+     *                       {@link com.softplan.cadastro_backend.application.mapper.PessoaMergePatch}).
+     * @param versaoEsperada Versão que a pessoa deve ter, ou null para alterar qualquer versão.
+     * @return A pessoa após a alteração.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     * @throws VersaoDesatualizadaException se a pessoa não estiver na versão esperada.
+     * @throws CpfJaCadastradoException     se o novo CPF já pertencer a outra pessoa.
+     */
+    @Transactional
+    public Pessoa alterarParcialmente(Long id, Map<String, Object> alteracoes, Long versaoEsperada) {
+        if (alteracoes.isEmpty()) {
+            Pessoa pessoa = buscarPessoaPorId(id);
+            if (versaoEsperada != null && pessoa.getVersao() != versaoEsperada) {
+                throw new VersaoDesatualizadaException(id);
+            }
+            return pessoa;
+        }
+        AlteracaoPessoa.Resultado resultado;
+        try {
+            resultado = alteracaoPessoa.atualizar(id, alteracoes, versaoEsperada)
+                    .orElseThrow(() -> naoAlterada(id, versaoEsperada));
+        } catch (DataIntegrityViolationException e) {
+            throw violacaoDoCpf((String) alteracoes.get("cpf"), e);
+        }
+        Pessoa pessoa = resultado.pessoa();
+        eventPublisher.publishEvent(PessoaAlteradaEvent.de(id, resultado.cpfAnterior(), pessoa.getCpf()));
+        return pessoa;
     }
 
     /**
@@ -97,20 +202,255 @@ public class PessoaService {
      * @param id Identificador da pessoa a ser removida.
      * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
      */
-    @Transactional
     public void removerPessoa(Long id) {
-        if (!pessoaRepository.existsById(id)) {
-            throw new PessoaNaoEncontradaException(id);
+        removerPessoa(id, null);
+    }
+
+    /**
+     * Remove uma pessoa pelo ID, se ela estiver na versão esperada, com um único {@code DELETE}.
+     *
+     * @param id             Identificador da pessoa a ser removida.
+     * @param versaoEsperada Versão que a pessoa deve ter, ou null para remover qualquer versão.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     * @throws VersaoDesatualizadaException se a pessoa não estiver na versão esperada.
+     */
+    @Transactional
+    public void removerPessoa(Long id, Long versaoEsperada) {
+        String cpf = alteracaoPessoa.remover(id, versaoEsperada).orElseThrow(() -> naoAlterada(id, versaoEsperada));
+        eventPublisher.publishEvent(PessoaAlteradaEvent.de(id, cpf));
+    }
+
+    /**
+     * Busca o resumo (colunas da versão 1) de uma pessoa pelo CPF.
+     *
+     * @param cpf CPF da pessoa, formatado ou não; o cache é indexado apenas pelos dígitos.
+     * @return O resumo da pessoa encontrada.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     */
+    @Cacheable(cacheNames = CacheConfig.RESUMOS_POR_CPF, key = CacheConfig.CHAVE_CPF)
+    public PessoaResumo buscarResumoPorCpf(String cpf) {
+        return pessoaRepository.findResumoByCpf(CPFUtil.limparCPF(cpf))
+                .orElseThrow(() -> new PessoaNaoEncontradaException(cpf));
+    }
+
+    /**
+     * Busca o detalhe (colunas da versão 2) de uma pessoa pelo CPF.
+     *
+     * @param cpf CPF da pessoa, formatado ou não; o cache é indexado apenas pelos dígitos.
+     * @return O detalhe da pessoa encontrada.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     */
+    @Cacheable(cacheNames = CacheConfig.PESSOAS_POR_CPF, key = CacheConfig.CHAVE_CPF)
+    public PessoaDetalhe buscarDetalhePorCpf(String cpf) {
+        return pessoaRepository.findDetalheByCpf(CPFUtil.limparCPF(cpf))
+                .orElseThrow(() -> new PessoaNaoEncontradaException(cpf));
+    }
+
+    /**
+     * Lista uma página de resumos (colunas da versão 1) utilizando paginação por cursor.
+     *
+     * @param cursor    token opaco da página anterior, ou {@code null} para a primeira página.
+     * @param limite    quantidade de registros da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param ordenacao ordenação desejada ("id" ou "nome").
+     * @return a página de resumos e o cursor da próxima página.
+     * @throws IllegalArgumentException se o limite, a ordenação ou o cursor forem inválidos.
+     */
+    public PaginaCursor<PessoaResumo> listarResumos(String cursor, int limite, String ordenacao) {
+        return listarPagina(cursor, limite, ordenacao,
+                pessoaRepository::findResumosAposId, pessoaRepository::findResumosAposNome);
+    }
+
+    /**
+     * Lista uma página de detalhes (colunas da versão 2) utilizando paginação por cursor.
+     *
+     * @param cursor    token opaco da página anterior, ou {@code null} para a primeira página.
+     * @param limite    quantidade de registros da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param ordenacao ordenação desejada ("id" ou "nome").
+     * @return a página de detalhes e o cursor da próxima página.
+     * @throws IllegalArgumentException se o limite, a ordenação ou o cursor forem inválidos.
+     */
+    public PaginaCursor<PessoaDetalhe> listarDetalhes(String cursor, int limite, String ordenacao) {
+        return listarPagina(cursor, limite, ordenacao,
+                pessoaRepository::findDetalhesAposId, pessoaRepository::findDetalhesAposNome);
+    }
+
+    /**
+     * Lista uma página utilizando paginação por cursor, lendo do banco apenas os campos solicitados.
+     *
+     * @param campos    campos solicitados ({@code ?fields=}).
+     * @param cursor    token opaco da página anterior, ou {@code null} para a primeira página.
+     * @param limite    quantidade de registros da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param ordenacao ordenação desejada ("id" ou "nome").
+     * @return a página com os campos solicitados e o cursor da próxima página.
+     * @throws IllegalArgumentException se o limite, a ordenação ou o cursor forem inválidos.
+     */
+    public PaginaCursor<PessoaCampos> listarCampos(Set<CampoPessoa> campos, String cursor, int limite, String ordenacao) {
+        return listarPagina(cursor, limite, ordenacao,
+                (id, janela) -> pessoaRepository.buscarCamposAposId(campos, id, janela.max()),
+                (nome, id, janela) -> pessoaRepository.buscarCamposAposNome(campos, nome, id, janela.max()));
+    }
+
+    /**
+     * Busca uma pessoa pelo CPF, lendo do banco apenas os campos solicitados.
+     *
+     * @param campos campos solicitados ({@code ?fields=}).
+     * @param cpf    CPF da pessoa.
+     * @return os campos solicitados da pessoa encontrada.
+     * @throws PessoaNaoEncontradaException se a pessoa não for encontrada.
+     */
+    public PessoaCampos buscarCamposPorCpf(Set<CampoPessoa> campos, String cpf) {
+        return pessoaRepository.buscarCamposPorCpf(campos, CPFUtil.limparCPF(cpf))
+                .orElseThrow(() -> new PessoaNaoEncontradaException(cpf));
+    }
+
+    /**
+     * Busca uma página de detalhes (colunas da versão 2) que atendem aos filtros informados,
+     * ordenada por ID e paginada por cursor.
+     * <p>
+     * Filtros nulos ou em branco (inclusive o prefixo do nome) são ignorados; sem nenhum filtro
+     * preenchido, a busca é a própria listagem por ID, sem condição adicional na consulta.
+     * </p>
+     *
+     * @param filtro filtros da busca (todos opcionais).
+     * @param cursor token opaco da página anterior, ou {@code null} para a primeira página.
+     * @param limite quantidade de registros da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @return a página de detalhes e o cursor da próxima página.
+     * @throws IllegalArgumentException se o intervalo de nascimento, o limite ou o cursor forem inválidos.
+     */
+    public PaginaCursor<PessoaDetalhe> buscarDetalhes(FiltroPessoaDTO filtro, String cursor, int limite) {
+        if (filtro.getNascimentoDe() != null && filtro.getNascimentoAte() != null
+                && filtro.getNascimentoDe().isAfter(filtro.getNascimentoAte())) {
+            throw new IllegalArgumentException("A data de nascimento inicial deve ser anterior à final");
         }
-        pessoaRepository.deleteById(id);
+        Specification<Pessoa> especificacao = Stream.of(
+                        PessoaSpecifications.nomeComecaCom(filtro.getNome()),
+                        PessoaSpecifications.emailIgual(filtro.getEmail()),
+                        PessoaSpecifications.sexoIgual(filtro.getSexo()),
+                        PessoaSpecifications.cidadeIgual(filtro.getCidade()),
+                        PessoaSpecifications.estadoIgual(filtro.getEstado()),
+                        PessoaSpecifications.cepIgual(filtro.getCep()),
+                        PessoaSpecifications.nascidoEntre(filtro.getNascimentoDe(), filtro.getNascimentoAte()))
+                .filter(Objects::nonNull)
+                .reduce(Specification::and)
+                .orElse(null);
+
+        // A busca filtrada é sempre ordenada por ID, portanto não há consulta por nome
+        return listarPagina(cursor, limite, OrdenacaoPessoa.ID.name(),
+                (id, janela) -> pessoaRepository.buscarDetalhes(especificacao, id, janela.max()), null);
     }
 
     /**
-     * Lista todas as pessoas cadastradas.
+     * Busca pessoas com nome parecido com o informado, sem diferenciar acentos e tolerando erros
+     * de digitação, ordenadas da mais para a menos parecida.
      *
-     * @return Lista de todas as pessoas.
+     * @param nome   nome procurado.
+     * @param limite quantidade máxima de resultados (entre 1 e {@value #LIMITE_MAXIMO_BUSCA_APROXIMADA}).
+     * @return detalhes das pessoas encontradas, em ordem de similaridade.
+     * @throws IllegalArgumentException se o nome estiver vazio ou o limite for inválido.
+     */
+    public List<PessoaDetalhe> buscarPorNomeAproximado(String nome, int limite) {
+        if (nome == null || nome.isBlank()) {
+            throw new IllegalArgumentException("O nome da busca é obrigatório");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO_BUSCA_APROXIMADA) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_BUSCA_APROXIMADA);
+        }
+        List<Long> ids = buscaNomeAproximada.buscarIds(nome.trim(), limite);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PessoaDetalhe> porId = pessoaRepository.findDetalhesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PessoaDetalhe::id, Function.identity()));
+        return ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Identifica por que uma alteração não atingiu nenhuma linha: versão desatualizada, se a
+     * pessoa existir e uma versão tiver sido exigida, ou pessoa inexistente.
+     */
+    private RuntimeException naoAlterada(Long id, Long versaoEsperada) {
+        if (versaoEsperada != null && pessoaRepository.existsById(id)) {
+            return new VersaoDesatualizadaException(id);
+        }
+        return new PessoaNaoEncontradaException(id);
+    }
+
+    /**
+     * Atributos substituídos na atualização completa de uma pessoa, no formato de {@link AlteracaoPessoa}.
+     */
+    private static Map<String, Object> atributos(Pessoa pessoa) {
+        Map<String, Object> atributos = new LinkedHashMap<>();
+        atributos.put("nome", pessoa.getNome());
+        atributos.put("sexo", pessoa.getSexo() != null ? pessoa.getSexo() : SexoEnum.NAO_DEFINIDO);
+        atributos.put("email", pessoa.getEmail());
+        atributos.put("dataNascimento", pessoa.getDataNascimento());
+        atributos.put("naturalidade", pessoa.getNaturalidade());
+        atributos.put("nacionalidade", pessoa.getNacionalidade());
+        atributos.put("cpf", pessoa.getCpf());
+        Endereco endereco = pessoa.getEndereco();
+        if (endereco != null) {
+            atributos.put("endereco.logradouro", endereco.getLogradouro());
+            atributos.put("endereco.numero", endereco.getNumero());
+            atributos.put("endereco.complemento", endereco.getComplemento());
+            atributos.put("endereco.bairro", endereco.getBairro());
+            atributos.put("endereco.cidade", endereco.getCidade());
+            atributos.put("endereco.estado", endereco.getEstado());
+            atributos.put("endereco.cep", endereco.getCep());
+        }
+        return atributos;
+    }
+
+    /**
+     * Lista uma página utilizando paginação por cursor (keyset).
+     * <p>
+     * Cada página é obtida com uma consulta de busca a partir do último registro entregue,
+     * mantendo a latência constante independentemente da profundidade da navegação.
+     * </p>
+     */
+    private <T extends PessoaProjecao> PaginaCursor<T> listarPagina(String cursor, int limite, String ordenacao,
+                                                                  BiFunction<Long, Limit, List<T>> buscaPorId,
+                                                                  BuscaPorNome<T> buscaPorNome) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA);
+        }
+        OrdenacaoPessoa ordenacaoPessoa = OrdenacaoPessoa.de(ordenacao);
+        PessoaCursor posicao = cursor == null || cursor.isBlank()
+                ? PessoaCursor.inicio(ordenacaoPessoa)
+                : PessoaCursor.decodificar(cursor);
+        if (posicao.ordenacao() != ordenacaoPessoa) {
+            throw new IllegalArgumentException("O cursor informado não corresponde à ordenação solicitada");
+        }
+
+        if (ordenacaoPessoa == OrdenacaoPessoa.NOME && buscaPorNome == null) {
+            throw new IllegalArgumentException("Esta consulta não pode ser ordenada por nome");
+        }
+
+        Limit janela = Limit.of(limite + 1);
+        List<T> registros = switch (ordenacaoPessoa) {
+            case ID -> buscaPorId.apply(posicao.id(), janela);
+            case NOME -> buscaPorNome.buscar(posicao.nome(), posicao.id(), janela);
+        };
+        return PaginaCursor.de(registros, limite,
+                registro -> new PessoaCursor(ordenacaoPessoa, registro.id(), registro.nome()));
+    }
+
+    // Converte a violação da unicidade do CPF; outras violações de integridade seguem como erro interno
+    private static RuntimeException violacaoDoCpf(String cpf, DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException || e.getCause() instanceof ConstraintViolationException violacao
+                && violacao.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+            return new CpfJaCadastradoException(cpf, e);
+        }
+        return e;
+    }
+
+    /**
+     * Consulta de busca por nome e ID usada pela paginação por cursor.
      */
-    public List<Pessoa> listarTodasPessoas() {
-        return pessoaRepository.findAll();
+    @FunctionalInterface
+    private interface BuscaPorNome<T> {
+        List<T> buscar(String nome, Long id, Limit limit);
     }
 }
@@ -0,0 +1,258 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.softplan.cadastro_backend.application.dto.ItemValidacaoDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.validation.PessoaValidator;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.domain.converter.CpfConverter;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.util.CPFUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Serviço responsável pela validação de lotes de pessoas sem gravação (simulação do cadastro).
+ * <p>
+ * O array JSON é lido em fluxo, em blocos. Os itens de cada bloco passam pelas regras do cadastro
+ * da versão 2 em paralelo, em um pool de tamanho fixo; a existência dos CPFs do bloco é verificada
+ * com uma única consulta, e o resultado do bloco é escrito em NDJSON antes da leitura do bloco
+ * seguinte. Apenas um bloco fica em memória, além dos CPFs já vistos na requisição. Nada é gravado.
+ * </p>
+ */
+@Service
+public class PessoaValidacaoService implements DisposableBean {
+
+    /**
+     * Quantidade máxima de itens por validação.
+     */
+    public static final int LIMITE_ITENS = 100_000;
+
+    static final String LIMITE_EXCEDIDO = "Envie no máximo " + LIMITE_ITENS + " pessoas por validação";
+
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter jsonWriter;
+    private final ExecutorService validadores;
+    private final int quantidadeValidadores;
+    private final int tamanhoBloco;
+
+    /**
+     * Construtor injetando as dependências.
+     *
+     * @param pessoaJdbcRepository  repositório JDBC de pessoas.
+     * @param objectMapper          mapper JSON da aplicação.
+     * @param quantidadeValidadores quantidade de threads de validação ({@code 0} para o número de processadores).
+     * @param tamanhoBloco          quantidade de itens validados e escritos por vez.
+     */
+    public PessoaValidacaoService(PessoaJdbcRepository pessoaJdbcRepository,
+                                  ObjectMapper objectMapper,
+                                  @Value("${cadastro.validacao.validadores:0}") int quantidadeValidadores,
+                                  @Value("${cadastro.lote.tamanho-bloco:500}") int tamanhoBloco) {
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.jsonWriter = objectMapper.writerFor(ItemValidacaoDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.quantidadeValidadores = quantidadeValidadores > 0
+                ? quantidadeValidadores : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.validadores = Executors.newFixedThreadPool(this.quantidadeValidadores, tarefa -> {
+            Thread thread = new Thread(tarefa, "validacao-validador-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Abre o corpo da requisição e o posiciona no início do array, antes de qualquer escrita na
+     * resposta.
+     *
+     * @param entrada corpo da requisição, contendo um array JSON de {@link PessoaDTOV2}.
+     * @return leitor posicionado no início do array, a ser passado para {@link #validar}.
+     * @throws IllegalArgumentException se o corpo não começar com um array JSON.
+     * @throws IOException              em caso de erro de leitura.
+     */
+    public JsonParser abrir(InputStream entrada) throws IOException {
+        JsonParser parser = objectMapper.createParser(entrada);
+        try {
+            PessoaLoteService.iniciarArray(parser, "O corpo deve ser um array JSON de pessoas");
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        return parser;
+    }
+
+    /**
+     * Valida as pessoas do array, sem gravá-las, e escreve o resultado de cada item em NDJSON, um
+     * item por linha, na ordem de envio.
+     * <p>
+     * Um item é inválido se não passar nas regras do cadastro, se o CPF já estiver cadastrado ou
+     * se repetir o CPF de um item anterior da mesma requisição. Se o JSON estiver malformado no
+     * meio do array, ou se o array passar de {@value #LIMITE_ITENS} itens, a posição é informada
+     * como último item inválido e os itens seguintes não são lidos.
+     * </p>
+     *
+     * @param parser leitor obtido em {@link #abrir}; é fechado por este método.
+     * @param saida  fluxo de saída (não é fechado por este método).
+     * @throws IOException em caso de erro de leitura ou escrita.
+     */
+    public void validar(JsonParser parser, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        List<PessoaDTOV2> pessoas = new ArrayList<>(tamanhoBloco);
+        List<String> erros = new ArrayList<>(tamanhoBloco);
+        Set<Long> vistos = new HashSet<>();
+        int inicio = 0;
+        String interrupcao = null;
+        try (parser) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (inicio + pessoas.size() == LIMITE_ITENS) {
+                    interrupcao = LIMITE_EXCEDIDO + PessoaLoteService.LEITURA_INTERROMPIDA;
+                    break;
+                }
+                ler(parser, pessoas, erros);
+                if (pessoas.size() == tamanhoBloco) {
+                    validarBloco(inicio, pessoas, erros, vistos, writer);
+                    inicio += pessoas.size();
+                    pessoas.clear();
+                    erros.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // JSON malformado: os itens lidos até aqui são validados e informados; o restante é ignorado
+            interrupcao = "JSON inválido: " + e.getOriginalMessage() + PessoaLoteService.LEITURA_INTERROMPIDA;
+        }
+        validarBloco(inicio, pessoas, erros, vistos, writer);
+        if (interrupcao != null) {
+            escrever(ItemValidacaoDTO.invalido(inicio + pessoas.size(), interrupcao), writer);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Lê o próximo item; o item que não pode ser convertido fica nulo, com o erro na mesma posição.
+     *
+     * @throws JsonProcessingException se o próprio array estiver malformado.
+     */
+    private void ler(JsonParser parser, List<PessoaDTOV2> pessoas, List<String> erros) throws IOException {
+        PessoaDTOV2 pessoa = null;
+        String erro = null;
+        try {
+            pessoa = objectMapper.treeToValue(parser.readValueAsTree(), PessoaDTOV2.class);
+            if (pessoa == null) {
+                erro = "Item nulo";
+            }
+        } catch (JsonProcessingException e) {
+            if (e.getProcessor() == parser) {
+                throw e;
+            }
+            erro = "JSON inválido: " + e.getOriginalMessage();
+        }
+        pessoas.add(pessoa);
+        erros.add(erro);
+    }
+
+    /**
+     * Valida um bloco, verifica os CPFs com uma única consulta e escreve o resultado de cada item.
+     */
+    private void validarBloco(int inicio, List<PessoaDTOV2> pessoas, List<String> erros, Set<Long> vistos,
+                              Writer writer) throws IOException {
+        if (pessoas.isEmpty()) {
+            return;
+        }
+        String[] erro = erros.toArray(String[]::new);
+        long[] cpfs = new long[pessoas.size()];
+        verificar(pessoas, erro, cpfs);
+
+        long[] cadastrados = pessoaJdbcRepository.buscarCpfsCadastrados(
+                IntStream.range(0, cpfs.length)
+                        .filter(i -> erro[i] == null).mapToLong(i -> cpfs[i]).toArray());
+        for (int i = 0; i < cpfs.length; i++) {
+            if (erro[i] == null && (Arrays.binarySearch(cadastrados, cpfs[i]) >= 0 || !vistos.add(cpfs[i]))) {
+                erro[i] = PessoaLoteService.CPF_DUPLICADO;
+            }
+            escrever(erro[i] == null ? ItemValidacaoDTO.valido(inicio + i)
+                    : ItemValidacaoDTO.invalido(inicio + i, erro[i]), writer);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Aplica as regras do cadastro em paralelo, dividindo o bloco entre os validadores. Cada tarefa
+     * escreve apenas nas posições da sua fatia: o erro do item ou, se válido, o CPF como gravado na
+     * coluna.
+     */
+    private void verificar(List<PessoaDTOV2> pessoas, String[] erros, long[] cpfs) {
+        int fatia = Math.max(1, (pessoas.size() + quantidadeValidadores - 1) / quantidadeValidadores);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int inicio = 0; inicio < pessoas.size(); inicio += fatia) {
+            int de = inicio;
+            int ate = Math.min(inicio + fatia, pessoas.size());
+            tarefas.add(validadores.submit(() -> {
+                for (int i = de; i < ate; i++) {
+                    if (erros[i] == null) {
+                        verificar(pessoas.get(i), erros, cpfs, i);
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Validação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na validação dos itens", e.getCause());
+        }
+    }
+
+    private static void verificar(PessoaDTOV2 pessoa, String[] erros, long[] cpfs, int i) {
+        ResultadoValidacao resultado = PessoaValidator.verificarPessoaDTOV2(pessoa, new ResultadoValidacao()
+                .se(pessoa.getId() != null, "Não informe o id para o cadastro de pessoa"));
+        if (resultado.isValido()) {
+            cpfs[i] = CpfConverter.paraColuna(CPFUtil.limparCPF(pessoa.getCpf()));
+        } else {
+            erros[i] = resultado.getMensagem();
+        }
+    }
+
+    private void escrever(ItemValidacaoDTO item, Writer writer) throws IOException {
+        jsonWriter.writeValue(writer, item);
+        writer.write('\n');
+    }
+
+    @Override
+    public void destroy() {
+        validadores.shutdownNow();
+    }
+}
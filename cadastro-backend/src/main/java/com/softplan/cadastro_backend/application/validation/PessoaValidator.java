@@ -1,5 +1,6 @@
 package com.softplan.cadastro_backend.application.validation;
 
+import com.softplan.cadastro_backend.application.dto.EnderecoDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
 import com.softplan.cadastro_backend.util.CPFUtil;
@@ -20,24 +21,11 @@ public class PessoaValidator {
      * Valida os dados de um {@link PessoaDTO}.
      *
      * @param pessoaDTO o DTO contendo os dados da pessoa.
-     * @throws IllegalArgumentException se algum dado obrigatório estiver ausente ou inválido.
+     * @throws com.softplan.cadastro_backend.presentation.exception.DomainValidationException se algum dado
+     *                                  obrigatório estiver ausente ou inválido, com todas as violações encontradas.
      */
     public void validarPessoaDTO(PessoaDTO pessoaDTO) {
-        if (pessoaDTO.getNome() == null || pessoaDTO.getNome().trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        if (pessoaDTO.getDataNascimento() == null) {
-            throw new IllegalArgumentException("Data de nascimento é obrigatória");
-        }
-        if (pessoaDTO.getDataNascimento().isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Data de nascimento não pode ser futura");
-        }
-        if (!CPFUtil.isCPFValido(pessoaDTO.getCpf())) {
-            throw new IllegalArgumentException("CPF inválido");
-        }
-        if (pessoaDTO.getEmail() != null && !pessoaDTO.getEmail().contains("@")) {
-            throw new IllegalArgumentException("Email inválido");
-        }
+        verificarPessoaDTO(pessoaDTO).lancarSeInvalido();
     }
 
     /**
@@ -47,12 +35,106 @@ public class PessoaValidator {
      * </p>
      *
      * @param pessoaDTOV2 o DTO da versão 2 contendo os dados da pessoa.
-     * @throws IllegalArgumentException se o endereço for nulo.
+     * @throws com.softplan.cadastro_backend.presentation.exception.DomainValidationException se algum dado
+     *                                  estiver ausente ou inválido, com todas as violações encontradas.
      */
     public void validarPessoaDTOV2(PessoaDTOV2 pessoaDTOV2) {
-        validarPessoaDTO(pessoaDTOV2);
-        if (pessoaDTOV2.getEndereco() == null) {
-            throw new IllegalArgumentException("Endereço é obrigatório para a versão 2");
-        }
+        verificarPessoaDTOV2(pessoaDTOV2).lancarSeInvalido();
+    }
+
+    /**
+     * Verifica todas as regras de um {@link PessoaDTO}, sem lançar exceção.
+     *
+     * @param pessoaDTO o DTO contendo os dados da pessoa.
+     * @return o resultado com todas as regras violadas.
+     */
+    public ResultadoValidacao verificarPessoaDTO(PessoaDTO pessoaDTO) {
+        return verificar(pessoaDTO, new ResultadoValidacao());
+    }
+
+    /**
+     * Verifica todas as regras de um {@link PessoaDTOV2}, sem lançar exceção.
+     *
+     * @param pessoaDTOV2 o DTO da versão 2 contendo os dados da pessoa.
+     * @return o resultado com todas as regras violadas.
+     */
+    public ResultadoValidacao verificarPessoaDTOV2(PessoaDTOV2 pessoaDTOV2) {
+        return verificarPessoaDTOV2(pessoaDTOV2, new ResultadoValidacao());
+    }
+
+    /**
+     * Verifica todas as regras de um {@link PessoaDTOV2}, acumulando as violações no resultado informado.
+     *
+     * @param pessoaDTOV2 o DTO da versão 2 contendo os dados da pessoa.
+     * @param resultado   resultado que recebe as regras violadas.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarPessoaDTOV2(PessoaDTOV2 pessoaDTOV2, ResultadoValidacao resultado) {
+        return verificarEndereco(pessoaDTOV2.getEndereco(), verificar(pessoaDTOV2, resultado));
+    }
+
+    /**
+     * Verifica a regra do nome: obrigatório e não vazio.
+     *
+     * @param nome      nome informado.
+     * @param resultado resultado que recebe a violação.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarNome(String nome, ResultadoValidacao resultado) {
+        return resultado.se(nome == null || nome.isBlank(), "Nome é obrigatório");
+    }
+
+    /**
+     * Verifica as regras da data de nascimento: obrigatória e não futura.
+     *
+     * @param dataNascimento data informada.
+     * @param resultado      resultado que recebe a violação.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarDataNascimento(LocalDate dataNascimento, ResultadoValidacao resultado) {
+        return resultado
+                .se(dataNascimento == null, "Data de nascimento é obrigatória")
+                .se(dataNascimento != null && dataNascimento.isAfter(LocalDate.now()),
+                        "Data de nascimento não pode ser futura");
+    }
+
+    /**
+     * Verifica a regra do CPF: obrigatório e com dígitos verificadores válidos.
+     *
+     * @param cpf       CPF informado, formatado ou não.
+     * @param resultado resultado que recebe a violação.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarCpf(String cpf, ResultadoValidacao resultado) {
+        return resultado.se(!CPFUtil.isCPFValido(cpf), "CPF inválido");
+    }
+
+    /**
+     * Verifica a regra do email: opcional, mas com {@code @} quando informado.
+     *
+     * @param email     email informado.
+     * @param resultado resultado que recebe a violação.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarEmail(String email, ResultadoValidacao resultado) {
+        return resultado.se(email != null && !email.contains("@"), "Email inválido");
+    }
+
+    /**
+     * Verifica a regra do endereço da versão 2: obrigatório.
+     *
+     * @param endereco  endereço informado.
+     * @param resultado resultado que recebe a violação.
+     * @return o próprio resultado, para encadeamento.
+     */
+    public ResultadoValidacao verificarEndereco(EnderecoDTO endereco, ResultadoValidacao resultado) {
+        return resultado.se(endereco == null, "Endereço é obrigatório para a versão 2");
+    }
+
+    private ResultadoValidacao verificar(PessoaDTO pessoaDTO, ResultadoValidacao resultado) {
+        verificarNome(pessoaDTO.getNome(), resultado);
+        verificarDataNascimento(pessoaDTO.getDataNascimento(), resultado);
+        verificarCpf(pessoaDTO.getCpf(), resultado);
+        return verificarEmail(pessoaDTO.getEmail(), resultado);
     }
 }
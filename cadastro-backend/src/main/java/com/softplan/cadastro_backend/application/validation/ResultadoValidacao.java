@@ -0,0 +1,82 @@
+package com.softplan.cadastro_backend.application.validation;
+
+import com.softplan.cadastro_backend.presentation.exception.DomainValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma validação, com todas as regras violadas.
+ * <p>
+ * As regras são verificadas de uma só vez e as violações são acumuladas, em vez de interromper a
+ * validação na primeira; assim o cliente recebe todos os problemas em uma única resposta.
+ * </p>
+ */
+public class ResultadoValidacao {
+
+    private final List<String> erros = new ArrayList<>(2);
+
+    /**
+     * Registra uma violação quando a condição informada é verdadeira.
+     *
+     * @param violada  se a regra foi violada.
+     * @param mensagem mensagem da violação.
+     * @return este resultado, para encadeamento.
+     */
+    public ResultadoValidacao se(boolean violada, String mensagem) {
+        if (violada) {
+            erros.add(mensagem);
+        }
+        return this;
+    }
+
+    /**
+     * Registra uma violação.
+     *
+     * @param mensagem mensagem da violação.
+     * @return este resultado, para encadeamento.
+     */
+    public ResultadoValidacao adicionar(String mensagem) {
+        erros.add(mensagem);
+        return this;
+    }
+
+    /**
+     * Indica se nenhuma regra foi violada.
+     *
+     * @return true se o resultado não tem erros.
+     */
+    public boolean isValido() {
+        return erros.isEmpty();
+    }
+
+    /**
+     * Retorna as mensagens das regras violadas, na ordem em que foram verificadas.
+     *
+     * @return lista imutável de mensagens.
+     */
+    public List<String> getErros() {
+        return List.copyOf(erros);
+    }
+
+    /**
+     * Retorna as mensagens das regras violadas em um único texto, separadas por {@code "; "}, como
+     * na mensagem da {@link DomainValidationException}.
+     *
+     * @return as mensagens, ou texto vazio se o resultado não tem erros.
+     */
+    public String getMensagem() {
+        return String.join("; ", erros);
+    }
+
+    /**
+     * Lança uma {@link DomainValidationException} com todas as violações, se houver alguma.
+     *
+     * @throws DomainValidationException se alguma regra foi violada.
+     */
+    public void lancarSeInvalido() {
+        if (!erros.isEmpty()) {
+            throw new DomainValidationException(getErros());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.softplan.cadastro_backend.domain.converter;
+
+import com.softplan.cadastro_backend.util.CPFUtil;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte o CPF, tratado como texto no domínio, para o número armazenado na coluna
+ * {@code pessoa.cpf} ({@code BIGINT}).
+ * <p>
+ * Os 11 dígitos do CPF cabem em um {@code long}: a coluna e o seu índice único ficam menores que
+ * com texto, e as comparações são numéricas. Na leitura, os zeros à esquerda são restaurados.
+ * Os métodos estáticos fazem a mesma conversão para os comandos executados via JDBC.
+ * </p>
+ */
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+        return cpf != null ? paraColuna(cpf) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long cpf) {
+        return cpf != null ? deColuna(cpf) : null;
+    }
+
+    /**
+     * Converte o CPF para o valor da coluna.
+     * <p>
+     * Um texto sem dígitos ou com mais de 11 é convertido em {@link CPFUtil#CPF_INVALIDO}, que não
+     * corresponde a nenhum CPF cadastrado.
+     * </p>
+     *
+     * @param cpf o CPF (pode estar formatado ou não).
+     * @return o valor da coluna.
+     */
+    public static long paraColuna(String cpf) {
+        return CPFUtil.digitosParaNumero(cpf);
+    }
+
+    /**
+     * Converte o valor da coluna para o CPF com os 11 dígitos.
+     *
+     * @param cpf o valor da coluna.
+     * @return o CPF sem formatação, com os zeros à esquerda.
+     */
+    public static String deColuna(long cpf) {
+        return CPFUtil.paraTexto(cpf);
+    }
+}
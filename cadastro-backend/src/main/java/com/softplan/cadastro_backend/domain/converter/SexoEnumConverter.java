@@ -0,0 +1,26 @@
+package com.softplan.cadastro_backend.domain.converter;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte o {@link SexoEnum} para o código inteiro armazenado na coluna {@code pessoa.cod_sexo}.
+ * <p>
+ * Um sexo não informado é persistido como {@link SexoEnum#NAO_DEFINIDO}, respeitando a
+ * restrição {@code NOT NULL} da coluna.
+ * </p>
+ */
+@Converter
+public class SexoEnumConverter implements AttributeConverter<SexoEnum, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(SexoEnum sexo) {
+        return sexo != null ? sexo.getCodigo() : SexoEnum.NAO_DEFINIDO.getCodigo();
+    }
+
+    @Override
+    public SexoEnum convertToEntityAttribute(Integer codigo) {
+        return codigo != null ? SexoEnum.deCodigo(codigo) : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.softplan.cadastro_backend.domain.enums;
+
+/**
+ * Dimensões de agrupamento das estatísticas do cadastro de pessoas.
+ */
+public enum DimensaoEstatistica {
+
+    /**
+     * Quantidade por sexo (valor: nome do {@link SexoEnum}).
+     */
+    SEXO,
+
+    /**
+     * Quantidade por estado do endereço (valor: estado informado).
+     */
+    ESTADO,
+
+    /**
+     * Quantidade por faixa etária (valor: faixa, como {@code 18-29}).
+     * <p>
+     * A idade é calculada no recálculo, pela data de nascimento completa; como as faixas mudam com
+     * a data, o resumo é recalculado ao menos uma vez por dia.
+     * </p>
+     */
+    FAIXA_ETARIA,
+
+    /**
+     * Quantidade por mês de cadastro (valor: {@code yyyy-MM}).
+     */
+    MES_CADASTRO
+}
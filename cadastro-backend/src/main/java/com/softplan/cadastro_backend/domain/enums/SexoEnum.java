@@ -6,23 +6,29 @@ import lombok.Getter;
 /**
  * Enumeração dos sexos disponíveis para uma pessoa.
  * <p>
- * Cada valor possui uma descrição associada que pode ser utilizada para exibição.
+ * Cada valor possui uma descrição associada que pode ser utilizada para exibição e o código
+ * persistido na coluna {@code pessoa.cod_sexo}.
  */
 @Getter
 @Schema(description = "Enumeração dos sexos disponíveis para uma pessoa.")
 public enum SexoEnum {
 
     @Schema(description = "Sexo não definido ou preferiu não informar")
-    NAO_DEFINIDO("Não Definido"),
+    NAO_DEFINIDO(0, "Não Definido"),
 
     @Schema(description = "Sexo masculino")
-    MASCULINO("Masculino"),
+    MASCULINO(1, "Masculino"),
 
     @Schema(description = "Sexo feminino")
-    FEMININO("Feminino"),
+    FEMININO(2, "Feminino"),
 
     @Schema(description = "Outros gêneros não listados explicitamente")
-    OUTROS("Outros");
+    OUTROS(3, "Outros");
+
+    /**
+     * Código do sexo no banco de dados.
+     */
+    private final int codigo;
 
     /**
      * Descrição do sexo.
@@ -30,11 +36,29 @@ public enum SexoEnum {
     private final String descricao;
 
     /**
-     * Construtor do enum que atribui a descrição.
+     * Construtor do enum que atribui o código e a descrição.
      *
+     * @param codigo    o código persistido do sexo.
      * @param descricao a descrição do sexo.
      */
-    SexoEnum(String descricao) {
+    SexoEnum(int codigo, String descricao) {
+        this.codigo = codigo;
         this.descricao = descricao;
     }
+
+    /**
+     * Obtém o sexo correspondente ao código persistido.
+     *
+     * @param codigo código armazenado na coluna {@code cod_sexo}.
+     * @return o sexo correspondente.
+     * @throws IllegalArgumentException se o código não for conhecido.
+     */
+    public static SexoEnum deCodigo(int codigo) {
+        for (SexoEnum sexo : values()) {
+            if (sexo.codigo == codigo) {
+                return sexo;
+            }
+        }
+        throw new IllegalArgumentException("Código de sexo desconhecido: " + codigo);
+    }
 }
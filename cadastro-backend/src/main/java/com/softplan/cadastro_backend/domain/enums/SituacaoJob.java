@@ -0,0 +1,27 @@
+package com.softplan.cadastro_backend.domain.enums;
+
+/**
+ * Situações de uma tarefa em segundo plano e de cada um dos seus blocos.
+ */
+public enum SituacaoJob {
+
+    /**
+     * Aguardando um nó livre.
+     */
+    PENDENTE,
+
+    /**
+     * Reservado por um nó e em processamento.
+     */
+    EM_EXECUCAO,
+
+    /**
+     * Processado por completo.
+     */
+    CONCLUIDO,
+
+    /**
+     * Interrompido após esgotar as tentativas de algum bloco.
+     */
+    FALHOU
+}
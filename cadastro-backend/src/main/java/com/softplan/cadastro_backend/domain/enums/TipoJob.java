@@ -0,0 +1,17 @@
+package com.softplan.cadastro_backend.domain.enums;
+
+/**
+ * Tipos de tarefa executados em segundo plano.
+ */
+public enum TipoJob {
+
+    /**
+     * Importação de um arquivo CSV, dividido em blocos de linhas.
+     */
+    IMPORTACAO,
+
+    /**
+     * Exportação do cadastro, dividida em faixas de ID.
+     */
+    EXPORTACAO
+}
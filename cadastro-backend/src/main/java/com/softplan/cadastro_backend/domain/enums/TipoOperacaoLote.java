@@ -0,0 +1,17 @@
+package com.softplan.cadastro_backend.domain.enums;
+
+/**
+ * Operações aceitas na alteração de pessoas em lote.
+ */
+public enum TipoOperacaoLote {
+
+    /**
+     * Substituição dos dados da pessoa, como no {@code PUT}.
+     */
+    ATUALIZAR,
+
+    /**
+     * Remoção da pessoa.
+     */
+    REMOVER
+}
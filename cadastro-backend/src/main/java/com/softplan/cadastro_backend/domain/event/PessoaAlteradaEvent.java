@@ -0,0 +1,32 @@
+package com.softplan.cadastro_backend.domain.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evento publicado quando uma pessoa é criada, atualizada ou removida.
+ * <p>
+ * Permite que dados derivados do cadastro (estatísticas, caches) sejam atualizados sem que
+ * o serviço de pessoas conheça cada um deles.
+ * </p>
+ *
+ * @param id   ID da pessoa alterada.
+ * @param cpfs CPFs afetados: o atual e, quando o CPF foi alterado, também o anterior.
+ */
+public record PessoaAlteradaEvent(Long id, Set<String> cpfs) {
+
+    /**
+     * Cria o evento ignorando CPFs nulos e repetidos.
+     *
+     * @param id   ID da pessoa alterada.
+     * @param cpfs CPFs afetados.
+     * @return o evento.
+     */
+    public static PessoaAlteradaEvent de(Long id, String... cpfs) {
+        return new PessoaAlteradaEvent(id, Arrays.stream(cpfs)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
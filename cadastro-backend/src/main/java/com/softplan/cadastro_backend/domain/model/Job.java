@@ -0,0 +1,63 @@
+package com.softplan.cadastro_backend.domain.model;
+
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import com.softplan.cadastro_backend.domain.enums.TipoJob;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarefa de importação ou exportação executada em segundo plano (tabela {@code job}).
+ * <p>
+ * A tarefa é dividida em blocos ({@link JobBloco}) processados por qualquer nó da aplicação.
+ * Os totais são acumulados à medida que os blocos são concluídos.
+ * </p>
+ */
+@Entity
+@Table(name = "job")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private TipoJob tipo;
+
+    private String formato;
+
+    @Enumerated(EnumType.STRING)
+    private SituacaoJob situacao;
+
+    private int totalBlocos;
+
+    private int blocosConcluidos;
+
+    private long lidos;
+
+    private long importados;
+
+    private long rejeitados;
+
+    private String erro;
+
+    private LocalDateTime criadoEm;
+
+    private LocalDateTime concluidoEm;
+}
@@ -0,0 +1,71 @@
+package com.softplan.cadastro_backend.domain.model;
+
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bloco de uma tarefa em segundo plano (tabela {@code job_bloco}).
+ * <p>
+ * Um bloco de importação guarda as linhas CSV que processa; um de exportação, a faixa de IDs e o
+ * trecho do arquivo gerado. Os blocos são gravados e alterados apenas por consultas de
+ * {@link com.softplan.cadastro_backend.domain.repository.JobBlocoRepository}, para que o conteúdo
+ * não seja reescrito a cada mudança de situação.
+ * </p>
+ */
+@Entity
+@Table(name = "job_bloco")
+@Getter
+@NoArgsConstructor
+public class JobBloco {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "job_id")
+    private Job job;
+
+    private int sequencia;
+
+    @Enumerated(EnumType.STRING)
+    private SituacaoJob situacao;
+
+    private Long primeiraLinha;
+
+    private Long idInicial;
+
+    private Long idFinal;
+
+    @Column(columnDefinition = "TEXT")
+    private String conteudo;
+
+    @Column(columnDefinition = "TEXT")
+    private String saida;
+
+    @Column(columnDefinition = "TEXT")
+    private String erros;
+
+    private String erro;
+
+    private int tentativas;
+
+    private String responsavel;
+
+    private LocalDateTime iniciadoEm;
+
+    private LocalDateTime concluidoEm;
+}
@@ -2,6 +2,8 @@ package com.softplan.cadastro_backend.domain.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.softplan.cadastro_backend.domain.converter.CpfConverter;
+import com.softplan.cadastro_backend.domain.converter.SexoEnumConverter;
 import com.softplan.cadastro_backend.domain.enums.SexoEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -28,8 +30,22 @@ import java.time.LocalDateTime;
 @Schema(description = "Modelo de Pessoa")
 public class Pessoa {
 
+    /**
+     * Quantidade de IDs reservados a cada chamada à sequência {@value #SEQUENCIA_ID}.
+     * <p>
+     * Deve ser igual ao incremento da sequência no banco.
+     * </p>
+     */
+    public static final int ALOCACAO_IDS = 50;
+
+    /**
+     * Sequência que gera os IDs de pessoa.
+     */
+    public static final String SEQUENCIA_ID = "pessoa_id_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoa_id")
+    @SequenceGenerator(name = "pessoa_id", sequenceName = SEQUENCIA_ID, allocationSize = ALOCACAO_IDS)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Schema(description = "Identificador único da pessoa", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
@@ -37,7 +53,8 @@ public class Pessoa {
     @Schema(description = "Nome da pessoa", example = "Gabriel da Silva")
     private String nome;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = SexoEnumConverter.class)
+    @Column(name = "cod_sexo")
     @Schema(description = "Sexo da pessoa", example = "MASCULINO")
     private SexoEnum sexo;
 
@@ -54,6 +71,7 @@ public class Pessoa {
     private String nacionalidade;
 
     @Column(unique = true, nullable = false)
+    @Convert(converter = CpfConverter.class)
     @Schema(description = "CPF da pessoa", example = "15124127759")
     private String cpf;
 
@@ -63,6 +81,13 @@ public class Pessoa {
     @JsonIgnore
     private LocalDateTime dataAtualizacao;
 
+    /**
+     * Versão da pessoa, incrementada a cada alteração (controle de concorrência otimista).
+     */
+    @Version
+    @JsonIgnore
+    private long versao;
+
     @Embedded
     private Endereco endereco;
 
@@ -0,0 +1,43 @@
+package com.softplan.cadastro_backend.domain.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do resumo estatístico do cadastro (tabela {@code pessoa_estatistica}).
+ * <p>
+ * Guarda a quantidade de pessoas de cada grupo, para que as estatísticas sejam lidas sem
+ * percorrer a tabela {@code pessoa}.
+ * </p>
+ */
+@Entity
+@Table(name = "pessoa_estatistica")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PessoaEstatistica {
+
+    @EmbeddedId
+    private PessoaEstatisticaId id;
+
+    private long quantidade;
+
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Substitui a quantidade do grupo.
+     *
+     * @param quantidade   nova quantidade de pessoas no grupo.
+     * @param atualizadoEm data e hora do cálculo.
+     */
+    public void atualizar(long quantidade, LocalDateTime atualizadoEm) {
+        this.quantidade = quantidade;
+        this.atualizadoEm = atualizadoEm;
+    }
+}
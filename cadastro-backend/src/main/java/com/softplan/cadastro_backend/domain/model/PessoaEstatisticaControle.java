@@ -0,0 +1,32 @@
+package com.softplan.cadastro_backend.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha única de controle do resumo estatístico (tabela {@code pessoa_estatistica_controle}).
+ * <p>
+ * Indica a todos os nós que o resumo está desatualizado e serve de trava para o recálculo:
+ * apenas a transação que bloqueia esta linha recalcula o resumo.
+ * </p>
+ */
+@Entity
+@Table(name = "pessoa_estatistica_controle")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PessoaEstatisticaControle {
+
+    @Id
+    private Integer id;
+
+    private boolean pendente;
+
+    private LocalDateTime calculadoEm;
+}
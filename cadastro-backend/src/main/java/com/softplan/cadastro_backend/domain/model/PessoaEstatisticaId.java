@@ -0,0 +1,29 @@
+package com.softplan.cadastro_backend.domain.model;
+
+import com.softplan.cadastro_backend.domain.enums.DimensaoEstatistica;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Chave de uma linha do resumo estatístico: a dimensão e o valor agrupado.
+ */
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class PessoaEstatisticaId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private DimensaoEstatistica dimensao;
+
+    @Column(length = 50)
+    private String valor;
+}
@@ -0,0 +1,156 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.JobBloco;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório dos blocos das tarefas em segundo plano, usado como fila entre os nós da aplicação.
+ * <p>
+ * Cada nó reserva o próximo bloco com {@code SELECT ... FOR UPDATE SKIP LOCKED}: linhas já
+ * bloqueadas por outro nó são ignoradas em vez de aguardadas, de modo que vários nós retiram
+ * blocos ao mesmo tempo sem disputar a mesma linha. A reserva grava a situação
+ * {@code EM_EXECUCAO} e incrementa {@code tentativas}, que identifica a reserva vigente: a
+ * conclusão de uma reserva vencida (bloco retomado por outro nó) é descartada.
+ * </p>
+ */
+public interface JobBlocoRepository extends JpaRepository<JobBloco, Long> {
+
+    // Prefixo das constantes de situação nas consultas JPQL
+    String SITUACAO = JobRepository.SITUACAO;
+
+    /**
+     * Bloqueia o próximo bloco pendente, ou em execução há mais tempo que o limite (nó que parou
+     * sem concluí-lo), ignorando os bloqueados por outras transações.
+     *
+     * @param limite blocos em execução iniciados antes deste instante podem ser retomados.
+     * @return ID do bloco bloqueado, se houver.
+     */
+    @Query(value = "SELECT id FROM job_bloco WHERE situacao = 'PENDENTE' "
+            + "OR (situacao = 'EM_EXECUCAO' AND iniciado_em < :limite) "
+            + "ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Long> bloquearProximo(@Param("limite") LocalDateTime limite);
+
+    /**
+     * Reserva o bloco para o nó informado.
+     *
+     * @param id          ID do bloco.
+     * @param responsavel identificação do nó.
+     * @param agora       data e hora da reserva.
+     * @return quantidade de blocos alterados.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobBloco b set b.situacao = " + SITUACAO + "EM_EXECUCAO, b.responsavel = :responsavel, "
+            + "b.iniciadoEm = :agora, b.tentativas = b.tentativas + 1 where b.id = :id")
+    int reservar(@Param("id") Long id, @Param("responsavel") String responsavel, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Inclui um bloco pendente.
+     *
+     * @param jobId         ID da tarefa.
+     * @param sequencia     posição do bloco na tarefa, a partir de 0.
+     * @param primeiraLinha linha do arquivo em que começa o bloco de importação.
+     * @param idInicial     primeiro ID da faixa do bloco de exportação.
+     * @param idFinal       último ID da faixa do bloco de exportação.
+     * @param conteudo      registros CSV do bloco de importação.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_bloco (job_id, sequencia, situacao, primeira_linha, id_inicial, id_final, "
+            + "conteudo, tentativas) VALUES (:jobId, :sequencia, 'PENDENTE', :primeiraLinha, :idInicial, :idFinal, "
+            + ":conteudo, 0)", nativeQuery = true)
+    void incluir(@Param("jobId") Long jobId, @Param("sequencia") int sequencia,
+                 @Param("primeiraLinha") Long primeiraLinha, @Param("idInicial") Long idInicial,
+                 @Param("idFinal") Long idFinal, @Param("conteudo") String conteudo);
+
+    /**
+     * Conclui o bloco, se a reserva ainda for a vigente, e descarta o conteúdo já processado.
+     *
+     * @param id         ID do bloco.
+     * @param tentativas tentativa da reserva.
+     * @param saida      trecho do arquivo gerado (exportação).
+     * @param erros      linhas rejeitadas em JSON (importação).
+     * @param agora      data e hora da conclusão.
+     * @return quantidade de blocos alterados.
+     */
+    @Modifying
+    @Query("update JobBloco b set b.situacao = " + SITUACAO + "CONCLUIDO, b.saida = :saida, b.erros = :erros, "
+            + "b.conteudo = null, b.concluidoEm = :agora where b.id = :id and b.tentativas = :tentativas "
+            + "and b.situacao = " + SITUACAO + "EM_EXECUCAO")
+    int concluir(@Param("id") Long id, @Param("tentativas") int tentativas, @Param("saida") String saida,
+                 @Param("erros") String erros, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Devolve o bloco à fila após uma falha, se a reserva ainda for a vigente.
+     *
+     * @param id         ID do bloco.
+     * @param tentativas tentativa da reserva.
+     * @param erro       motivo da falha.
+     * @return quantidade de blocos alterados.
+     */
+    @Modifying
+    @Query("update JobBloco b set b.situacao = " + SITUACAO + "PENDENTE, b.erro = :erro where b.id = :id "
+            + "and b.tentativas = :tentativas and b.situacao = " + SITUACAO + "EM_EXECUCAO")
+    int devolver(@Param("id") Long id, @Param("tentativas") int tentativas, @Param("erro") String erro);
+
+    /**
+     * Marca o bloco como falho, se a reserva ainda for a vigente.
+     *
+     * @param id         ID do bloco.
+     * @param tentativas tentativa da reserva.
+     * @param erro       motivo da falha.
+     * @param agora      data e hora da falha.
+     * @return quantidade de blocos alterados.
+     */
+    @Modifying
+    @Query("update JobBloco b set b.situacao = " + SITUACAO + "FALHOU, b.erro = :erro, b.concluidoEm = :agora "
+            + "where b.id = :id and b.tentativas = :tentativas and b.situacao = " + SITUACAO + "EM_EXECUCAO")
+    int falhar(@Param("id") Long id, @Param("tentativas") int tentativas, @Param("erro") String erro,
+               @Param("agora") LocalDateTime agora);
+
+    /**
+     * Retira da fila os blocos pendentes de uma tarefa que falhou.
+     *
+     * @param jobId ID da tarefa.
+     * @param agora data e hora do cancelamento.
+     * @return quantidade de blocos alterados.
+     */
+    @Modifying
+    @Query("update JobBloco b set b.situacao = " + SITUACAO + "FALHOU, b.conteudo = null, b.concluidoEm = :agora "
+            + "where b.job.id = :jobId and b.situacao = " + SITUACAO + "PENDENTE")
+    int cancelarPendentes(@Param("jobId") Long jobId, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Busca o trecho do arquivo gerado por um bloco de exportação.
+     *
+     * @param jobId     ID da tarefa.
+     * @param sequencia posição do bloco.
+     * @return o trecho gerado, ou {@code null} se o bloco não gerou linhas.
+     */
+    @Query("select b.saida from JobBloco b where b.job.id = :jobId and b.sequencia = :sequencia")
+    String findSaida(@Param("jobId") Long jobId, @Param("sequencia") int sequencia);
+
+    /**
+     * Lista, em ordem, as posições dos blocos de importação que rejeitaram linhas.
+     *
+     * @param jobId ID da tarefa.
+     * @return posições dos blocos com erros.
+     */
+    @Query("select b.sequencia from JobBloco b where b.job.id = :jobId and b.erros is not null order by b.sequencia")
+    List<Integer> findSequenciasComErros(@Param("jobId") Long jobId);
+
+    /**
+     * Busca as linhas rejeitadas por um bloco de importação.
+     *
+     * @param jobId     ID da tarefa.
+     * @param sequencia posição do bloco.
+     * @return linhas rejeitadas em JSON.
+     */
+    @Query("select b.erros from JobBloco b where b.job.id = :jobId and b.sequencia = :sequencia")
+    String findErros(@Param("jobId") Long jobId, @Param("sequencia") int sequencia);
+}
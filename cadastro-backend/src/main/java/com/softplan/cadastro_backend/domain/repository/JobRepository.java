@@ -0,0 +1,73 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório das tarefas em segundo plano.
+ * <p>
+ * As mudanças de situação e os totais são gravados com atualizações condicionais no banco, pois
+ * blocos da mesma tarefa são concluídos ao mesmo tempo por nós diferentes.
+ * </p>
+ */
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    // Prefixo das constantes de situação nas consultas JPQL
+    String SITUACAO = "com.softplan.cadastro_backend.domain.enums.SituacaoJob.";
+
+    /**
+     * Marca a tarefa como em execução, se ainda estiver pendente.
+     *
+     * @param id ID da tarefa.
+     * @return quantidade de tarefas alteradas.
+     */
+    @Modifying
+    @Query("update Job j set j.situacao = " + SITUACAO + "EM_EXECUCAO where j.id = :id and j.situacao = "
+            + SITUACAO + "PENDENTE")
+    int iniciar(@Param("id") Long id);
+
+    /**
+     * Soma os totais de um bloco concluído aos da tarefa.
+     *
+     * @param id         ID da tarefa.
+     * @param lidos      registros lidos ou escritos pelo bloco.
+     * @param importados pessoas criadas pelo bloco.
+     * @param rejeitados registros rejeitados pelo bloco.
+     * @return quantidade de tarefas alteradas.
+     */
+    @Modifying
+    @Query("update Job j set j.blocosConcluidos = j.blocosConcluidos + 1, j.lidos = j.lidos + :lidos, "
+            + "j.importados = j.importados + :importados, j.rejeitados = j.rejeitados + :rejeitados where j.id = :id")
+    int registrarBloco(@Param("id") Long id, @Param("lidos") long lidos, @Param("importados") long importados,
+                       @Param("rejeitados") long rejeitados);
+
+    /**
+     * Conclui a tarefa se todos os blocos estiverem concluídos e ela não tiver falhado.
+     *
+     * @param id    ID da tarefa.
+     * @param agora data e hora da conclusão.
+     * @return quantidade de tarefas alteradas.
+     */
+    @Modifying
+    @Query("update Job j set j.situacao = " + SITUACAO + "CONCLUIDO, j.concluidoEm = :agora where j.id = :id "
+            + "and j.blocosConcluidos = j.totalBlocos and j.situacao <> " + SITUACAO + "FALHOU")
+    int concluirSeCompleto(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Marca a tarefa como falha.
+     *
+     * @param id    ID da tarefa.
+     * @param erro  motivo da falha.
+     * @param agora data e hora da falha.
+     * @return quantidade de tarefas alteradas.
+     */
+    @Modifying
+    @Query("update Job j set j.situacao = " + SITUACAO + "FALHOU, j.erro = :erro, j.concluidoEm = :agora "
+            + "where j.id = :id and j.situacao <> " + SITUACAO + "FALHOU")
+    int falhar(@Param("id") Long id, @Param("erro") String erro, @Param("agora") LocalDateTime agora);
+}
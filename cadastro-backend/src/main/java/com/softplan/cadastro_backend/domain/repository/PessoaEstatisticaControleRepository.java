@@ -0,0 +1,65 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.PessoaEstatisticaControle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório da linha de controle do resumo estatístico, compartilhada entre os nós da aplicação.
+ * <p>
+ * Os nós que alteraram o cadastro marcam o resumo como pendente; o recálculo bloqueia a linha
+ * com {@code SELECT ... FOR UPDATE}, de modo que nunca há dois recálculos simultâneos.
+ * </p>
+ */
+public interface PessoaEstatisticaControleRepository extends JpaRepository<PessoaEstatisticaControle, Integer> {
+
+    /**
+     * ID da única linha de controle.
+     */
+    int ID = 1;
+
+    /**
+     * Marca o resumo como desatualizado. Aguarda o fim de um recálculo em andamento, de modo que a
+     * marcação nunca se perde na conclusão dele.
+     *
+     * @return quantidade de linhas alteradas (0 se a linha de controle não existir).
+     */
+    @Modifying
+    @Query("update PessoaEstatisticaControle c set c.pendente = true where c.id = " + ID)
+    int marcarPendente();
+
+    /**
+     * Bloqueia a linha de controle se o resumo estiver pendente ou tiver sido calculado antes do
+     * início do dia (as faixas etárias mudam com a data), ignorando-a se outro nó já a tiver
+     * bloqueado para recalcular.
+     *
+     * @param inicioDoDia início do dia atual.
+     * @return o ID da linha bloqueada, se houver recálculo a fazer.
+     */
+    @Query(value = "SELECT id FROM pessoa_estatistica_controle WHERE id = " + ID + " AND (pendente "
+            + "OR calculado_em IS NULL OR calculado_em < :inicioDoDia) FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Integer> bloquearSePendente(@Param("inicioDoDia") LocalDateTime inicioDoDia);
+
+    /**
+     * Bloqueia a linha de controle, aguardando um recálculo em andamento.
+     *
+     * @return o ID da linha bloqueada, se ela existir.
+     */
+    @Query(value = "SELECT id FROM pessoa_estatistica_controle WHERE id = " + ID + " FOR UPDATE", nativeQuery = true)
+    Optional<Integer> bloquear();
+
+    /**
+     * Registra a conclusão do recálculo.
+     *
+     * @param agora data e hora do recálculo.
+     * @return quantidade de linhas alteradas.
+     */
+    @Modifying
+    @Query("update PessoaEstatisticaControle c set c.pendente = false, c.calculadoEm = :agora where c.id = " + ID)
+    int concluir(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,11 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.PessoaEstatistica;
+import com.softplan.cadastro_backend.domain.model.PessoaEstatisticaId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repositório do resumo estatístico do cadastro de pessoas.
+ */
+public interface PessoaEstatisticaRepository extends JpaRepository<PessoaEstatistica, PessoaEstatisticaId> {
+}
@@ -1,14 +1,34 @@
 package com.softplan.cadastro_backend.domain.repository;
 
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositório para operações de banco de dados relacionadas à entidade {@link Pessoa}.
+ * <p>
+ * As consultas de leitura da API usam projeções ({@link PessoaResumo} e {@link PessoaDetalhe})
+ * que selecionam apenas as colunas exibidas e não criam entidades gerenciadas.
+ * </p>
  */
-public interface PessoaRepository extends JpaRepository<Pessoa, Long> {
+public interface PessoaRepository extends JpaRepository<Pessoa, Long>, PessoaRepositoryCustom {
+
+    // Fragmentos JPQL compartilhados pelas consultas de projeção
+    String RESUMO = "com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo";
+    String DETALHE = "com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe";
+    String COLUNAS_RESUMO = "p.id, p.nome, p.sexo, p.email, p.dataNascimento, p.naturalidade, p.nacionalidade, p.cpf, p.versao";
+    String COLUNAS_DETALHE = COLUNAS_RESUMO + ", p.endereco";
+    String APOS_ID = "where p.id > :id order by p.id";
+    String APOS_NOME = "where (p.nome, p.id) > (:nome, :id) order by p.nome, p.id";
 
     /**
      * Busca uma pessoa pelo CPF.
@@ -17,4 +37,122 @@ public interface PessoaRepository extends JpaRepository<Pessoa, Long> {
      * @return {@link Optional} contendo a pessoa, se encontrada, ou vazio caso contrário.
      */
     Optional<Pessoa> findByCpf(String cpf);
+
+    /**
+     * Busca uma pessoa pelo CPF, apenas com as colunas da versão 1 da API.
+     *
+     * @param cpf CPF da pessoa a ser encontrada.
+     * @return {@link Optional} contendo o resumo da pessoa, se encontrada.
+     */
+    @Query("select new " + RESUMO + "(" + COLUNAS_RESUMO + ") from Pessoa p where p.cpf = :cpf")
+    Optional<PessoaResumo> findResumoByCpf(@Param("cpf") String cpf);
+
+    /**
+     * Busca uma pessoa pelo CPF, apenas com as colunas da versão 2 da API.
+     *
+     * @param cpf CPF da pessoa a ser encontrada.
+     * @return {@link Optional} contendo o detalhe da pessoa, se encontrada.
+     */
+    @Query("select new " + DETALHE + "(" + COLUNAS_DETALHE + ") from Pessoa p where p.cpf = :cpf")
+    Optional<PessoaDetalhe> findDetalheByCpf(@Param("cpf") String cpf);
+
+    /**
+     * Busca a próxima página de resumos ordenados pelo ID (paginação por cursor).
+     *
+     * @param id    ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limit quantidade máxima de registros.
+     * @return resumos com ID maior que o informado, em ordem crescente de ID.
+     */
+    @Query("select new " + RESUMO + "(" + COLUNAS_RESUMO + ") from Pessoa p " + APOS_ID)
+    List<PessoaResumo> findResumosAposId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Busca a próxima página de resumos ordenados por nome e ID (paginação por cursor).
+     * <p>
+     * A comparação de tuplas permite que o banco percorra o índice {@code (nome, id)} a partir
+     * da última posição entregue, sem ler as páginas anteriores.
+     * </p>
+     *
+     * @param nome  nome do último registro da página anterior ({@code ""} para a primeira página).
+     * @param id    ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limit quantidade máxima de registros.
+     * @return resumos posteriores à posição informada, em ordem de nome e ID.
+     */
+    @Query("select new " + RESUMO + "(" + COLUNAS_RESUMO + ") from Pessoa p " + APOS_NOME)
+    List<PessoaResumo> findResumosAposNome(@Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    /**
+     * Busca a próxima página de detalhes ordenados pelo ID (paginação por cursor).
+     *
+     * @param id    ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limit quantidade máxima de registros.
+     * @return detalhes com ID maior que o informado, em ordem crescente de ID.
+     */
+    @Query("select new " + DETALHE + "(" + COLUNAS_DETALHE + ") from Pessoa p " + APOS_ID)
+    List<PessoaDetalhe> findDetalhesAposId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Busca a próxima página de detalhes ordenados por nome e ID (paginação por cursor).
+     *
+     * @param nome  nome do último registro da página anterior ({@code ""} para a primeira página).
+     * @param id    ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limit quantidade máxima de registros.
+     * @return detalhes posteriores à posição informada, em ordem de nome e ID.
+     */
+    @Query("select new " + DETALHE + "(" + COLUNAS_DETALHE + ") from Pessoa p " + APOS_NOME)
+    List<PessoaDetalhe> findDetalhesAposNome(@Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    /**
+     * Busca os detalhes das pessoas com os IDs informados, em qualquer ordem.
+     *
+     * @param ids IDs das pessoas.
+     * @return detalhes das pessoas encontradas.
+     */
+    @Query("select new " + DETALHE + "(" + COLUNAS_DETALHE + ") from Pessoa p where p.id in :ids")
+    List<PessoaDetalhe> findDetalhesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Conta as pessoas por sexo.
+     *
+     * @return pares (sexo, quantidade).
+     */
+    @Query("select p.sexo, count(p) from Pessoa p group by p.sexo")
+    List<Object[]> contarPorSexo();
+
+    /**
+     * Conta as pessoas por estado do endereço.
+     *
+     * @return pares (estado, quantidade); o estado é nulo para pessoas sem endereço.
+     */
+    @Query("select p.endereco.estado, count(p) from Pessoa p group by p.endereco.estado")
+    List<Object[]> contarPorEstado();
+
+    /**
+     * Conta as pessoas por faixa etária, em uma única leitura da tabela. As faixas são delimitadas
+     * pelas datas de nascimento de quem completa cada idade na data do cálculo.
+     *
+     * @param nascidos18 data de nascimento de quem completa 18 anos na data do cálculo.
+     * @param nascidos30 data de nascimento de quem completa 30 anos na data do cálculo.
+     * @param nascidos45 data de nascimento de quem completa 45 anos na data do cálculo.
+     * @param nascidos60 data de nascimento de quem completa 60 anos na data do cálculo.
+     * @return uma única linha com as quantidades de 0-17, 18-29, 30-44, 45-59 e 60+ anos.
+     */
+    @Query("select count(case when p.dataNascimento > :nascidos18 then 1 end), "
+            + "count(case when p.dataNascimento <= :nascidos18 and p.dataNascimento > :nascidos30 then 1 end), "
+            + "count(case when p.dataNascimento <= :nascidos30 and p.dataNascimento > :nascidos45 then 1 end), "
+            + "count(case when p.dataNascimento <= :nascidos45 and p.dataNascimento > :nascidos60 then 1 end), "
+            + "count(case when p.dataNascimento <= :nascidos60 then 1 end) from Pessoa p")
+    List<Object[]> contarPorFaixaEtaria(@Param("nascidos18") LocalDate nascidos18,
+                                        @Param("nascidos30") LocalDate nascidos30,
+                                        @Param("nascidos45") LocalDate nascidos45,
+                                        @Param("nascidos60") LocalDate nascidos60);
+
+    /**
+     * Conta as pessoas por mês de cadastro.
+     *
+     * @return pares (ano * 100 + mês, quantidade); o mês é nulo se a data de cadastro não existir.
+     */
+    @Query("select year(p.dataCadastro) * 100 + month(p.dataCadastro), count(p) from Pessoa p "
+            + "group by year(p.dataCadastro) * 100 + month(p.dataCadastro)")
+    List<Object[]> contarPorMesCadastro();
 }
@@ -0,0 +1,57 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Consultas de {@link Pessoa} montadas dinamicamente (filtros e campos definidos na requisição).
+ */
+public interface PessoaRepositoryCustom {
+
+    /**
+     * Busca a próxima página de detalhes que atendem ao filtro, ordenados pelo ID.
+     *
+     * @param filtro filtro da busca ({@code null} para nenhum).
+     * @param aposId ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limite quantidade máxima de registros.
+     * @return detalhes com ID maior que o informado, em ordem crescente de ID.
+     */
+    List<PessoaDetalhe> buscarDetalhes(Specification<Pessoa> filtro, Long aposId, int limite);
+
+    /**
+     * Busca a próxima página ordenada pelo ID, lendo apenas as colunas dos campos solicitados.
+     *
+     * @param campos campos solicitados.
+     * @param aposId ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limite quantidade máxima de registros.
+     * @return registros com ID maior que o informado, em ordem crescente de ID.
+     */
+    List<PessoaCampos> buscarCamposAposId(Set<CampoPessoa> campos, Long aposId, int limite);
+
+    /**
+     * Busca a próxima página ordenada por nome e ID, lendo apenas as colunas dos campos solicitados.
+     *
+     * @param campos   campos solicitados.
+     * @param aposNome nome do último registro da página anterior ({@code ""} para a primeira página).
+     * @param aposId   ID do último registro da página anterior ({@code 0} para a primeira página).
+     * @param limite   quantidade máxima de registros.
+     * @return registros posteriores à posição informada, em ordem de nome e ID.
+     */
+    List<PessoaCampos> buscarCamposAposNome(Set<CampoPessoa> campos, String aposNome, Long aposId, int limite);
+
+    /**
+     * Busca uma pessoa pelo CPF, lendo apenas as colunas dos campos solicitados.
+     *
+     * @param campos campos solicitados.
+     * @param cpf    CPF da pessoa.
+     * @return {@link Optional} contendo os campos da pessoa, se encontrada.
+     */
+    Optional<PessoaCampos> buscarCamposPorCpf(Set<CampoPessoa> campos, String cpf);
+}
@@ -0,0 +1,118 @@
+package com.softplan.cadastro_backend.domain.repository;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Implementação das consultas dinâmicas de {@link PessoaRepository}.
+ * <p>
+ * As consultas selecionam apenas as colunas necessárias (as de {@link PessoaDetalhe} ou as dos
+ * campos solicitados), sem carregar entidades gerenciadas. A busca filtrada usa a Criteria API;
+ * as consultas de campos são JPQL montado com os mesmos fragmentos de {@link PessoaRepository}.
+ * </p>
+ */
+class PessoaRepositoryImpl implements PessoaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PessoaDetalhe> buscarDetalhes(Specification<Pessoa> filtro, Long aposId, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PessoaDetalhe> query = cb.createQuery(PessoaDetalhe.class);
+        Root<Pessoa> pessoa = query.from(Pessoa.class);
+
+        query.select(cb.construct(PessoaDetalhe.class,
+                pessoa.get("id"), pessoa.get("nome"), pessoa.get("sexo"), pessoa.get("email"),
+                pessoa.get("dataNascimento"), pessoa.get("naturalidade"), pessoa.get("nacionalidade"),
+                pessoa.get("cpf"), pessoa.get("versao"), pessoa.get("endereco")));
+
+        Predicate apos = cb.greaterThan(pessoa.get("id"), aposId);
+        Predicate condicao = filtro != null ? filtro.toPredicate(pessoa, query, cb) : null;
+        query.where(condicao != null ? cb.and(apos, condicao) : apos);
+        query.orderBy(cb.asc(pessoa.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public List<PessoaCampos> buscarCamposAposId(Set<CampoPessoa> campos, Long aposId, int limite) {
+        return consultarCampos(campos, PessoaRepository.APOS_ID)
+                .setParameter("id", aposId)
+                .setMaxResults(limite)
+                .getResultList().stream()
+                .map(tupla -> paraCampos(campos, tupla))
+                .toList();
+    }
+
+    @Override
+    public List<PessoaCampos> buscarCamposAposNome(Set<CampoPessoa> campos, String aposNome, Long aposId, int limite) {
+        return consultarCampos(campos, PessoaRepository.APOS_NOME)
+                .setParameter("nome", aposNome)
+                .setParameter("id", aposId)
+                .setMaxResults(limite)
+                .getResultList().stream()
+                .map(tupla -> paraCampos(campos, tupla))
+                .toList();
+    }
+
+    @Override
+    public Optional<PessoaCampos> buscarCamposPorCpf(Set<CampoPessoa> campos, String cpf) {
+        return consultarCampos(campos, "where p.cpf = :cpf")
+                .setParameter("cpf", cpf)
+                .getResultList().stream()
+                .findFirst()
+                .map(tupla -> paraCampos(campos, tupla));
+    }
+
+    /**
+     * Monta a consulta dos campos solicitados com a mesma condição e ordenação das consultas de
+     * projeção de {@link PessoaRepository} ({@link PessoaRepository#APOS_ID} e
+     * {@link PessoaRepository#APOS_NOME}), para que o banco percorra os índices da mesma forma.
+     */
+    private TypedQuery<Tuple> consultarCampos(Set<CampoPessoa> campos, String condicao) {
+        // ID e nome sempre selecionados: formam o cursor da próxima página
+        StringJoiner selecao = new StringJoiner(", ", "select ", " from Pessoa p " + condicao);
+        selecao.add(coluna(CampoPessoa.ID));
+        selecao.add(coluna(CampoPessoa.NOME));
+        for (CampoPessoa campo : campos) {
+            if (campo != CampoPessoa.ID && campo != CampoPessoa.NOME) {
+                selecao.add(coluna(campo));
+            }
+        }
+        return entityManager.createQuery(selecao.toString(), Tuple.class);
+    }
+
+    private static String coluna(CampoPessoa campo) {
+        return "p." + campo.getAtributo() + " as " + campo.getAtributo();
+    }
+
+    private static PessoaCampos paraCampos(Set<CampoPessoa> campos, Tuple tupla) {
+        Map<CampoPessoa, Object> valores = new EnumMap<>(CampoPessoa.class);
+        for (CampoPessoa campo : campos) {
+            valores.put(campo, tupla.get(campo.getAtributo()));
+        }
+        return new PessoaCampos(tupla.get(CampoPessoa.ID.getAtributo(), Long.class),
+                tupla.get(CampoPessoa.NOME.getAtributo(), String.class), valores);
+    }
+}
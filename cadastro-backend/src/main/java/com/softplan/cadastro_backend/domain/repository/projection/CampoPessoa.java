@@ -0,0 +1,79 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Campos de uma pessoa que podem ser solicitados individualmente ({@code ?fields=}).
+ * <p>
+ * O nome de cada campo é, ao mesmo tempo, a propriedade JSON das respostas e o atributo da
+ * entidade {@link com.softplan.cadastro_backend.domain.model.Pessoa} selecionado na consulta.
+ * </p>
+ */
+@Getter
+public enum CampoPessoa {
+
+    ID("id"),
+    NOME("nome"),
+    SEXO("sexo"),
+    EMAIL("email"),
+    DATA_NASCIMENTO("dataNascimento"),
+    NATURALIDADE("naturalidade"),
+    NACIONALIDADE("nacionalidade"),
+    CPF("cpf"),
+    ENDERECO("endereco");
+
+    /**
+     * Campos disponíveis na versão 1 da API (sem endereço).
+     */
+    public static final Set<CampoPessoa> RESUMO = Collections.unmodifiableSet(EnumSet.range(ID, CPF));
+
+    /**
+     * Campos disponíveis na versão 2 da API.
+     */
+    public static final Set<CampoPessoa> DETALHE = Collections.unmodifiableSet(EnumSet.allOf(CampoPessoa.class));
+
+    /**
+     * Nome da propriedade JSON e do atributo da entidade.
+     */
+    private final String atributo;
+
+    CampoPessoa(String atributo) {
+        this.atributo = atributo;
+    }
+
+    /**
+     * Interpreta a lista de campos separados por vírgula.
+     *
+     * @param lista      campos solicitados, por exemplo {@code "id,nome,cpf"}.
+     * @param permitidos campos disponíveis na versão da API.
+     * @return os campos solicitados, na ordem de declaração do enum.
+     * @throws IllegalArgumentException se a lista estiver vazia ou contiver campo não disponível.
+     */
+    public static Set<CampoPessoa> de(String lista, Set<CampoPessoa> permitidos) {
+        EnumSet<CampoPessoa> campos = EnumSet.noneOf(CampoPessoa.class);
+        for (String item : lista.split(",")) {
+            String nome = item.trim();
+            if (!nome.isEmpty()) {
+                campos.add(deAtributo(nome, permitidos));
+            }
+        }
+        if (campos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo em fields");
+        }
+        return campos;
+    }
+
+    private static CampoPessoa deAtributo(String nome, Set<CampoPessoa> permitidos) {
+        for (CampoPessoa campo : permitidos) {
+            if (campo.atributo.equalsIgnoreCase(nome)) {
+                return campo;
+            }
+        }
+        throw new IllegalArgumentException("Campo não suportado: " + nome.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,17 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+import java.util.Map;
+
+/**
+ * Projeção com apenas os campos solicitados de uma pessoa ({@code ?fields=}).
+ * <p>
+ * O ID e o nome são sempre lidos, pois formam o cursor de paginação, mas só fazem parte de
+ * {@code valores} quando solicitados.
+ * </p>
+ *
+ * @param id      o ID da pessoa.
+ * @param nome    o nome da pessoa.
+ * @param valores valores dos campos solicitados, na ordem de declaração de {@link CampoPessoa}.
+ */
+public record PessoaCampos(Long id, String nome, Map<CampoPessoa, Object> valores) implements PessoaProjecao {
+}
@@ -0,0 +1,26 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Endereco;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção com as colunas de uma pessoa exibidas na versão 2 da API (com endereço).
+ * <p>
+ * Não inclui as datas de auditoria. Preenchida por expressão construtora, não gera entidades
+ * gerenciadas pelo contexto de persistência.
+ * </p>
+ */
+public record PessoaDetalhe(
+        Long id,
+        String nome,
+        SexoEnum sexo,
+        String email,
+        LocalDate dataNascimento,
+        String naturalidade,
+        String nacionalidade,
+        String cpf,
+        long versao,
+        Endereco endereco) implements PessoaVersionada {
+}
@@ -0,0 +1,20 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+/**
+ * Projeção somente-leitura de {@link com.softplan.cadastro_backend.domain.model.Pessoa}.
+ * <p>
+ * Expõe as chaves usadas pela paginação por cursor, comuns a todas as projeções.
+ * </p>
+ */
+public interface PessoaProjecao {
+
+    /**
+     * @return o ID da pessoa.
+     */
+    Long id();
+
+    /**
+     * @return o nome da pessoa.
+     */
+    String nome();
+}
@@ -0,0 +1,23 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção com as colunas de uma pessoa exibidas na versão 1 da API (sem endereço).
+ * <p>
+ * Preenchida por expressão construtora, não gera entidades gerenciadas pelo contexto de persistência.
+ * </p>
+ */
+public record PessoaResumo(
+        Long id,
+        String nome,
+        SexoEnum sexo,
+        String email,
+        LocalDate dataNascimento,
+        String naturalidade,
+        String nacionalidade,
+        String cpf,
+        long versao) implements PessoaVersionada {
+}
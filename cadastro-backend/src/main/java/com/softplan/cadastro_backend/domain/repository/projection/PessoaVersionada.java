@@ -0,0 +1,16 @@
+package com.softplan.cadastro_backend.domain.repository.projection;
+
+/**
+ * Projeção que inclui a versão da pessoa.
+ * <p>
+ * A versão é lida na mesma consulta das demais colunas, de modo que a ETag é calculada a partir
+ * da própria projeção retornada (inclusive da mantida em cache), sem outra ida ao banco.
+ * </p>
+ */
+public interface PessoaVersionada extends PessoaProjecao {
+
+    /**
+     * @return a versão da pessoa, incrementada a cada alteração.
+     */
+    long versao();
+}
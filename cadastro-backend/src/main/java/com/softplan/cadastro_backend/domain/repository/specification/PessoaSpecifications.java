@@ -0,0 +1,144 @@
+package com.softplan.cadastro_backend.domain.repository.specification;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Filtros dinâmicos da busca de pessoas.
+ * <p>
+ * Cada filtro gera exatamente a expressão indexada pela migração {@code V4} ({@code lower(coluna)}
+ * para os campos de texto sem diferenciação de maiúsculas), permitindo que o banco use o índice
+ * correspondente. Valores nulos ou vazios resultam em {@code null}, ignorado na composição.
+ * </p>
+ */
+@UtilityClass
+public class PessoaSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    /**
+     * Nome iniciando pelo prefixo informado, sem diferenciar maiúsculas.
+     *
+     * @param prefixo início do nome.
+     * @return o filtro, ou {@code null} se o prefixo estiver vazio.
+     */
+    public static Specification<Pessoa> nomeComecaCom(String prefixo) {
+        if (vazio(prefixo)) {
+            return null;
+        }
+        String padrao = escaparLike(normalizar(prefixo)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("nome")), padrao, ESCAPE);
+    }
+
+    /**
+     * E-mail igual ao informado, sem diferenciar maiúsculas.
+     *
+     * @param email e-mail procurado.
+     * @return o filtro, ou {@code null} se o e-mail estiver vazio.
+     */
+    public static Specification<Pessoa> emailIgual(String email) {
+        return textoIgual("email", email);
+    }
+
+    /**
+     * Sexo igual ao informado.
+     *
+     * @param sexo sexo procurado.
+     * @return o filtro, ou {@code null} se o sexo não for informado.
+     */
+    public static Specification<Pessoa> sexoIgual(SexoEnum sexo) {
+        if (sexo == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("sexo"), sexo);
+    }
+
+    /**
+     * Cidade do endereço igual à informada, sem diferenciar maiúsculas.
+     *
+     * @param cidade cidade procurada.
+     * @return o filtro, ou {@code null} se a cidade estiver vazia.
+     */
+    public static Specification<Pessoa> cidadeIgual(String cidade) {
+        return enderecoIgual("cidade", cidade);
+    }
+
+    /**
+     * Estado do endereço igual ao informado, sem diferenciar maiúsculas.
+     *
+     * @param estado estado procurado.
+     * @return o filtro, ou {@code null} se o estado estiver vazio.
+     */
+    public static Specification<Pessoa> estadoIgual(String estado) {
+        return enderecoIgual("estado", estado);
+    }
+
+    /**
+     * CEP do endereço igual ao informado.
+     *
+     * @param cep CEP procurado.
+     * @return o filtro, ou {@code null} se o CEP estiver vazio.
+     */
+    public static Specification<Pessoa> cepIgual(String cep) {
+        if (vazio(cep)) {
+            return null;
+        }
+        String valor = cep.trim();
+        return (root, query, cb) -> cb.equal(root.get("endereco").get("cep"), valor);
+    }
+
+    /**
+     * Data de nascimento dentro do intervalo informado (limites inclusivos e opcionais).
+     *
+     * @param inicio data mínima, ou {@code null}.
+     * @param fim    data máxima, ou {@code null}.
+     * @return o filtro, ou {@code null} se nenhum limite for informado.
+     */
+    public static Specification<Pessoa> nascidoEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio == null && fim == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (inicio == null) {
+                return cb.lessThanOrEqualTo(root.get("dataNascimento"), fim);
+            }
+            if (fim == null) {
+                return cb.greaterThanOrEqualTo(root.get("dataNascimento"), inicio);
+            }
+            return cb.between(root.get("dataNascimento"), inicio, fim);
+        };
+    }
+
+    private static Specification<Pessoa> textoIgual(String atributo, String valor) {
+        if (vazio(valor)) {
+            return null;
+        }
+        String normalizado = normalizar(valor);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get(atributo)), normalizado);
+    }
+
+    private static Specification<Pessoa> enderecoIgual(String atributo, String valor) {
+        if (vazio(valor)) {
+            return null;
+        }
+        String normalizado = normalizar(valor);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("endereco").get(atributo)), normalizado);
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    private static String normalizar(String valor) {
+        return valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escaparLike(String valor) {
+        return valor.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
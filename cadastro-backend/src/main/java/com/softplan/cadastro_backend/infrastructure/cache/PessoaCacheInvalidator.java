@@ -0,0 +1,43 @@
+package com.softplan.cadastro_backend.infrastructure.cache;
+
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.infrastructure.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Remove dos caches as entradas das pessoas alteradas.
+ * <p>
+ * A remoção ocorre após a confirmação da transação, para que uma leitura concorrente não
+ * repovoe o cache com o valor anterior. Em uma atualização de CPF são removidos tanto o CPF
+ * anterior quanto o novo.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PessoaCacheInvalidator {
+
+    private static final List<String> CACHES_POR_CPF = List.of(CacheConfig.PESSOAS_POR_CPF, CacheConfig.RESUMOS_POR_CPF);
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Remove as entradas dos CPFs afetados pela alteração.
+     *
+     * @param evento a alteração realizada.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarPessoa(PessoaAlteradaEvent evento) {
+        for (String nome : CACHES_POR_CPF) {
+            Cache cache = cacheManager.getCache(nome);
+            if (cache != null) {
+                evento.cpfs().forEach(cache::evict);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Configuração das tarefas agendadas e do relógio da aplicação.
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+
+    /**
+     * Relógio do sistema, injetável para que cálculos dependentes da data possam ser testados.
+     *
+     * @return o relógio no fuso horário padrão.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
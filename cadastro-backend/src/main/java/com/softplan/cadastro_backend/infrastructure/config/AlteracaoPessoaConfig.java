@@ -0,0 +1,38 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import com.softplan.cadastro_backend.infrastructure.persistence.AlteracaoPessoa;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Configuração da alteração e da remoção de pessoas por comando único.
+ * <p>
+ * O PostgreSQL usa {@code RETURNING}; o H2 (perfil de desenvolvimento), {@code FINAL TABLE} e {@code OLD TABLE}.
+ * </p>
+ */
+@Configuration
+public class AlteracaoPessoaConfig {
+
+    /**
+     * Cria a alteração de pessoas com os comandos adequados ao banco configurado.
+     *
+     * @param jdbcTemplate               acesso JDBC ao banco.
+     * @param namedParameterJdbcTemplate acesso JDBC com parâmetros nomeados.
+     * @return a alteração de pessoas.
+     * @throws MetaDataAccessException se não for possível identificar o banco.
+     */
+    @Bean
+    public AlteracaoPessoa alteracaoPessoa(JdbcTemplate jdbcTemplate,
+                                           NamedParameterJdbcTemplate namedParameterJdbcTemplate)
+            throws MetaDataAccessException {
+        String banco = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        return new AlteracaoPessoa(namedParameterJdbcTemplate, "PostgreSQL".equals(banco));
+    }
+}
@@ -0,0 +1,40 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeAproximada;
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeTrigramaMemoria;
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeTrigramaPostgres;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Configuração da busca aproximada de nomes.
+ * <p>
+ * No PostgreSQL a busca usa os índices de trigramas do banco; nos demais (H2 no perfil de
+ * desenvolvimento) a similaridade é calculada na aplicação.
+ * </p>
+ */
+@Configuration
+public class BuscaNomeConfig {
+
+    /**
+     * Cria a busca aproximada adequada ao banco configurado.
+     *
+     * @param jdbcTemplate acesso JDBC ao banco.
+     * @return a implementação da busca aproximada.
+     * @throws MetaDataAccessException se não for possível identificar o banco.
+     */
+    @Bean
+    public BuscaNomeAproximada buscaNomeAproximada(JdbcTemplate jdbcTemplate) throws MetaDataAccessException {
+        String banco = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        if ("PostgreSQL".equals(banco)) {
+            return new BuscaNomeTrigramaPostgres(jdbcTemplate);
+        }
+        return new BuscaNomeTrigramaMemoria(jdbcTemplate);
+    }
+}
@@ -0,0 +1,33 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache em memória das consultas de pessoas.
+ * <p>
+ * Os caches são criados pelo Caffeine com o tamanho, o tempo de expiração e a coleta de
+ * estatísticas definidos em {@code spring.cache.caffeine.spec}. As estatísticas ficam
+ * disponíveis no Actuator ({@code /actuator/metrics/cache.gets}, {@code cache.evictions}).
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache das projeções da versão 2 ({@code PessoaDetalhe}), indexado pelo CPF.
+     */
+    public static final String PESSOAS_POR_CPF = "pessoasPorCpf";
+
+    /**
+     * Cache das projeções da versão 1 ({@code PessoaResumo}), indexado pelo CPF.
+     */
+    public static final String RESUMOS_POR_CPF = "resumosPorCpf";
+
+    /**
+     * Chave dos caches por CPF: o CPF apenas com dígitos, o mesmo informado nos eventos de
+     * alteração, de modo que a invalidação alcance também as consultas com o CPF formatado.
+     */
+    public static final String CHAVE_CPF = "T(com.softplan.cadastro_backend.util.CPFUtil).limparCPF(#p0)";
+}
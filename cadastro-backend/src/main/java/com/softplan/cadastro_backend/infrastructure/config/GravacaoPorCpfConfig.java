@@ -0,0 +1,41 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import com.softplan.cadastro_backend.infrastructure.persistence.AlocadorIdsPessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.GravacaoPorCpf;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Configuração da inclusão ou atualização de pessoas pelo CPF.
+ * <p>
+ * O PostgreSQL usa {@code INSERT ... ON CONFLICT}; o H2 (perfil de desenvolvimento), {@code MERGE}.
+ * </p>
+ */
+@Configuration
+public class GravacaoPorCpfConfig {
+
+    /**
+     * Cria a gravação pelo CPF com o comando adequado ao banco configurado.
+     *
+     * @param jdbcTemplate               acesso JDBC ao banco.
+     * @param namedParameterJdbcTemplate acesso JDBC com parâmetros nomeados.
+     * @param alocadorIds                alocador dos IDs de pessoa.
+     * @return a gravação pelo CPF.
+     * @throws MetaDataAccessException se não for possível identificar o banco.
+     */
+    @Bean
+    public GravacaoPorCpf gravacaoPorCpf(JdbcTemplate jdbcTemplate,
+                                         NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                         AlocadorIdsPessoa alocadorIds) throws MetaDataAccessException {
+        String banco = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        String upsert = "PostgreSQL".equals(banco) ? GravacaoPorCpf.UPSERT_POSTGRES : GravacaoPorCpf.UPSERT_H2;
+        return new GravacaoPorCpf(namedParameterJdbcTemplate, alocadorIds, upsert);
+    }
+}
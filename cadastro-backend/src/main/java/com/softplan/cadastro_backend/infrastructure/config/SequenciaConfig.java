@@ -0,0 +1,40 @@
+package com.softplan.cadastro_backend.infrastructure.config;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Configuração do acesso à sequência de IDs de pessoa para as gravações feitas via JDBC.
+ * <p>
+ * A sintaxe de leitura da sequência varia entre o PostgreSQL e o H2 (perfil de desenvolvimento).
+ * </p>
+ */
+@Configuration
+public class SequenciaConfig {
+
+    /**
+     * Cria o acesso à sequência {@value Pessoa#SEQUENCIA_ID} adequado ao banco configurado.
+     *
+     * @param jdbcTemplate acesso JDBC ao banco.
+     * @return o incrementador da sequência.
+     * @throws MetaDataAccessException se não for possível identificar o banco.
+     */
+    @Bean
+    public DataFieldMaxValueIncrementer sequenciaIdPessoa(JdbcTemplate jdbcTemplate) throws MetaDataAccessException {
+        String banco = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        if ("PostgreSQL".equals(banco)) {
+            return new PostgresSequenceMaxValueIncrementer(jdbcTemplate.getDataSource(), Pessoa.SEQUENCIA_ID);
+        }
+        return new H2SequenceMaxValueIncrementer(jdbcTemplate.getDataSource(), Pessoa.SEQUENCIA_ID);
+    }
+}
@@ -0,0 +1,47 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aloca IDs de pessoa para as gravações feitas via JDBC, em blocos reservados na sequência
+ * {@value Pessoa#SEQUENCIA_ID}.
+ * <p>
+ * Segue a mesma regra do otimizador {@code pooled} do Hibernate: cada valor {@code v} obtido da
+ * sequência reserva os IDs {@code v - }{@value Pessoa#ALOCACAO_IDS}{@code  + 1} a {@code v}.
+ * Assim, o JPA e as gravações JDBC compartilham a sequência sem colisões, com uma ida ao banco a
+ * cada {@value Pessoa#ALOCACAO_IDS} IDs.
+ * </p>
+ */
+@Component
+public class AlocadorIdsPessoa {
+
+    private final DataFieldMaxValueIncrementer sequencia;
+
+    private long proximo;
+    private long limite = -1;
+
+    /**
+     * Cria o alocador.
+     *
+     * @param sequencia acesso à sequência de IDs de pessoa.
+     */
+    public AlocadorIdsPessoa(DataFieldMaxValueIncrementer sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * Retorna o próximo ID livre, reservando um novo bloco na sequência quando o atual se esgota.
+     *
+     * @return um ID ainda não utilizado.
+     */
+    public synchronized long proximo() {
+        if (proximo > limite) {
+            limite = sequencia.nextLongValue();
+            // O primeiro valor de uma sequência nova é 1: o bloco começa em 1, nunca antes
+            proximo = Math.max(1, limite - Pessoa.ALOCACAO_IDS + 1);
+        }
+        return proximo++;
+    }
+}
@@ -0,0 +1,160 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.converter.CpfConverter;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Alteração e remoção de uma pessoa em um único comando, sem leitura prévia pelo JPA.
+ * <p>
+ * Somente as colunas alteradas entram no {@code SET}; a pessoa resultante e o CPF anterior
+ * voltam do próprio comando. O comando depende do banco em uso ({@code RETURNING} no
+ * PostgreSQL, {@code FINAL TABLE} e {@code OLD TABLE} no H2); veja
+ * {@link com.softplan.cadastro_backend.infrastructure.config.AlteracaoPessoaConfig}.
+ * </p>
+ * <p>
+ * Cada alteração incrementa a coluna {@code versao}. Se uma versão esperada for informada, ela
+ * entra na condição do próprio comando: uma versão desatualizada não atinge nenhuma linha, sem
+ * leitura adicional e sem bloqueio além do da própria alteração.
+ * </p>
+ */
+public class AlteracaoPessoa {
+
+    /**
+     * Coluna e parâmetro de cada atributo alterável, com os do endereço como {@code endereco.<campo>}.
+     * Os parâmetros têm os mesmos nomes usados em {@link PessoaJdbcRepository}.
+     */
+    private static final Map<String, String[]> COLUNAS_POR_ATRIBUTO = Map.ofEntries(
+            Map.entry("nome", new String[]{"nome", "nome"}),
+            Map.entry("sexo", new String[]{"cod_sexo", "codSexo"}),
+            Map.entry("email", new String[]{"email", "email"}),
+            Map.entry("dataNascimento", new String[]{"data_nascimento", "dataNascimento"}),
+            Map.entry("naturalidade", new String[]{"naturalidade", "naturalidade"}),
+            Map.entry("nacionalidade", new String[]{"nacionalidade", "nacionalidade"}),
+            Map.entry("cpf", new String[]{"cpf", "cpf"}),
+            Map.entry("endereco.logradouro", new String[]{"logradouro", "logradouro"}),
+            Map.entry("endereco.numero", new String[]{"numero", "numero"}),
+            Map.entry("endereco.complemento", new String[]{"complemento", "complemento"}),
+            Map.entry("endereco.bairro", new String[]{"bairro", "bairro"}),
+            Map.entry("endereco.cidade", new String[]{"cidade", "cidade"}),
+            Map.entry("endereco.estado", new String[]{"estado", "estado"}),
+            Map.entry("endereco.cep", new String[]{"cep", "cep"}));
+
+    private static final String SELECT_CPF_PARA_ALTERACAO = "SELECT cpf FROM pessoa WHERE id = :id FOR UPDATE";
+    private static final String CONDICAO_VERSAO = " AND versao = :versaoEsperada";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean postgres;
+
+    /**
+     * Pessoa alterada e o CPF que ela tinha antes da alteração.
+     *
+     * @param pessoa      pessoa com todos os dados após a alteração.
+     * @param cpfAnterior CPF antes da alteração.
+     */
+    public record Resultado(Pessoa pessoa, String cpfAnterior) {
+    }
+
+    /**
+     * Cria a alteração parcial com o comando do banco em uso.
+     *
+     * @param namedParameterJdbcTemplate acesso JDBC ao banco.
+     * @param postgres                   {@code true} no PostgreSQL; {@code false} no H2.
+     */
+    public AlteracaoPessoa(NamedParameterJdbcTemplate namedParameterJdbcTemplate, boolean postgres) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.postgres = postgres;
+    }
+
+    /**
+     * Altera as colunas informadas da pessoa, a data de atualização e a versão.
+     * <p>
+     * No PostgreSQL, a linha é bloqueada e o CPF anterior lido pelo próprio {@code UPDATE}. No H2,
+     * que não devolve valores anteriores, o CPF é lido com bloqueio antes do comando, e só quando
+     * ele é alterado.
+     * </p>
+     *
+     * @param id             ID da pessoa.
+     * @param alteracoes     valores por atributo da entidade, já validados; não pode ser vazio.
+     * @param versaoEsperada versão que a pessoa deve ter para ser alterada, ou {@code null} para alterar qualquer versão.
+     * @return a pessoa alterada, ou vazio se o ID não existir ou não estiver na versão esperada.
+     * @throws IllegalArgumentException se algum atributo não for alterável.
+     */
+    public Optional<Resultado> atualizar(Long id, Map<String, Object> alteracoes, Long versaoEsperada) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource("id", id)
+                .addValue("dataAtualizacao", LocalDateTime.now())
+                .addValue("versaoEsperada", versaoEsperada);
+        String condicao = versaoEsperada != null ? CONDICAO_VERSAO : "";
+        StringBuilder set = new StringBuilder();
+        alteracoes.forEach((atributo, valor) -> {
+            String[] coluna = COLUNAS_POR_ATRIBUTO.get(atributo);
+            if (coluna == null) {
+                throw new IllegalArgumentException("Atributo não alterável: " + atributo);
+            }
+            set.append(coluna[0]).append(" = :").append(coluna[1]).append(", ");
+            parametros.addValue(coluna[1], valorDaColuna(atributo, valor));
+        });
+        set.append("data_atualizacao = :dataAtualizacao, versao = versao + 1");
+
+        if (postgres) {
+            String sql = "UPDATE pessoa p SET " + set + " FROM (SELECT id AS id_anterior, cpf AS cpf_anterior "
+                    + "FROM pessoa WHERE id = :id FOR UPDATE) a WHERE p.id = a.id_anterior" + condicao + " RETURNING "
+                    + PessoaJdbcRepository.COLUNAS + ", a.cpf_anterior";
+            List<Resultado> alteradas = namedParameterJdbcTemplate.query(sql, parametros, (rs, i) ->
+                    new Resultado(PessoaJdbcRepository.mapearPessoa(rs), CpfConverter.deColuna(rs.getLong("cpf_anterior"))));
+            return alteradas.stream().findFirst();
+        }
+
+        String cpfAnterior = null;
+        if (alteracoes.containsKey("cpf")) {
+            List<Long> cpfs = namedParameterJdbcTemplate.queryForList(SELECT_CPF_PARA_ALTERACAO, parametros,
+                    Long.class);
+            if (cpfs.isEmpty()) {
+                return Optional.empty();
+            }
+            cpfAnterior = CpfConverter.deColuna(cpfs.get(0));
+        }
+        String sql = "SELECT " + PessoaJdbcRepository.COLUNAS + " FROM FINAL TABLE (UPDATE pessoa SET " + set
+                + " WHERE id = :id" + condicao + ")";
+        List<Pessoa> alteradas = namedParameterJdbcTemplate.query(sql, parametros,
+                (rs, i) -> PessoaJdbcRepository.mapearPessoa(rs));
+        if (alteradas.isEmpty()) {
+            return Optional.empty();
+        }
+        Pessoa pessoa = alteradas.get(0);
+        return Optional.of(new Resultado(pessoa, cpfAnterior != null ? cpfAnterior : pessoa.getCpf()));
+    }
+
+    /**
+     * Remove a pessoa com um único comando, devolvendo o CPF que ela tinha.
+     *
+     * @param id             ID da pessoa.
+     * @param versaoEsperada versão que a pessoa deve ter para ser removida, ou {@code null} para remover qualquer versão.
+     * @return o CPF da pessoa removida, ou vazio se o ID não existir ou não estiver na versão esperada.
+     */
+    public Optional<String> remover(Long id, Long versaoEsperada) {
+        String delete = "DELETE FROM pessoa WHERE id = :id" + (versaoEsperada != null ? CONDICAO_VERSAO : "");
+        String sql = postgres ? delete + " RETURNING cpf" : "SELECT cpf FROM OLD TABLE (" + delete + ")";
+        List<Long> cpfs = namedParameterJdbcTemplate.queryForList(sql,
+                new MapSqlParameterSource("id", id).addValue("versaoEsperada", versaoEsperada), Long.class);
+        return cpfs.stream().findFirst().map(CpfConverter::deColuna);
+    }
+
+    // Valor gravado na coluna: o código do sexo e o CPF numérico, como nos conversores da entidade
+    private static Object valorDaColuna(String atributo, Object valor) {
+        if (valor instanceof SexoEnum sexo) {
+            return sexo.getCodigo();
+        }
+        if ("cpf".equals(atributo) && valor instanceof String cpf) {
+            return CpfConverter.paraColuna(cpf);
+        }
+        return valor;
+    }
+}
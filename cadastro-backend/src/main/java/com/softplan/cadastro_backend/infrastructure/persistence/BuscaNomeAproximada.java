@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * Busca de pessoas por nome tolerante a acentos e erros de digitação.
+ * <p>
+ * A implementação depende do banco em uso; veja
+ * {@link com.softplan.cadastro_backend.infrastructure.config.BuscaNomeConfig}.
+ * </p>
+ */
+public interface BuscaNomeAproximada {
+
+    /**
+     * Busca os IDs das pessoas com nome parecido com o informado.
+     *
+     * @param nome   nome procurado, com ou sem acentos.
+     * @param limite quantidade máxima de IDs.
+     * @return IDs em ordem decrescente de similaridade (empates em ordem de ID).
+     */
+    List<Long> buscarIds(String nome, int limite);
+}
@@ -0,0 +1,56 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.util.TrigramaUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Busca aproximada de nomes calculada na aplicação, para bancos sem índices de trigramas (H2).
+ * <p>
+ * Percorre os pares (id, nome) e mantém apenas os {@code limite} mais parecidos, com a mesma
+ * medida de similaridade do {@code pg_trgm}. Adequada apenas a bases pequenas de desenvolvimento.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class BuscaNomeTrigramaMemoria implements BuscaNomeAproximada {
+
+    private static final String SELECT_NOMES = "SELECT id, nome FROM pessoa";
+
+    // Pior candidato no topo da fila, para ser descartado primeiro
+    private static final Comparator<Candidato> PIOR_PRIMEIRO = Comparator
+            .comparingDouble(Candidato::similaridade)
+            .thenComparing(Candidato::id, Comparator.reverseOrder());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> buscarIds(String nome, int limite) {
+        Set<String> procurados = TrigramaUtil.trigramas(TrigramaUtil.normalizar(nome));
+        PriorityQueue<Candidato> melhores = new PriorityQueue<>(limite + 1, PIOR_PRIMEIRO);
+
+        jdbcTemplate.query(SELECT_NOMES, (RowCallbackHandler) rs -> {
+            Set<String> trigramas = TrigramaUtil.trigramas(TrigramaUtil.normalizar(rs.getString("nome")));
+            double similaridade = TrigramaUtil.similaridade(procurados, trigramas);
+            if (similaridade >= TrigramaUtil.LIMIAR_SIMILARIDADE) {
+                melhores.add(new Candidato(rs.getLong("id"), similaridade));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            }
+        });
+
+        List<Candidato> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(PIOR_PRIMEIRO.reversed());
+        return ordenados.stream().map(Candidato::id).toList();
+    }
+
+    private record Candidato(long id, double similaridade) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Busca aproximada de nomes no PostgreSQL com as extensões {@code unaccent} e {@code pg_trgm}.
+ * <p>
+ * O operador {@code %} usa o índice GIN {@code idx_pessoa_nome_trgm} (migração {@code V5}) para
+ * obter apenas os candidatos acima do limiar de similaridade; somente eles são ordenados.
+ * A expressão {@code lower(f_unaccent(nome))} precisa ser idêntica à do índice.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class BuscaNomeTrigramaPostgres implements BuscaNomeAproximada {
+
+    private static final String SELECT_IDS = "SELECT id FROM pessoa "
+            + "WHERE lower(f_unaccent(nome)) % lower(f_unaccent(?)) "
+            + "ORDER BY similarity(lower(f_unaccent(nome)), lower(f_unaccent(?))) DESC, id "
+            + "LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> buscarIds(String nome, int limite) {
+        return jdbcTemplate.queryForList(SELECT_IDS, Long.class, nome, nome, limite);
+    }
+}
@@ -0,0 +1,91 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Inclusão ou atualização de uma pessoa pelo CPF em um único comando no banco.
+ * <p>
+ * A decisão entre incluir e atualizar fica com a restrição de unicidade do CPF, e não com uma
+ * consulta prévia: não há intervalo entre a verificação e a gravação em que outra requisição
+ * possa cadastrar o mesmo CPF. O comando depende do banco em uso ({@code INSERT ... ON CONFLICT}
+ * no PostgreSQL, {@code MERGE} no H2); veja
+ * {@link com.softplan.cadastro_backend.infrastructure.config.GravacaoPorCpfConfig}.
+ * </p>
+ * <p>
+ * O ID da inclusão é alocado antes do comando; se a pessoa já existir, ele não é usado e o
+ * comando devolve o ID cadastrado. Assim, a pessoa foi incluída se o ID devolvido for o alocado.
+ * </p>
+ */
+public class GravacaoPorCpf {
+
+    /**
+     * Comando do PostgreSQL: a linha recusada pela restrição do CPF atualiza a existente.
+     */
+    public static final String UPSERT_POSTGRES = "INSERT INTO pessoa (" + PessoaJdbcRepository.COLUNAS + ") VALUES "
+            + PessoaJdbcRepository.VALORES + " ON CONFLICT (cpf) DO UPDATE SET nome = EXCLUDED.nome, "
+            + "cod_sexo = EXCLUDED.cod_sexo, email = EXCLUDED.email, data_nascimento = EXCLUDED.data_nascimento, "
+            + "naturalidade = EXCLUDED.naturalidade, nacionalidade = EXCLUDED.nacionalidade, "
+            + "data_atualizacao = EXCLUDED.data_atualizacao, logradouro = EXCLUDED.logradouro, "
+            + "numero = EXCLUDED.numero, complemento = EXCLUDED.complemento, bairro = EXCLUDED.bairro, "
+            + "cidade = EXCLUDED.cidade, estado = EXCLUDED.estado, cep = EXCLUDED.cep, versao = pessoa.versao + 1 "
+            + "RETURNING id, data_cadastro, versao";
+
+    /**
+     * Comando do H2: {@code MERGE} lido pela tabela de resultado {@code FINAL TABLE}, equivalente
+     * ao {@code RETURNING}.
+     */
+    public static final String UPSERT_H2 = "SELECT id, data_cadastro, versao FROM FINAL TABLE (MERGE INTO pessoa p "
+            + "USING (VALUES (CAST(:cpf AS BIGINT))) AS s (cpf) ON p.cpf = s.cpf WHEN MATCHED THEN UPDATE SET "
+            + "nome = :nome, cod_sexo = :codSexo, email = :email, data_nascimento = :dataNascimento, "
+            + "naturalidade = :naturalidade, nacionalidade = :nacionalidade, data_atualizacao = :dataAtualizacao, "
+            + "logradouro = :logradouro, numero = :numero, complemento = :complemento, bairro = :bairro, "
+            + "cidade = :cidade, estado = :estado, cep = :cep, versao = p.versao + 1 WHEN NOT MATCHED THEN INSERT ("
+            + PessoaJdbcRepository.COLUNAS + ") VALUES " + PessoaJdbcRepository.VALORES + ")";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AlocadorIdsPessoa alocadorIds;
+    private final String upsert;
+
+    /**
+     * Cria a gravação com o comando do banco em uso.
+     *
+     * @param namedParameterJdbcTemplate acesso JDBC ao banco.
+     * @param alocadorIds                alocador dos IDs de pessoa.
+     * @param upsert                     {@link #UPSERT_POSTGRES} ou {@link #UPSERT_H2}.
+     */
+    public GravacaoPorCpf(NamedParameterJdbcTemplate namedParameterJdbcTemplate, AlocadorIdsPessoa alocadorIds,
+                          String upsert) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.alocadorIds = alocadorIds;
+        this.upsert = upsert;
+    }
+
+    /**
+     * Inclui a pessoa ou, se o CPF já estiver cadastrado, substitui os dados da existente.
+     * <p>
+     * O ID e as datas de cadastro e atualização são preenchidos na própria instância; na
+     * atualização, o ID e a data de cadastro são os da pessoa existente.
+     * </p>
+     *
+     * @param pessoa pessoa a gravar, com o CPF sem formatação.
+     * @return {@code true} se a pessoa foi incluída; {@code false} se foi atualizada.
+     */
+    public boolean gravar(Pessoa pessoa) {
+        long idAlocado = alocadorIds.proximo();
+        LocalDateTime agora = LocalDateTime.now();
+        pessoa.setId(idAlocado);
+        pessoa.setDataCadastro(agora);
+        pessoa.setDataAtualizacao(agora);
+        Map<String, Object> gravada = namedParameterJdbcTemplate.queryForMap(upsert,
+                PessoaJdbcRepository.parametros(pessoa));
+        pessoa.setId(((Number) gravada.get("id")).longValue());
+        pessoa.setDataCadastro(((Timestamp) gravada.get("data_cadastro")).toLocalDateTime());
+        pessoa.setVersao(((Number) gravada.get("versao")).longValue());
+        return pessoa.getId() == idAlocado;
+    }
+}
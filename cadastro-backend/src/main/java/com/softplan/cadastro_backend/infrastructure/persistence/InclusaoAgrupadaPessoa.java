@@ -0,0 +1,191 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrupa inclusões de pessoas feitas concorrentemente em uma única transação (<i>group commit</i>).
+ * <p>
+ * A primeira requisição que chega se torna a líder do lote: aguarda a janela configurada, ou até o
+ * lote atingir o tamanho máximo, e então insere todas as pessoas reunidas em um único lote JDBC,
+ * com um único commit. As demais requisições apenas aguardam o resultado da sua própria inclusão.
+ * Se o lote violar alguma restrição, as pessoas são incluídas uma a uma, para que cada requisição
+ * receba o seu próprio resultado ou erro.
+ * </p>
+ * <p>
+ * Não há threads próprias: o lote é gravado pela thread da requisição líder. Enquanto ela grava,
+ * as requisições que chegam formam o lote seguinte, com outra líder.
+ * </p>
+ */
+@Component
+public class InclusaoAgrupadaPessoa {
+
+    private final PessoaJdbcRepository pessoaJdbcRepository;
+    private final boolean habilitada;
+    private final long janelaNanos;
+    private final int tamanhoMaximo;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition loteCheio = trava.newCondition();
+    private List<Inclusao> lote = new ArrayList<>();
+
+    /**
+     * Cria o agrupador de inclusões.
+     *
+     * @param pessoaJdbcRepository gravação das pessoas via JDBC.
+     * @param habilitada           se as inclusões devem ser agrupadas.
+     * @param janela               tempo máximo que a líder aguarda novas inclusões antes de gravar o lote.
+     * @param tamanhoMaximo        quantidade de inclusões que faz o lote ser gravado antes do fim da janela.
+     */
+    public InclusaoAgrupadaPessoa(PessoaJdbcRepository pessoaJdbcRepository,
+                                  @Value("${cadastro.inclusao-agrupada.habilitada:false}") boolean habilitada,
+                                  @Value("${cadastro.inclusao-agrupada.janela:PT0.002S}") Duration janela,
+                                  @Value("${cadastro.inclusao-agrupada.tamanho-maximo:100}") int tamanhoMaximo) {
+        if (janela.isNegative() || tamanhoMaximo < 1) {
+            throw new IllegalArgumentException("Janela e tamanho máximo da inclusão agrupada inválidos");
+        }
+        this.pessoaJdbcRepository = pessoaJdbcRepository;
+        this.habilitada = habilitada;
+        this.janelaNanos = janela.toNanos();
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    /**
+     * Indica se as inclusões devem passar pelo agrupador.
+     *
+     * @return true se o agrupamento estiver habilitado.
+     */
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    /**
+     * Inclui a pessoa junto com as demais inclusões concorrentes, aguardando a gravação do lote.
+     *
+     * @param pessoa pessoa a incluir; o ID e as datas são preenchidos com os gravados.
+     * @return a própria pessoa, já gravada.
+     * @throws DataIntegrityViolationException se a inclusão desta pessoa violar alguma restrição.
+     */
+    public Pessoa incluir(Pessoa pessoa) {
+        Inclusao inclusao = new Inclusao(pessoa);
+        List<Inclusao> reunidas = null;
+        trava.lock();
+        try {
+            lote.add(inclusao);
+            if (lote.size() == 1) {
+                reunidas = aguardarLote();
+            } else if (lote.size() >= tamanhoMaximo) {
+                loteCheio.signal();
+            }
+        } finally {
+            trava.unlock();
+        }
+        if (reunidas != null) {
+            gravar(reunidas);
+        }
+        return inclusao.aguardar();
+    }
+
+    /**
+     * Aguarda, como líder, o fim da janela ou o preenchimento do lote e o retira para gravação.
+     * Deve ser chamado com a trava obtida.
+     */
+    private List<Inclusao> aguardarLote() {
+        List<Inclusao> atual = lote;
+        long restante = janelaNanos;
+        try {
+            while (atual.size() < tamanhoMaximo && restante > 0) {
+                restante = loteCheio.awaitNanos(restante);
+            }
+        } catch (InterruptedException e) {
+            // Grava o que já foi reunido; as demais requisições dependem desta líder
+            Thread.currentThread().interrupt();
+        }
+        lote = new ArrayList<>();
+        return atual;
+    }
+
+    /**
+     * Grava o lote em uma única transação; se alguma linha violar uma restrição, grava cada
+     * pessoa isoladamente para identificar quais falharam.
+     */
+    private void gravar(List<Inclusao> inclusoes) {
+        try {
+            pessoaJdbcRepository.inserirEmLote(inclusoes.stream().map(Inclusao::pessoa).toList());
+            inclusoes.forEach(Inclusao::concluir);
+        } catch (DataIntegrityViolationException e) {
+            if (inclusoes.size() == 1) {
+                inclusoes.get(0).falhar(e);
+                return;
+            }
+            for (Inclusao inclusao : inclusoes) {
+                gravarIsoladamente(inclusao);
+            }
+        } catch (RuntimeException | Error e) {
+            inclusoes.forEach(inclusao -> inclusao.falhar(e));
+        }
+    }
+
+    private void gravarIsoladamente(Inclusao inclusao) {
+        try {
+            pessoaJdbcRepository.inserirEmLote(List.of(inclusao.pessoa()));
+            inclusao.concluir();
+        } catch (RuntimeException | Error e) {
+            inclusao.falhar(e);
+        }
+    }
+
+    /**
+     * Inclusão pendente de uma requisição, concluída pela líder do lote.
+     */
+    private record Inclusao(Pessoa pessoa, CompletableFuture<Pessoa> resultado) {
+
+        Inclusao(Pessoa pessoa) {
+            this(pessoa, new CompletableFuture<>());
+        }
+
+        void concluir() {
+            resultado.complete(pessoa);
+        }
+
+        void falhar(Throwable erro) {
+            resultado.completeExceptionally(erro);
+        }
+
+        Pessoa aguardar() {
+            boolean interrompida = false;
+            try {
+                while (true) {
+                    try {
+                        return resultado.get();
+                    } catch (InterruptedException e) {
+                        // A gravação já foi entregue à líder: aguarda o resultado para não perdê-lo
+                        interrompida = true;
+                    }
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException erro) {
+                    throw erro;
+                }
+                if (e.getCause() instanceof Error erro) {
+                    throw erro;
+                }
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                if (interrompida) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.converter.CpfConverter;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Endereco;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * Operações sobre a tabela {@code pessoa} executadas diretamente via JDBC.
+ * <p>
+ * Usado nos casos em que o JPA não oferece controle suficiente sobre o acesso ao banco,
+ * como a leitura em fluxo com cursor e a inclusão em lote.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PessoaJdbcRepository {
+
+    static final String COLUNAS = "id, nome, cod_sexo, email, data_nascimento, naturalidade, nacionalidade, cpf, "
+            + "data_cadastro, data_atualizacao, logradouro, numero, complemento, bairro, cidade, estado, cep, versao";
+
+    private static final String SELECT_TODAS_POR_ID = "SELECT " + COLUNAS + " FROM pessoa ORDER BY id";
+    private static final String SELECT_INTERVALO_POR_ID = "SELECT " + COLUNAS
+            + " FROM pessoa WHERE id BETWEEN ? AND ? ORDER BY id";
+    private static final String SELECT_FAIXA_IDS = "SELECT MIN(id), MAX(id) FROM pessoa";
+    static final String VALORES = "(:id, :nome, :codSexo, :email, :dataNascimento, :naturalidade, :nacionalidade, "
+            + ":cpf, :dataCadastro, :dataAtualizacao, :logradouro, :numero, :complemento, :bairro, :cidade, :estado, :cep, "
+            + ":versao)";
+
+    private static final String INSERT = "INSERT INTO pessoa (" + COLUNAS + ") VALUES " + VALORES;
+    private static final String UPDATE = "UPDATE pessoa SET nome = :nome, cod_sexo = :codSexo, email = :email, "
+            + "data_nascimento = :dataNascimento, naturalidade = :naturalidade, nacionalidade = :nacionalidade, "
+            + "cpf = :cpf, data_atualizacao = :dataAtualizacao, logradouro = :logradouro, numero = :numero, "
+            + "complemento = :complemento, bairro = :bairro, cidade = :cidade, estado = :estado, cep = :cep, "
+            + "versao = versao + 1 WHERE id = :id";
+    private static final String SELECT_CPFS_POR_ID_PARA_ALTERACAO = "SELECT id, cpf FROM pessoa WHERE id IN (:ids) "
+            + "ORDER BY id FOR UPDATE";
+    private static final String SELECT_CPFS_CADASTRADOS = "SELECT cpf FROM pessoa WHERE cpf = ANY(?)";
+    private static final String SELECT_IDS_POR_CPF = "SELECT cpf, id FROM pessoa WHERE cpf IN (:cpfs)";
+    private static final String DELETE_POR_IDS = "DELETE FROM pessoa WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AlocadorIdsPessoa alocadorIds;
+
+    /**
+     * Percorre todas as pessoas em ordem de ID com um cursor somente-avanço.
+     * <p>
+     * As linhas são lidas em blocos de {@code tamanhoBloco} e entregues uma a uma ao consumidor,
+     * sem que a tabela inteira seja carregada em memória. A transação somente-leitura é necessária
+     * para que o driver do PostgreSQL utilize um cursor no servidor.
+     * </p>
+     *
+     * @param tamanhoBloco quantidade de linhas buscadas por ida ao banco (fetch size).
+     * @param consumidor   função chamada para cada pessoa lida.
+     */
+    @Transactional(readOnly = true)
+    public void percorrerTodas(int tamanhoBloco, Consumer<Pessoa> consumidor) {
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SELECT_TODAS_POR_ID,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(tamanhoBloco);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumidor.accept(mapearPessoa(rs)));
+    }
+
+    /**
+     * Percorre as pessoas com ID na faixa informada, em ordem de ID, com um cursor somente-avanço.
+     *
+     * @param idInicial    menor ID da faixa (inclusive).
+     * @param idFinal      maior ID da faixa (inclusive).
+     * @param tamanhoBloco quantidade de linhas buscadas por ida ao banco (fetch size).
+     * @param consumidor   função chamada para cada pessoa lida.
+     * @see #percorrerTodas(int, Consumer)
+     */
+    @Transactional(readOnly = true)
+    public void percorrerIntervalo(long idInicial, long idFinal, int tamanhoBloco, Consumer<Pessoa> consumidor) {
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SELECT_INTERVALO_POR_ID,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(tamanhoBloco);
+            ps.setLong(1, idInicial);
+            ps.setLong(2, idFinal);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumidor.accept(mapearPessoa(rs)));
+    }
+
+    /**
+     * Busca o menor e o maior ID cadastrados.
+     *
+     * @return os dois IDs, ou vazio se não houver pessoas.
+     */
+    public Optional<long[]> buscarFaixaIds() {
+        return jdbcTemplate.query(SELECT_FAIXA_IDS, rs -> {
+            rs.next();
+            long menor = rs.getLong(1);
+            return rs.wasNull() ? Optional.empty() : Optional.of(new long[]{menor, rs.getLong(2)});
+        });
+    }
+
+    /**
+     * Informa quais dos CPFs numéricos já estão cadastrados, com uma única consulta.
+     * <p>
+     * Os CPFs são enviados em um único parâmetro do tipo array, de modo que a consulta não
+     * depende da quantidade de CPFs nem do limite de parâmetros do banco. No PostgreSQL, o
+     * {@code long[]} é enviado diretamente, sem converter cada CPF em {@link Long}.
+     * </p>
+     *
+     * @param cpfs CPFs a verificar, como gravados na coluna {@code pessoa.cpf}.
+     * @return os CPFs informados que já existem na tabela, em ordem crescente.
+     */
+    public long[] buscarCpfsCadastrados(long[] cpfs) {
+        if (cpfs.length == 0) {
+            return cpfs;
+        }
+        LongStream.Builder cadastrados = LongStream.builder();
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SELECT_CPFS_CADASTRADOS);
+            definirArrayBigint(conexao, ps, cpfs);
+            return ps;
+        }, (RowCallbackHandler) rs -> cadastrados.add(rs.getLong(1)));
+        return cadastrados.build().sorted().toArray();
+    }
+
+    /**
+     * Insere as pessoas em um único lote JDBC, dentro de uma transação.
+     * <p>
+     * Todas as linhas são enviadas ao banco de uma vez, em vez de uma ida por pessoa. Os IDs
+     * ausentes são alocados em memória a partir da sequência, sem depender de chaves geradas pelo
+     * banco; eles e as datas de cadastro e atualização são preenchidos nas próprias instâncias.
+     * Se alguma linha violar uma restrição, nenhuma delas é gravada.
+     * </p>
+     * <p>
+     * O lote é enviado dentro de um savepoint. Chamado dentro de uma transação maior, a violação
+     * desfaz apenas o lote e não marca a transação para rollback, de modo que quem chamou pode
+     * regravar as pessoas isoladamente e confirmar o restante; no PostgreSQL, o retorno ao
+     * savepoint também tira a transação do estado abortado.
+     * </p>
+     *
+     * @param pessoas pessoas a inserir.
+     * @throws DataIntegrityViolationException se alguma linha violar uma restrição.
+     */
+    @Transactional(noRollbackFor = DataIntegrityViolationException.class)
+    public void inserirEmLote(List<Pessoa> pessoas) {
+        if (pessoas.isEmpty()) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        SqlParameterSource[] parametros = new SqlParameterSource[pessoas.size()];
+        for (int i = 0; i < pessoas.size(); i++) {
+            Pessoa pessoa = pessoas.get(i);
+            if (pessoa.getId() == null) {
+                pessoa.setId(alocadorIds.proximo());
+            }
+            pessoa.setDataCadastro(agora);
+            pessoa.setDataAtualizacao(agora);
+            parametros[i] = parametros(pessoa);
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try {
+                namedParameterJdbcTemplate.batchUpdate(INSERT, parametros);
+            } catch (DataAccessException e) {
+                conexao.rollback(savepoint);
+                throw e;
+            }
+            conexao.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    /**
+     * Bloqueia para alteração as pessoas informadas e devolve o CPF atual de cada uma.
+     * <p>
+     * Deve ser chamado dentro de uma transação; as linhas são bloqueadas em ordem de ID, para que
+     * lotes concorrentes não entrem em impasse.
+     * </p>
+     *
+     * @param ids IDs das pessoas.
+     * @return CPF por ID das pessoas existentes; os IDs inexistentes ficam de fora.
+     */
+    public Map<Long, String> bloquearCpfsPorId(Collection<Long> ids) {
+        Map<Long, String> cpfs = new HashMap<>();
+        if (!ids.isEmpty()) {
+            namedParameterJdbcTemplate.query(SELECT_CPFS_POR_ID_PARA_ALTERACAO, Map.of("ids", ids),
+                    (RowCallbackHandler) rs -> cpfs.put(rs.getLong("id"), CpfConverter.deColuna(rs.getLong("cpf"))));
+        }
+        return cpfs;
+    }
+
+    /**
+     * Busca o ID das pessoas que possuem os CPFs informados, com uma única consulta.
+     *
+     * @param cpfs CPFs a verificar (sem formatação).
+     * @return ID por CPF dos CPFs cadastrados.
+     */
+    public Map<String, Long> buscarIdsPorCpf(Collection<String> cpfs) {
+        Map<String, Long> ids = new HashMap<>();
+        if (!cpfs.isEmpty()) {
+            namedParameterJdbcTemplate.query(SELECT_IDS_POR_CPF, Map.of("cpfs", colunas(cpfs)),
+                    (RowCallbackHandler) rs -> ids.put(CpfConverter.deColuna(rs.getLong("cpf")), rs.getLong("id")));
+        }
+        return ids;
+    }
+
+    /**
+     * Substitui os dados das pessoas em um único lote JDBC, mantendo o ID e a data de cadastro.
+     * <p>
+     * A versão de cada pessoa é incrementada; a data de atualização é preenchida nas próprias instâncias.
+     * </p>
+     *
+     * @param pessoas pessoas a atualizar, com o ID preenchido.
+     */
+    @Transactional
+    public void atualizarEmLote(List<Pessoa> pessoas) {
+        if (pessoas.isEmpty()) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        SqlParameterSource[] parametros = new SqlParameterSource[pessoas.size()];
+        for (int i = 0; i < pessoas.size(); i++) {
+            pessoas.get(i).setDataAtualizacao(agora);
+            parametros[i] = parametros(pessoas.get(i));
+        }
+        namedParameterJdbcTemplate.batchUpdate(UPDATE, parametros);
+    }
+
+    /**
+     * Remove as pessoas informadas com um único comando.
+     *
+     * @param ids IDs das pessoas a remover.
+     * @return a quantidade de pessoas removidas.
+     */
+    public int removerPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_POR_IDS, Map.of("ids", ids));
+    }
+
+    static SqlParameterSource parametros(Pessoa pessoa) {
+        Endereco endereco = pessoa.getEndereco() != null ? pessoa.getEndereco() : new Endereco();
+        SexoEnum sexo = pessoa.getSexo() != null ? pessoa.getSexo() : SexoEnum.NAO_DEFINIDO;
+        return new MapSqlParameterSource()
+                .addValue("id", pessoa.getId())
+                .addValue("nome", pessoa.getNome())
+                .addValue("codSexo", sexo.getCodigo())
+                .addValue("email", pessoa.getEmail())
+                .addValue("dataNascimento", pessoa.getDataNascimento())
+                .addValue("naturalidade", pessoa.getNaturalidade())
+                .addValue("nacionalidade", pessoa.getNacionalidade())
+                .addValue("cpf", pessoa.getCpf() != null ? CpfConverter.paraColuna(pessoa.getCpf()) : null)
+                .addValue("dataCadastro", pessoa.getDataCadastro())
+                .addValue("dataAtualizacao", pessoa.getDataAtualizacao())
+                .addValue("logradouro", endereco.getLogradouro())
+                .addValue("numero", endereco.getNumero())
+                .addValue("complemento", endereco.getComplemento())
+                .addValue("bairro", endereco.getBairro())
+                .addValue("cidade", endereco.getCidade())
+                .addValue("estado", endereco.getEstado())
+                .addValue("cep", endereco.getCep())
+                .addValue("versao", pessoa.getVersao());
+    }
+
+    // Valores da coluna pessoa.cpf correspondentes aos CPFs informados
+    private static List<Long> colunas(Collection<String> cpfs) {
+        return cpfs.stream().map(CpfConverter::paraColuna).toList();
+    }
+
+    static Pessoa mapearPessoa(ResultSet rs) throws SQLException {
+        Date dataNascimento = rs.getDate("data_nascimento");
+        Timestamp dataCadastro = rs.getTimestamp("data_cadastro");
+        Timestamp dataAtualizacao = rs.getTimestamp("data_atualizacao");
+        return Pessoa.builder()
+                .id(rs.getLong("id"))
+                .nome(rs.getString("nome"))
+                .sexo(SexoEnum.deCodigo(rs.getInt("cod_sexo")))
+                .email(rs.getString("email"))
+                .dataNascimento(dataNascimento != null ? dataNascimento.toLocalDate() : null)
+                .naturalidade(rs.getString("naturalidade"))
+                .nacionalidade(rs.getString("nacionalidade"))
+                .cpf(CpfConverter.deColuna(rs.getLong("cpf")))
+                .dataCadastro(dataCadastro != null ? dataCadastro.toLocalDateTime() : null)
+                .dataAtualizacao(dataAtualizacao != null ? dataAtualizacao.toLocalDateTime() : null)
+                .endereco(Endereco.builder()
+                        .logradouro(rs.getString("logradouro"))
+                        .numero(rs.getString("numero"))
+                        .complemento(rs.getString("complemento"))
+                        .bairro(rs.getString("bairro"))
+                        .cidade(rs.getString("cidade"))
+                        .estado(rs.getString("estado"))
+                        .cep(rs.getString("cep"))
+                        .build())
+                .versao(rs.getLong("versao"))
+                .build();
+    }
+
+    // O driver do PostgreSQL aceita o long[] como int8[]; os demais exigem um array de objetos
+    private static void definirArrayBigint(Connection conexao, PreparedStatement ps, long[] valores)
+            throws SQLException {
+        if ("PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName())) {
+            ps.setObject(1, valores);
+        } else {
+            ps.setArray(1, conexao.createArrayOf("BIGINT", Arrays.stream(valores).boxed().toArray()));
+        }
+    }
+}
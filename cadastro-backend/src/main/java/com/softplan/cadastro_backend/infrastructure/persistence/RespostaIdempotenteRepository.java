@@ -0,0 +1,86 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Respostas das requisições com {@code Idempotency-Key} gravadas na tabela
+ * {@code resposta_idempotente}, para que sejam reproduzidas também após um reinício ou por outro nó.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RespostaIdempotenteRepository {
+
+    private static final String SELECT = "SELECT status, corpo, hash_requisicao FROM resposta_idempotente "
+            + "WHERE chave = :chave AND criado_em >= :validoDesde";
+    private static final String INSERT = "INSERT INTO resposta_idempotente "
+            + "(chave, status, corpo, hash_requisicao, criado_em) "
+            + "VALUES (:chave, :status, :corpo, :hashRequisicao, :criadoEm)";
+    private static final String DELETE_ANTERIORES = "DELETE FROM resposta_idempotente WHERE criado_em < :limite";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Resposta gravada de uma requisição.
+     *
+     * @param status         código HTTP da resposta.
+     * @param corpo          corpo da resposta em JSON, ou null se não houver.
+     * @param hashRequisicao SHA-256 do corpo da requisição que gerou a resposta, em hexadecimal,
+     *                       ou null nas respostas gravadas antes da coluna existir.
+     */
+    public record Resposta(int status, String corpo, String hashRequisicao) {
+    }
+
+    /**
+     * Busca a resposta gravada para a chave, se ainda estiver válida.
+     *
+     * @param chave       chave da requisição.
+     * @param validoDesde instante a partir do qual as respostas gravadas ainda valem.
+     * @return a resposta gravada, se houver.
+     */
+    public Optional<Resposta> buscar(String chave, LocalDateTime validoDesde) {
+        return namedParameterJdbcTemplate.query(SELECT,
+                        Map.of("chave", chave, "validoDesde", Timestamp.valueOf(validoDesde)),
+                        (rs, n) -> new Resposta(rs.getInt("status"), rs.getString("corpo"),
+                                rs.getString("hash_requisicao")))
+                .stream().findFirst();
+    }
+
+    /**
+     * Grava a resposta da chave. Se outro nó já gravou a mesma chave, mantém a gravada.
+     *
+     * @param chave    chave da requisição.
+     * @param resposta resposta a gravar.
+     */
+    public void gravar(String chave, Resposta resposta) {
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("chave", chave);
+        parametros.put("status", resposta.status());
+        parametros.put("corpo", resposta.corpo());
+        parametros.put("hashRequisicao", resposta.hashRequisicao());
+        parametros.put("criadoEm", Timestamp.valueOf(LocalDateTime.now()));
+        try {
+            namedParameterJdbcTemplate.update(INSERT, parametros);
+        } catch (DuplicateKeyException e) {
+            // A primeira resposta gravada é a que vale para as repetições
+        }
+    }
+
+    /**
+     * Remove as respostas gravadas antes do limite informado.
+     *
+     * @param limite instante a partir do qual as respostas são mantidas.
+     * @return quantidade de respostas removidas.
+     */
+    public int removerAnteriores(LocalDateTime limite) {
+        return namedParameterJdbcTemplate.update(DELETE_ANTERIORES, Map.of("limite", Timestamp.valueOf(limite)));
+    }
+}
@@ -0,0 +1,213 @@
+package com.softplan.cadastro_backend.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softplan.cadastro_backend.infrastructure.persistence.RespostaIdempotenteRepository;
+import com.softplan.cadastro_backend.infrastructure.persistence.RespostaIdempotenteRepository.Resposta;
+import com.softplan.cadastro_backend.presentation.exception.ChaveIdempotenciaReutilizadaException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Execução dos POSTs que aceitam o cabeçalho {@value #CABECALHO}.
+ * <p>
+ * A primeira requisição com uma chave é executada normalmente e a sua resposta é guardada; as
+ * repetições com a mesma chave recebem a resposta guardada, sem nova validação, conversão ou
+ * gravação, e com o cabeçalho {@value #CABECALHO_REPETICAO}. Repetições que chegam enquanto a
+ * primeira ainda está em execução aguardam o seu resultado. Se a primeira falhar, nada é
+ * guardado e a repetição seguinte é executada normalmente.
+ * </p>
+ * <p>
+ * Junto da resposta é guardado o SHA-256 do corpo da requisição; a mesma chave reenviada com outro
+ * corpo é recusada com {@link ChaveIdempotenciaReutilizadaException}, em vez de reproduzir a
+ * resposta de outra requisição.
+ * </p>
+ * <p>
+ * As respostas ficam em memória, em um cache limitado em tamanho e tempo; opcionalmente, também
+ * são gravadas no banco, para valerem após um reinício e entre nós. A gravação no banco acontece
+ * depois da execução já confirmada: se falhar, a falha é registrada no log e a resposta é entregue
+ * mesmo assim, para que o cliente não repita um cadastro que já foi feito.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ExecucaoIdempotente {
+
+    /**
+     * Cabeçalho com a chave de idempotência informada pelo cliente.
+     */
+    public static final String CABECALHO = "Idempotency-Key";
+
+    /**
+     * Cabeçalho que indica que a resposta é a reprodução de uma execução anterior.
+     */
+    public static final String CABECALHO_REPETICAO = "Idempotent-Replayed";
+
+    /**
+     * Tamanho máximo da chave informada pelo cliente.
+     */
+    public static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final ObjectMapper objectMapper;
+    private final RespostaIdempotenteRepository repositorio;
+    private final boolean persistir;
+    private final Duration validade;
+    private final Cache<String, CompletableFuture<Resposta>> respostas;
+
+    /**
+     * Cria a execução idempotente.
+     *
+     * @param objectMapper  conversor do corpo das respostas para JSON.
+     * @param repositorio   respostas gravadas no banco.
+     * @param persistir     se as respostas também devem ser gravadas no banco.
+     * @param validade      tempo durante o qual uma resposta é reproduzida.
+     * @param tamanhoMaximo quantidade máxima de respostas mantidas em memória.
+     */
+    public ExecucaoIdempotente(ObjectMapper objectMapper, RespostaIdempotenteRepository repositorio,
+                               @Value("${cadastro.idempotencia.persistir:false}") boolean persistir,
+                               @Value("${cadastro.idempotencia.validade:PT24H}") Duration validade,
+                               @Value("${cadastro.idempotencia.tamanho-maximo:10000}") long tamanhoMaximo) {
+        this.objectMapper = objectMapper;
+        this.repositorio = repositorio;
+        this.persistir = persistir;
+        this.validade = validade;
+        this.respostas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(validade)
+                .build();
+    }
+
+    /**
+     * Executa a requisição ou, se a chave já foi usada na mesma rota, reproduz a resposta guardada.
+     *
+     * @param rota     identificação da rota, para que a mesma chave não se misture entre rotas.
+     * @param chave      valor do cabeçalho {@value #CABECALHO}, ou null para apenas executar.
+     * @param requisicao corpo da requisição, comparado com o das repetições.
+     * @param tipo       tipo do corpo da resposta.
+     * @param execucao   execução da requisição.
+     * @param <T>        tipo do corpo da resposta.
+     * @return a resposta da execução ou a reprodução da guardada.
+     * @throws IllegalArgumentException             se a chave estiver em branco ou for longa demais.
+     * @throws ChaveIdempotenciaReutilizadaException se a chave já foi usada com outro corpo.
+     */
+    public <T> ResponseEntity<T> executar(String rota, String chave, Object requisicao, Class<T> tipo,
+                                          Supplier<ResponseEntity<T>> execucao) {
+        if (chave == null) {
+            return execucao.get();
+        }
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("O cabeçalho " + CABECALHO + " deve ter de 1 a "
+                    + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+        String id = rota + " " + chave;
+        String hash = hash(requisicao);
+        while (true) {
+            CompletableFuture<Resposta> execucaoAtual = new CompletableFuture<>();
+            CompletableFuture<Resposta> anterior = respostas.asMap().putIfAbsent(id, execucaoAtual);
+            if (anterior != null) {
+                Resposta guardada;
+                try {
+                    guardada = anterior.join();
+                } catch (CompletionException e) {
+                    // A execução anterior falhou e foi descartada: tenta novamente
+                    continue;
+                }
+                return reproduzir(guardada, chave, hash, tipo);
+            }
+            return executar(id, chave, hash, tipo, execucao, execucaoAtual);
+        }
+    }
+
+    private <T> ResponseEntity<T> executar(String id, String chave, String hash, Class<T> tipo,
+                                           Supplier<ResponseEntity<T>> execucao,
+                                           CompletableFuture<Resposta> execucaoAtual) {
+        try {
+            Optional<Resposta> gravada = persistir
+                    ? repositorio.buscar(id, LocalDateTime.now().minus(validade))
+                    : Optional.empty();
+            if (gravada.isPresent()) {
+                execucaoAtual.complete(gravada.get());
+                return reproduzir(gravada.get(), chave, hash, tipo);
+            }
+            ResponseEntity<T> resposta = execucao.get();
+            Resposta guardada = new Resposta(resposta.getStatusCode().value(), json(resposta.getBody()), hash);
+            execucaoAtual.complete(guardada);
+            if (persistir) {
+                gravar(id, guardada);
+            }
+            return resposta;
+        } catch (RuntimeException | Error e) {
+            if (!execucaoAtual.isDone()) {
+                respostas.asMap().remove(id, execucaoAtual);
+                execucaoAtual.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Grava a resposta no banco. A execução já foi confirmada, então a falha na gravação apenas
+     * deixa a resposta restrita ao cache deste nó.
+     */
+    private void gravar(String id, Resposta resposta) {
+        try {
+            repositorio.gravar(id, resposta);
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível gravar a resposta idempotente de {}; ela vale apenas neste nó", id, e);
+        }
+    }
+
+    /**
+     * Remove do banco as respostas que já não são reproduzidas.
+     */
+    @Scheduled(fixedDelayString = "${cadastro.idempotencia.limpeza:PT1H}")
+    public void removerExpiradas() {
+        if (persistir) {
+            repositorio.removerAnteriores(LocalDateTime.now().minus(validade));
+        }
+    }
+
+    private <T> ResponseEntity<T> reproduzir(Resposta resposta, String chave, String hash, Class<T> tipo) {
+        if (resposta.hashRequisicao() != null && !resposta.hashRequisicao().equals(hash)) {
+            throw new ChaveIdempotenciaReutilizadaException(chave);
+        }
+        try {
+            T corpo = resposta.corpo() == null ? null : objectMapper.readValue(resposta.corpo(), tipo);
+            return ResponseEntity.status(resposta.status()).header(CABECALHO_REPETICAO, "true").body(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta guardada inválida", e);
+        }
+    }
+
+    private String hash(Object requisicao) {
+        try {
+            byte[] corpo = objectMapper.writeValueAsBytes(requisicao);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(corpo));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Não foi possível identificar o corpo da requisição", e);
+        }
+    }
+
+    private String json(Object corpo) {
+        try {
+            return corpo == null ? null : objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível guardar a resposta", e);
+        }
+    }
+}
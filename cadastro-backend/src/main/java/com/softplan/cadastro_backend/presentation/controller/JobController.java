@@ -0,0 +1,129 @@
+package com.softplan.cadastro_backend.presentation.controller;
+
+import com.softplan.cadastro_backend.application.dto.JobDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.application.service.JobService;
+import com.softplan.cadastro_backend.domain.enums.TipoJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Controller responsável pelas importações e exportações em segundo plano.
+ * <p>
+ * O envio apenas divide o trabalho em blocos e responde 202; os blocos são processados por
+ * todos os nós da aplicação, e o progresso e o resultado são consultados pelo ID da tarefa.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v2/pessoas/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Tarefas em segundo plano", description = "Importações e exportações grandes, processadas por todos os nós.")
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * Envia a importação de um arquivo CSV no layout da exportação.
+     *
+     * @param arquivo arquivo CSV, em UTF-8, com cabeçalho.
+     * @return a tarefa criada, com o endereço de consulta em {@code Location}.
+     * @throws IOException em caso de erro de leitura do arquivo.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Enviar importação de CSV", description = "Divide o arquivo em blocos processados em "
+            + "segundo plano. Consulte o progresso e as linhas rejeitadas pelo ID da tarefa.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Tarefa criada"),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho inválido ou aspas não fechadas no arquivo")
+    })
+    public ResponseEntity<JobDTO> enviarImportacao(
+            @Parameter(description = "Arquivo CSV") @RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            return aceito(jobService.submeterImportacao(conteudo));
+        }
+    }
+
+    /**
+     * Envia a exportação do cadastro.
+     *
+     * @param format formato do arquivo ("ndjson" ou "csv").
+     * @return a tarefa criada, com o endereço de consulta em {@code Location}.
+     */
+    @PostMapping("/export")
+    @Operation(summary = "Enviar exportação", description = "Divide o cadastro em faixas de ID exportadas em "
+            + "segundo plano. O arquivo fica disponível no resultado da tarefa após a conclusão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Tarefa criada"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado")
+    })
+    public ResponseEntity<JobDTO> enviarExportacao(
+            @Parameter(description = "Formato da exportação (ndjson ou csv)", example = "csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return aceito(jobService.submeterExportacao(FormatoExportacao.de(format)));
+    }
+
+    /**
+     * Consulta a situação e o progresso de uma tarefa.
+     *
+     * @param id ID da tarefa.
+     * @return a tarefa.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar tarefa", description = "Retorna a situação, os blocos processados e os totais da tarefa.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    public ResponseEntity<JobDTO> consultar(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.consultar(id));
+    }
+
+    /**
+     * Retorna o resultado de uma tarefa: totais e linhas rejeitadas (importação) ou o arquivo
+     * gerado (exportação).
+     *
+     * @param id ID da tarefa.
+     * @return o resultado da importação ou o arquivo exportado.
+     */
+    @GetMapping("/{id}/result")
+    @Operation(summary = "Resultado da tarefa", description = "Na importação, retorna os totais e as linhas "
+            + "rejeitadas até o momento. Na exportação concluída, retorna o arquivo gerado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado retornado"),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Exportação ainda não concluída")
+    })
+    public ResponseEntity<?> consultarResultado(@PathVariable Long id) {
+        if (jobService.consultar(id).getTipo() == TipoJob.IMPORTACAO) {
+            ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(id);
+            return ResponseEntity.ok(resultado);
+        }
+        FormatoExportacao formato = jobService.formatoExportacaoConcluida(id);
+        StreamingResponseBody corpo = saida -> jobService.escreverExportacao(id, saida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pessoas." + formato.getExtensao() + "\"")
+                .body(corpo);
+    }
+
+    private static ResponseEntity<JobDTO> aceito(JobDTO job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v2/pessoas/jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -0,0 +1,41 @@
+package com.softplan.cadastro_backend.presentation.controller;
+
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Monta os cabeçalhos HTTP da paginação por cursor.
+ * <p>
+ * O corpo das listagens continua sendo um array JSON; o cursor da próxima página é informado no
+ * cabeçalho {@value #PROXIMO_CURSOR} e em um cabeçalho {@code Link} com {@code rel="next"}.
+ * </p>
+ */
+final class PaginacaoHeaders {
+
+    /**
+     * Cabeçalho com o token da próxima página.
+     */
+    static final String PROXIMO_CURSOR = "X-Next-Cursor";
+
+    private PaginacaoHeaders() {
+    }
+
+    /**
+     * Cria os cabeçalhos de navegação para a página informada.
+     *
+     * @param pagina página retornada pelo serviço.
+     * @return cabeçalhos vazios se for a última página; caso contrário, cursor e link da próxima.
+     */
+    static HttpHeaders de(PaginaCursor<?> pagina) {
+        HttpHeaders headers = new HttpHeaders();
+        if (pagina.proximoCursor() != null) {
+            String proximaPagina = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", pagina.proximoCursor())
+                    .toUriString();
+            headers.set(PROXIMO_CURSOR, pagina.proximoCursor());
+            headers.add(HttpHeaders.LINK, "<" + proximaPagina + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
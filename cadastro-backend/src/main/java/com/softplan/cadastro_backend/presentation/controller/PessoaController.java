@@ -2,8 +2,11 @@ package com.softplan.cadastro_backend.presentation.controller;
 
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
 import com.softplan.cadastro_backend.application.service.PessoaService;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
 import com.softplan.cadastro_backend.util.CPFUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,12 +14,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Controller responsável pela API de Pessoas na versão 1.
@@ -32,52 +39,93 @@ public class PessoaController {
 
     private final PessoaService pessoaService;
     private final PessoaMapper pessoaMapper;
+    private final ExecucaoIdempotente execucaoIdempotente;
 
     /**
      * Cria uma nova pessoa no sistema.
+     * <p>
+     * Com o cabeçalho {@code Idempotency-Key}, as repetições da requisição recebem a resposta da
+     * primeira, sem cadastrar a pessoa novamente.
+     * </p>
      *
      * @param pessoaDTO DTO contendo os dados da pessoa.
+     * @param chave     chave de idempotência informada pelo cliente, opcional.
      * @return DTO da pessoa criada.
      */
     @PostMapping
     @Operation(summary = "Criar uma nova pessoa", description = "Cadastra uma nova pessoa na versão 1 (sem endereço).")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos enviados")
+            @ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso, ou resposta da primeira "
+                    + "requisição com a mesma Idempotency-Key"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos enviados"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors. "
+                    + "Também quando a Idempotency-Key já foi usada com outro corpo"),
+            @ApiResponse(responseCode = "409", description = "CPF já cadastrado")
     })
-    public ResponseEntity<PessoaDTO> criarPessoa(@RequestBody PessoaDTO pessoaDTO) {
-        Pessoa pessoa = pessoaMapper.toEntity(pessoaDTO);
+    public ResponseEntity<PessoaDTO> criarPessoa(
+            @RequestBody PessoaDTO pessoaDTO,
+            @Parameter(description = "Chave que identifica a requisição nas suas repetições")
+            @RequestHeader(value = ExecucaoIdempotente.CABECALHO, required = false) String chave) {
+        return execucaoIdempotente.executar("POST /pessoas", chave, pessoaDTO, PessoaDTO.class, () -> {
+            Pessoa pessoa = pessoaMapper.toEntity(pessoaDTO);
 
-        if (pessoaService.existePorCpf(pessoa.getCpf())) {
-            throw new IllegalArgumentException("Já existe uma pessoa com esse CPF");
-        }
+            if (pessoaDTO.getId() != null) {
+                throw new IllegalArgumentException("Não informe o id para o cadastro de pessoa");
+            }
 
-        if (pessoaDTO.getId() != null) {
-            throw new IllegalArgumentException("Não informe o id para o cadastro de pessoa");
-        }
-
-        pessoa.setId(null);
-        Pessoa pessoaCriada = pessoaService.criarPessoa(pessoa);
-        return ResponseEntity.status(HttpStatus.CREATED).body(pessoaMapper.toDto(pessoaCriada));
+            pessoa.setId(null);
+            Pessoa pessoaCriada = pessoaService.criarPessoa(pessoa);
+            return ResponseEntity.status(HttpStatus.CREATED).body(pessoaMapper.toDto(pessoaCriada));
+        });
     }
 
     /**
      * Busca uma pessoa pelo CPF.
      *
-     * @param cpf CPF da pessoa a ser buscada.
-     * @return DTO da pessoa encontrada.
+     * @param cpf        CPF da pessoa a ser buscada.
+     * @param requisicao requisição, usada para comparar a ETag informada em {@code If-None-Match}.
+     * @return DTO da pessoa encontrada, ou 304 sem corpo se a pessoa não mudou.
      */
     @GetMapping("/cpf/{cpf}")
     @Operation(summary = "Buscar pessoa pelo CPF", description = "Busca uma pessoa cadastrada pelo CPF.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pessoa encontrada"),
+            @ApiResponse(responseCode = "304", description = "Pessoa não alterada desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
     })
     public ResponseEntity<PessoaDTO> buscarPessoaPorCpf(
             @Parameter(description = "CPF da pessoa", example = "123.456.789-00")
-            @PathVariable String cpf) {
-        Pessoa pessoa = pessoaService.buscarPessoaPorCpf(CPFUtil.limparCPF(cpf));
-        return ResponseEntity.ok(pessoaMapper.toDto(pessoa));
+            @PathVariable String cpf,
+            WebRequest requisicao) {
+        String cpfLimpo = CPFUtil.limparCPF(cpf);
+        PessoaResumo pessoa = pessoaService.buscarResumoPorCpf(cpfLimpo);
+        String etag = PessoaETag.de(PessoaETag.V1, pessoa);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(pessoaMapper.toDto(pessoa));
+    }
+
+    /**
+     * Busca uma pessoa pelo CPF retornando apenas os campos solicitados.
+     *
+     * @param cpf    CPF da pessoa a ser buscada.
+     * @param fields campos da resposta, separados por vírgula (por exemplo {@code id,nome,cpf}).
+     * @return objeto com apenas os campos solicitados.
+     */
+    @GetMapping(value = "/cpf/{cpf}", params = "fields")
+    @Operation(summary = "Buscar campos de uma pessoa pelo CPF", description = "Busca uma pessoa pelo CPF, "
+            + "lendo e retornando apenas os campos informados em fields.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pessoa encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo não suportado"),
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
+    })
+    public ResponseEntity<Map<String, Object>> buscarCamposPorCpf(
+            @Parameter(description = "CPF da pessoa", example = "15124127759") @PathVariable String cpf,
+            @Parameter(description = "Campos da resposta", example = "id,nome,cpf") @RequestParam String fields) {
+        Set<CampoPessoa> campos = CampoPessoa.de(fields, CampoPessoa.RESUMO);
+        return ResponseEntity.ok(pessoaMapper.toMapa(pessoaService.buscarCamposPorCpf(campos, CPFUtil.limparCPF(cpf))));
     }
 
     /**
@@ -88,60 +136,110 @@ public class PessoaController {
      *
      * @param id        ID da pessoa a ser atualizada.
      * @param pessoaDTO DTO contendo os dados atualizados.
-     * @return DTO da pessoa atualizada.
+     * @param ifMatch   ETag da versão alterada pelo cliente (opcional); se não for a atual, responde 412.
+     * @return DTO da pessoa atualizada, com a nova ETag.
      */
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar pessoa", description = "Atualiza os dados de uma pessoa na versão 1 (sem modificar endereço).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pessoa atualizada com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors"),
+            @ApiResponse(responseCode = "412", description = "Pessoa alterada desde a ETag informada em If-Match")
     })
     @Transactional
     public ResponseEntity<PessoaDTO> atualizarPessoa(
             @Parameter(description = "ID da pessoa a ser atualizada", example = "1")
             @PathVariable Long id,
-            @RequestBody PessoaDTO pessoaDTO) {
+            @RequestBody PessoaDTO pessoaDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        Pessoa pessoaExistente = pessoaService.buscarPessoaPorId(id);
+        // Sem endereço, o serviço preserva o da pessoa existente.
         Pessoa pessoaAtualizada = pessoaMapper.toEntity(pessoaDTO);
-        pessoaAtualizada.setEndereco(pessoaExistente.getEndereco());
 
-        Pessoa pessoaSalva = pessoaService.atualizarPessoa(id, pessoaAtualizada);
-        return ResponseEntity.ok(pessoaMapper.toDto(pessoaSalva));
+        Pessoa pessoaSalva = pessoaService.atualizarPessoa(id, pessoaAtualizada,
+                PessoaETag.versaoEsperada(PessoaETag.V1, id, ifMatch));
+        return ResponseEntity.ok().eTag(PessoaETag.de(PessoaETag.V1, pessoaSalva)).body(pessoaMapper.toDto(pessoaSalva));
     }
 
     /**
      * Remove uma pessoa pelo ID.
      *
-     * @param id ID da pessoa a ser removida.
+     * @param id      ID da pessoa a ser removida.
+     * @param ifMatch ETag da versão removida pelo cliente (opcional); se não for a atual, responde 412.
      * @return Resposta sem conteúdo se a remoção for bem-sucedida.
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Remover pessoa", description = "Exclui uma pessoa do sistema pelo ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Pessoa removida com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada"),
+            @ApiResponse(responseCode = "412", description = "Pessoa alterada desde a ETag informada em If-Match")
     })
     public ResponseEntity<Void> removerPessoa(
             @Parameter(description = "ID da pessoa a ser removida", example = "1")
-            @PathVariable Long id) {
-        pessoaService.removerPessoa(id);
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        pessoaService.removerPessoa(id, PessoaETag.versaoEsperada(PessoaETag.V1, id, ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * Lista todas as pessoas cadastradas.
+     * Lista as pessoas cadastradas utilizando paginação por cursor.
      *
-     * @return Lista de DTOs de pessoas.
+     * @param after      cursor opaco da página anterior (ausente na primeira página).
+     * @param limit      quantidade máxima de pessoas na página.
+     * @param sort       ordenação estável ("id" ou "nome").
+     * @param requisicao requisição, usada para comparar a ETag informada em {@code If-None-Match}.
+     * @return Lista de DTOs de pessoas; o cursor da próxima página vem no cabeçalho {@code X-Next-Cursor}.
+     * Se a página não mudou, 304 sem corpo.
      */
     @GetMapping
-    @Operation(summary = "Listar todas as pessoas", description = "Retorna uma lista de todas as pessoas cadastradas.")
+    @Operation(summary = "Listar pessoas", description = "Retorna uma página de pessoas cadastradas. "
+            + "O cursor da próxima página é informado nos cabeçalhos X-Next-Cursor e Link.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página não alterada desde a ETag informada em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Cursor, limite ou ordenação inválidos")
+    })
+    public ResponseEntity<List<PessoaDTO>> listarPessoas(
+            @Parameter(description = "Cursor da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "50") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Ordenação (id ou nome)", example = "id") @RequestParam(defaultValue = "id") String sort,
+            WebRequest requisicao) {
+        PaginaCursor<PessoaResumo> resumos = pessoaService.listarResumos(after, limit, sort);
+        String etag = PessoaETag.de(PessoaETag.V1, resumos);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        PaginaCursor<PessoaDTO> pagina = resumos.map(pessoaMapper::toDto);
+        return ResponseEntity.ok().eTag(etag).headers(PaginacaoHeaders.de(pagina)).body(pagina.itens());
+    }
+
+    /**
+     * Lista as pessoas utilizando paginação por cursor, retornando apenas os campos solicitados.
+     *
+     * @param fields campos da resposta, separados por vírgula (por exemplo {@code id,nome,cpf}).
+     * @param after  cursor opaco da página anterior (ausente na primeira página).
+     * @param limit  quantidade máxima de pessoas na página.
+     * @param sort   ordenação estável ("id" ou "nome").
+     * @return Lista de objetos com apenas os campos solicitados; o cursor da próxima página vem no cabeçalho {@code X-Next-Cursor}.
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "Listar campos das pessoas", description = "Retorna uma página de pessoas lendo e "
+            + "retornando apenas os campos informados em fields.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Campo, cursor, limite ou ordenação inválidos")
     })
-    public ResponseEntity<List<PessoaDTO>> listarPessoas() {
-        List<Pessoa> pessoas = pessoaService.listarTodasPessoas();
-        List<PessoaDTO> pessoasDTO = pessoas.stream().map(pessoaMapper::toDto).toList();
-        return ResponseEntity.ok(pessoasDTO);
+    public ResponseEntity<List<Map<String, Object>>> listarCamposPessoas(
+            @Parameter(description = "Campos da resposta", example = "id,nome,cpf") @RequestParam String fields,
+            @Parameter(description = "Cursor da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "50") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Ordenação (id ou nome)", example = "id") @RequestParam(defaultValue = "id") String sort) {
+        Set<CampoPessoa> campos = CampoPessoa.de(fields, CampoPessoa.RESUMO);
+        PaginaCursor<Map<String, Object>> pagina = pessoaService.listarCampos(campos, after, limit, sort)
+                .map(pessoaMapper::toMapa);
+        return ResponseEntity.ok().headers(PaginacaoHeaders.de(pagina)).body(pagina.itens());
     }
 }
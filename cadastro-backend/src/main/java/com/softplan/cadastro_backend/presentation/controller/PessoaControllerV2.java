@@ -1,21 +1,54 @@
 package com.softplan.cadastro_backend.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.softplan.cadastro_backend.application.dto.EstatisticasPessoaDTO;
+import com.softplan.cadastro_backend.application.dto.FiltroPessoaDTO;
+import com.softplan.cadastro_backend.application.dto.ItemValidacaoDTO;
+import com.softplan.cadastro_backend.application.dto.OperacaoLoteDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoLoteDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoOperacoesLoteDTO;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
 import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.mapper.PessoaMergePatch;
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
+import com.softplan.cadastro_backend.application.service.PessoaEstatisticaService;
+import com.softplan.cadastro_backend.application.service.PessoaExportService;
+import com.softplan.cadastro_backend.application.service.PessoaImportacaoService;
+import com.softplan.cadastro_backend.application.service.PessoaLoteService;
+import com.softplan.cadastro_backend.application.service.PessoaOperacaoLoteService;
 import com.softplan.cadastro_backend.application.service.PessoaService;
+import com.softplan.cadastro_backend.application.service.PessoaValidacaoService;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.util.CPFUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Controller responsável pela API de Pessoas na versão 2.
@@ -30,52 +63,257 @@ public class PessoaControllerV2 {
 
     private final PessoaService pessoaService;
     private final PessoaMapper pessoaMapper;
+    private final PessoaExportService pessoaExportService;
+    private final PessoaEstatisticaService pessoaEstatisticaService;
+    private final PessoaLoteService pessoaLoteService;
+    private final PessoaImportacaoService pessoaImportacaoService;
+    private final PessoaOperacaoLoteService pessoaOperacaoLoteService;
+    private final PessoaValidacaoService pessoaValidacaoService;
+    private final ExecucaoIdempotente execucaoIdempotente;
 
     /**
      * Construtor injetando as dependências.
      *
-     * @param pessoaService serviço de pessoa.
-     * @param pessoaMapper  mapper para conversão entre entidade e DTO.
+     * @param pessoaService             serviço de pessoa.
+     * @param pessoaMapper              mapper para conversão entre entidade e DTO.
+     * @param pessoaExportService       serviço de exportação do cadastro.
+     * @param pessoaEstatisticaService  serviço de estatísticas do cadastro.
+     * @param pessoaLoteService         serviço de cadastro em lote.
+     * @param pessoaImportacaoService   serviço de importação de arquivos.
+     * @param pessoaOperacaoLoteService serviço de atualização e remoção em lote.
+     * @param pessoaValidacaoService    serviço de validação de lotes sem gravação.
+     * @param execucaoIdempotente       execução das requisições com {@code Idempotency-Key}.
      */
-    public PessoaControllerV2(PessoaService pessoaService, PessoaMapper pessoaMapper) {
+    public PessoaControllerV2(PessoaService pessoaService, PessoaMapper pessoaMapper,
+                              PessoaExportService pessoaExportService,
+                              PessoaEstatisticaService pessoaEstatisticaService,
+                              PessoaLoteService pessoaLoteService,
+                              PessoaImportacaoService pessoaImportacaoService,
+                              PessoaOperacaoLoteService pessoaOperacaoLoteService,
+                              PessoaValidacaoService pessoaValidacaoService,
+                              ExecucaoIdempotente execucaoIdempotente) {
         this.pessoaService = pessoaService;
         this.pessoaMapper = pessoaMapper;
+        this.pessoaExportService = pessoaExportService;
+        this.pessoaEstatisticaService = pessoaEstatisticaService;
+        this.pessoaLoteService = pessoaLoteService;
+        this.pessoaImportacaoService = pessoaImportacaoService;
+        this.pessoaOperacaoLoteService = pessoaOperacaoLoteService;
+        this.pessoaValidacaoService = pessoaValidacaoService;
+        this.execucaoIdempotente = execucaoIdempotente;
     }
 
     /**
      * Cria uma nova pessoa na versão 2, onde o endereço é obrigatório.
+     * <p>
+     * Com o cabeçalho {@code Idempotency-Key}, as repetições da requisição recebem a resposta da
+     * primeira, sem cadastrar a pessoa novamente.
+     * </p>
      *
      * @param pessoaDTOV2 Objeto DTO contendo os dados da pessoa.
+     * @param chave       Chave de idempotência informada pelo cliente, opcional.
      * @return A pessoa criada, no formato DTO da versão 2.
      */
     @PostMapping
     @Operation(summary = "Criar uma nova pessoa", description = "Cria uma nova pessoa na versão 2. O endereço é obrigatório.")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso"),
+            @ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso, ou resposta da primeira "
+                    + "requisição com a mesma Idempotency-Key"),
             @ApiResponse(responseCode = "400", description = "Requisição inválida, verifique os dados enviados"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors. "
+                    + "Também quando a Idempotency-Key já foi usada com outro corpo"),
+            @ApiResponse(responseCode = "409", description = "CPF já cadastrado"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<PessoaDTOV2> criarPessoa(@RequestBody PessoaDTOV2 pessoaDTOV2) {
-        Pessoa pessoa = pessoaMapper.toEntity(pessoaDTOV2);
-        Pessoa pessoaCriada = pessoaService.criarPessoa(pessoa);
-        return ResponseEntity.status(HttpStatus.CREATED).body(pessoaMapper.toDtoV2(pessoaCriada));
+    public ResponseEntity<PessoaDTOV2> criarPessoa(
+            @RequestBody PessoaDTOV2 pessoaDTOV2,
+            @Parameter(description = "Chave que identifica a requisição nas suas repetições")
+            @RequestHeader(value = ExecucaoIdempotente.CABECALHO, required = false) String chave) {
+        return execucaoIdempotente.executar("POST /api/v2/pessoas", chave, pessoaDTOV2, PessoaDTOV2.class, () -> {
+            Pessoa pessoa = pessoaMapper.toEntity(pessoaDTOV2);
+            Pessoa pessoaCriada = pessoaService.criarPessoa(pessoa);
+            return ResponseEntity.status(HttpStatus.CREATED).body(pessoaMapper.toDtoV2(pessoaCriada));
+        });
+    }
+
+    /**
+     * Cadastra várias pessoas na versão 2 a partir de um array JSON.
+     * <p>
+     * O array é lido em fluxo e gravado em lotes; itens inválidos são rejeitados individualmente,
+     * sem impedir o cadastro dos demais.
+     * </p>
+     *
+     * @param corpo corpo da requisição, contendo um array JSON de pessoas.
+     * @return o resultado de cada item (ID criado ou motivo da rejeição), na ordem de envio.
+     * @throws IOException em caso de erro de leitura do corpo.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Criar pessoas em lote", description = "Cadastra as pessoas de um array JSON, "
+            + "validando cada item individualmente e gravando em lotes. Retorna o ID criado ou o erro de cada item.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = PessoaDTOV2.class))))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada item"),
+            @ApiResponse(responseCode = "400", description = "O corpo não é um array JSON válido")
+    })
+    public ResponseEntity<ResultadoLoteDTO> criarPessoasEmLote(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(pessoaLoteService.criarEmLote(corpo));
+    }
+
+    /**
+     * Valida pessoas na versão 2 a partir de um array JSON, sem gravá-las.
+     * <p>
+     * Cada item passa pelas mesmas regras do cadastro, inclusive a verificação de CPF já
+     * cadastrado; o resultado é devolvido em NDJSON, uma linha por item, na ordem de envio, à
+     * medida que os itens são lidos e validados.
+     * </p>
+     *
+     * @param corpo corpo da requisição, contendo um array JSON de pessoas.
+     * @return o resultado de cada item.
+     * @throws IOException em caso de erro de leitura do corpo.
+     */
+    @PostMapping(value = "/validate", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Validar pessoas sem gravar", description = "Valida até "
+            + PessoaValidacaoService.LIMITE_ITENS + " pessoas de um array JSON com as regras do cadastro, "
+            + "incluindo CPF já cadastrado ou repetido no lote, sem gravar nada. Retorna NDJSON com o resultado "
+            + "de cada item.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = PessoaDTOV2.class))))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado de cada item, um por linha",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = ItemValidacaoDTO.class))),
+            @ApiResponse(responseCode = "400", description = "O corpo não é um array JSON")
+    })
+    public ResponseEntity<StreamingResponseBody> validarPessoas(InputStream corpo) throws IOException {
+        JsonParser parser = pessoaValidacaoService.abrir(corpo);
+        return ResponseEntity.ok()
+                .contentType(FormatoExportacao.NDJSON.getMediaType())
+                .body(saida -> pessoaValidacaoService.validar(parser, saida));
+    }
+
+    /**
+     * Atualiza e remove pessoas na versão 2 a partir de um array JSON de operações.
+     * <p>
+     * As operações são executadas em blocos, cada um em uma transação, com uma única remoção e um
+     * único lote de atualizações por bloco; operações inválidas são rejeitadas individualmente.
+     * </p>
+     *
+     * @param corpo corpo da requisição, contendo um array JSON de operações.
+     * @return o resultado de cada operação, na ordem de envio.
+     * @throws IOException em caso de erro de leitura do corpo.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Atualizar e remover pessoas em lote", description = "Executa um array de operações "
+            + "ATUALIZAR (dados completos da pessoa, como no PUT) e REMOVER, pelo ID. Retorna o resultado de cada "
+            + "operação.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = OperacaoLoteDTO.class))))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada operação"),
+            @ApiResponse(responseCode = "400", description = "O corpo não é um array JSON válido")
+    })
+    public ResponseEntity<ResultadoOperacoesLoteDTO> executarOperacoesEmLote(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(pessoaOperacaoLoteService.executar(corpo));
+    }
+
+    /**
+     * Importa pessoas de um arquivo CSV no layout da exportação.
+     * <p>
+     * O arquivo é lido em fluxo; linhas inválidas ou com CPF repetido são rejeitadas
+     * individualmente, sem impedir a importação das demais.
+     * </p>
+     *
+     * @param arquivo arquivo CSV, em UTF-8, com cabeçalho.
+     * @return totais da importação e as linhas rejeitadas.
+     * @throws IOException em caso de erro de leitura do arquivo.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar pessoas de CSV", description = "Importa as pessoas de um arquivo CSV com o "
+            + "mesmo layout da exportação (a coluna id é ignorada). Retorna os totais e as linhas rejeitadas.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo processado; consulte as linhas rejeitadas"),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho do arquivo inválido")
+    })
+    public ResponseEntity<ResultadoImportacaoDTO> importarPessoas(
+            @Parameter(description = "Arquivo CSV") @RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            return ResponseEntity.ok(pessoaImportacaoService.importar(conteudo));
+        }
     }
 
     /**
      * Busca uma pessoa pelo CPF.
      *
-     * @param cpf CPF da pessoa a ser encontrada.
-     * @return DTO da pessoa correspondente ao CPF informado.
+     * @param cpf        CPF da pessoa a ser encontrada.
+     * @param requisicao requisição, usada para comparar a ETag informada em {@code If-None-Match}.
+     * @return DTO da pessoa correspondente ao CPF informado, ou 304 sem corpo se a pessoa não mudou.
      */
     @GetMapping("/cpf/{cpf}")
     @Operation(summary = "Buscar pessoa por CPF", description = "Busca uma pessoa cadastrada pelo CPF.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Pessoa encontrada"),
+            @ApiResponse(responseCode = "304", description = "Pessoa não alterada desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
     })
-    public ResponseEntity<PessoaDTOV2> buscarPessoaPorCpf(@PathVariable String cpf) {
-        Pessoa pessoa = pessoaService.buscarPessoaPorCpf(cpf);
-        return ResponseEntity.ok(pessoaMapper.toDtoV2(pessoa));
+    public ResponseEntity<PessoaDTOV2> buscarPessoaPorCpf(@PathVariable String cpf, WebRequest requisicao) {
+        PessoaDetalhe pessoa = pessoaService.buscarDetalhePorCpf(cpf);
+        String etag = PessoaETag.de(PessoaETag.V2, pessoa);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(pessoaMapper.toDtoV2(pessoa));
+    }
+
+    /**
+     * Busca uma pessoa pelo CPF retornando apenas os campos solicitados.
+     *
+     * @param cpf    CPF da pessoa a ser buscada.
+     * @param fields campos da resposta, separados por vírgula (por exemplo {@code id,nome,cpf}).
+     * @return objeto com apenas os campos solicitados.
+     */
+    @GetMapping(value = "/cpf/{cpf}", params = "fields")
+    @Operation(summary = "Buscar campos de uma pessoa pelo CPF", description = "Busca uma pessoa pelo CPF, "
+            + "lendo e retornando apenas os campos informados em fields.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pessoa encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo não suportado"),
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
+    })
+    public ResponseEntity<Map<String, Object>> buscarCamposPorCpf(
+            @Parameter(description = "CPF da pessoa", example = "15124127759") @PathVariable String cpf,
+            @Parameter(description = "Campos da resposta", example = "id,nome,cpf") @RequestParam String fields) {
+        Set<CampoPessoa> campos = CampoPessoa.de(fields, CampoPessoa.DETALHE);
+        return ResponseEntity.ok(pessoaMapper.toMapa(pessoaService.buscarCamposPorCpf(campos, cpf)));
+    }
+
+    /**
+     * Inclui ou substitui a pessoa com o CPF informado, com um único comando no banco.
+     *
+     * @param cpf         CPF da pessoa.
+     * @param pessoaDTOV2 DTO com os dados da pessoa; o CPF, se informado, deve ser o mesmo da URL.
+     * @return DTO da pessoa gravada, com status 201 se foi incluída ou 200 se foi atualizada.
+     */
+    @PutMapping("/cpf/{cpf}")
+    @Operation(summary = "Incluir ou atualizar pessoa por CPF", description = "Cadastra a pessoa com o CPF "
+            + "informado ou, se ele já existir, substitui os dados da pessoa cadastrada.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pessoa atualizada com sucesso"),
+            @ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida, verifique os dados enviados"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors")
+    })
+    public ResponseEntity<PessoaDTOV2> gravarPessoaPorCpf(
+            @Parameter(description = "CPF da pessoa", example = "15124127759") @PathVariable String cpf,
+            @RequestBody PessoaDTOV2 pessoaDTOV2) {
+        if (pessoaDTOV2.getCpf() != null && !CPFUtil.limparCPF(pessoaDTOV2.getCpf()).equals(CPFUtil.limparCPF(cpf))) {
+            throw new IllegalArgumentException("O CPF informado no corpo difere do CPF da URL");
+        }
+        pessoaDTOV2.setCpf(cpf);
+        Pessoa pessoa = pessoaMapper.toEntity(pessoaDTOV2);
+        pessoa.setId(null);
+        boolean incluida = pessoaService.gravarPorCpf(pessoa);
+        return ResponseEntity.status(incluida ? HttpStatus.CREATED : HttpStatus.OK).body(pessoaMapper.toDtoV2(pessoa));
     }
 
     /**
@@ -83,59 +321,225 @@ public class PessoaControllerV2 {
      *
      * @param id          ID da pessoa a ser atualizada.
      * @param pessoaDTOV2 DTO contendo os dados atualizados da pessoa.
-     * @return DTO da pessoa atualizada.
+     * @param ifMatch     ETag da versão alterada pelo cliente (opcional); se não for a atual, responde 412.
+     * @return DTO da pessoa atualizada, com a nova ETag.
      */
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar pessoa", description = "Atualiza os dados de uma pessoa existente na versão 2.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Pessoa atualizada com sucesso"),
             @ApiResponse(responseCode = "404", description = "Pessoa não encontrada"),
-            @ApiResponse(responseCode = "400", description = "Requisição inválida, verifique os dados enviados")
+            @ApiResponse(responseCode = "400", description = "Requisição inválida, verifique os dados enviados"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors"),
+            @ApiResponse(responseCode = "412", description = "Pessoa alterada desde a ETag informada em If-Match")
     })
     @Transactional
     public ResponseEntity<PessoaDTOV2> atualizarPessoa(
             @Parameter(description = "ID da pessoa a ser atualizada", example = "1")
             @PathVariable Long id,
-            @RequestBody PessoaDTOV2 pessoaDTOV2) {
-        Pessoa pessoaExistente = pessoaService.buscarPessoaPorId(id);
+            @RequestBody PessoaDTOV2 pessoaDTOV2,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Pessoa pessoaAtualizada = pessoaMapper.toEntity(pessoaDTOV2);
 
-        Pessoa pessoaSalva = pessoaService.atualizarPessoa(id, pessoaAtualizada);
-        return ResponseEntity.ok(pessoaMapper.toDtoV2(pessoaSalva));
+        Pessoa pessoaSalva = pessoaService.atualizarPessoa(id, pessoaAtualizada,
+                PessoaETag.versaoEsperada(PessoaETag.V2, id, ifMatch));
+        return ResponseEntity.ok().eTag(PessoaETag.de(PessoaETag.V2, pessoaSalva)).body(pessoaMapper.toDtoV2(pessoaSalva));
+    }
+
+    /**
+     * Altera parte dos dados de uma pessoa com um documento JSON Merge Patch (RFC 7396).
+     * <p>
+     * Apenas as propriedades presentes são alteradas, em um único comando no banco e sem leitura
+     * prévia; {@code null} limpa o campo. O endereço é mesclado campo a campo e não pode ser removido.
+     * </p>
+     *
+     * @param id      ID da pessoa a ser alterada.
+     * @param patch   documento com as propriedades a alterar.
+     * @param ifMatch ETag da versão alterada pelo cliente (opcional); se não for a atual, responde 412.
+     * @return DTO da pessoa alterada, com a nova ETag.
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Alterar parte dos dados da pessoa",
+            description = "Aplica um JSON Merge Patch aos dados da pessoa; somente as colunas alteradas são gravadas.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pessoa alterada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "CPF já cadastrado para outra pessoa"),
+            @ApiResponse(responseCode = "400", description = "Documento inválido, verifique os campos enviados"),
+            @ApiResponse(responseCode = "422", description = "Dados violam as regras do cadastro; todas as violações são listadas em errors"),
+            @ApiResponse(responseCode = "412", description = "Pessoa alterada desde a ETag informada em If-Match")
+    })
+    public ResponseEntity<PessoaDTOV2> alterarPessoa(
+            @Parameter(description = "ID da pessoa a ser alterada", example = "1")
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Pessoa pessoa = pessoaService.alterarParcialmente(id, PessoaMergePatch.alteracoes(patch),
+                PessoaETag.versaoEsperada(PessoaETag.V2, id, ifMatch));
+        return ResponseEntity.ok().eTag(PessoaETag.de(PessoaETag.V2, pessoa)).body(pessoaMapper.toDtoV2(pessoa));
     }
 
     /**
      * Remove uma pessoa pelo ID.
      *
-     * @param id ID da pessoa a ser removida.
+     * @param id      ID da pessoa a ser removida.
+     * @param ifMatch ETag da versão removida pelo cliente (opcional); se não for a atual, responde 412.
      * @return Resposta sem conteúdo (HTTP 204) se a remoção for bem-sucedida.
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Remover pessoa", description = "Remove uma pessoa pelo ID na versão 2.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Pessoa removida com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Pessoa não encontrada"),
+            @ApiResponse(responseCode = "412", description = "Pessoa alterada desde a ETag informada em If-Match")
     })
-    public ResponseEntity<Void> removerPessoa(@PathVariable Long id) {
-        pessoaService.removerPessoa(id);
+    public ResponseEntity<Void> removerPessoa(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        pessoaService.removerPessoa(id, PessoaETag.versaoEsperada(PessoaETag.V2, id, ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * Lista todas as pessoas cadastradas na versão 2.
+     * Lista as pessoas cadastradas na versão 2 utilizando paginação por cursor.
      *
-     * @return Lista de DTOs de pessoas.
+     * @param after      cursor opaco da página anterior (ausente na primeira página).
+     * @param limit      quantidade máxima de pessoas na página.
+     * @param sort       ordenação estável ("id" ou "nome").
+     * @param requisicao requisição, usada para comparar a ETag informada em {@code If-None-Match}.
+     * @return Lista de DTOs de pessoas; o cursor da próxima página vem no cabeçalho {@code X-Next-Cursor}.
+     * Se a página não mudou, 304 sem corpo.
      */
     @GetMapping
-    @Operation(summary = "Listar todas as pessoas", description = "Retorna uma lista com todas as pessoas cadastradas na versão 2.")
+    @Operation(summary = "Listar pessoas", description = "Retorna uma página de pessoas cadastradas na versão 2. "
+            + "O cursor da próxima página é informado nos cabeçalhos X-Next-Cursor e Link.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página não alterada desde a ETag informada em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Cursor, limite ou ordenação inválidos")
+    })
+    public ResponseEntity<List<PessoaDTOV2>> listarPessoas(
+            @Parameter(description = "Cursor da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "50") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Ordenação (id ou nome)", example = "id") @RequestParam(defaultValue = "id") String sort,
+            WebRequest requisicao) {
+        PaginaCursor<PessoaDetalhe> detalhes = pessoaService.listarDetalhes(after, limit, sort);
+        String etag = PessoaETag.de(PessoaETag.V2, detalhes);
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        PaginaCursor<PessoaDTOV2> pagina = detalhes.map(pessoaMapper::toDtoV2);
+        return ResponseEntity.ok().eTag(etag).headers(PaginacaoHeaders.de(pagina)).body(pagina.itens());
+    }
+
+    /**
+     * Lista as pessoas utilizando paginação por cursor, retornando apenas os campos solicitados.
+     *
+     * @param fields campos da resposta, separados por vírgula (por exemplo {@code id,nome,cpf}).
+     * @param after  cursor opaco da página anterior (ausente na primeira página).
+     * @param limit  quantidade máxima de pessoas na página.
+     * @param sort   ordenação estável ("id" ou "nome").
+     * @return Lista de objetos com apenas os campos solicitados; o cursor da próxima página vem no cabeçalho {@code X-Next-Cursor}.
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "Listar campos das pessoas", description = "Retorna uma página de pessoas lendo e "
+            + "retornando apenas os campos informados em fields.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista de pessoas retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Campo, cursor, limite ou ordenação inválidos")
     })
-    public ResponseEntity<List<PessoaDTOV2>> listarPessoas() {
-        List<Pessoa> pessoas = pessoaService.listarTodasPessoas();
-        List<PessoaDTOV2> pessoasDTO = pessoas.stream()
+    public ResponseEntity<List<Map<String, Object>>> listarCamposPessoas(
+            @Parameter(description = "Campos da resposta", example = "id,nome,cpf") @RequestParam String fields,
+            @Parameter(description = "Cursor da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "50") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Ordenação (id ou nome)", example = "id") @RequestParam(defaultValue = "id") String sort) {
+        Set<CampoPessoa> campos = CampoPessoa.de(fields, CampoPessoa.DETALHE);
+        PaginaCursor<Map<String, Object>> pagina = pessoaService.listarCampos(campos, after, limit, sort)
+                .map(pessoaMapper::toMapa);
+        return ResponseEntity.ok().headers(PaginacaoHeaders.de(pagina)).body(pagina.itens());
+    }
+
+    /**
+     * Busca pessoas por filtros combinados, com paginação por cursor ordenada por ID.
+     *
+     * @param filtro filtros opcionais (prefixo do nome, e-mail, sexo, cidade, estado, CEP e intervalo de nascimento).
+     * @param after  cursor opaco da página anterior (ausente na primeira página).
+     * @param limit  quantidade máxima de pessoas na página.
+     * @return Lista de DTOs das pessoas encontradas; o cursor da próxima página vem no cabeçalho {@code X-Next-Cursor}.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar pessoas", description = "Busca pessoas pelos filtros informados, todos opcionais. "
+            + "O cursor da próxima página é informado nos cabeçalhos X-Next-Cursor e Link.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pessoas encontradas"),
+            @ApiResponse(responseCode = "400", description = "Filtro, cursor ou limite inválidos")
+    })
+    public ResponseEntity<List<PessoaDTOV2>> buscarPessoas(
+            @ParameterObject FiltroPessoaDTO filtro,
+            @Parameter(description = "Cursor da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "50") @RequestParam(defaultValue = "50") int limit) {
+        PaginaCursor<PessoaDTOV2> pagina = pessoaService.buscarDetalhes(filtro, after, limit).map(pessoaMapper::toDtoV2);
+        return ResponseEntity.ok().headers(PaginacaoHeaders.de(pagina)).body(pagina.itens());
+    }
+
+    /**
+     * Busca pessoas por nome de forma aproximada (sem diferenciar acentos e tolerando erros de digitação).
+     *
+     * @param nome  nome procurado.
+     * @param limit quantidade máxima de pessoas.
+     * @return Lista de DTOs das pessoas encontradas, da mais para a menos parecida.
+     */
+    @GetMapping("/search/fuzzy")
+    @Operation(summary = "Buscar pessoas por nome aproximado", description = "Busca pessoas com nome parecido "
+            + "com o informado, ignorando acentos e tolerando erros de digitação, ordenadas por similaridade.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pessoas encontradas"),
+            @ApiResponse(responseCode = "400", description = "Nome ausente ou limite inválido")
+    })
+    public ResponseEntity<List<PessoaDTOV2>> buscarPessoasPorNomeAproximado(
+            @Parameter(description = "Nome procurado", example = "joao silva") @RequestParam String nome,
+            @Parameter(description = "Quantidade máxima de pessoas", example = "20") @RequestParam(defaultValue = "20") int limit) {
+        List<PessoaDTOV2> pessoas = pessoaService.buscarPorNomeAproximado(nome, limit).stream()
                 .map(pessoaMapper::toDtoV2)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(pessoasDTO);
+                .toList();
+        return ResponseEntity.ok(pessoas);
+    }
+
+    /**
+     * Retorna as quantidades de pessoas por sexo, estado, faixa etária e mês de cadastro.
+     *
+     * @return DTO com as estatísticas do cadastro.
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Estatísticas do cadastro", description = "Retorna as quantidades de pessoas agrupadas por "
+            + "sexo, estado, faixa etária e mês de cadastro, a partir de um resumo recalculado periodicamente.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    })
+    public ResponseEntity<EstatisticasPessoaDTO> consultarEstatisticas() {
+        return ResponseEntity.ok(pessoaEstatisticaService.consultar());
+    }
+
+    /**
+     * Exporta todas as pessoas cadastradas em fluxo contínuo.
+     *
+     * @param format formato da exportação ("ndjson" ou "csv").
+     * @return corpo escrito à medida que as pessoas são lidas do banco.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar pessoas", description = "Exporta todo o cadastro em NDJSON ou CSV, "
+            + "enviando os registros à medida que são lidos do banco.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado")
+    })
+    public ResponseEntity<StreamingResponseBody> exportarPessoas(
+            @Parameter(description = "Formato da exportação (ndjson ou csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        FormatoExportacao formato = FormatoExportacao.de(format);
+        StreamingResponseBody corpo = saida -> pessoaExportService.exportar(formato, saida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pessoas." + formato.getExtensao() + "\"")
+                .body(corpo);
     }
 }
@@ -0,0 +1,114 @@
+package com.softplan.cadastro_backend.presentation.controller;
+
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaVersionada;
+import com.softplan.cadastro_backend.presentation.exception.VersaoDesatualizadaException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Calcula as ETags (fortes) dos recursos de pessoa a partir da versão da pessoa.
+ * <p>
+ * A ETag é obtida da versão contida na própria projeção lida (ou mantida em cache) para a
+ * resposta; assim, uma requisição com {@code If-None-Match} igual à versão atual é respondida com
+ * 304 sem serializar o DTO nem consultar a versão à parte. O prefixo da representação diferencia
+ * as versões da API, que geram corpos distintos para a mesma pessoa.
+ * </p>
+ * <p>
+ * Nas alterações, a versão contida na ETag de {@code If-Match} é repassada ao comando de
+ * alteração, que só atinge a linha se ela ainda estiver nessa versão.
+ * </p>
+ */
+final class PessoaETag {
+
+    /**
+     * Representação da versão 1 da API.
+     */
+    static final String V1 = "v1";
+
+    /**
+     * Representação da versão 2 da API.
+     */
+    static final String V2 = "v2";
+
+    private PessoaETag() {
+    }
+
+    /**
+     * Calcula a ETag de uma pessoa.
+     *
+     * @param representacao representação retornada ({@link #V1} ou {@link #V2}).
+     * @param pessoa        projeção da pessoa, com a versão.
+     * @return a ETag, entre aspas.
+     */
+    static String de(String representacao, PessoaVersionada pessoa) {
+        return de(representacao, pessoa.id(), pessoa.versao());
+    }
+
+    /**
+     * Calcula a ETag de uma pessoa já carregada.
+     *
+     * @param representacao representação retornada ({@link #V1} ou {@link #V2}).
+     * @param pessoa        pessoa.
+     * @return a ETag, entre aspas.
+     */
+    static String de(String representacao, Pessoa pessoa) {
+        return de(representacao, pessoa.getId(), pessoa.getVersao());
+    }
+
+    /**
+     * Calcula a ETag de uma página, que muda quando uma pessoa da página é alterada, incluída ou
+     * removida, ou quando a existência de uma próxima página muda.
+     *
+     * @param representacao representação retornada ({@link #V1} ou {@link #V2}).
+     * @param pagina        página com as projeções das pessoas.
+     * @return a ETag, entre aspas.
+     */
+    static String de(String representacao, PaginaCursor<? extends PessoaVersionada> pagina) {
+        StringBuilder conteudo = new StringBuilder(representacao);
+        for (PessoaVersionada pessoa : pagina.itens()) {
+            conteudo.append(';').append(pessoa.id()).append(':').append(pessoa.versao());
+        }
+        conteudo.append(';').append(pagina.proximoCursor());
+        return "\"" + representacao + "-" + DigestUtils.md5DigestAsHex(conteudo.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Obtém a versão esperada da pessoa a partir do cabeçalho {@code If-Match}.
+     *
+     * @param representacao representação do recurso alterado ({@link #V1} ou {@link #V2}).
+     * @param id            ID da pessoa alterada.
+     * @param ifMatch       valor do cabeçalho, ou {@code null} se ausente.
+     * @return a versão esperada, ou {@code null} se a alteração não for condicional ({@code *} ou sem cabeçalho).
+     * @throws VersaoDesatualizadaException se a ETag não for de uma versão desta pessoa nesta representação.
+     */
+    static Long versaoEsperada(String representacao, Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefixo = "\"" + representacao + "-" + id + "-";
+        String etag = ifMatch.trim();
+        if (!etag.startsWith(prefixo) || !etag.endsWith("\"") || etag.length() <= prefixo.length() + 1) {
+            throw new VersaoDesatualizadaException(id);
+        }
+        try {
+            return Long.parseLong(etag.substring(prefixo.length(), etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new VersaoDesatualizadaException(id);
+        }
+    }
+
+    /**
+     * Calcula a ETag de uma versão da pessoa.
+     *
+     * @param representacao representação retornada ({@link #V1} ou {@link #V2}).
+     * @param id            ID da pessoa.
+     * @param versao        versão da pessoa.
+     * @return a ETag, entre aspas.
+     */
+    static String de(String representacao, Long id, long versao) {
+        return "\"" + representacao + "-" + id + "-" + versao + "\"";
+    }
+}
@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma {@code Idempotency-Key} já usada é reenviada com outro corpo de requisição.
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+@Schema(description = "Exceção lançada quando uma Idempotency-Key é reutilizada com outro corpo.")
+public class ChaveIdempotenciaReutilizadaException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma exceção para a chave informada.
+     *
+     * @param chave chave de idempotência informada pelo cliente.
+     */
+    public ChaveIdempotenciaReutilizadaException(String chave) {
+        super("A Idempotency-Key " + chave + " já foi usada com outro corpo de requisição.", null, false, false);
+    }
+}
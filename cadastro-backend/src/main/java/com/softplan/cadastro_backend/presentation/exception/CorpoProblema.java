@@ -0,0 +1,129 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Corpo de erro no formato <i>problem details</i> (RFC 7807), já serializado em bytes.
+ * <p>
+ * A parte fixa do documento ({@code type}, {@code title} e {@code status}) é codificada uma única
+ * vez por status; cada resposta apenas escapa a mensagem e copia os bytes, sem mapas intermediários
+ * nem passagem pelo conversor JSON. Os membros {@code error} e {@code message} repetem
+ * {@code title} e {@code detail}, e o membro {@code timestamp} traz o instante da resposta, para
+ * os clientes do formato anterior.
+ * </p>
+ */
+final class CorpoProblema {
+
+    private static final JsonStringEncoder ESCAPE = JsonStringEncoder.getInstance();
+    private static final byte[] DETALHE_PARA_MENSAGEM = bytes("\",\"message\":\"");
+    private static final byte[] MENSAGEM_PARA_INSTANTE = bytes("\",\"timestamp\":\"");
+    private static final byte[] FIM = bytes("\"}");
+    private static final byte[] INICIO_ERROS = bytes("\",\"errors\":[\"");
+    private static final byte[] SEPARADOR_ERROS = bytes("\",\"");
+    private static final byte[] FIM_ERROS = bytes("\"]}");
+
+    private static final HttpHeaders CABECALHOS = HttpHeaders.readOnlyHttpHeaders(cabecalhos());
+
+    private final HttpStatus status;
+    private final byte[] inicio;
+
+    private CorpoProblema(HttpStatus status) {
+        this.status = status;
+        String titulo = new String(ESCAPE.quoteAsString(status.getReasonPhrase()));
+        this.inicio = bytes("{\"type\":\"about:blank\",\"title\":\"" + titulo + "\",\"status\":" + status.value()
+                + ",\"error\":\"" + titulo + "\",\"detail\":\"");
+    }
+
+    /**
+     * Cria o corpo de erro do status informado.
+     *
+     * @param status status HTTP da resposta.
+     * @return o corpo, com a parte fixa já codificada.
+     */
+    static CorpoProblema de(HttpStatus status) {
+        return new CorpoProblema(status);
+    }
+
+    /**
+     * Monta a resposta com a mensagem informada.
+     *
+     * @param detalhe mensagem do erro (null é tratado como vazia).
+     * @return resposta com o status e o corpo {@code application/problem+json}.
+     */
+    ResponseEntity<byte[]> responder(String detalhe) {
+        byte[] mensagem = detalhe == null ? new byte[0] : ESCAPE.quoteAsUTF8(detalhe);
+        return responder(concatenar(inicio, mensagem, DETALHE_PARA_MENSAGEM, mensagem, MENSAGEM_PARA_INSTANTE,
+                instante(), FIM));
+    }
+
+    /**
+     * Monta a resposta com a mensagem e a lista de erros informadas.
+     *
+     * @param detalhe mensagem do erro.
+     * @param erros   erros individuais, incluídos no membro {@code errors}.
+     * @return resposta com o status e o corpo {@code application/problem+json}.
+     */
+    ResponseEntity<byte[]> responder(String detalhe, List<String> erros) {
+        if (erros.isEmpty()) {
+            return responder(detalhe);
+        }
+        byte[] mensagem = detalhe == null ? new byte[0] : ESCAPE.quoteAsUTF8(detalhe);
+        byte[][] partes = new byte[7 + 2 * erros.size()][];
+        partes[0] = inicio;
+        partes[1] = mensagem;
+        partes[2] = DETALHE_PARA_MENSAGEM;
+        partes[3] = mensagem;
+        partes[4] = MENSAGEM_PARA_INSTANTE;
+        partes[5] = instante();
+        for (int i = 0; i < erros.size(); i++) {
+            partes[6 + 2 * i] = i == 0 ? INICIO_ERROS : SEPARADOR_ERROS;
+            partes[7 + 2 * i] = ESCAPE.quoteAsUTF8(erros.get(i));
+        }
+        partes[partes.length - 1] = FIM_ERROS;
+        return responder(concatenar(partes));
+    }
+
+    private ResponseEntity<byte[]> responder(byte[] corpo) {
+        return new ResponseEntity<>(corpo, CABECALHOS, status);
+    }
+
+    private static byte[] concatenar(byte[]... partes) {
+        int tamanho = 0;
+        for (byte[] parte : partes) {
+            tamanho += parte.length;
+        }
+        byte[] corpo = new byte[tamanho];
+        int posicao = 0;
+        for (byte[] parte : partes) {
+            System.arraycopy(parte, 0, corpo, posicao, parte.length);
+            posicao += parte.length;
+        }
+        return corpo;
+    }
+
+    /**
+     * Instante da resposta no mesmo formato ISO que o conversor JSON usava para o {@code timestamp}.
+     */
+    private static byte[] instante() {
+        return bytes(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()));
+    }
+
+    private static HttpHeaders cabecalhos() {
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        return cabecalhos;
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+}
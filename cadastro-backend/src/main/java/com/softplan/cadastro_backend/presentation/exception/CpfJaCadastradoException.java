@@ -0,0 +1,23 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o cadastro viola a unicidade do CPF.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+@Schema(description = "Exceção lançada quando o cadastro viola a unicidade do CPF.")
+public class CpfJaCadastradoException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma exceção para o CPF informado.
+     *
+     * @param cpf CPF já cadastrado.
+     * @param causa violação da restrição de unicidade no banco.
+     */
+    public CpfJaCadastradoException(String cpf, Throwable causa) {
+        super("Já existe uma pessoa com o CPF " + cpf + ".", causa, false, false);
+    }
+}
@@ -27,7 +27,7 @@ public class DomainValidationException extends RuntimeException {
      * @param errors Lista de mensagens de erro.
      */
     public DomainValidationException(List<String> errors) {
-        super(String.join("; ", errors));
-        this.errors = errors;
+        super(String.join("; ", errors), null, false, false);
+        this.errors = List.copyOf(errors);
     }
 }
@@ -3,23 +3,33 @@ package com.softplan.cadastro_backend.presentation.exception;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Manipulador global de exceções da API.
  * <p>
  * Essa classe intercepta exceções lançadas durante a execução dos endpoints e
- * retorna respostas padronizadas com informações como timestamp, status e mensagem.
+ * retorna respostas padronizadas no formato <i>problem details</i> (RFC 7807), com status e mensagem.
+ * Os corpos são montados por {@link CorpoProblema}, com a parte fixa de cada status já serializada,
+ * para que um erro frequente (como a busca por uma pessoa inexistente) custe quase o mesmo que um acerto.
  * </p>
  */
 @RestControllerAdvice
 @Schema(description = "Manipulador global de exceções da API.")
 public class GlobalExceptionHandler {
 
+    private static final CorpoProblema NOT_FOUND = CorpoProblema.de(HttpStatus.NOT_FOUND);
+    private static final CorpoProblema CONFLICT = CorpoProblema.de(HttpStatus.CONFLICT);
+    private static final CorpoProblema PRECONDITION_FAILED = CorpoProblema.de(HttpStatus.PRECONDITION_FAILED);
+    private static final CorpoProblema UNPROCESSABLE_ENTITY = CorpoProblema.de(HttpStatus.UNPROCESSABLE_ENTITY);
+    private static final CorpoProblema BAD_REQUEST = CorpoProblema.de(HttpStatus.BAD_REQUEST);
+    private static final CorpoProblema INTERNAL_SERVER_ERROR = CorpoProblema.de(HttpStatus.INTERNAL_SERVER_ERROR);
+
     /**
      * Trata exceções de pessoa não encontrada e retorna um erro 404.
      *
@@ -27,14 +37,74 @@ public class GlobalExceptionHandler {
      * @return Resposta padronizada com status 404.
      */
     @ExceptionHandler(PessoaNaoEncontradaException.class)
-    public ResponseEntity<Map<String, Object>> handlePessoaNaoEncontrada(PessoaNaoEncontradaException ex) {
-        Map<String, Object> errorBody = Map.of(
-                "timestamp", LocalDateTime.now(),
-                "status", HttpStatus.NOT_FOUND.value(),
-                "error", "Not Found",
-                "message", ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorBody);
+    public ResponseEntity<byte[]> handlePessoaNaoEncontrada(PessoaNaoEncontradaException ex) {
+        return NOT_FOUND.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata violações da unicidade do CPF e retorna um erro 409.
+     *
+     * @param ex Exceção de CPF já cadastrado.
+     * @return Resposta padronizada com status 409.
+     */
+    @ExceptionHandler(CpfJaCadastradoException.class)
+    public ResponseEntity<byte[]> handleCpfJaCadastrado(CpfJaCadastradoException ex) {
+        return CONFLICT.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata alterações condicionadas a uma versão desatualizada e retorna um erro 412.
+     *
+     * @param ex Exceção de versão desatualizada.
+     * @return Resposta padronizada com status 412.
+     */
+    @ExceptionHandler(VersaoDesatualizadaException.class)
+    public ResponseEntity<byte[]> handleVersaoDesatualizada(VersaoDesatualizadaException ex) {
+        return PRECONDITION_FAILED.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata exceções de tarefa não encontrada e retorna um erro 404.
+     *
+     * @param ex Exceção de tarefa não encontrada.
+     * @return Resposta padronizada com status 404.
+     */
+    @ExceptionHandler(JobNaoEncontradoException.class)
+    public ResponseEntity<byte[]> handleJobNaoEncontrado(JobNaoEncontradoException ex) {
+        return NOT_FOUND.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata pedidos de resultado de tarefas ainda não concluídas e retorna um erro 409.
+     *
+     * @param ex Exceção de tarefa não concluída.
+     * @return Resposta padronizada com status 409.
+     */
+    @ExceptionHandler(JobNaoConcluidoException.class)
+    public ResponseEntity<byte[]> handleJobNaoConcluido(JobNaoConcluidoException ex) {
+        return CONFLICT.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata a reutilização de uma Idempotency-Key com outro corpo e retorna um erro 422.
+     *
+     * @param ex Exceção de chave de idempotência reutilizada.
+     * @return Resposta padronizada com status 422.
+     */
+    @ExceptionHandler(ChaveIdempotenciaReutilizadaException.class)
+    public ResponseEntity<byte[]> handleChaveIdempotenciaReutilizada(ChaveIdempotenciaReutilizadaException ex) {
+        return UNPROCESSABLE_ENTITY.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata violações das regras de validação e retorna um erro 422 com todas elas.
+     *
+     * @param ex Exceção com as regras violadas.
+     * @return Resposta padronizada com status 422 e a lista de erros.
+     */
+    @ExceptionHandler(DomainValidationException.class)
+    public ResponseEntity<byte[]> handleDomainValidationException(DomainValidationException ex) {
+        return UNPROCESSABLE_ENTITY.responder(ex.getMessage(), ex.getErrors());
     }
 
     /**
@@ -44,14 +114,23 @@ public class GlobalExceptionHandler {
      * @return Resposta padronizada com status 400.
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationException(IllegalArgumentException ex) {
-        Map<String, Object> errorBody = Map.of(
-                "timestamp", LocalDateTime.now(),
-                "status", HttpStatus.BAD_REQUEST.value(),
-                "error", "Bad Request",
-                "message", ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorBody);
+    public ResponseEntity<byte[]> handleValidationException(IllegalArgumentException ex) {
+        return BAD_REQUEST.responder(ex.getMessage());
+    }
+
+    /**
+     * Trata parâmetros de consulta que não puderam ser convertidos (datas, enums) e retorna um erro 400.
+     *
+     * @param ex Exceção de vínculo dos parâmetros.
+     * @return Resposta padronizada com status 400.
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<byte[]> handleBindException(BindException ex) {
+        String campos = ex.getFieldErrors().stream()
+                .map(FieldError::getField)
+                .distinct()
+                .collect(Collectors.joining(", "));
+        return BAD_REQUEST.responder("Parâmetros inválidos: " + campos);
     }
 
     /**
@@ -61,13 +140,7 @@ public class GlobalExceptionHandler {
      * @return Resposta padronizada com status 500.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        Map<String, Object> errorBody = Map.of(
-                "timestamp", LocalDateTime.now(),
-                "status", HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                "error", "Internal Server Error",
-                "message", "Ocorreu um erro inesperado. Contate o suporte."
-        );
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorBody);
+    public ResponseEntity<byte[]> handleGenericException(Exception ex) {
+        return INTERNAL_SERVER_ERROR.responder("Ocorreu um erro inesperado. Contate o suporte.");
     }
 }
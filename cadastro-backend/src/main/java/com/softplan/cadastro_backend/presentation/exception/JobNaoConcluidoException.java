@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o resultado de uma tarefa em segundo plano é pedido antes da conclusão.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+@Schema(description = "Exceção lançada quando o resultado de uma tarefa é pedido antes da conclusão.")
+public class JobNaoConcluidoException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma exceção para a tarefa informada.
+     *
+     * @param id ID da tarefa.
+     */
+    public JobNaoConcluidoException(Long id) {
+        super("Tarefa com ID " + id + " ainda não foi concluída.", null, false, false);
+    }
+}
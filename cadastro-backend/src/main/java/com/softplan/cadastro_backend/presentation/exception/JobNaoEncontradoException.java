@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma tarefa em segundo plano não é encontrada.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+@Schema(description = "Exceção lançada quando uma tarefa em segundo plano não é encontrada.")
+public class JobNaoEncontradoException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma exceção para o caso de tarefa não encontrada pelo ID.
+     *
+     * @param id ID da tarefa não encontrada.
+     */
+    public JobNaoEncontradoException(Long id) {
+        super("Tarefa com ID " + id + " não encontrada.", null, false, false);
+    }
+}
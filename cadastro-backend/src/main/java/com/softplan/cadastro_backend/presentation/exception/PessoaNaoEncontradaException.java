@@ -7,7 +7,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 /**
  * Exceção lançada quando uma pessoa não é encontrada no sistema.
  * <p>
- * Essa exceção pode ser lançada ao buscar uma pessoa por CPF ou ID.
+ * Essa exceção pode ser lançada ao buscar uma pessoa por CPF ou ID. Buscas sem resultado são
+ * frequentes (consultas de existência), então ela não captura a pilha de chamadas, assim como as
+ * demais exceções de regra de negócio deste pacote.
  * </p>
  */
 @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -20,7 +22,7 @@ public class PessoaNaoEncontradaException extends RuntimeException {
      * @param cpf CPF da pessoa não encontrada.
      */
     public PessoaNaoEncontradaException(String cpf) {
-        super("Pessoa com CPF " + cpf + " não encontrada.");
+        super("Pessoa com CPF " + cpf + " não encontrada.", null, false, false);
     }
 
     /**
@@ -29,6 +31,6 @@ public class PessoaNaoEncontradaException extends RuntimeException {
      * @param id ID da pessoa não encontrada.
      */
     public PessoaNaoEncontradaException(Long id) {
-        super("Pessoa com ID " + id + " não encontrada.");
+        super("Pessoa com ID " + id + " não encontrada.", null, false, false);
     }
 }
@@ -0,0 +1,22 @@
+package com.softplan.cadastro_backend.presentation.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a versão informada em {@code If-Match} não é a versão atual da pessoa.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+@Schema(description = "Exceção lançada quando a versão informada em If-Match não é a versão atual da pessoa.")
+public class VersaoDesatualizadaException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma exceção para a pessoa informada.
+     *
+     * @param id ID da pessoa.
+     */
+    public VersaoDesatualizadaException(Long id) {
+        super("A pessoa com ID " + id + " foi alterada desde a versão informada.", null, false, false);
+    }
+}
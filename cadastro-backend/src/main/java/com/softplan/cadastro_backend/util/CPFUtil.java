@@ -5,12 +5,24 @@ import lombok.experimental.UtilityClass;
 /**
  * Classe utilitária para manipulação e validação de CPF.
  * <p>
- * Fornece métodos para limpar, validar e calcular dígitos verificadores de um CPF.
+ * Fornece métodos para limpar, validar e calcular dígitos verificadores de um CPF. A limpeza e a
+ * validação percorrem o texto uma única vez, sem expressões regulares nem objetos intermediários;
+ * {@link #paraNumero(CharSequence)} valida e converte o CPF para {@code long} sem alocar memória.
  * </p>
  */
 @UtilityClass
 public class CPFUtil {
 
+    /**
+     * Valor devolvido por {@link #paraNumero(CharSequence)} quando o CPF é inválido.
+     */
+    public static final long CPF_INVALIDO = -1L;
+
+    /**
+     * Quantidade de dígitos de um CPF.
+     */
+    public static final int TAMANHO = 11;
+
     /**
      * Remove todos os caracteres não numéricos de um CPF.
      *
@@ -21,7 +33,23 @@ public class CPFUtil {
         if (isNuloOuVazio(cpf)) {
             return null;
         }
-        return cpf.replaceAll("[^\\d]", "");
+        int primeiroNaoDigito = 0;
+        while (primeiroNaoDigito < cpf.length() && isDigito(cpf.charAt(primeiroNaoDigito))) {
+            primeiroNaoDigito++;
+        }
+        if (primeiroNaoDigito == cpf.length()) {
+            // Já está limpo: devolve a própria String, sem cópia
+            return cpf;
+        }
+        char[] digitos = new char[cpf.length()];
+        int quantidade = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (isDigito(c)) {
+                digitos[quantidade++] = c;
+            }
+        }
+        return new String(digitos, 0, quantidade);
     }
 
     /**
@@ -31,12 +59,107 @@ public class CPFUtil {
      * @return true se o CPF for válido; false caso contrário.
      */
     public static boolean isCPFValido(String cpf) {
-        String cpfNumeros = limparCPF(cpf);
+        return paraNumero(cpf) != CPF_INVALIDO;
+    }
 
-        if (isNuloOuVazio(cpfNumeros) || !possuiTamanhoValido(cpfNumeros) || possuiTodosDigitosIguais(cpfNumeros)) {
-            return false;
+    /**
+     * Valida o CPF e o converte para número, em uma única passagem e sem alocar memória.
+     * <p>
+     * Os caracteres que não são dígitos são ignorados, como em {@link #limparCPF(String)}. Os
+     * dígitos verificadores são conferidos durante a leitura.
+     * </p>
+     *
+     * @param cpf o CPF (pode estar formatado ou não).
+     * @return o CPF como número (sem os zeros à esquerda), ou {@link #CPF_INVALIDO} se for nulo ou
+     * inválido.
+     */
+    public static long paraNumero(CharSequence cpf) {
+        if (cpf == null) {
+            return CPF_INVALIDO;
+        }
+        long numero = 0;
+        int quantidade = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        int primeiroDigito = -1;
+        boolean todosIguais = true;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (!isDigito(c)) {
+                continue;
+            }
+            if (quantidade == TAMANHO) {
+                return CPF_INVALIDO;
+            }
+            int digito = c - '0';
+            if (quantidade == 9 && digito != digitoVerificador(somaPrimeiro)) {
+                return CPF_INVALIDO;
+            }
+            if (quantidade == 10 && digito != digitoVerificador(somaSegundo)) {
+                return CPF_INVALIDO;
+            }
+            if (quantidade < 9) {
+                somaPrimeiro += digito * (10 - quantidade);
+            }
+            if (quantidade < 10) {
+                somaSegundo += digito * (11 - quantidade);
+            }
+            if (primeiroDigito < 0) {
+                primeiroDigito = digito;
+            } else if (digito != primeiroDigito) {
+                todosIguais = false;
+            }
+            numero = numero * 10 + digito;
+            quantidade++;
         }
-        return isDigitosVerificadoresValidos(cpfNumeros);
+        return quantidade == TAMANHO && !todosIguais ? numero : CPF_INVALIDO;
+    }
+
+    /**
+     * Converte os dígitos do CPF para número, sem conferir os dígitos verificadores.
+     * <p>
+     * Os caracteres que não são dígitos são ignorados, como em {@link #limparCPF(String)}.
+     * </p>
+     *
+     * @param cpf o CPF (pode estar formatado ou não).
+     * @return o CPF como número, ou {@link #CPF_INVALIDO} se for nulo, não tiver dígitos ou tiver
+     * mais de 11.
+     */
+    public static long digitosParaNumero(CharSequence cpf) {
+        if (cpf == null) {
+            return CPF_INVALIDO;
+        }
+        long numero = 0;
+        int quantidade = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (isDigito(c)) {
+                if (++quantidade > TAMANHO) {
+                    return CPF_INVALIDO;
+                }
+                numero = numero * 10 + (c - '0');
+            }
+        }
+        return quantidade > 0 ? numero : CPF_INVALIDO;
+    }
+
+    /**
+     * Converte o CPF numérico para texto, com os 11 dígitos e sem formatação.
+     *
+     * @param cpf o CPF como número, obtido de {@link #paraNumero(CharSequence)}.
+     * @return o CPF com os zeros à esquerda.
+     * @throws IllegalArgumentException se o número não couber em 11 dígitos.
+     */
+    public static String paraTexto(long cpf) {
+        if (cpf < 0 || cpf > 99_999_999_999L) {
+            throw new IllegalArgumentException("CPF fora do intervalo: " + cpf);
+        }
+        char[] digitos = new char[TAMANHO];
+        for (int i = TAMANHO - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + cpf % 10);
+            cpf /= 10;
+        }
+        return new String(digitos);
     }
 
     /**
@@ -46,7 +169,16 @@ public class CPFUtil {
      * @return true se for nulo ou vazio; false caso contrário.
      */
     static boolean isNuloOuVazio(String cpf) {
-        return cpf == null || cpf.trim().isEmpty();
+        if (cpf == null) {
+            return true;
+        }
+        // Mesmo critério de trim(), sem criar uma nova String
+        for (int i = 0; i < cpf.length(); i++) {
+            if (cpf.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -66,7 +198,12 @@ public class CPFUtil {
      * @return true se todos os dígitos forem iguais; false caso contrário.
      */
     static boolean possuiTodosDigitosIguais(String cpfNumeros) {
-        return cpfNumeros.chars().distinct().count() == 1;
+        for (int i = 1; i < cpfNumeros.length(); i++) {
+            if (cpfNumeros.charAt(i) != cpfNumeros.charAt(0)) {
+                return false;
+            }
+        }
+        return !cpfNumeros.isEmpty();
     }
 
     /**
@@ -98,7 +235,21 @@ public class CPFUtil {
             int digito = cpfNumeros.charAt(i) - '0';
             soma += digito * (pesoInicial - i);
         }
+        return digitoVerificador(soma);
+    }
+
+    /**
+     * Calcula o dígito verificador a partir da soma ponderada dos dígitos anteriores.
+     *
+     * @param soma a soma dos dígitos multiplicados pelos seus pesos.
+     * @return o dígito verificador.
+     */
+    private static int digitoVerificador(int soma) {
         int resto = soma % 11;
         return (resto < 2) ? 0 : 11 - resto;
     }
+
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
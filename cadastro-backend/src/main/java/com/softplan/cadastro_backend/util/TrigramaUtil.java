@@ -0,0 +1,86 @@
+package com.softplan.cadastro_backend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Classe utilitária de similaridade por trigramas, equivalente à extensão {@code pg_trgm}.
+ * <p>
+ * Usada na busca aproximada de nomes quando o banco não oferece índices de trigramas (H2).
+ * </p>
+ */
+@UtilityClass
+public class TrigramaUtil {
+
+    /**
+     * Similaridade mínima para considerar dois textos parecidos (padrão do {@code pg_trgm}).
+     */
+    public static final double LIMIAR_SIMILARIDADE = 0.3;
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Remove acentos e converte o texto para minúsculas.
+     *
+     * @param texto o texto original.
+     * @return o texto normalizado, ou uma String vazia se a entrada for nula.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return ACENTOS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Extrai os trigramas de um texto já normalizado.
+     * <p>
+     * Assim como no {@code pg_trgm}, cada palavra recebe dois espaços antes e um depois.
+     * </p>
+     *
+     * @param normalizado texto retornado por {@link #normalizar(String)}.
+     * @return o conjunto de trigramas.
+     */
+    public static Set<String> trigramas(String normalizado) {
+        Set<String> trigramas = new HashSet<>();
+        for (String palavra : SEPARADORES.split(normalizado)) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String preenchida = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= preenchida.length(); i++) {
+                trigramas.add(preenchida.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    /**
+     * Calcula a similaridade entre dois conjuntos de trigramas (trigramas em comum sobre o total distinto).
+     *
+     * @param a trigramas do primeiro texto.
+     * @param b trigramas do segundo texto.
+     * @return valor entre 0 (nada em comum) e 1 (iguais).
+     */
+    public static double similaridade(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> menor = a.size() <= b.size() ? a : b;
+        Set<String> maior = menor == a ? b : a;
+        int comuns = 0;
+        for (String trigrama : menor) {
+            if (maior.contains(trigrama)) {
+                comuns++;
+            }
+        }
+        return (double) comuns / (a.size() + b.size() - comuns);
+    }
+}
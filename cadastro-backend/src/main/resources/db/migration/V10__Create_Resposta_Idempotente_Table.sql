@@ -0,0 +1,12 @@
+CREATE TABLE resposta_idempotente (
+    chave VARCHAR(300) PRIMARY KEY,
+    status INTEGER NOT NULL,
+    corpo TEXT,
+    criado_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_resposta_idempotente_criado_em ON resposta_idempotente (criado_em);
+
+COMMENT ON TABLE resposta_idempotente IS 'Respostas dos POSTs com Idempotency-Key, reproduzidas nas repetições da requisição';
+COMMENT ON COLUMN resposta_idempotente.chave IS 'Rota e valor do cabeçalho Idempotency-Key';
+COMMENT ON COLUMN resposta_idempotente.corpo IS 'Corpo da resposta original, em JSON';
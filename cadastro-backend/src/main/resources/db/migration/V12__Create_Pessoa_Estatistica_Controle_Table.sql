@@ -0,0 +1,12 @@
+CREATE TABLE pessoa_estatistica_controle (
+    id INTEGER PRIMARY KEY,
+    pendente BOOLEAN NOT NULL,
+    calculado_em TIMESTAMP
+);
+
+INSERT INTO pessoa_estatistica_controle (id, pendente) VALUES (1, TRUE);
+
+COMMENT ON TABLE pessoa_estatistica_controle IS 'Controle do recálculo do resumo pessoa_estatistica, compartilhado entre os nós';
+COMMENT ON COLUMN pessoa_estatistica_controle.id IS 'Identificador da única linha de controle (sempre 1)';
+COMMENT ON COLUMN pessoa_estatistica_controle.pendente IS 'Indica alterações no cadastro ainda não refletidas no resumo';
+COMMENT ON COLUMN pessoa_estatistica_controle.calculado_em IS 'Data e hora do último recálculo';
@@ -0,0 +1,3 @@
+ALTER TABLE resposta_idempotente ADD COLUMN hash_requisicao VARCHAR(64);
+
+COMMENT ON COLUMN resposta_idempotente.hash_requisicao IS 'SHA-256 do corpo da requisição original, em hexadecimal';
@@ -0,0 +1,5 @@
+DELETE FROM pessoa_estatistica WHERE dimensao = 'ANO_NASCIMENTO';
+
+UPDATE pessoa_estatistica_controle SET pendente = TRUE;
+
+COMMENT ON COLUMN pessoa_estatistica.dimensao IS 'Dimensão do agrupamento (SEXO, ESTADO, FAIXA_ETARIA, MES_CADASTRO)';
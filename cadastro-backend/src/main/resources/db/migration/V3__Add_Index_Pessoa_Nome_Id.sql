@@ -0,0 +1 @@
+CREATE INDEX idx_pessoa_nome_id ON pessoa (nome, id);
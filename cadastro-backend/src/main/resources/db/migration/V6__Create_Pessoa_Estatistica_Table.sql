@@ -0,0 +1,13 @@
+CREATE TABLE pessoa_estatistica (
+    dimensao VARCHAR(20) NOT NULL,
+    valor VARCHAR(50) NOT NULL,
+    quantidade BIGINT NOT NULL,
+    atualizado_em TIMESTAMP NOT NULL,
+    PRIMARY KEY (dimensao, valor)
+);
+
+COMMENT ON TABLE pessoa_estatistica IS 'Resumo das quantidades de pessoas por grupo, recalculado periodicamente';
+COMMENT ON COLUMN pessoa_estatistica.dimensao IS 'Dimensão do agrupamento (SEXO, ESTADO, ANO_NASCIMENTO, MES_CADASTRO)';
+COMMENT ON COLUMN pessoa_estatistica.valor IS 'Valor agrupado dentro da dimensão';
+COMMENT ON COLUMN pessoa_estatistica.quantidade IS 'Quantidade de pessoas no grupo';
+COMMENT ON COLUMN pessoa_estatistica.atualizado_em IS 'Data e hora do cálculo';
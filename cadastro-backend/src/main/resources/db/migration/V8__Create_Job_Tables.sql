@@ -0,0 +1,49 @@
+CREATE TABLE job (
+    id BIGSERIAL PRIMARY KEY,
+    tipo VARCHAR(20) NOT NULL,
+    formato VARCHAR(10),
+    situacao VARCHAR(20) NOT NULL,
+    total_blocos INTEGER NOT NULL,
+    blocos_concluidos INTEGER NOT NULL,
+    lidos BIGINT NOT NULL,
+    importados BIGINT NOT NULL,
+    rejeitados BIGINT NOT NULL,
+    erro VARCHAR(1000),
+    criado_em TIMESTAMP NOT NULL,
+    concluido_em TIMESTAMP
+);
+
+CREATE TABLE job_bloco (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL REFERENCES job (id) ON DELETE CASCADE,
+    sequencia INTEGER NOT NULL,
+    situacao VARCHAR(20) NOT NULL,
+    primeira_linha BIGINT,
+    id_inicial BIGINT,
+    id_final BIGINT,
+    conteudo TEXT,
+    saida TEXT,
+    erros TEXT,
+    erro VARCHAR(1000),
+    tentativas INTEGER NOT NULL,
+    responsavel VARCHAR(255),
+    iniciado_em TIMESTAMP,
+    concluido_em TIMESTAMP,
+    CONSTRAINT uk_job_bloco_sequencia UNIQUE (job_id, sequencia)
+);
+
+CREATE INDEX idx_job_bloco_situacao ON job_bloco (situacao, id);
+
+COMMENT ON TABLE job IS 'Tarefas de importação e exportação executadas em segundo plano';
+COMMENT ON COLUMN job.tipo IS 'Tipo da tarefa (IMPORTACAO, EXPORTACAO)';
+COMMENT ON COLUMN job.formato IS 'Formato do arquivo gerado pela exportação (CSV, NDJSON)';
+COMMENT ON COLUMN job.situacao IS 'Situação da tarefa (PENDENTE, EM_EXECUCAO, CONCLUIDO, FALHOU)';
+COMMENT ON COLUMN job.total_blocos IS 'Quantidade de blocos em que a tarefa foi dividida';
+COMMENT ON COLUMN job.blocos_concluidos IS 'Quantidade de blocos já processados';
+COMMENT ON COLUMN job.lidos IS 'Registros lidos (importação) ou escritos (exportação) nos blocos concluídos';
+COMMENT ON TABLE job_bloco IS 'Blocos das tarefas, reservados pelos nós com SELECT ... FOR UPDATE SKIP LOCKED';
+COMMENT ON COLUMN job_bloco.conteudo IS 'Registros CSV do bloco de importação, sem cabeçalho';
+COMMENT ON COLUMN job_bloco.saida IS 'Trecho do arquivo gerado pelo bloco de exportação';
+COMMENT ON COLUMN job_bloco.erros IS 'Linhas rejeitadas pelo bloco de importação, em JSON';
+COMMENT ON COLUMN job_bloco.tentativas IS 'Quantidade de reservas do bloco; identifica a reserva vigente';
+COMMENT ON COLUMN job_bloco.responsavel IS 'Nó que reservou o bloco pela última vez';
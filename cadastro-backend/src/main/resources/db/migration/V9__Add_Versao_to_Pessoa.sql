@@ -0,0 +1,3 @@
+ALTER TABLE pessoa ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN pessoa.versao IS 'Versão da pessoa, incrementada a cada alteração. Usada no controle de concorrência otimista (If-Match).';
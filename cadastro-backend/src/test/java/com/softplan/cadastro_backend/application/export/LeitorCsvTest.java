@@ -0,0 +1,66 @@
+package com.softplan.cadastro_backend.application.export;
+
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe {@link LeitorCsv} e para a leitura de {@link PessoaCsv}.
+ */
+public class LeitorCsvTest {
+
+    /**
+     * Testa campos entre aspas com vírgula, aspas duplicadas e quebra de linha, e a numeração das linhas.
+     */
+    @Test
+    public void testLerRegistros() throws Exception {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("a,\"b,c\",\"d \"\"e\"\"\"\r\n\"f\ng\",,\nh"));
+
+        assertEquals(List.of("a", "b,c", "d \"e\""), leitor.proximo());
+        assertEquals(1, leitor.linha());
+        assertEquals(List.of("f\ng", "", ""), leitor.proximo());
+        assertEquals(2, leitor.linha());
+        assertEquals(List.of("h"), leitor.proximo());
+        assertEquals(4, leitor.linha());
+        assertNull(leitor.proximo());
+    }
+
+    /**
+     * Testa a rejeição de aspas não fechadas no fim da entrada.
+     */
+    @Test
+    public void testAspasNaoFechadas() throws Exception {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("a\n\"b"));
+
+        assertEquals(List.of("a"), leitor.proximo());
+        assertThrows(IllegalArgumentException.class, leitor::proximo);
+    }
+
+    /**
+     * Testa que uma linha exportada é lida de volta com os mesmos dados, sem o ID.
+     */
+    @Test
+    public void testLerLinhaExportada() throws Exception {
+        PessoaDTOV2 original = TestDataFactory.criarPessoaDTOV2();
+        original.setId(7L);
+        original.setNome("Silva, João \"Jota\"");
+        StringWriter csv = new StringWriter();
+        PessoaCsv.escrever(original, csv);
+
+        PessoaDTOV2 lido = PessoaCsv.ler(new LeitorCsv(new StringReader(csv.toString())).proximo());
+
+        assertNull(lido.getId());
+        assertEquals(original.getNome(), lido.getNome());
+        assertEquals(ConstantsTestData.SEXO_VALIDO, lido.getSexo());
+        assertEquals(ConstantsTestData.DATA_NASCIMENTO_VALIDA, lido.getDataNascimento());
+        assertEquals(original.getEndereco(), lido.getEndereco());
+        assertThrows(IllegalArgumentException.class, () -> PessoaCsv.ler(List.of("1", "2")));
+    }
+}
@@ -1,14 +1,25 @@
 package com.softplan.cadastro_backend.application.mapper;
 
+import com.softplan.cadastro_backend.application.dto.EnderecoDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
 import com.softplan.cadastro_backend.domain.model.Endereco;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import com.softplan.cadastro_backend.presentation.exception.DomainValidationException;
 import com.softplan.cadastro_backend.util.CPFUtil;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
 import com.softplan.cadastro_backend.utils.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -49,7 +60,7 @@ public class PessoaMapperImplTest {
      */
     @Test
     public void testToDtoNulo() {
-        PessoaDTO dtoNulo = pessoaMapper.toDto(null);
+        PessoaDTO dtoNulo = pessoaMapper.toDto((Pessoa) null);
         assertNull(dtoNulo, "Se a entidade for nula, o DTO deve ser nulo");
     }
 
@@ -71,10 +82,56 @@ public class PessoaMapperImplTest {
      */
     @Test
     public void testToDtoV2Nulo() {
-        PessoaDTOV2 dto = pessoaMapper.toDtoV2(null);
+        PessoaDTOV2 dto = pessoaMapper.toDtoV2((Pessoa) null);
         assertNull(dto, "Se a entidade for nula, o DTO v2 deve ser nulo");
     }
 
+    /**
+     * Testa a conversão de uma projeção {@link PessoaResumo} para um {@link PessoaDTO} (versão 1).
+     */
+    @Test
+    public void testToDtoResumo() {
+        PessoaResumo resumo = TestDataFactory.criarPessoaResumo(1L, ConstantsTestData.NOME_VALIDO);
+
+        PessoaDTO dto = pessoaMapper.toDto(resumo);
+
+        assertEquals(resumo.id(), dto.getId(), "ID não confere");
+        assertEquals(resumo.nome(), dto.getNome(), "Nome não confere");
+        assertEquals(resumo.cpf(), dto.getCpf(), "CPF não confere");
+        assertNull(pessoaMapper.toDto((PessoaResumo) null));
+    }
+
+    /**
+     * Testa a conversão de uma projeção {@link PessoaDetalhe} para um {@link PessoaDTOV2} (versão 2).
+     */
+    @Test
+    public void testToDtoV2Detalhe() {
+        PessoaDetalhe detalhe = TestDataFactory.criarPessoaDetalhe(1L, ConstantsTestData.NOME_VALIDO);
+
+        PessoaDTOV2 dto = pessoaMapper.toDtoV2(detalhe);
+
+        assertEquals(detalhe.id(), dto.getId(), "ID não confere");
+        assertNotNull(dto.getEndereco(), "O endereço deve ser mapeado no DTO v2");
+        assertNull(pessoaMapper.toDtoV2((PessoaDetalhe) null));
+    }
+
+    /**
+     * Testa a conversão de uma projeção {@link PessoaCampos} para o objeto com os campos solicitados.
+     */
+    @Test
+    public void testToMapa() {
+        Map<CampoPessoa, Object> valores = new EnumMap<>(CampoPessoa.class);
+        valores.put(CampoPessoa.NOME, ConstantsTestData.NOME_VALIDO);
+        valores.put(CampoPessoa.CPF, "151.241.277-59");
+        valores.put(CampoPessoa.ENDERECO, TestDataFactory.criarEndereco());
+
+        Map<String, Object> mapa = pessoaMapper.toMapa(new PessoaCampos(1L, ConstantsTestData.NOME_VALIDO, valores));
+
+        assertEquals(List.of("nome", "cpf", "endereco"), List.copyOf(mapa.keySet()), "Apenas os campos solicitados, em ordem");
+        assertEquals(ConstantsTestData.CPF_VALIDO, mapa.get("cpf"), "O CPF deve ser retornado somente com números");
+        assertEquals(ConstantsTestData.CIDADE, ((EnderecoDTO) mapa.get("endereco")).getCidade());
+    }
+
     /**
      * Testa a conversão de um {@link PessoaDTO} para uma entidade {@link Pessoa}.
      */
@@ -132,7 +189,7 @@ public class PessoaMapperImplTest {
     public void testToEntityV2SemEndereco() {
         PessoaDTOV2 pessoaDTOV2 = TestDataFactory.criarPessoaDTOV2SemEndereco();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> pessoaMapper.toEntity(pessoaDTOV2));
 
         assertEquals("Endereço é obrigatório para a versão 2", exception.getMessage(),
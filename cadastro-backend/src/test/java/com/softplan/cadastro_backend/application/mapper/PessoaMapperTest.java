@@ -2,7 +2,9 @@ package com.softplan.cadastro_backend.application.mapper;
 
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.presentation.exception.DomainValidationException;
 import com.softplan.cadastro_backend.utils.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +53,7 @@ public class PessoaMapperTest {
      */
     @Test
     public void testToDtoPessoaNula() {
-        PessoaDTO dto = mapper.toDto(null);
+        PessoaDTO dto = mapper.toDto((Pessoa) null);
         assertNull(dto, "Se a pessoa for nula, o DTO também deve ser nulo.");
     }
 
@@ -73,7 +75,7 @@ public class PessoaMapperTest {
      */
     @Test
     public void testToDtoV2Nulo() {
-        PessoaDTOV2 dto = mapper.toDtoV2(null);
+        PessoaDTOV2 dto = mapper.toDtoV2((Pessoa) null);
         assertNull(dto, "Se a pessoa for nula, o DTO v2 também deve ser nulo.");
     }
 
@@ -130,9 +132,22 @@ public class PessoaMapperTest {
     public void testToEntityV2SemEndereco() {
         PessoaDTOV2 pessoaDTOV2 = TestDataFactory.criarPessoaDTOV2SemEndereco();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> mapper.toEntity(pessoaDTOV2));
+        DomainValidationException exception = assertThrows(DomainValidationException.class, () -> mapper.toEntity(pessoaDTOV2));
 
         assertEquals("Endereço é obrigatório para a versão 2", exception.getMessage(),
                 "Deve lançar exceção com mensagem informando que o endereço é obrigatório para v2");
     }
+
+    /**
+     * Testa que a conversão com resultado acumula as violações em vez de lançar exceção.
+     */
+    @Test
+    public void testToEntityV2ComResultado() {
+        PessoaDTOV2 pessoaDTOV2 = TestDataFactory.criarPessoaDTOV2SemEndereco();
+        pessoaDTOV2.setNome(" ");
+        ResultadoValidacao resultado = new ResultadoValidacao();
+
+        assertNull(mapper.toEntity(pessoaDTOV2, resultado));
+        assertEquals("Nome é obrigatório; Endereço é obrigatório para a versão 2", resultado.getMensagem());
+    }
 }
@@ -0,0 +1,74 @@
+package com.softplan.cadastro_backend.application.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.presentation.exception.DomainValidationException;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe utilitária {@link PessoaMergePatch}.
+ */
+public class PessoaMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Testa a conversão dos campos informados, com CPF limpo, sexo nulo como não definido e endereço por campo.
+     */
+    @Test
+    public void testAlteracoes() throws Exception {
+        Map<String, Object> alteracoes = PessoaMergePatch.alteracoes(json("""
+                {"nome": "Juliana", "sexo": null, "email": null, "dataNascimento": "1990-05-20",
+                 "cpf": "151.241.277-59", "endereco": {"cidade": "Florianópolis", "complemento": null}}"""));
+
+        assertEquals("Juliana", alteracoes.get("nome"));
+        assertEquals(SexoEnum.NAO_DEFINIDO, alteracoes.get("sexo"));
+        assertTrue(alteracoes.containsKey("email"));
+        assertNull(alteracoes.get("email"));
+        assertEquals(LocalDate.of(1990, 5, 20), alteracoes.get("dataNascimento"));
+        assertEquals(ConstantsTestData.CPF_VALIDO, alteracoes.get("cpf"));
+        assertEquals("Florianópolis", alteracoes.get("endereco.cidade"));
+        assertTrue(alteracoes.containsKey("endereco.complemento"));
+        assertFalse(alteracoes.containsKey("naturalidade"), "Campos ausentes não devem ser alterados");
+    }
+
+    /**
+     * Testa a recusa de documentos inválidos.
+     */
+    @Test
+    public void testAlteracoesInvalidas() {
+        assertThrows(IllegalArgumentException.class, () -> PessoaMergePatch.alteracoes(json("[]")));
+        for (String patch : new String[]{"{\"id\": 2}", "{\"idade\": 30}", "{\"nome\": null}",
+                "{\"dataNascimento\": null}", "{\"cpf\": \"12345678900\"}", "{\"email\": \"sem-arroba\"}",
+                "{\"endereco\": null}", "{\"endereco\": {\"pais\": \"BR\"}}", "{\"nome\": 10}",
+                "{\"sexo\": \"X\"}", "{\"dataNascimento\": \"" + LocalDate.now().plusDays(1) + "\"}"}) {
+            assertThrows(DomainValidationException.class, () -> PessoaMergePatch.alteracoes(json(patch)), patch);
+        }
+    }
+
+    /**
+     * Testa que todas as violações do documento são informadas juntas, com as mensagens do cadastro.
+     */
+    @Test
+    public void testTodasAsViolacoes() {
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
+                () -> PessoaMergePatch.alteracoes(json("""
+                        {"nome": " ", "email": "sem-arroba", "cpf": "12345678900", "idade": 30,
+                         "endereco": {"cidade": 10}}""")));
+
+        assertEquals(List.of("Nome é obrigatório", "Email inválido", "CPF inválido", "Campo não suportado: idade",
+                "O campo endereco.cidade deve ser texto"), exception.getErrors());
+    }
+
+    private JsonNode json(String texto) throws Exception {
+        return objectMapper.readTree(texto);
+    }
+}
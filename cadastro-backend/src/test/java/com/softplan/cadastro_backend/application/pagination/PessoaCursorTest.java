@@ -0,0 +1,56 @@
+package com.softplan.cadastro_backend.application.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe {@link PessoaCursor}.
+ */
+public class PessoaCursorTest {
+
+    /**
+     * Testa a codificação e decodificação de um cursor ordenado por ID.
+     */
+    @Test
+    public void testCodificarDecodificarPorId() {
+        PessoaCursor cursor = new PessoaCursor(OrdenacaoPessoa.ID, 42L, null);
+
+        assertEquals(cursor, PessoaCursor.decodificar(cursor.codificar()));
+    }
+
+    /**
+     * Testa a codificação de um cursor por nome contendo o separador e acentos.
+     */
+    @Test
+    public void testCodificarDecodificarPorNome() {
+        PessoaCursor cursor = new PessoaCursor(OrdenacaoPessoa.NOME, 7L, "João: da Silva");
+
+        String token = cursor.codificar();
+
+        assertFalse(token.contains("="), "O token não deve conter preenchimento");
+        assertEquals(cursor, PessoaCursor.decodificar(token));
+    }
+
+    /**
+     * Testa a rejeição de tokens inválidos.
+     */
+    @Test
+    public void testDecodificarTokenInvalido() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> PessoaCursor.decodificar("não-é-base64"));
+
+        assertEquals("Cursor de paginação inválido", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> PessoaCursor.decodificar("WFla"));
+    }
+
+    /**
+     * Testa a conversão da ordenação informada na requisição.
+     */
+    @Test
+    public void testOrdenacaoDe() {
+        assertEquals(OrdenacaoPessoa.ID, OrdenacaoPessoa.de(null));
+        assertEquals(OrdenacaoPessoa.NOME, OrdenacaoPessoa.de("Nome"));
+        assertThrows(IllegalArgumentException.class, () -> OrdenacaoPessoa.de("email"));
+    }
+}
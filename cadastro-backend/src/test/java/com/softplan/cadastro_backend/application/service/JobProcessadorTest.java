@@ -0,0 +1,205 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import com.softplan.cadastro_backend.domain.model.JobBloco;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.config.SequenciaConfig;
+import com.softplan.cadastro_backend.infrastructure.persistence.AlocadorIdsPessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link JobProcessador}, com transações confirmadas de fato no banco.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class, properties = {
+        "cadastro.jobs.linhas-por-bloco=2", "cadastro.jobs.tempo-maximo-bloco=PT10M"})
+@Import({JobService.class, JobProcessador.class, PessoaImportacaoService.class, PessoaLoteService.class,
+        PessoaExportService.class, PessoaMapperImpl.class, PessoaJdbcRepository.class, AlocadorIdsPessoa.class,
+        SequenciaConfig.class, JobProcessadorTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JobProcessadorTest {
+
+    private static final String ENDERECO = ",Rua A,1,,Centro,Rio de Janeiro,RJ,20000-000";
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        RelogioAjustavel relogio() {
+            return new RelogioAjustavel();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+    }
+
+    @Autowired
+    private JobProcessador jobProcessador;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RelogioAjustavel relogio;
+
+    /**
+     * Remove os dados confirmados pelos testes.
+     */
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_bloco");
+        jdbcTemplate.update("DELETE FROM job");
+        jdbcTemplate.update("DELETE FROM pessoa");
+    }
+
+    private Long submeter(String... linhas) throws Exception {
+        String csv = PessoaCsv.CABECALHO + "\n" + String.join("\n", linhas) + "\n";
+        return jobService.submeterImportacao(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).getId();
+    }
+
+    private static String linha(String nome, String cpf) {
+        return "," + nome + ",MASCULINO,,1990-05-15,,," + cpf + ENDERECO;
+    }
+
+    /**
+     * Testa que os blocos reservados da fila são gravados e concluídos, com os totais da tarefa.
+     */
+    @Test
+    public void testProcessarPendentes() throws Exception {
+        Long id = submeter(linha("João", ConstantsTestData.CPF_VALIDO),
+                linha("Maria", ConstantsTestData.CPF_VALIDO_ALTERNATIVO), linha("Inválido", "12345678900"));
+
+        jobProcessador.processarPendentes();
+
+        ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(id);
+        assertEquals(SituacaoJob.CONCLUIDO, jobService.consultar(id).getSituacao());
+        assertEquals(3, resultado.getLidos());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(2, pessoaRepository.count());
+    }
+
+    /**
+     * Testa que a linha recusada pelo banco (nome maior que a coluna) é rejeitada sozinha, sem
+     * desfazer as demais linhas do bloco nem a conclusão da tarefa.
+     */
+    @Test
+    public void testLinhaRejeitadaPeloBanco() throws Exception {
+        Long id = submeter(linha("João", ConstantsTestData.CPF_VALIDO), linha("A".repeat(300), "11144477735"),
+                linha("Maria", ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+
+        jobProcessador.processarPendentes();
+
+        ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(id);
+        assertEquals(SituacaoJob.CONCLUIDO, jobService.consultar(id).getSituacao());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(3, resultado.getErros().get(0).getLinha());
+        assertEquals(PessoaLoteService.REJEITADO_PELO_BANCO, resultado.getErros().get(0).getErro());
+        assertEquals(2, pessoaRepository.count());
+    }
+
+    /**
+     * Testa que o nó cuja reserva venceu não grava as pessoas do bloco e que o nó que o retomou
+     * importa as linhas sem rejeitá-las como CPF duplicado.
+     */
+    @Test
+    public void testReservaVencida() throws Exception {
+        Long id = submeter(linha("João", ConstantsTestData.CPF_VALIDO));
+        JobBloco vencido = jobService.reservarBloco("no-1").orElseThrow();
+        relogio.avancar(Duration.ofMinutes(11));
+        JobBloco retomado = jobService.reservarBloco("no-2").orElseThrow();
+
+        jobProcessador.processar(vencido);
+        assertEquals(0, pessoaRepository.count(), "As pessoas da reserva vencida devem ser desfeitas");
+        assertEquals(0, jobService.consultar(id).getBlocosConcluidos());
+
+        jobProcessador.processar(retomado);
+        ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(id);
+        assertEquals(SituacaoJob.CONCLUIDO, jobService.consultar(id).getSituacao());
+        assertEquals(1, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+        assertEquals(1, pessoaRepository.count());
+    }
+
+    /**
+     * Testa que processar de novo um bloco já concluído não altera o cadastro nem os totais.
+     */
+    @Test
+    public void testProcessarBlocoConcluido() throws Exception {
+        Long id = submeter(linha("João", ConstantsTestData.CPF_VALIDO));
+        JobBloco bloco = jobService.reservarBloco("no-1").orElseThrow();
+        jobProcessador.processar(bloco);
+
+        jobProcessador.processar(bloco);
+
+        ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(id);
+        assertEquals(1, jobService.consultar(id).getBlocosConcluidos());
+        assertEquals(1, resultado.getLidos());
+        assertEquals(1, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+        assertTrue(resultado.getErros().isEmpty());
+        assertEquals(1, pessoaRepository.count());
+    }
+
+    /**
+     * Relógio fixo que pode ser adiantado pelos testes.
+     */
+    static final class RelogioAjustavel extends Clock {
+
+        private Instant agora = Instant.parse("2024-01-01T10:00:00Z");
+
+        private void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
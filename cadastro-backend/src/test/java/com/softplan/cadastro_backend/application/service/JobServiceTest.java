@@ -0,0 +1,221 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ErroLinhaDTO;
+import com.softplan.cadastro_backend.application.dto.JobDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.domain.enums.SituacaoJob;
+import com.softplan.cadastro_backend.domain.model.JobBloco;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.JobBlocoRepository;
+import com.softplan.cadastro_backend.domain.repository.JobRepository;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.presentation.exception.JobNaoConcluidoException;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link JobService}, com a fila de blocos no banco.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+public class JobServiceTest {
+
+    private static final String NO = "no-1";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobBlocoRepository blocoRepository;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final RelogioAjustavel relogio = new RelogioAjustavel();
+    private JobService jobService;
+
+    @BeforeEach
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PessoaJdbcRepository pessoaJdbcRepository = new PessoaJdbcRepository(jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate), null);
+        PessoaExportService pessoaExportService = new PessoaExportService(pessoaJdbcRepository,
+                new PessoaMapperImpl(), objectMapper, 100);
+        jobService = new JobService(jobRepository, blocoRepository, pessoaJdbcRepository, pessoaExportService,
+                objectMapper, relogio, 2, 2, 2, Duration.ofMinutes(10), 10);
+    }
+
+    private JobDTO consultar(Long id) {
+        entityManager.clear();
+        return jobService.consultar(id);
+    }
+
+    /**
+     * Testa a divisão do arquivo em blocos de linhas, a reserva em ordem e a conclusão da tarefa.
+     */
+    @Test
+    public void testImportacaoEmBlocos() throws Exception {
+        String csv = PessoaCsv.CABECALHO + "\n,\"Silva, João\",,,,,,1\n,Maria,,,,,,2\n\n,José,,,,,,3\n";
+        JobDTO enviado = jobService.submeterImportacao(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(SituacaoJob.PENDENTE, enviado.getSituacao());
+        assertEquals(2, enviado.getTotalBlocos());
+
+        JobBloco primeiro = jobService.reservarBloco(NO).orElseThrow();
+        assertEquals(0, primeiro.getSequencia());
+        assertEquals(2L, primeiro.getPrimeiraLinha());
+        assertEquals(",\"Silva, João\",,,,,,1\n,Maria,,,,,,2\n", primeiro.getConteudo());
+        assertEquals(1, primeiro.getTentativas());
+        jobService.concluirImportacao(primeiro, new ResultadoImportacaoDTO(2, 1, 1,
+                List.of(new ErroLinhaDTO(3, "CPF inválido")), false));
+
+        JobBloco segundo = jobService.reservarBloco(NO).orElseThrow();
+        assertEquals(4L, segundo.getPrimeiraLinha(), "Linhas em branco contam na numeração");
+        assertEquals(SituacaoJob.EM_EXECUCAO, consultar(enviado.getId()).getSituacao());
+        assertTrue(jobService.reservarBloco(NO).isEmpty(), "Bloco reservado não deve ser entregue de novo");
+        jobService.concluirImportacao(segundo, new ResultadoImportacaoDTO(1, 1, 0, List.of(), false));
+
+        JobDTO concluido = consultar(enviado.getId());
+        assertEquals(SituacaoJob.CONCLUIDO, concluido.getSituacao());
+        assertEquals(100, concluido.getPercentual());
+        assertEquals(3, concluido.getLidos());
+        ResultadoImportacaoDTO resultado = jobService.resultadoImportacao(enviado.getId());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of(new ErroLinhaDTO(3, "CPF inválido")), resultado.getErros());
+        assertNull(blocoRepository.findById(primeiro.getId()).orElseThrow().getConteudo(),
+                "O conteúdo processado deve ser descartado");
+    }
+
+    /**
+     * Testa a exportação por faixas de ID e a montagem do arquivo a partir dos trechos.
+     */
+    @Test
+    public void testExportacao() throws Exception {
+        Pessoa pessoa = pessoaRepository.save(TestDataFactory.criarPessoaComEndereco());
+        entityManager.flush();
+        JobDTO enviado = jobService.submeterExportacao(FormatoExportacao.CSV);
+        assertEquals(1, enviado.getTotalBlocos());
+        assertThrows(JobNaoConcluidoException.class, () -> jobService.formatoExportacaoConcluida(enviado.getId()));
+
+        JobBloco bloco = jobService.reservarBloco(NO).orElseThrow();
+        assertEquals(pessoa.getId(), bloco.getIdInicial());
+        jobService.concluirExportacao(bloco, "linha\n", 1);
+        entityManager.clear();
+
+        assertEquals(FormatoExportacao.CSV, jobService.formatoExportacaoConcluida(enviado.getId()));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        jobService.escreverExportacao(enviado.getId(), saida);
+        assertEquals(PessoaCsv.CABECALHO + "\nlinha\n", saida.toString(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> jobService.resultadoImportacao(enviado.getId()));
+    }
+
+    /**
+     * Testa que uma exportação de cadastro vazio é concluída no envio.
+     */
+    @Test
+    public void testExportacaoVazia() {
+        JobDTO enviado = jobService.submeterExportacao(FormatoExportacao.NDJSON);
+
+        assertEquals(SituacaoJob.CONCLUIDO, enviado.getSituacao());
+        assertEquals(0, enviado.getTotalBlocos());
+        assertTrue(jobService.reservarBloco(NO).isEmpty());
+    }
+
+    /**
+     * Testa a devolução do bloco após uma falha e a falha da tarefa ao esgotar as tentativas.
+     */
+    @Test
+    public void testFalhaEsgotaTentativas() throws Exception {
+        String csv = PessoaCsv.CABECALHO + "\n1\n2\n3\n";
+        Long id = jobService.submeterImportacao(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).getId();
+
+        jobService.falharBloco(jobService.reservarBloco(NO).orElseThrow(), "Falha temporária");
+        JobBloco retomado = jobService.reservarBloco(NO).orElseThrow();
+        assertEquals(0, retomado.getSequencia());
+        assertEquals(2, retomado.getTentativas());
+        jobService.falharBloco(retomado, "Falha permanente");
+
+        JobDTO falhou = consultar(id);
+        assertEquals(SituacaoJob.FALHOU, falhou.getSituacao());
+        assertEquals("Bloco 0: Falha permanente", falhou.getErro());
+        assertTrue(jobService.reservarBloco(NO).isEmpty(), "Blocos pendentes da tarefa devem ser cancelados");
+    }
+
+    /**
+     * Testa a retomada de um bloco cujo nó parou e o descarte da conclusão da reserva vencida.
+     */
+    @Test
+    public void testRetomadaDeReservaVencida() throws Exception {
+        String csv = PessoaCsv.CABECALHO + "\n1\n";
+        Long id = jobService.submeterImportacao(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).getId();
+        JobBloco vencido = jobService.reservarBloco(NO).orElseThrow();
+
+        relogio.avancar(Duration.ofMinutes(11));
+        JobBloco retomado = jobService.reservarBloco("no-2").orElseThrow();
+        assertEquals(vencido.getId(), retomado.getId());
+        assertEquals("no-2", retomado.getResponsavel());
+
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO(1, 1, 0, List.of(), false);
+        jobService.concluirImportacao(vencido, resultado);
+        assertEquals(0, consultar(id).getBlocosConcluidos(), "A reserva vencida não deve concluir o bloco");
+        jobService.concluirImportacao(retomado, resultado);
+        assertEquals(SituacaoJob.CONCLUIDO, consultar(id).getSituacao());
+    }
+
+    /**
+     * Relógio fixo que pode ser adiantado pelos testes.
+     */
+    private static final class RelogioAjustavel extends Clock {
+
+        private Instant agora = Instant.parse("2024-01-01T10:00:00Z");
+
+        private void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
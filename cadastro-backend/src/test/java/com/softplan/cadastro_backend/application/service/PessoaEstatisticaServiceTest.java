@@ -0,0 +1,173 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.softplan.cadastro_backend.application.dto.EstatisticasPessoaDTO;
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaEstatisticaControleRepository;
+import com.softplan.cadastro_backend.domain.repository.PessoaEstatisticaRepository;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link PessoaEstatisticaService}.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+public class PessoaEstatisticaServiceTest {
+
+    private static final Clock RELOGIO = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private PessoaEstatisticaRepository estatisticaRepository;
+
+    @Autowired
+    private PessoaEstatisticaControleRepository controleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PessoaEstatisticaService estatisticaService;
+
+    /**
+     * Configura o serviço com um relógio fixo antes de cada teste.
+     */
+    @BeforeEach
+    public void setUp() {
+        estatisticaService = new PessoaEstatisticaService(pessoaRepository, estatisticaRepository, controleRepository,
+                new TransactionTemplate(transactionManager), RELOGIO);
+    }
+
+    /**
+     * Testa o recálculo do resumo e a consulta agrupada por sexo, estado, faixa etária e mês de cadastro.
+     */
+    @Test
+    public void testRecalcularEConsultar() {
+        salvar(SexoEnum.MASCULINO, LocalDate.of(1990, 5, 15), "rj", ConstantsTestData.CPF_VALIDO);
+        salvar(SexoEnum.FEMININO, LocalDate.of(2010, 1, 1), "RJ", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        salvar(SexoEnum.FEMININO, LocalDate.of(1950, 1, 1), null, "11144477735");
+        entityManager.flush();
+
+        estatisticaService.recalcular();
+        EstatisticasPessoaDTO estatisticas = estatisticaService.consultar();
+
+        assertEquals(3, estatisticas.getTotal());
+        assertEquals(Map.of("FEMININO", 2L, "MASCULINO", 1L), estatisticas.getPorSexo());
+        assertEquals(Map.of("RJ", 2L, PessoaEstatisticaService.NAO_INFORMADO, 1L), estatisticas.getPorEstado());
+        assertEquals(Map.of("0-17", 1L, "30-44", 1L, "60+", 1L), estatisticas.getPorFaixaEtaria());
+        assertEquals(Map.of(YearMonth.now().toString(), 3L), estatisticas.getPorMesCadastro());
+        assertEquals(LocalDateTime.now(RELOGIO), estatisticas.getAtualizadoEm());
+    }
+
+    /**
+     * Testa que a faixa etária usa a idade completa na data do cálculo, e não a diferença entre os anos.
+     */
+    @Test
+    public void testFaixaEtariaPelaDataDeNascimento() {
+        // Em 2025-06-01: aniversário ainda por vir no ano, no próprio dia e no dia seguinte
+        salvar(SexoEnum.MASCULINO, LocalDate.of(2007, 12, 31), "SP", ConstantsTestData.CPF_VALIDO);
+        salvar(SexoEnum.MASCULINO, LocalDate.of(2007, 6, 1), "SP", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        salvar(SexoEnum.MASCULINO, LocalDate.of(1995, 6, 2), "SP", "11144477735");
+        entityManager.flush();
+
+        estatisticaService.recalcular();
+
+        assertEquals(Map.of("0-17", 1L, "18-29", 2L), estatisticaService.consultar().getPorFaixaEtaria());
+    }
+
+    /**
+     * Testa que o resumo calculado em um dia anterior é recalculado mesmo sem alterações pendentes.
+     */
+    @Test
+    public void testRecalcularNoDiaSeguinte() {
+        estatisticaService.atualizarSeNecessario();
+        entityManager.flush();
+        LocalDate hoje = LocalDate.now(RELOGIO);
+
+        assertTrue(controleRepository.bloquearSePendente(hoje.atStartOfDay()).isEmpty());
+        assertTrue(controleRepository.bloquearSePendente(hoje.plusDays(1).atStartOfDay()).isPresent());
+    }
+
+    /**
+     * Testa que o resumo só é recalculado quando há alterações pendentes.
+     */
+    @Test
+    public void testAtualizarSeNecessario() {
+        estatisticaService.atualizarSeNecessario();
+        assertEquals(0, estatisticaService.consultar().getTotal());
+
+        salvar(SexoEnum.MASCULINO, ConstantsTestData.DATA_NASCIMENTO_VALIDA, "SP", ConstantsTestData.CPF_VALIDO);
+        entityManager.flush();
+        estatisticaService.atualizarSeNecessario();
+        assertEquals(0, estatisticaService.consultar().getTotal(), "Sem alteração publicada, o resumo não muda");
+
+        estatisticaService.aoAlterarPessoa(PessoaAlteradaEvent.de(1L, ConstantsTestData.CPF_VALIDO));
+        estatisticaService.atualizarSeNecessario();
+        assertEquals(1, estatisticaService.consultar().getTotal());
+        entityManager.flush();
+        entityManager.clear();
+        assertFalse(controleRepository.findById(PessoaEstatisticaControleRepository.ID).orElseThrow().isPendente());
+    }
+
+    /**
+     * Testa que a alteração registrada por um nó é recalculada por outro, e que o recálculo
+     * atualiza os grupos existentes e remove os que deixaram de existir.
+     */
+    @Test
+    public void testAtualizarPendenteDeOutroNo() {
+        PessoaEstatisticaService outroNo = new PessoaEstatisticaService(pessoaRepository, estatisticaRepository,
+                controleRepository, new TransactionTemplate(transactionManager), RELOGIO);
+        outroNo.atualizarSeNecessario();
+        estatisticaService.atualizarSeNecessario();
+
+        salvar(SexoEnum.MASCULINO, ConstantsTestData.DATA_NASCIMENTO_VALIDA, "SP", ConstantsTestData.CPF_VALIDO);
+        entityManager.flush();
+        estatisticaService.recalcular();
+        assertEquals(Map.of("SP", 1L), estatisticaService.consultar().getPorEstado());
+
+        pessoaRepository.deleteAll();
+        salvar(SexoEnum.FEMININO, ConstantsTestData.DATA_NASCIMENTO_VALIDA, "RJ", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        entityManager.flush();
+        estatisticaService.aoAlterarPessoa(PessoaAlteradaEvent.de(2L, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        estatisticaService.atualizarSeNecessario();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Map.of("RJ", 1L), outroNo.consultar().getPorEstado());
+        assertEquals(Map.of("FEMININO", 1L), outroNo.consultar().getPorSexo());
+    }
+
+    private void salvar(SexoEnum sexo, LocalDate dataNascimento, String estado, String cpf) {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        pessoa.setId(null);
+        pessoa.setSexo(sexo);
+        pessoa.setDataNascimento(dataNascimento);
+        pessoa.setCpf(cpf);
+        pessoa.getEndereco().setEstado(estado);
+        pessoaRepository.save(pessoa);
+    }
+}
@@ -0,0 +1,107 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.export.FormatoExportacao;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para a classe {@link PessoaExportService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PessoaExportServiceTest {
+
+    @Mock
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    @Mock
+    private PessoaMapper pessoaMapper;
+
+    private PessoaExportService pessoaExportService;
+
+    @BeforeEach
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        pessoaExportService = new PessoaExportService(pessoaJdbcRepository, pessoaMapper, objectMapper, 500);
+    }
+
+    private void configurarDuasPessoas() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        PessoaDTOV2 dto = TestDataFactory.criarPessoaDTOV2();
+        dto.setId(1L);
+        dto.setNome("Silva, João \"Jota\"");
+        doAnswer(invocation -> {
+            Consumer<Pessoa> consumidor = invocation.getArgument(1);
+            consumidor.accept(pessoa);
+            consumidor.accept(pessoa);
+            return null;
+        }).when(pessoaJdbcRepository).percorrerTodas(eq(500), any());
+        when(pessoaMapper.toDtoV2(pessoa)).thenReturn(dto);
+    }
+
+    /**
+     * Testa a exportação em NDJSON: um objeto JSON por linha.
+     */
+    @Test
+    public void testExportarNdjson() throws Exception {
+        configurarDuasPessoas();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        pessoaExportService.exportar(FormatoExportacao.NDJSON, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].startsWith("{\"id\":1,"), linhas[0]);
+        assertTrue(linhas[0].contains("\"dataNascimento\":\"1990-05-15\""), linhas[0]);
+        assertTrue(linhas[0].contains("\"cidade\":\"Rio de Janeiro\""), linhas[0]);
+    }
+
+    /**
+     * Testa a exportação em CSV, com cabeçalho e escape de vírgulas e aspas.
+     */
+    @Test
+    public void testExportarCsv() throws Exception {
+        configurarDuasPessoas();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        pessoaExportService.exportar(FormatoExportacao.CSV, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, linhas.length);
+        assertEquals(PessoaCsv.CABECALHO, linhas[0]);
+        assertEquals("1,\"Silva, João \"\"Jota\"\"\",MASCULINO,joao@email.com,1990-05-15,São Paulo,Brasil,15124127759,"
+                + "Rua dos Andradas,123,Apto 101,Centro,Rio de Janeiro,RJ,01234-567", linhas[1]);
+    }
+
+    /**
+     * Testa a rejeição de formatos não suportados.
+     */
+    @Test
+    public void testFormatoNaoSuportado() {
+        assertEquals(FormatoExportacao.CSV, FormatoExportacao.de("CSV"));
+        assertThrows(IllegalArgumentException.class, () -> FormatoExportacao.de("xml"));
+    }
+}
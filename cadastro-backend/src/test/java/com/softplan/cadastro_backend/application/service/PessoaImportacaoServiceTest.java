@@ -0,0 +1,124 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.softplan.cadastro_backend.application.dto.ErroLinhaDTO;
+import com.softplan.cadastro_backend.application.dto.ResultadoImportacaoDTO;
+import com.softplan.cadastro_backend.application.export.PessoaCsv;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link PessoaImportacaoService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PessoaImportacaoServiceTest {
+
+    private static final String ENDERECO = ",Rua A,1,,Centro,Rio de Janeiro,RJ,20000-000";
+
+    @Mock
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PessoaImportacaoService pessoaImportacaoService;
+    private final List<Integer> tamanhosLotes = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        PessoaLoteService pessoaLoteService = new PessoaLoteService(pessoaJdbcRepository, new PessoaMapperImpl(),
+                Jackson2ObjectMapperBuilder.json().build(), eventPublisher, 2);
+        pessoaImportacaoService = new PessoaImportacaoService(pessoaLoteService, new PessoaMapperImpl(), 2, 2, 2);
+    }
+
+    @AfterEach
+    public void encerrar() {
+        pessoaImportacaoService.destroy();
+    }
+
+    private ResultadoImportacaoDTO importar(String... linhas) throws Exception {
+        String csv = PessoaCsv.CABECALHO + "\n" + String.join("\n", linhas) + "\n";
+        return pessoaImportacaoService.importar(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String linha(String nome, String cpf) {
+        return "," + nome + ",MASCULINO,,1990-05-15,,," + cpf + ENDERECO;
+    }
+
+    /**
+     * Testa a importação em blocos com rejeição de linhas inválidas e CPFs repetidos no arquivo ou no banco.
+     */
+    @Test
+    public void testImportar() throws Exception {
+        AtomicLong sequencia = new AtomicLong();
+        doAnswer(invocation -> {
+            List<Pessoa> pessoas = invocation.getArgument(0);
+            tamanhosLotes.add(pessoas.size());
+            pessoas.forEach(pessoa -> pessoa.setId(sequencia.incrementAndGet()));
+            return null;
+        }).when(pessoaJdbcRepository).inserirEmLote(anyList());
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenAnswer(invocation ->
+                Arrays.stream(invocation.<long[]>getArgument(0)).filter(cpf -> cpf == 11144477735L).toArray());
+
+        ResultadoImportacaoDTO resultado = importar(
+                linha("João", ConstantsTestData.CPF_VALIDO),
+                linha("Maria", ConstantsTestData.CPF_VALIDO_ALTERNATIVO),
+                linha("Inválido", "12345678900"),
+                linha("Repetido", "11144477735"),
+                linha("Sem data", ConstantsTestData.CPF_VALIDO).replace("1990-05-15", ""));
+
+        assertEquals(5, resultado.getLidos());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(3, resultado.getRejeitados());
+        assertEquals(List.of(new ErroLinhaDTO(4, "CPF inválido"), new ErroLinhaDTO(5, PessoaLoteService.CPF_DUPLICADO)),
+                resultado.getErros(), "O relatório deve listar apenas até o limite de erros");
+        assertTrue(resultado.isErrosOmitidos());
+        assertEquals(List.of(2), tamanhosLotes, "Apenas o primeiro bloco tem linhas a gravar");
+    }
+
+    /**
+     * Testa a importação de um trecho sem cabeçalho, com as linhas numeradas como no arquivo original.
+     */
+    @Test
+    public void testImportarBloco() {
+        ResultadoImportacaoDTO resultado = pessoaImportacaoService.importarBloco(
+                "\n" + linha("Inválido", "12345678900") + "\n", 10);
+
+        assertEquals(1, resultado.getLidos());
+        assertEquals(List.of(new ErroLinhaDTO(11, "CPF inválido")), resultado.getErros());
+        verifyNoInteractions(pessoaJdbcRepository);
+    }
+
+    /**
+     * Testa a rejeição de um arquivo com cabeçalho diferente do layout.
+     */
+    @Test
+    public void testCabecalhoInvalido() {
+        byte[] csv = "nome,cpf\nJoão,15124127759\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> pessoaImportacaoService.importar(new ByteArrayInputStream(csv)));
+        verifyNoInteractions(pessoaJdbcRepository);
+    }
+}
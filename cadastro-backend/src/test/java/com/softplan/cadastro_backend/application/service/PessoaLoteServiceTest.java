@@ -0,0 +1,180 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ItemLoteDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoLoteDTO;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link PessoaLoteService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PessoaLoteServiceTest {
+
+    private static final String CPF_TERCEIRO = "11144477735";
+
+    @Mock
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ObjectMapper objectMapper;
+    private PessoaLoteService pessoaLoteService;
+    private final List<Integer> tamanhosLotes = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        // Mesma configuração do mapper da aplicação (módulos de datas e de nomes de parâmetros)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pessoaLoteService = new PessoaLoteService(pessoaJdbcRepository, new PessoaMapperImpl(), objectMapper,
+                eventPublisher, 2);
+    }
+
+    private void simularInsercao() {
+        AtomicLong sequencia = new AtomicLong();
+        doAnswer(invocation -> {
+            List<Pessoa> pessoas = invocation.getArgument(0);
+            tamanhosLotes.add(pessoas.size());
+            pessoas.forEach(pessoa -> pessoa.setId(sequencia.incrementAndGet()));
+            return null;
+        }).when(pessoaJdbcRepository).inserirEmLote(anyList());
+    }
+
+    private ResultadoLoteDTO enviar(Object... itens) throws Exception {
+        byte[] corpo = objectMapper.writeValueAsBytes(itens);
+        return pessoaLoteService.criarEmLote(new ByteArrayInputStream(corpo));
+    }
+
+    private static PessoaDTOV2 pessoa(String cpf) {
+        PessoaDTOV2 dto = TestDataFactory.criarPessoaDTOV2();
+        dto.setCpf(cpf);
+        return dto;
+    }
+
+    /**
+     * Testa a gravação em blocos: itens válidos criados, inválidos rejeitados individualmente.
+     */
+    @Test
+    public void testCriarEmLote() throws Exception {
+        simularInsercao();
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[0]);
+        PessoaDTOV2 semEndereco = TestDataFactory.criarPessoaDTOV2SemEndereco();
+
+        ResultadoLoteDTO resultado = enviar(pessoa(ConstantsTestData.CPF_VALIDO), semEndereco,
+                pessoa(ConstantsTestData.CPF_VALIDO_ALTERNATIVO), pessoa(CPF_TERCEIRO));
+
+        assertEquals(3, resultado.getCriados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(List.of(0, 1, 2, 3), resultado.getItens().stream().map(ItemLoteDTO::getIndice).toList());
+        assertEquals(1L, resultado.getItens().get(0).getId());
+        assertEquals("Endereço é obrigatório para a versão 2", resultado.getItens().get(1).getErro());
+        assertNull(resultado.getItens().get(1).getId());
+        assertEquals(List.of(2, 1), tamanhosLotes, "Os itens válidos devem ser gravados em blocos de 2");
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(1L, ConstantsTestData.CPF_VALIDO));
+        verify(eventPublisher, times(3)).publishEvent(any(PessoaAlteradaEvent.class));
+    }
+
+    /**
+     * Testa a rejeição de CPFs já cadastrados, repetidos no lote e de itens com JSON incompatível.
+     */
+    @Test
+    public void testRejeitarDuplicadosEItensMalformados() throws Exception {
+        simularInsercao();
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[]{Long.parseLong(CPF_TERCEIRO)});
+        PessoaDTOV2 comId = pessoa(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        comId.setId(9L);
+
+        ResultadoLoteDTO resultado = enviar(pessoa(ConstantsTestData.CPF_VALIDO), pessoa(ConstantsTestData.CPF_VALIDO),
+                pessoa(CPF_TERCEIRO), "texto", comId);
+
+        assertEquals(1, resultado.getCriados());
+        assertEquals(PessoaLoteService.CPF_DUPLICADO, resultado.getItens().get(1).getErro());
+        assertEquals(PessoaLoteService.CPF_DUPLICADO, resultado.getItens().get(2).getErro());
+        assertTrue(resultado.getItens().get(3).getErro().startsWith("JSON inválido"));
+        assertEquals("Não informe o id para o cadastro de pessoa", resultado.getItens().get(4).getErro());
+    }
+
+    /**
+     * Testa a regravação item a item quando o lote viola a unicidade por um cadastro concorrente.
+     */
+    @Test
+    public void testRegravarItemAItemAposViolacao() throws Exception {
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[0]);
+        doThrow(new DuplicateKeyException("cpf")).doAnswer(invocation -> {
+            List<Pessoa> pessoas = invocation.getArgument(0);
+            pessoas.get(0).setId(5L);
+            return null;
+        }).doThrow(new DuplicateKeyException("cpf")).when(pessoaJdbcRepository).inserirEmLote(anyList());
+
+        ResultadoLoteDTO resultado = enviar(pessoa(ConstantsTestData.CPF_VALIDO), pessoa(CPF_TERCEIRO));
+
+        assertEquals(5L, resultado.getItens().get(0).getId());
+        assertEquals(PessoaLoteService.CPF_DUPLICADO, resultado.getItens().get(1).getErro());
+        verify(pessoaJdbcRepository, times(3)).inserirEmLote(anyList());
+    }
+
+    /**
+     * Testa que um JSON malformado no meio do array não interrompe com erro: os itens já lidos
+     * são gravados e informados, e a posição malformada é o último item rejeitado.
+     */
+    @Test
+    public void testJsonMalformadoNoMeioDoArray() throws Exception {
+        simularInsercao();
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[0]);
+        String validos = objectMapper.writeValueAsString(List.of(pessoa(ConstantsTestData.CPF_VALIDO),
+                pessoa(ConstantsTestData.CPF_VALIDO_ALTERNATIVO), pessoa(CPF_TERCEIRO)));
+        byte[] corpo = (validos.substring(0, validos.length() - 1) + ",{\"nome\":}]").getBytes(StandardCharsets.UTF_8);
+
+        ResultadoLoteDTO resultado = pessoaLoteService.criarEmLote(new ByteArrayInputStream(corpo));
+
+        assertEquals(3, resultado.getCriados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(List.of(1L, 2L, 3L), resultado.getItens().subList(0, 3).stream().map(ItemLoteDTO::getId).toList());
+        ItemLoteDTO malformado = resultado.getItens().get(3);
+        assertEquals(3, malformado.getIndice());
+        assertTrue(malformado.getErro().startsWith("JSON inválido"));
+        assertTrue(malformado.getErro().endsWith(PessoaLoteService.LEITURA_INTERROMPIDA));
+        verify(eventPublisher, times(3)).publishEvent(any(PessoaAlteradaEvent.class));
+    }
+
+    /**
+     * Testa a rejeição de um corpo que não é um array JSON.
+     */
+    @Test
+    public void testCorpoNaoArray() {
+        byte[] corpo = "{\"nome\":\"x\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] malformado = "x[".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> pessoaLoteService.criarEmLote(new ByteArrayInputStream(corpo)));
+        assertThrows(IllegalArgumentException.class,
+                () -> pessoaLoteService.criarEmLote(new ByteArrayInputStream(malformado)));
+        verifyNoInteractions(pessoaJdbcRepository);
+    }
+}
@@ -0,0 +1,157 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ItemOperacaoLoteDTO;
+import com.softplan.cadastro_backend.application.dto.OperacaoLoteDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.dto.ResultadoOperacoesLoteDTO;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.domain.enums.TipoOperacaoLote;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link PessoaOperacaoLoteService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PessoaOperacaoLoteServiceTest {
+
+    private static final String CPF_TERCEIRO = "11144477735";
+
+    @Mock
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ObjectMapper objectMapper;
+    private PessoaOperacaoLoteService service;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new PessoaOperacaoLoteService(pessoaJdbcRepository, new PessoaMapperImpl(), objectMapper,
+                eventPublisher, TransactionOperations.withoutTransaction(), 10);
+    }
+
+    private ResultadoOperacoesLoteDTO enviar(Object... operacoes) throws Exception {
+        return service.executar(new ByteArrayInputStream(objectMapper.writeValueAsBytes(operacoes)));
+    }
+
+    private static OperacaoLoteDTO atualizar(long id, String cpf) {
+        PessoaDTOV2 pessoa = TestDataFactory.criarPessoaDTOV2();
+        pessoa.setId(null);
+        pessoa.setCpf(cpf);
+        return new OperacaoLoteDTO(TipoOperacaoLote.ATUALIZAR, id, pessoa);
+    }
+
+    private static OperacaoLoteDTO remover(long id) {
+        return new OperacaoLoteDTO(TipoOperacaoLote.REMOVER, id, null);
+    }
+
+    /**
+     * Testa a execução do bloco: uma remoção e um lote de atualizações, com rejeições individuais.
+     */
+    @Test
+    public void testExecutar() throws Exception {
+        when(pessoaJdbcRepository.bloquearCpfsPorId(List.of(1L, 2L, 3L, 4L))).thenReturn(Map.of(
+                1L, ConstantsTestData.CPF_VALIDO, 2L, ConstantsTestData.CPF_VALIDO_ALTERNATIVO, 4L, "52998224725"));
+        when(pessoaJdbcRepository.buscarIdsPorCpf(List.of(ConstantsTestData.CPF_VALIDO, CPF_TERCEIRO)))
+                .thenReturn(Map.of(ConstantsTestData.CPF_VALIDO, 1L, CPF_TERCEIRO, 7L));
+
+        ResultadoOperacoesLoteDTO resultado = enviar(atualizar(1, ConstantsTestData.CPF_VALIDO), remover(2),
+                remover(3), atualizar(4, CPF_TERCEIRO), remover(1), "texto");
+
+        assertEquals(1, resultado.getAtualizados());
+        assertEquals(1, resultado.getRemovidos());
+        assertEquals(4, resultado.getRejeitados());
+        List<ItemOperacaoLoteDTO> itens = resultado.getItens();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), itens.stream().map(ItemOperacaoLoteDTO::getIndice).toList());
+        assertNull(itens.get(0).getErro());
+        assertNull(itens.get(1).getErro());
+        assertEquals(PessoaOperacaoLoteService.PESSOA_NAO_ENCONTRADA, itens.get(2).getErro());
+        assertEquals(PessoaLoteService.CPF_DUPLICADO, itens.get(3).getErro());
+        assertEquals(PessoaOperacaoLoteService.ID_REPETIDO, itens.get(4).getErro());
+        assertTrue(itens.get(5).getErro().startsWith("JSON inválido"));
+
+        verify(pessoaJdbcRepository).removerPorIds(List.of(2L));
+        verify(pessoaJdbcRepository).atualizarEmLote(argThat(pessoas -> pessoas.size() == 1
+                && pessoas.get(0).getId() == 1L));
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(2L, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(1L, ConstantsTestData.CPF_VALIDO));
+        verify(eventPublisher, times(2)).publishEvent(any(PessoaAlteradaEvent.class));
+    }
+
+    /**
+     * Testa a reexecução operação a operação quando o lote viola a unicidade do CPF.
+     */
+    @Test
+    public void testReexecutarOperacoesAposViolacao() throws Exception {
+        when(pessoaJdbcRepository.bloquearCpfsPorId(anyList())).thenReturn(Map.of(
+                1L, ConstantsTestData.CPF_VALIDO, 2L, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        doAnswer(invocation -> {
+            List<Pessoa> pessoas = invocation.getArgument(0);
+            if (pessoas.stream().anyMatch(pessoa -> pessoa.getId() == 2L)) {
+                throw new DuplicateKeyException("cpf");
+            }
+            return null;
+        }).when(pessoaJdbcRepository).atualizarEmLote(anyList());
+
+        ResultadoOperacoesLoteDTO resultado = enviar(atualizar(1, ConstantsTestData.CPF_VALIDO),
+                atualizar(2, CPF_TERCEIRO));
+
+        assertEquals(1, resultado.getAtualizados());
+        assertEquals(PessoaLoteService.CPF_DUPLICADO, resultado.getItens().get(1).getErro());
+        verify(pessoaJdbcRepository, times(3)).atualizarEmLote(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(PessoaAlteradaEvent.class));
+    }
+
+    /**
+     * Testa que as operações lidas antes de um JSON malformado são executadas e informadas, com a
+     * posição malformada como última operação rejeitada.
+     */
+    @Test
+    public void testJsonMalformadoNoMeioDoArray() throws Exception {
+        when(pessoaJdbcRepository.bloquearCpfsPorId(List.of(2L))).thenReturn(
+                Map.of(2L, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        String validas = objectMapper.writeValueAsString(List.of(remover(2)));
+        byte[] corpo = (validas.substring(0, validas.length() - 1) + ",{\"id\":}]").getBytes();
+
+        ResultadoOperacoesLoteDTO resultado = service.executar(new ByteArrayInputStream(corpo));
+
+        assertEquals(1, resultado.getRemovidos());
+        assertEquals(1, resultado.getRejeitados());
+        assertTrue(resultado.getItens().get(1).getErro().endsWith(PessoaLoteService.LEITURA_INTERROMPIDA));
+        verify(pessoaJdbcRepository).removerPorIds(List.of(2L));
+    }
+
+    /**
+     * Testa a recusa de um corpo que não é um array JSON.
+     */
+    @Test
+    public void testCorpoNaoArray() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.executar(new ByteArrayInputStream("{}".getBytes())));
+    }
+}
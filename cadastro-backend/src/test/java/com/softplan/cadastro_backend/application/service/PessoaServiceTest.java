@@ -1,8 +1,22 @@
 package com.softplan.cadastro_backend.application.service;
 
+import com.softplan.cadastro_backend.application.dto.FiltroPessoaDTO;
+import com.softplan.cadastro_backend.application.pagination.OrdenacaoPessoa;
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
+import com.softplan.cadastro_backend.application.pagination.PessoaCursor;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
 import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import com.softplan.cadastro_backend.infrastructure.persistence.AlteracaoPessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeAproximada;
+import com.softplan.cadastro_backend.infrastructure.persistence.GravacaoPorCpf;
+import com.softplan.cadastro_backend.infrastructure.persistence.InclusaoAgrupadaPessoa;
+import com.softplan.cadastro_backend.presentation.exception.CpfJaCadastradoException;
 import com.softplan.cadastro_backend.presentation.exception.PessoaNaoEncontradaException;
+import com.softplan.cadastro_backend.presentation.exception.VersaoDesatualizadaException;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
 import com.softplan.cadastro_backend.utils.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,6 +50,21 @@ public class PessoaServiceTest {
     @Mock
     private PessoaRepository pessoaRepository;
 
+    @Mock
+    private BuscaNomeAproximada buscaNomeAproximada;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GravacaoPorCpf gravacaoPorCpf;
+
+    @Mock
+    private AlteracaoPessoa alteracaoPessoa;
+
+    @Mock
+    private InclusaoAgrupadaPessoa inclusaoAgrupada;
+
     @InjectMocks
     private PessoaService pessoaService;
 
@@ -44,78 +82,165 @@ public class PessoaServiceTest {
     public void testCriarPessoaValida() {
         Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
 
-        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoa);
+        when(pessoaRepository.saveAndFlush(any(Pessoa.class))).thenReturn(pessoa);
 
         Pessoa pessoaCriada = pessoaService.criarPessoa(pessoa);
 
         assertNotNull(pessoaCriada, "Pessoa criada não deve ser nula");
-        verify(pessoaRepository, times(1)).save(pessoa);
+        verify(pessoaRepository, times(1)).saveAndFlush(pessoa);
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(pessoa.getId(), pessoa.getCpf()));
     }
 
     /**
-     * Testa a busca de uma pessoa pelo CPF quando ela é encontrada.
+     * Testa que a violação da unicidade do CPF na inclusão é convertida em conflito, sem publicar evento.
      */
     @Test
-    public void testBuscarPessoaPorCpfEncontrada() {
+    public void testCriarPessoaCpfDuplicado() {
         Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(pessoaRepository.saveAndFlush(pessoa)).thenThrow(new DuplicateKeyException("uk_pessoa_cpf"));
 
-        when(pessoaRepository.findByCpf(pessoa.getCpf())).thenReturn(Optional.of(pessoa));
+        assertThrows(CpfJaCadastradoException.class, () -> pessoaService.criarPessoa(pessoa));
+        verifyNoInteractions(eventPublisher);
+    }
 
-        Pessoa pessoaEncontrada = pessoaService.buscarPessoaPorCpf(pessoa.getCpf());
+    /**
+     * Testa que outras violações de integridade não são tratadas como CPF duplicado.
+     */
+    @Test
+    public void testCriarPessoaOutraViolacao() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(pessoaRepository.saveAndFlush(pessoa)).thenThrow(new DataIntegrityViolationException("valor longo"));
 
-        assertNotNull(pessoaEncontrada, "A pessoa deve ser encontrada pelo CPF");
-        assertEquals(pessoa.getCpf(), pessoaEncontrada.getCpf(), "CPF da pessoa encontrada não confere");
-        verify(pessoaRepository, times(1)).findByCpf(pessoa.getCpf());
+        assertThrows(DataIntegrityViolationException.class, () -> pessoaService.criarPessoa(pessoa));
     }
 
     /**
-     * Testa a busca de uma pessoa pelo CPF quando ela não é encontrada.
+     * Testa a criação com a inclusão agrupada habilitada: a pessoa é gravada pelo agrupador, não pelo JPA.
      */
     @Test
-    public void testBuscarPessoaPorCpfNaoEncontrada() {
-        String cpfNaoExistente = "00000000000";
+    public void testCriarPessoaAgrupada() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(inclusaoAgrupada.isHabilitada()).thenReturn(true);
+        when(inclusaoAgrupada.incluir(pessoa)).thenReturn(pessoa);
 
-        when(pessoaRepository.findByCpf(cpfNaoExistente)).thenReturn(Optional.empty());
+        assertSame(pessoa, pessoaService.criarPessoa(pessoa));
+        verify(pessoaRepository, never()).saveAndFlush(any());
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(pessoa.getId(), pessoa.getCpf()));
+    }
 
-        PessoaNaoEncontradaException exception = assertThrows(PessoaNaoEncontradaException.class,
-                () -> pessoaService.buscarPessoaPorCpf(cpfNaoExistente));
+    /**
+     * Testa que a violação do CPF na inclusão agrupada também é convertida em conflito.
+     */
+    @Test
+    public void testCriarPessoaAgrupadaCpfDuplicado() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(inclusaoAgrupada.isHabilitada()).thenReturn(true);
+        when(inclusaoAgrupada.incluir(pessoa)).thenThrow(new DuplicateKeyException("uk_pessoa_cpf"));
 
-        assertEquals("Pessoa com CPF " + cpfNaoExistente + " não encontrada.", exception.getMessage());
-        verify(pessoaRepository, times(1)).findByCpf(cpfNaoExistente);
+        assertThrows(CpfJaCadastradoException.class, () -> pessoaService.criarPessoa(pessoa));
+        verifyNoInteractions(eventPublisher);
     }
 
     /**
-     * Testa a listagem de todas as pessoas.
+     * Testa a gravação por CPF: o resultado da gravação é repassado e a alteração é publicada.
      */
     @Test
-    public void testListarTodasPessoas() {
-        when(pessoaRepository.findAll()).thenReturn(
-                List.of(TestDataFactory.criarPessoaComEndereco(), TestDataFactory.criarPessoaSemEndereco()));
+    public void testGravarPorCpf() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(gravacaoPorCpf.gravar(pessoa)).thenReturn(false);
 
-        List<Pessoa> pessoas = pessoaService.listarTodasPessoas();
+        assertFalse(pessoaService.gravarPorCpf(pessoa));
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(pessoa.getId(), pessoa.getCpf()));
+    }
 
-        assertNotNull(pessoas, "A lista de pessoas não deve ser nula");
-        assertEquals(2, pessoas.size(), "Deve haver 2 pessoas na lista");
-        verify(pessoaRepository, times(1)).findAll();
+    /**
+     * Testa a alteração parcial: o resultado do comando é devolvido e o CPF anterior invalidado junto ao novo.
+     */
+    @Test
+    public void testAlterarParcialmente() {
+        Pessoa alterada = TestDataFactory.criarPessoaComEndereco();
+        alterada.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        Map<String, Object> alteracoes = Map.of("cpf", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        when(alteracaoPessoa.atualizar(ConstantsTestData.ID_VALIDO, alteracoes, null)).thenReturn(Optional.of(
+                new AlteracaoPessoa.Resultado(alterada, ConstantsTestData.CPF_VALIDO)));
+
+        assertSame(alterada, pessoaService.alterarParcialmente(ConstantsTestData.ID_VALIDO, alteracoes, null));
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(ConstantsTestData.ID_VALIDO,
+                ConstantsTestData.CPF_VALIDO, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        verify(pessoaRepository, never()).findById(any());
+    }
+
+    /**
+     * Testa a alteração parcial de pessoa inexistente e com CPF já cadastrado.
+     */
+    @Test
+    public void testAlterarParcialmenteFalhas() {
+        Map<String, Object> alteracoes = Map.of("cpf", ConstantsTestData.CPF_VALIDO);
+        when(alteracaoPessoa.atualizar(ConstantsTestData.ID_VALIDO, alteracoes, null)).thenReturn(Optional.empty());
+        assertThrows(PessoaNaoEncontradaException.class,
+                () -> pessoaService.alterarParcialmente(ConstantsTestData.ID_VALIDO, alteracoes, null));
+
+        when(alteracaoPessoa.atualizar(ConstantsTestData.ID_VALIDO, alteracoes, null))
+                .thenThrow(new DuplicateKeyException("duplicado"));
+        assertThrows(CpfJaCadastradoException.class,
+                () -> pessoaService.alterarParcialmente(ConstantsTestData.ID_VALIDO, alteracoes, null));
+        verifyNoInteractions(eventPublisher);
     }
 
     /**
-     * Testa a atualização de uma pessoa existente.
+     * Testa a atualização de uma pessoa existente: um único comando, sem carregar a pessoa antes.
      */
     @Test
     public void testAtualizarPessoaComSucesso() {
         Pessoa pessoaExistente = TestDataFactory.criarPessoaComEndereco();
         Pessoa pessoaAtualizada = TestDataFactory.criarPessoaAtualizada();
 
-        when(pessoaRepository.findById(pessoaExistente.getId())).thenReturn(Optional.of(pessoaExistente));
-        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoaAtualizada);
+        when(alteracaoPessoa.atualizar(eq(pessoaExistente.getId()), any(), isNull())).thenReturn(Optional.of(
+                new AlteracaoPessoa.Resultado(pessoaAtualizada, pessoaExistente.getCpf())));
 
         Pessoa resultado = pessoaService.atualizarPessoa(pessoaExistente.getId(), pessoaAtualizada);
 
         assertNotNull(resultado, "A pessoa atualizada não deve ser nula");
         assertEquals(pessoaAtualizada.getNome(), resultado.getNome(), "O nome deve ser atualizado");
-        verify(pessoaRepository, times(1)).findById(pessoaExistente.getId());
-        verify(pessoaRepository, times(1)).save(any(Pessoa.class));
+        verify(alteracaoPessoa).atualizar(eq(pessoaExistente.getId()), argThat(atributos ->
+                pessoaAtualizada.getNome().equals(atributos.get("nome"))
+                        && atributos.containsKey("endereco.cidade")), isNull());
+        verify(pessoaRepository, never()).findById(any());
+        verify(pessoaRepository, never()).save(any());
+    }
+
+    /**
+     * Testa que a atualização de CPF publica o CPF anterior e o novo, para invalidar ambos no cache.
+     */
+    @Test
+    public void testAtualizarPessoaComTrocaDeCpf() {
+        Pessoa pessoaExistente = TestDataFactory.criarPessoaComEndereco();
+        Pessoa pessoaAtualizada = TestDataFactory.criarPessoaComEndereco();
+        pessoaAtualizada.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+
+        when(alteracaoPessoa.atualizar(eq(pessoaExistente.getId()), any(), isNull())).thenReturn(Optional.of(
+                new AlteracaoPessoa.Resultado(pessoaAtualizada, ConstantsTestData.CPF_VALIDO)));
+
+        pessoaService.atualizarPessoa(pessoaExistente.getId(), pessoaAtualizada);
+
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(pessoaExistente.getId(),
+                ConstantsTestData.CPF_VALIDO, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+    }
+
+    /**
+     * Testa que, sem endereço, o endereço atual é mantido (a versão 1 não altera o endereço).
+     */
+    @Test
+    public void testAtualizarPessoaSemEndereco() {
+        Pessoa pessoaAtualizada = TestDataFactory.criarPessoaSemEndereco();
+        when(alteracaoPessoa.atualizar(eq(pessoaAtualizada.getId()), any(), isNull())).thenReturn(Optional.of(
+                new AlteracaoPessoa.Resultado(pessoaAtualizada, pessoaAtualizada.getCpf())));
+
+        pessoaService.atualizarPessoa(pessoaAtualizada.getId(), pessoaAtualizada);
+
+        verify(alteracaoPessoa).atualizar(eq(pessoaAtualizada.getId()),
+                argThat(atributos -> atributos.keySet().stream().noneMatch(atributo -> atributo.startsWith("endereco."))),
+                isNull());
     }
 
     /**
@@ -126,28 +251,43 @@ public class PessoaServiceTest {
         Long idNaoExistente = -999L;
         Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
 
-        when(pessoaRepository.findById(idNaoExistente)).thenReturn(Optional.empty());
+        when(alteracaoPessoa.atualizar(eq(idNaoExistente), any(), isNull())).thenReturn(Optional.empty());
 
         PessoaNaoEncontradaException exception = assertThrows(PessoaNaoEncontradaException.class,
                 () -> pessoaService.atualizarPessoa(idNaoExistente, pessoa));
 
         assertEquals("Pessoa com ID " + idNaoExistente + " não encontrada.", exception.getMessage());
-        verify(pessoaRepository, times(1)).findById(idNaoExistente);
+        verifyNoInteractions(eventPublisher);
     }
 
     /**
-     * Testa a remoção de uma pessoa existente.
+     * Testa que a versão esperada vai para o comando e que, se nenhuma linha for alterada com a
+     * pessoa existente, a versão é tida como desatualizada.
+     */
+    @Test
+    public void testAtualizarPessoaVersaoDesatualizada() {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        when(alteracaoPessoa.atualizar(eq(pessoa.getId()), any(), eq(2L))).thenReturn(Optional.empty());
+        when(pessoaRepository.existsById(pessoa.getId())).thenReturn(true);
+
+        assertThrows(VersaoDesatualizadaException.class, () -> pessoaService.atualizarPessoa(pessoa.getId(), pessoa, 2L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * Testa a remoção de uma pessoa existente com um único comando.
      */
     @Test
     public void testRemoverPessoaComSucesso() {
-        Long idValido = 1L;
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        Long idValido = pessoa.getId();
 
-        when(pessoaRepository.existsById(idValido)).thenReturn(true);
-        doNothing().when(pessoaRepository).deleteById(idValido);
+        when(alteracaoPessoa.remover(idValido, null)).thenReturn(Optional.of(pessoa.getCpf()));
 
         pessoaService.removerPessoa(idValido);
 
-        verify(pessoaRepository, times(1)).deleteById(idValido);
+        verify(pessoaRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(PessoaAlteradaEvent.de(idValido, pessoa.getCpf()));
     }
 
     /**
@@ -156,12 +296,175 @@ public class PessoaServiceTest {
     @Test
     public void testRemoverPessoaNaoExistente() {
         Long idInexistente = -999L;
-        when(pessoaRepository.existsById(idInexistente)).thenReturn(false);
+        when(alteracaoPessoa.remover(idInexistente, null)).thenReturn(Optional.empty());
 
         PessoaNaoEncontradaException exception = assertThrows(PessoaNaoEncontradaException.class,
                 () -> pessoaService.removerPessoa(idInexistente));
 
         assertEquals("Pessoa com ID " + idInexistente + " não encontrada.", exception.getMessage());
-        verify(pessoaRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * Testa a remoção condicionada a uma versão desatualizada e a uma pessoa inexistente.
+     */
+    @Test
+    public void testRemoverPessoaVersaoDesatualizada() {
+        when(alteracaoPessoa.remover(anyLong(), eq(4L))).thenReturn(Optional.empty());
+        when(pessoaRepository.existsById(ConstantsTestData.ID_VALIDO)).thenReturn(true);
+
+        assertThrows(VersaoDesatualizadaException.class, () -> pessoaService.removerPessoa(ConstantsTestData.ID_VALIDO, 4L));
+        assertThrows(PessoaNaoEncontradaException.class, () -> pessoaService.removerPessoa(-999L, 4L));
+    }
+
+    /**
+     * Testa a busca do resumo de uma pessoa pelo CPF.
+     */
+    @Test
+    public void testBuscarResumoPorCpf() {
+        PessoaResumo resumo = TestDataFactory.criarPessoaResumo(1L, ConstantsTestData.NOME_VALIDO);
+        when(pessoaRepository.findResumoByCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(Optional.of(resumo));
+
+        assertEquals(resumo, pessoaService.buscarResumoPorCpf(ConstantsTestData.CPF_VALIDO));
+        verify(pessoaRepository, never()).findByCpf(any());
+    }
+
+    /**
+     * Testa a busca do detalhe de uma pessoa inexistente pelo CPF.
+     */
+    @Test
+    public void testBuscarDetalhePorCpfNaoEncontrado() {
+        when(pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(Optional.empty());
+
+        assertThrows(PessoaNaoEncontradaException.class,
+                () -> pessoaService.buscarDetalhePorCpf(ConstantsTestData.CPF_VALIDO));
+    }
+
+    /**
+     * Testa a primeira página ordenada por ID, que deve indicar o cursor da próxima página.
+     */
+    @Test
+    public void testListarResumosPrimeiraPaginaPorId() {
+        PessoaResumo pessoa1 = TestDataFactory.criarPessoaResumo(1L, ConstantsTestData.NOME_VALIDO);
+        PessoaResumo pessoa2 = TestDataFactory.criarPessoaResumo(2L, ConstantsTestData.NOME_ALTERNATIVO);
+
+        when(pessoaRepository.findResumosAposId(0L, Limit.of(2))).thenReturn(List.of(pessoa1, pessoa2));
+
+        PaginaCursor<PessoaResumo> pagina = pessoaService.listarResumos(null, 1, "id");
+
+        assertEquals(List.of(pessoa1), pagina.itens(), "A página deve conter apenas o limite solicitado");
+        assertNotNull(pagina.proximoCursor(), "Deve haver cursor para a próxima página");
+        PessoaCursor cursor = PessoaCursor.decodificar(pagina.proximoCursor());
+        assertEquals(OrdenacaoPessoa.ID, cursor.ordenacao());
+        assertEquals(1L, cursor.id());
+    }
+
+    /**
+     * Testa a continuação da listagem ordenada por nome a partir de um cursor.
+     */
+    @Test
+    public void testListarDetalhesPorNomeAPartirDoCursor() {
+        String cursor = new PessoaCursor(OrdenacaoPessoa.NOME, 1L, ConstantsTestData.NOME_VALIDO).codificar();
+        PessoaDetalhe pessoa = TestDataFactory.criarPessoaDetalhe(2L, ConstantsTestData.NOME_ALTERNATIVO);
+
+        when(pessoaRepository.findDetalhesAposNome(ConstantsTestData.NOME_VALIDO, 1L, Limit.of(11)))
+                .thenReturn(List.of(pessoa));
+
+        PaginaCursor<PessoaDetalhe> pagina = pessoaService.listarDetalhes(cursor, 10, "nome");
+
+        assertEquals(List.of(pessoa), pagina.itens());
+        assertNull(pagina.proximoCursor(), "A última página não deve ter cursor");
+    }
+
+    /**
+     * Testa a rejeição de limites fora do intervalo permitido.
+     */
+    @Test
+    public void testListarComLimiteInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> pessoaService.listarResumos(null, 0, "id"));
+        assertThrows(IllegalArgumentException.class,
+                () -> pessoaService.listarDetalhes(null, PessoaService.LIMITE_MAXIMO_PAGINA + 1, "id"));
+        verifyNoInteractions(pessoaRepository);
+    }
+
+    /**
+     * Testa a rejeição de um cursor gerado para outra ordenação.
+     */
+    @Test
+    public void testListarComCursorDeOutraOrdenacao() {
+        String cursor = new PessoaCursor(OrdenacaoPessoa.ID, 10L, null).codificar();
+
+        assertThrows(IllegalArgumentException.class, () -> pessoaService.listarResumos(cursor, 10, "nome"));
+        verifyNoInteractions(pessoaRepository);
+    }
+
+    /**
+     * Testa a busca filtrada, que é sempre paginada por ID.
+     */
+    @Test
+    public void testBuscarDetalhes() {
+        PessoaDetalhe pessoa = TestDataFactory.criarPessoaDetalhe(1L, ConstantsTestData.NOME_VALIDO);
+        FiltroPessoaDTO filtro = FiltroPessoaDTO.builder().nome("jo").estado("RJ").build();
+
+        when(pessoaRepository.buscarDetalhes(any(), eq(0L), eq(11))).thenReturn(List.of(pessoa));
+
+        PaginaCursor<PessoaDetalhe> pagina = pessoaService.buscarDetalhes(filtro, null, 10);
+
+        assertEquals(List.of(pessoa), pagina.itens());
+        assertNull(pagina.proximoCursor());
+    }
+
+    /**
+     * Testa que filtros em branco, inclusive o prefixo do nome, são ignorados: sem filtros
+     * preenchidos, a consulta não recebe condição.
+     */
+    @Test
+    public void testBuscarDetalhesComFiltrosEmBranco() {
+        FiltroPessoaDTO filtro = FiltroPessoaDTO.builder().nome("   ").email("").cidade(" ").build();
+
+        when(pessoaRepository.buscarDetalhes(isNull(), eq(0L), eq(11))).thenReturn(List.of());
+
+        assertTrue(pessoaService.buscarDetalhes(filtro, null, 10).itens().isEmpty());
+        assertTrue(pessoaService.buscarDetalhes(new FiltroPessoaDTO(), null, 10).itens().isEmpty());
+        verify(pessoaRepository, times(2)).buscarDetalhes(isNull(), eq(0L), eq(11));
+    }
+
+    /**
+     * Testa a rejeição de um intervalo de nascimento invertido.
+     */
+    @Test
+    public void testBuscarDetalhesComIntervaloInvalido() {
+        FiltroPessoaDTO filtro = FiltroPessoaDTO.builder()
+                .nascimentoDe(LocalDate.of(2000, 1, 1))
+                .nascimentoAte(LocalDate.of(1990, 1, 1))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> pessoaService.buscarDetalhes(filtro, null, 10));
+        verifyNoInteractions(pessoaRepository);
+    }
+
+    /**
+     * Testa a busca aproximada por nome, que deve preservar a ordem de similaridade.
+     */
+    @Test
+    public void testBuscarPorNomeAproximado() {
+        PessoaDetalhe joao = TestDataFactory.criarPessoaDetalhe(1L, ConstantsTestData.NOME_VALIDO);
+        PessoaDetalhe juliana = TestDataFactory.criarPessoaDetalhe(2L, ConstantsTestData.NOME_ALTERNATIVO);
+
+        when(buscaNomeAproximada.buscarIds("joao", 10)).thenReturn(List.of(2L, 1L));
+        when(pessoaRepository.findDetalhesByIdIn(List.of(2L, 1L))).thenReturn(List.of(joao, juliana));
+
+        assertEquals(List.of(juliana, joao), pessoaService.buscarPorNomeAproximado(" joao ", 10));
+    }
+
+    /**
+     * Testa a rejeição de nome vazio e de limite inválido na busca aproximada.
+     */
+    @Test
+    public void testBuscarPorNomeAproximadoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> pessoaService.buscarPorNomeAproximado(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> pessoaService.buscarPorNomeAproximado("joao",
+                PessoaService.LIMITE_MAXIMO_BUSCA_APROXIMADA + 1));
+        verifyNoInteractions(buscaNomeAproximada);
     }
 }
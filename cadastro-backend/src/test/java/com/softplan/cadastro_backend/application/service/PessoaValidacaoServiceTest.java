@@ -0,0 +1,146 @@
+package com.softplan.cadastro_backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.ItemValidacaoDTO;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.infrastructure.persistence.PessoaJdbcRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link PessoaValidacaoService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PessoaValidacaoServiceTest {
+
+    private static final String CPF_TERCEIRO = "11144477735";
+
+    @Mock
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    private ObjectMapper objectMapper;
+    private PessoaValidacaoService pessoaValidacaoService;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pessoaValidacaoService = new PessoaValidacaoService(pessoaJdbcRepository, objectMapper, 2, 500);
+    }
+
+    @AfterEach
+    public void encerrar() {
+        pessoaValidacaoService.destroy();
+    }
+
+    private List<ItemValidacaoDTO> validar(Object... itens) throws Exception {
+        return validar(objectMapper.writeValueAsString(itens));
+    }
+
+    private List<ItemValidacaoDTO> validar(String corpo) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaValidacaoService.validar(pessoaValidacaoService.abrir(
+                new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8))), saida);
+        List<ItemValidacaoDTO> itens = new ArrayList<>();
+        for (String linha : saida.toString(StandardCharsets.UTF_8).split("\n")) {
+            itens.add(objectMapper.readValue(linha, ItemValidacaoDTO.class));
+        }
+        return itens;
+    }
+
+    private static PessoaDTOV2 pessoa(String cpf) {
+        PessoaDTOV2 dto = TestDataFactory.criarPessoaDTOV2();
+        dto.setCpf(cpf);
+        return dto;
+    }
+
+    /**
+     * Testa a validação de cada item: regras do cadastro, CPF cadastrado e CPF repetido no lote,
+     * com uma única consulta ao banco.
+     */
+    @Test
+    public void testValidar() throws Exception {
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any()))
+                .thenReturn(new long[]{Long.parseLong(ConstantsTestData.CPF_VALIDO_ALTERNATIVO)});
+
+        List<ItemValidacaoDTO> itens = validar(pessoa(ConstantsTestData.CPF_VALIDO),
+                pessoa(ConstantsTestData.CPF_INVALIDO), pessoa(ConstantsTestData.CPF_VALIDO_ALTERNATIVO),
+                pessoa(ConstantsTestData.CPF_VALIDO), "texto");
+
+        assertEquals(List.of(
+                ItemValidacaoDTO.valido(0),
+                ItemValidacaoDTO.invalido(1, "CPF inválido"),
+                ItemValidacaoDTO.invalido(2, PessoaLoteService.CPF_DUPLICADO),
+                ItemValidacaoDTO.invalido(3, PessoaLoteService.CPF_DUPLICADO)), itens.subList(0, 4));
+        assertFalse(itens.get(4).isValido());
+        verify(pessoaJdbcRepository).buscarCpfsCadastrados(new long[]{
+                Long.parseLong(ConstantsTestData.CPF_VALIDO), Long.parseLong(ConstantsTestData.CPF_VALIDO_ALTERNATIVO),
+                Long.parseLong(ConstantsTestData.CPF_VALIDO)});
+    }
+
+    /**
+     * Testa a validação em blocos: uma consulta por bloco, com CPFs repetidos entre blocos e os
+     * índices contínuos na saída.
+     */
+    @Test
+    public void testValidarEmBlocos() throws Exception {
+        pessoaValidacaoService.destroy();
+        pessoaValidacaoService = new PessoaValidacaoService(pessoaJdbcRepository, objectMapper, 2, 2);
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[0]);
+
+        List<ItemValidacaoDTO> itens = validar(pessoa(CPF_TERCEIRO), pessoa(ConstantsTestData.CPF_INVALIDO),
+                pessoa(ConstantsTestData.CPF_VALIDO), pessoa(CPF_TERCEIRO), pessoa(ConstantsTestData.CPF_VALIDO));
+
+        assertEquals(List.of(
+                ItemValidacaoDTO.valido(0),
+                ItemValidacaoDTO.invalido(1, "CPF inválido"),
+                ItemValidacaoDTO.valido(2),
+                ItemValidacaoDTO.invalido(3, PessoaLoteService.CPF_DUPLICADO),
+                ItemValidacaoDTO.invalido(4, PessoaLoteService.CPF_DUPLICADO)), itens);
+        verify(pessoaJdbcRepository, times(3)).buscarCpfsCadastrados(any());
+    }
+
+    /**
+     * Testa que o JSON malformado no meio do array encerra a leitura com os itens anteriores
+     * validados e a posição malformada como último item.
+     */
+    @Test
+    public void testJsonMalformadoNoMeioDoArray() throws Exception {
+        when(pessoaJdbcRepository.buscarCpfsCadastrados(any())).thenReturn(new long[0]);
+        String primeiro = objectMapper.writeValueAsString(pessoa(ConstantsTestData.CPF_VALIDO));
+
+        List<ItemValidacaoDTO> itens = validar("[" + primeiro + ", {\"nome\": }]");
+
+        assertEquals(2, itens.size());
+        assertTrue(itens.get(0).isValido());
+        assertEquals(1, itens.get(1).getIndice());
+        assertFalse(itens.get(1).isValido());
+        assertTrue(itens.get(1).getErro().endsWith(PessoaLoteService.LEITURA_INTERROMPIDA));
+    }
+
+    /**
+     * Testa que o corpo que não é um array é rejeitado.
+     */
+    @Test
+    public void testCorpoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> pessoaValidacaoService.abrir(
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))));
+        verifyNoInteractions(pessoaJdbcRepository);
+    }
+}
@@ -0,0 +1,45 @@
+package com.softplan.cadastro_backend.domain.converter;
+
+import com.softplan.cadastro_backend.util.CPFUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o conversor {@link CpfConverter}.
+ */
+public class CpfConverterTest {
+
+    private final CpfConverter converter = new CpfConverter();
+
+    /**
+     * Testa a conversão para a coluna numérica, com ou sem formatação.
+     */
+    @Test
+    public void testParaColuna() {
+        assertEquals(52998224725L, converter.convertToDatabaseColumn("52998224725"));
+        assertEquals(52998224725L, converter.convertToDatabaseColumn("529.982.247-25"));
+        assertEquals(191L, converter.convertToDatabaseColumn("00000000191"));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    /**
+     * Testa que textos que não podem ser CPF não correspondem a nenhum valor gravado.
+     */
+    @Test
+    public void testParaColunaInvalido() {
+        assertEquals(CPFUtil.CPF_INVALIDO, converter.convertToDatabaseColumn(""));
+        assertEquals(CPFUtil.CPF_INVALIDO, converter.convertToDatabaseColumn("abc"));
+        assertEquals(CPFUtil.CPF_INVALIDO, converter.convertToDatabaseColumn("529982247250"));
+    }
+
+    /**
+     * Testa a leitura da coluna, com os zeros à esquerda restaurados.
+     */
+    @Test
+    public void testDeColuna() {
+        assertEquals("00000000191", converter.convertToEntityAttribute(191L));
+        assertEquals("52998224725", converter.convertToEntityAttribute(52998224725L));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
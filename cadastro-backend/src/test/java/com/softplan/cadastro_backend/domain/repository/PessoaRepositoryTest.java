@@ -1,16 +1,30 @@
 package com.softplan.cadastro_backend.domain.repository;
 
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import com.softplan.cadastro_backend.domain.repository.specification.PessoaSpecifications;
 import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,6 +83,25 @@ public class PessoaRepositoryTest {
         assertTrue(found.isPresent(), "Pessoa deve ser encontrada pelo CPF.");
     }
 
+    /**
+     * Verifica que o CPF, gravado como número, mantém os zeros à esquerda na leitura e nas consultas.
+     */
+    @Test
+    public void testCpfComZerosAEsquerda() {
+        Pessoa pessoa = TestDataFactory.criarPessoaValida();
+        pessoa.setCpf("00000000191");
+        pessoaRepository.save(pessoa);
+        entityManager.flush();
+        entityManager.clear();
+
+        Optional<Pessoa> found = pessoaRepository.findByCpf("00000000191");
+        assertTrue(found.isPresent(), "Pessoa deve ser encontrada pelo CPF com zeros à esquerda.");
+        assertEquals("00000000191", found.get().getCpf());
+        assertEquals("00000000191", pessoaRepository.findDetalheByCpf("00000000191").orElseThrow().cpf());
+        assertEquals(191L, ((Number) entityManager.createNativeQuery("select cpf from pessoa where id = :id")
+                .setParameter("id", found.get().getId()).getSingleResult()).longValue());
+    }
+
     /**
      * Verifica se o CPF é único, lançando exceção ao persistir duplicado.
      */
@@ -96,10 +129,9 @@ public class PessoaRepositoryTest {
                 .cpf(ConstantsTestData.CPF_VALIDO)
                 .build();
 
-        assertThrows(DataIntegrityViolationException.class, () -> {
-            pessoaRepository.save(pessoa2);
-            entityManager.flush();
-        }, "Deve lançar exceção ao tentar salvar uma pessoa com CPF duplicado.");
+        // Com IDs de sequência o INSERT só ocorre no flush; saveAndFlush o executa pelo repositório
+        assertThrows(DataIntegrityViolationException.class, () -> pessoaRepository.saveAndFlush(pessoa2),
+                "Deve lançar exceção ao tentar salvar uma pessoa com CPF duplicado.");
     }
 
     /**
@@ -134,4 +166,167 @@ public class PessoaRepositoryTest {
         List<Pessoa> pessoas = pessoaRepository.findAll();
         assertEquals(2, pessoas.size(), "Deve retornar 2 pessoas.");
     }
+
+    /**
+     * Testa as consultas de busca usadas pela paginação por cursor.
+     */
+    @Test
+    public void testPaginacaoPorCursor() {
+        Pessoa juliana = pessoaRepository.save(Pessoa.builder()
+                .nome(ConstantsTestData.NOME_ALTERNATIVO)
+                .sexo(ConstantsTestData.SEXO_VALIDO)
+                .dataNascimento(ConstantsTestData.DATA_NASCIMENTO_VALIDA)
+                .cpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO)
+                .build());
+        Pessoa joao = pessoaRepository.save(Pessoa.builder()
+                .nome(ConstantsTestData.NOME_VALIDO)
+                .sexo(ConstantsTestData.SEXO_VALIDO)
+                .dataNascimento(ConstantsTestData.DATA_NASCIMENTO_VALIDA)
+                .cpf(ConstantsTestData.CPF_VALIDO)
+                .build());
+        entityManager.flush();
+
+        List<PessoaResumo> porId = pessoaRepository.findResumosAposId(juliana.getId(), Limit.of(10));
+        assertEquals(List.of(joao.getId()), porId.stream().map(PessoaResumo::id).toList());
+
+        List<PessoaResumo> primeiraPorNome = pessoaRepository.findResumosAposNome("", 0L, Limit.of(1));
+        assertEquals(List.of(joao.getId()), primeiraPorNome.stream().map(PessoaResumo::id).toList());
+
+        List<PessoaDetalhe> segundaPorNome = pessoaRepository.findDetalhesAposNome(joao.getNome(), joao.getId(), Limit.of(1));
+        assertEquals(List.of(juliana.getId()), segundaPorNome.stream().map(PessoaDetalhe::id).toList());
+
+        List<PessoaDetalhe> detalhesPorId = pessoaRepository.findDetalhesAposId(0L, Limit.of(10));
+        assertEquals(2, detalhesPorId.size());
+    }
+
+    /**
+     * Testa as projeções por CPF: apenas as colunas de cada versão, sem entidades gerenciadas.
+     */
+    @Test
+    public void testProjecoesPorCpf() {
+        Pessoa pessoa = Pessoa.builder()
+                .nome(ConstantsTestData.NOME_VALIDO)
+                .sexo(ConstantsTestData.SEXO_VALIDO)
+                .email(ConstantsTestData.EMAIL_VALIDO)
+                .dataNascimento(ConstantsTestData.DATA_NASCIMENTO_VALIDA)
+                .cpf(ConstantsTestData.CPF_VALIDO)
+                .endereco(TestDataFactory.criarEndereco())
+                .build();
+        pessoaRepository.save(pessoa);
+        entityManager.flush();
+        entityManager.clear();
+
+        Optional<PessoaResumo> resumo = pessoaRepository.findResumoByCpf(ConstantsTestData.CPF_VALIDO);
+        Optional<PessoaDetalhe> detalhe = pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO);
+
+        assertTrue(resumo.isPresent());
+        assertEquals(ConstantsTestData.NOME_VALIDO, resumo.get().nome());
+        assertTrue(detalhe.isPresent());
+        assertEquals(TestDataFactory.criarEndereco(), detalhe.get().endereco());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount(),
+                "As projeções não devem carregar entidades no contexto de persistência");
+        assertTrue(pessoaRepository.findResumoByCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO).isEmpty());
+    }
+
+    /**
+     * Testa a versão lida nas projeções, que deve mudar quando a pessoa é alterada.
+     */
+    @Test
+    public void testVersaoNasProjecoes() {
+        Pessoa pessoa = pessoaRepository.save(TestDataFactory.criarPessoaComEndereco());
+        entityManager.flush();
+        entityManager.clear();
+
+        PessoaDetalhe detalhe = pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO).orElseThrow();
+        assertEquals(pessoa.getId(), detalhe.id());
+        assertEquals(0, detalhe.versao());
+        assertEquals(0, pessoaRepository.findResumosAposId(0L, Limit.of(10)).get(0).versao());
+
+        Pessoa gerenciada = pessoaRepository.findById(pessoa.getId()).orElseThrow();
+        gerenciada.setNome(ConstantsTestData.NOME_ALTERNATIVO);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO).orElseThrow().versao(),
+                "A versão deve mudar quando a pessoa é alterada");
+        assertEquals(1, pessoaRepository.buscarDetalhes(null, 0L, 10).get(0).versao());
+    }
+
+    /**
+     * Testa a busca filtrada: filtros combinados, sem diferenciar maiúsculas, e paginação por ID.
+     */
+    @Test
+    public void testBuscarDetalhesComFiltros() {
+        Pessoa joao = pessoaRepository.save(Pessoa.builder()
+                .nome(ConstantsTestData.NOME_VALIDO)
+                .sexo(SexoEnum.MASCULINO)
+                .email(ConstantsTestData.EMAIL_VALIDO)
+                .dataNascimento(ConstantsTestData.DATA_NASCIMENTO_VALIDA)
+                .cpf(ConstantsTestData.CPF_VALIDO)
+                .endereco(TestDataFactory.criarEndereco())
+                .build());
+        Pessoa juliana = pessoaRepository.save(Pessoa.builder()
+                .nome(ConstantsTestData.NOME_ALTERNATIVO)
+                .sexo(SexoEnum.FEMININO)
+                .dataNascimento(LocalDate.of(1975, 1, 1))
+                .cpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO)
+                .endereco(TestDataFactory.criarEndereco())
+                .build());
+        entityManager.flush();
+
+        Specification<Pessoa> porNome = PessoaSpecifications.nomeComecaCom("JU");
+        assertEquals(List.of(juliana.getId()), ids(pessoaRepository.buscarDetalhes(porNome, 0L, 10)));
+
+        Specification<Pessoa> porEnderecoEPeriodo = Specification.where(PessoaSpecifications.cidadeIgual("rio de janeiro"))
+                .and(PessoaSpecifications.estadoIgual("rj"))
+                .and(PessoaSpecifications.cepIgual(ConstantsTestData.CEP))
+                .and(PessoaSpecifications.nascidoEntre(LocalDate.of(1980, 1, 1), null));
+        assertEquals(List.of(joao.getId()), ids(pessoaRepository.buscarDetalhes(porEnderecoEPeriodo, 0L, 10)));
+
+        Specification<Pessoa> porEmailESexo = Specification.where(PessoaSpecifications.emailIgual("JOAO@EMAIL.COM"))
+                .and(PessoaSpecifications.sexoIgual(SexoEnum.FEMININO));
+        assertTrue(pessoaRepository.buscarDetalhes(porEmailESexo, 0L, 10).isEmpty());
+
+        assertTrue(pessoaRepository.buscarDetalhes(PessoaSpecifications.nomeComecaCom("%"), 0L, 10).isEmpty(),
+                "Curingas do LIKE devem ser tratados como texto");
+
+        List<PessoaDetalhe> semFiltro = pessoaRepository.buscarDetalhes(null, 0L, 1);
+        assertEquals(List.of(joao.getId()), ids(semFiltro));
+        assertEquals(List.of(juliana.getId()), ids(pessoaRepository.buscarDetalhes(null, joao.getId(), 1)));
+    }
+
+    /**
+     * Testa as consultas com campos solicitados, que leem apenas as colunas desses campos.
+     */
+    @Test
+    public void testBuscarCampos() {
+        Pessoa joao = TestDataFactory.criarPessoaComEndereco();
+        joao.setId(null);
+        joao = pessoaRepository.save(joao);
+        Pessoa juliana = TestDataFactory.criarPessoaComEndereco();
+        juliana.setId(null);
+        juliana.setNome(ConstantsTestData.NOME_ALTERNATIVO);
+        juliana.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        juliana = pessoaRepository.save(juliana);
+        entityManager.flush();
+
+        Set<CampoPessoa> campos = EnumSet.of(CampoPessoa.CPF, CampoPessoa.ENDERECO);
+
+        List<PessoaCampos> porId = pessoaRepository.buscarCamposAposId(campos, 0L, 10);
+        assertEquals(List.of(joao.getId(), juliana.getId()), porId.stream().map(PessoaCampos::id).toList());
+        assertEquals(List.of(CampoPessoa.CPF, CampoPessoa.ENDERECO), List.copyOf(porId.get(0).valores().keySet()));
+        assertEquals(TestDataFactory.criarEndereco(), porId.get(0).valores().get(CampoPessoa.ENDERECO));
+
+        List<PessoaCampos> porNome = pessoaRepository.buscarCamposAposNome(campos, joao.getNome(), joao.getId(), 10);
+        assertEquals(List.of(juliana.getId()), porNome.stream().map(PessoaCampos::id).toList());
+
+        Optional<PessoaCampos> porCpf = pessoaRepository.buscarCamposPorCpf(EnumSet.of(CampoPessoa.NOME),
+                ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        assertTrue(porCpf.isPresent());
+        assertEquals(Map.of(CampoPessoa.NOME, ConstantsTestData.NOME_ALTERNATIVO), porCpf.get().valores());
+    }
+
+    private static List<Long> ids(List<PessoaDetalhe> detalhes) {
+        return detalhes.stream().map(PessoaDetalhe::id).toList();
+    }
 }
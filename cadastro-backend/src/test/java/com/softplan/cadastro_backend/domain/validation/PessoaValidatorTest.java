@@ -3,10 +3,13 @@ package com.softplan.cadastro_backend.domain.validation;
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
 import com.softplan.cadastro_backend.application.validation.PessoaValidator;
+import com.softplan.cadastro_backend.application.validation.ResultadoValidacao;
+import com.softplan.cadastro_backend.presentation.exception.DomainValidationException;
 import com.softplan.cadastro_backend.utils.ConstantsTestData;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,7 +50,7 @@ public class PessoaValidatorTest {
                 .cpf(ConstantsTestData.CPF_VALIDO)
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+        DomainValidationException exception = assertThrows(DomainValidationException.class, () ->
                 PessoaValidator.validarPessoaDTO(pessoaDTO)
         );
 
@@ -67,7 +70,7 @@ public class PessoaValidatorTest {
                 .cpf(ConstantsTestData.CPF_VALIDO)
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+        DomainValidationException exception = assertThrows(DomainValidationException.class, () ->
                 PessoaValidator.validarPessoaDTO(pessoaDTO)
         );
 
@@ -88,7 +91,7 @@ public class PessoaValidatorTest {
                 .endereco(null)
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+        DomainValidationException exception = assertThrows(DomainValidationException.class, () ->
                 PessoaValidator.validarPessoaDTOV2(pessoaDTOV2)
         );
 
@@ -103,7 +106,7 @@ public class PessoaValidatorTest {
                 .cpf("52998224725")
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> PessoaValidator.validarPessoaDTO(dto));
         assertEquals("Nome é obrigatório", exception.getMessage());
     }
@@ -116,7 +119,7 @@ public class PessoaValidatorTest {
                 .cpf("52998224725")
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> PessoaValidator.validarPessoaDTO(dto));
         assertEquals("Data de nascimento é obrigatória", exception.getMessage());
     }
@@ -129,7 +132,7 @@ public class PessoaValidatorTest {
                 .cpf("52998224725")
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> PessoaValidator.validarPessoaDTO(dto));
         assertEquals("Data de nascimento não pode ser futura", exception.getMessage());
     }
@@ -142,7 +145,7 @@ public class PessoaValidatorTest {
                 .cpf("123") // CPF inválido
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> PessoaValidator.validarPessoaDTO(dto));
         assertEquals("CPF inválido", exception.getMessage());
     }
@@ -156,7 +159,7 @@ public class PessoaValidatorTest {
                 .email("gabrielemail.com") // email sem @
                 .build();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
                 () -> PessoaValidator.validarPessoaDTO(dto));
         assertEquals("Email inválido", exception.getMessage());
     }
@@ -173,4 +176,40 @@ public class PessoaValidatorTest {
         // Não deve lançar exceção
         assertDoesNotThrow(() -> PessoaValidator.validarPessoaDTO(dto));
     }
+
+    /**
+     * Verifica se todas as regras violadas são informadas de uma só vez.
+     */
+    @Test
+    public void testValidarPessoaDTOV2_TodosOsErros() {
+        PessoaDTOV2 dto = PessoaDTOV2.builder()
+                .nome(" ")
+                .dataNascimento(LocalDate.now().plusDays(1))
+                .cpf("123")
+                .email("gabrielemail.com")
+                .build();
+
+        DomainValidationException exception = assertThrows(DomainValidationException.class,
+                () -> PessoaValidator.validarPessoaDTOV2(dto));
+        assertEquals(List.of("Nome é obrigatório", "Data de nascimento não pode ser futura", "CPF inválido",
+                "Email inválido", "Endereço é obrigatório para a versão 2"), exception.getErrors());
+    }
+
+    /**
+     * Verifica o resultado da validação sem exceção.
+     */
+    @Test
+    public void testVerificarPessoaDTO() {
+        PessoaDTO dto = PessoaDTO.builder()
+                .nome("Gabriel")
+                .cpf("52998224725")
+                .build();
+
+        ResultadoValidacao resultado = PessoaValidator.verificarPessoaDTO(dto);
+
+        assertFalse(resultado.isValido());
+        assertEquals(List.of("Data de nascimento é obrigatória"), resultado.getErros());
+        dto.setDataNascimento(LocalDate.of(1990, 1, 1));
+        assertTrue(PessoaValidator.verificarPessoaDTO(dto).isValido());
+    }
 }
@@ -0,0 +1,168 @@
+package com.softplan.cadastro_backend.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
+import com.softplan.cadastro_backend.application.mapper.PessoaMapperImpl;
+import com.softplan.cadastro_backend.application.service.PessoaService;
+import com.softplan.cadastro_backend.domain.event.PessoaAlteradaEvent;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.infrastructure.config.CacheConfig;
+import com.softplan.cadastro_backend.infrastructure.persistence.AlteracaoPessoa;
+import com.softplan.cadastro_backend.infrastructure.persistence.BuscaNomeAproximada;
+import com.softplan.cadastro_backend.infrastructure.persistence.GravacaoPorCpf;
+import com.softplan.cadastro_backend.infrastructure.persistence.InclusaoAgrupadaPessoa;
+import com.softplan.cadastro_backend.presentation.controller.PessoaControllerV2;
+import com.softplan.cadastro_backend.presentation.exception.GlobalExceptionHandler;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes do cache das consultas por CPF e da sua invalidação pelo {@link PessoaCacheInvalidator}.
+ */
+@SpringJUnitConfig
+public class PessoaCacheInvalidatorTest {
+
+    private static final String CPF_FORMATADO = "151.241.277-59";
+
+    @Configuration
+    @Import({CacheConfig.class, PessoaService.class, PessoaCacheInvalidator.class})
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.PESSOAS_POR_CPF, CacheConfig.RESUMOS_POR_CPF);
+        }
+    }
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaCacheInvalidator invalidator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private PessoaRepository pessoaRepository;
+
+    @MockitoBean
+    private BuscaNomeAproximada buscaNomeAproximada;
+
+    @MockitoBean
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockitoBean
+    private GravacaoPorCpf gravacaoPorCpf;
+
+    @MockitoBean
+    private AlteracaoPessoa alteracaoPessoa;
+
+    @MockitoBean
+    private InclusaoAgrupadaPessoa inclusaoAgrupada;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final PessoaDetalhe detalhe = TestDataFactory.criarPessoaDetalhe(1L, ConstantsTestData.NOME_VALIDO);
+
+    /**
+     * Limpa os caches antes de cada teste.
+     */
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+        when(pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(Optional.of(detalhe));
+    }
+
+    /**
+     * Testa que consultas repetidas pelo mesmo CPF são atendidas pelo cache.
+     */
+    @Test
+    public void testConsultaRepetidaUsaCache() {
+        assertEquals(detalhe, pessoaService.buscarDetalhePorCpf(ConstantsTestData.CPF_VALIDO));
+        assertEquals(detalhe, pessoaService.buscarDetalhePorCpf(ConstantsTestData.CPF_VALIDO));
+
+        verify(pessoaRepository, times(1)).findDetalheByCpf(ConstantsTestData.CPF_VALIDO);
+    }
+
+    /**
+     * Testa que a alteração remove do cache o CPF anterior e o novo.
+     */
+    @Test
+    public void testAlteracaoInvalidaCpfs() {
+        pessoaService.buscarDetalhePorCpf(ConstantsTestData.CPF_VALIDO);
+        cacheManager.getCache(CacheConfig.PESSOAS_POR_CPF).put(ConstantsTestData.CPF_VALIDO_ALTERNATIVO, detalhe);
+
+        invalidator.aoAlterarPessoa(PessoaAlteradaEvent.de(1L,
+                ConstantsTestData.CPF_VALIDO, ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+        pessoaService.buscarDetalhePorCpf(ConstantsTestData.CPF_VALIDO);
+
+        verify(pessoaRepository, times(2)).findDetalheByCpf(ConstantsTestData.CPF_VALIDO);
+        assertNull(cacheManager.getCache(CacheConfig.PESSOAS_POR_CPF).get(ConstantsTestData.CPF_VALIDO_ALTERNATIVO));
+    }
+
+    /**
+     * Testa que, consultada com o CPF formatado, a pessoa é lida de novo após ser gravada: a
+     * entrada do cache usa apenas os dígitos, os mesmos do evento de alteração.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testConsultaComCpfFormatadoAposGravacao() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaControllerV2(pessoaService, new PessoaMapperImpl(),
+                        null, null, null, null, null, null, null))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        PessoaDetalhe atualizado = TestDataFactory.criarPessoaDetalhe(1L, ConstantsTestData.NOME_ALTERNATIVO);
+        when(pessoaRepository.findDetalheByCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(Optional.of(detalhe),
+                Optional.of(atualizado));
+        // Entrega o evento ao invalidador como na confirmação da transação
+        doAnswer(invocacao -> {
+            invalidator.aoAlterarPessoa(invocacao.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+        PessoaDTOV2 pessoaDTOV2 = TestDataFactory.criarPessoaDTOV2();
+        pessoaDTOV2.setNome(ConstantsTestData.NOME_ALTERNATIVO);
+        pessoaDTOV2.setCpf(null);
+
+        mockMvc.perform(get("/api/v2/pessoas/cpf/{cpf}", CPF_FORMATADO))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value(ConstantsTestData.NOME_VALIDO));
+        mockMvc.perform(put("/api/v2/pessoas/cpf/{cpf}", CPF_FORMATADO)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(pessoaDTOV2)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v2/pessoas/cpf/{cpf}", CPF_FORMATADO))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value(ConstantsTestData.NOME_ALTERNATIVO));
+
+        verify(pessoaRepository, times(2)).findDetalheByCpf(ConstantsTestData.CPF_VALIDO);
+    }
+}
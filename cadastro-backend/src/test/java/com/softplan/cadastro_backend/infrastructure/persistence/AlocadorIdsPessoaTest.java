@@ -0,0 +1,44 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link AlocadorIdsPessoa}.
+ */
+public class AlocadorIdsPessoaTest {
+
+    /**
+     * Testa a alocação em blocos: uma leitura da sequência a cada 50 IDs, como o otimizador pooled.
+     */
+    @Test
+    public void testAlocarEmBlocos() {
+        DataFieldMaxValueIncrementer sequencia = mock(DataFieldMaxValueIncrementer.class);
+        when(sequencia.nextLongValue()).thenReturn(150L, 200L);
+        AlocadorIdsPessoa alocador = new AlocadorIdsPessoa(sequencia);
+
+        long[] ids = LongStream.range(0, 60).map(i -> alocador.proximo()).toArray();
+
+        assertArrayEquals(LongStream.rangeClosed(101, 160).toArray(), ids);
+        verify(sequencia, times(2)).nextLongValue();
+    }
+
+    /**
+     * Testa que o primeiro valor de uma sequência nova (1) não gera IDs menores que 1.
+     */
+    @Test
+    public void testSequenciaNova() {
+        DataFieldMaxValueIncrementer sequencia = mock(DataFieldMaxValueIncrementer.class);
+        when(sequencia.nextLongValue()).thenReturn(1L, 51L);
+        AlocadorIdsPessoa alocador = new AlocadorIdsPessoa(sequencia);
+
+        assertEquals(1L, alocador.proximo());
+        assertEquals(2L, alocador.proximo());
+        assertEquals(51L, LongStream.range(0, 49).map(i -> alocador.proximo()).max().orElseThrow());
+    }
+}
@@ -0,0 +1,145 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.config.AlteracaoPessoaConfig;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a {@link AlteracaoPessoa} no H2.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+@Import(AlteracaoPessoaConfig.class)
+public class AlteracaoPessoaTest {
+
+    @Autowired
+    private AlteracaoPessoa alteracaoPessoa;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Testa que somente as colunas informadas são alteradas e que o CPF anterior é devolvido.
+     */
+    @Test
+    public void testAtualizarColunasInformadas() {
+        Pessoa existente = TestDataFactory.criarPessoaComEndereco();
+        existente.setId(null);
+        existente = pessoaRepository.saveAndFlush(existente);
+        entityManager.clear();
+
+        Map<String, Object> alteracoes = new LinkedHashMap<>();
+        alteracoes.put("nome", ConstantsTestData.NOME_ALTERNATIVO);
+        alteracoes.put("sexo", SexoEnum.NAO_DEFINIDO);
+        alteracoes.put("email", null);
+        alteracoes.put("cpf", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        alteracoes.put("endereco.cidade", "Florianópolis");
+
+        AlteracaoPessoa.Resultado resultado = alteracaoPessoa.atualizar(existente.getId(), alteracoes, null)
+                .orElseThrow();
+
+        assertEquals(ConstantsTestData.CPF_VALIDO, resultado.cpfAnterior());
+        Pessoa alterada = resultado.pessoa();
+        assertEquals(ConstantsTestData.NOME_ALTERNATIVO, alterada.getNome());
+        assertEquals(SexoEnum.NAO_DEFINIDO, alterada.getSexo());
+        assertNull(alterada.getEmail());
+        assertEquals(ConstantsTestData.CPF_VALIDO_ALTERNATIVO, alterada.getCpf());
+        assertEquals("Florianópolis", alterada.getEndereco().getCidade());
+        assertEquals(ConstantsTestData.LOGRADOURO, alterada.getEndereco().getLogradouro(),
+                "Colunas não informadas devem ser mantidas");
+        assertEquals(existente.getDataNascimento(), alterada.getDataNascimento());
+        assertNotNull(alterada.getDataAtualizacao());
+
+        Pessoa lida = pessoaRepository.findById(existente.getId()).orElseThrow();
+        assertEquals(ConstantsTestData.NOME_ALTERNATIVO, lida.getNome());
+        assertEquals("Florianópolis", lida.getEndereco().getCidade());
+    }
+
+    /**
+     * Testa que um ID inexistente não altera nada e resulta em vazio.
+     */
+    @Test
+    public void testAtualizarIdInexistente() {
+        assertTrue(alteracaoPessoa.atualizar(Long.MAX_VALUE,
+                Map.of("nome", ConstantsTestData.NOME_ALTERNATIVO), null).isEmpty());
+        assertTrue(alteracaoPessoa.atualizar(Long.MAX_VALUE,
+                Map.of("cpf", ConstantsTestData.CPF_VALIDO_ALTERNATIVO), null).isEmpty());
+    }
+
+    /**
+     * Testa que o CPF de outra pessoa é recusado pela restrição de unicidade.
+     */
+    @Test
+    public void testAtualizarCpfDuplicado() {
+        Pessoa primeira = TestDataFactory.criarPessoaComEndereco();
+        primeira.setId(null);
+        pessoaRepository.saveAndFlush(primeira);
+        Pessoa segunda = TestDataFactory.criarPessoaComEndereco();
+        segunda.setId(null);
+        segunda.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        Long idSegunda = pessoaRepository.saveAndFlush(segunda).getId();
+
+        Map<String, Object> alteracoes = new HashMap<>();
+        alteracoes.put("cpf", ConstantsTestData.CPF_VALIDO);
+        assertThrows(DataIntegrityViolationException.class, () -> alteracaoPessoa.atualizar(idSegunda, alteracoes, null));
+    }
+
+    /**
+     * Testa que atributos não alteráveis, como o ID, são recusados.
+     */
+    @Test
+    public void testAtualizarAtributoNaoAlteravel() {
+        assertThrows(IllegalArgumentException.class,
+                () -> alteracaoPessoa.atualizar(1L, Map.of("id", 2L), null));
+    }
+
+    /**
+     * Testa que cada alteração incrementa a versão e que a versão esperada entra na condição do comando.
+     */
+    @Test
+    public void testAtualizarComVersaoEsperada() {
+        Pessoa existente = TestDataFactory.criarPessoaComEndereco();
+        existente.setId(null);
+        Long id = pessoaRepository.saveAndFlush(existente).getId();
+        entityManager.clear();
+        Map<String, Object> alteracoes = Map.of("nome", ConstantsTestData.NOME_ALTERNATIVO);
+
+        assertEquals(1, alteracaoPessoa.atualizar(id, alteracoes, 0L).orElseThrow().pessoa().getVersao());
+        assertTrue(alteracaoPessoa.atualizar(id, alteracoes, 0L).isEmpty(), "Versão desatualizada não deve alterar");
+        assertEquals(2, alteracaoPessoa.atualizar(id, alteracoes, null).orElseThrow().pessoa().getVersao());
+    }
+
+    /**
+     * Testa a remoção condicionada à versão, com o CPF removido devolvido pelo próprio comando.
+     */
+    @Test
+    public void testRemover() {
+        Pessoa existente = TestDataFactory.criarPessoaComEndereco();
+        existente.setId(null);
+        Long id = pessoaRepository.saveAndFlush(existente).getId();
+        entityManager.clear();
+
+        assertTrue(alteracaoPessoa.remover(id, 5L).isEmpty(), "Versão desatualizada não deve remover");
+        assertEquals(ConstantsTestData.CPF_VALIDO, alteracaoPessoa.remover(id, 0L).orElseThrow());
+        assertFalse(pessoaRepository.existsById(id));
+        assertTrue(alteracaoPessoa.remover(id, null).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a {@link BuscaNomeTrigramaMemoria}.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+public class BuscaNomeTrigramaMemoriaTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Testa se a busca ignora acentos, tolera erros de digitação e ordena por similaridade.
+     */
+    @Test
+    public void testBuscarIds() {
+        Pessoa joao = salvar("João Silva", ConstantsTestData.CPF_VALIDO);
+        Pessoa joana = salvar("Joana Silveira", ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        salvar("Maria Souza", "11144477735");
+        entityManager.flush();
+
+        BuscaNomeTrigramaMemoria busca = new BuscaNomeTrigramaMemoria(jdbcTemplate);
+
+        assertEquals(List.of(joao.getId(), joana.getId()), busca.buscarIds("joao silva", 10));
+        assertEquals(List.of(joao.getId()), busca.buscarIds("Joao Silvz", 1));
+        assertTrue(busca.buscarIds("Pedro", 10).isEmpty());
+    }
+
+    private Pessoa salvar(String nome, String cpf) {
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+        pessoa.setId(null);
+        pessoa.setNome(nome);
+        pessoa.setCpf(cpf);
+        return pessoaRepository.save(pessoa);
+    }
+}
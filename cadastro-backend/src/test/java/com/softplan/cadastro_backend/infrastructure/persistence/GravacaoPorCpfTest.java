@@ -0,0 +1,60 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.config.GravacaoPorCpfConfig;
+import com.softplan.cadastro_backend.infrastructure.config.SequenciaConfig;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a {@link GravacaoPorCpf} no H2.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+@Import({AlocadorIdsPessoa.class, SequenciaConfig.class, GravacaoPorCpfConfig.class})
+public class GravacaoPorCpfTest {
+
+    @Autowired
+    private GravacaoPorCpf gravacaoPorCpf;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Testa a inclusão de um CPF novo e a atualização, com o mesmo ID e data de cadastro, do CPF existente.
+     */
+    @Test
+    public void testIncluirEAtualizar() {
+        Pessoa nova = TestDataFactory.criarPessoaComEndereco();
+        nova.setId(null);
+
+        assertTrue(gravacaoPorCpf.gravar(nova), "CPF novo deve ser incluído");
+        Long id = nova.getId();
+
+        Pessoa alterada = TestDataFactory.criarPessoaComEndereco();
+        alterada.setId(null);
+        alterada.setNome(ConstantsTestData.NOME_ALTERNATIVO);
+
+        assertFalse(gravacaoPorCpf.gravar(alterada), "CPF existente deve ser atualizado");
+        assertEquals(id, alterada.getId());
+        assertEquals(nova.getDataCadastro(), alterada.getDataCadastro());
+        assertEquals(1, alterada.getVersao(), "A atualização deve incrementar a versão");
+
+        entityManager.clear();
+        assertEquals(1, pessoaRepository.count());
+        Pessoa lida = pessoaRepository.findById(id).orElseThrow();
+        assertEquals(ConstantsTestData.NOME_ALTERNATIVO, lida.getNome());
+        assertEquals(ConstantsTestData.CIDADE, lida.getEndereco().getCidade());
+    }
+}
@@ -0,0 +1,104 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link InclusaoAgrupadaPessoa}.
+ */
+public class InclusaoAgrupadaPessoaTest {
+
+    private final PessoaJdbcRepository pessoaJdbcRepository = mock(PessoaJdbcRepository.class);
+    private final ExecutorService requisicoes = Executors.newFixedThreadPool(2);
+
+    /**
+     * Encerra as threads das requisições simuladas.
+     */
+    @AfterEach
+    public void tearDown() {
+        requisicoes.shutdownNow();
+    }
+
+    /**
+     * Testa que uma inclusão isolada é gravada ao fim da janela, sozinha no lote.
+     */
+    @Test
+    public void testIncluirAoFimDaJanela() {
+        InclusaoAgrupadaPessoa inclusao = new InclusaoAgrupadaPessoa(pessoaJdbcRepository, true,
+                Duration.ofMillis(1), 100);
+        Pessoa pessoa = TestDataFactory.criarPessoaComEndereco();
+
+        assertSame(pessoa, inclusao.incluir(pessoa));
+        verify(pessoaJdbcRepository).inserirEmLote(List.of(pessoa));
+    }
+
+    /**
+     * Testa que inclusões concorrentes são gravadas juntas, em um único lote, assim que ele se completa.
+     */
+    @Test
+    public void testIncluirConcorrentesEmUmLote() throws Exception {
+        InclusaoAgrupadaPessoa inclusao = new InclusaoAgrupadaPessoa(pessoaJdbcRepository, true,
+                Duration.ofMinutes(1), 2);
+        Pessoa primeira = TestDataFactory.criarPessoaComEndereco();
+        Pessoa segunda = TestDataFactory.criarPessoaAlternativa();
+
+        Future<Pessoa> resultadoPrimeira = requisicoes.submit(() -> inclusao.incluir(primeira));
+        Future<Pessoa> resultadoSegunda = requisicoes.submit(() -> inclusao.incluir(segunda));
+
+        assertSame(primeira, resultadoPrimeira.get(10, TimeUnit.SECONDS));
+        assertSame(segunda, resultadoSegunda.get(10, TimeUnit.SECONDS));
+        verify(pessoaJdbcRepository, times(1)).inserirEmLote(anyList());
+    }
+
+    /**
+     * Testa que, se o lote violar uma restrição, cada inclusão é repetida isoladamente e apenas a
+     * que falhou recebe o erro.
+     */
+    @Test
+    public void testViolacaoNoLoteIsolaInclusoes() throws Exception {
+        InclusaoAgrupadaPessoa inclusao = new InclusaoAgrupadaPessoa(pessoaJdbcRepository, true,
+                Duration.ofMinutes(1), 2);
+        Pessoa valida = TestDataFactory.criarPessoaComEndereco();
+        Pessoa duplicada = TestDataFactory.criarPessoaAlternativa();
+        doAnswer(invocacao -> {
+            if (invocacao.<List<Pessoa>>getArgument(0).contains(duplicada)) {
+                throw new DuplicateKeyException("uk_pessoa_cpf");
+            }
+            return null;
+        }).when(pessoaJdbcRepository).inserirEmLote(anyList());
+
+        Future<Pessoa> resultadoValida = requisicoes.submit(() -> inclusao.incluir(valida));
+        Future<Pessoa> resultadoDuplicada = requisicoes.submit(() -> inclusao.incluir(duplicada));
+
+        assertSame(valida, resultadoValida.get(10, TimeUnit.SECONDS));
+        ExecutionException erro = assertThrows(ExecutionException.class,
+                () -> resultadoDuplicada.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(DataIntegrityViolationException.class, erro.getCause());
+        verify(pessoaJdbcRepository, times(3)).inserirEmLote(anyList());
+    }
+
+    /**
+     * Testa que parâmetros inválidos são rejeitados na criação.
+     */
+    @Test
+    public void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InclusaoAgrupadaPessoa(pessoaJdbcRepository, true, Duration.ofMillis(1), 0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.config.SequenciaConfig;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da migração da coluna {@code pessoa.id} para a sequência alocada em blocos (V7), aplicada
+ * pelo Flyway sobre uma tabela que já contém pessoas.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import({PessoaJdbcRepository.class, AlocadorIdsPessoa.class, SequenciaConfig.class,
+        PessoaIdMigracaoTest.Config.class})
+public class PessoaIdMigracaoTest {
+
+    private static final int PESSOAS_EXISTENTES = 60;
+
+    @TestConfiguration
+    static class Config {
+
+        /**
+         * Aplica as migrações até a V6, cadastra pessoas com IDs de 1 a {@value #PESSOAS_EXISTENTES}
+         * e só então aplica as demais.
+         */
+        @Bean
+        FlywayMigrationStrategy migrarComPessoasExistentes() {
+            return flyway -> {
+                Flyway.configure().configuration(flyway.getConfiguration()).target("6").load().migrate();
+                new JdbcTemplate(flyway.getConfiguration().getDataSource()).batchUpdate(
+                        "INSERT INTO pessoa (id, nome, data_nascimento, cpf) VALUES (?, ?, ?, ?)",
+                        IntStream.rangeClosed(1, PESSOAS_EXISTENTES).mapToObj(id -> new Object[]{
+                                id, "Pessoa " + id, LocalDate.of(1990, 1, 1), String.format("%011d", id)}).toList());
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    /**
+     * Testa que as inclusões pelo JPA e pelo JDBC recebem IDs posteriores aos já existentes e
+     * distintos entre si.
+     */
+    @Test
+    public void testIdsAposMigracao() {
+        Pessoa porJpa = TestDataFactory.criarPessoaComEndereco();
+        porJpa.setId(null);
+        porJpa = pessoaRepository.saveAndFlush(porJpa);
+        Pessoa porJdbc = TestDataFactory.criarPessoaSemEndereco();
+        porJdbc.setId(null);
+        porJdbc.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        pessoaJdbcRepository.inserirEmLote(List.of(porJdbc));
+
+        assertTrue(porJpa.getId() > PESSOAS_EXISTENTES, "ID do JPA: " + porJpa.getId());
+        assertTrue(porJdbc.getId() > PESSOAS_EXISTENTES, "ID do JDBC: " + porJdbc.getId());
+        assertNotEquals(porJpa.getId(), porJdbc.getId());
+        assertEquals(PESSOAS_EXISTENTES + 2, pessoaRepository.count());
+    }
+}
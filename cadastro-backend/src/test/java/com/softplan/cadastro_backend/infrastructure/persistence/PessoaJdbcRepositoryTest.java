@@ -0,0 +1,117 @@
+package com.softplan.cadastro_backend.infrastructure.persistence;
+
+import com.softplan.cadastro_backend.domain.enums.SexoEnum;
+import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.PessoaRepository;
+import com.softplan.cadastro_backend.infrastructure.config.SequenciaConfig;
+import com.softplan.cadastro_backend.utils.ConstantsTestData;
+import com.softplan.cadastro_backend.utils.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link PessoaJdbcRepository}.
+ */
+@DataJpaTest(excludeAutoConfiguration = FlywayAutoConfiguration.class)
+@Import({PessoaJdbcRepository.class, AlocadorIdsPessoa.class, SequenciaConfig.class})
+public class PessoaJdbcRepositoryTest {
+
+    @Autowired
+    private PessoaJdbcRepository pessoaJdbcRepository;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Testa se todas as pessoas são percorridas em ordem de ID, com endereço e sexo convertidos.
+     */
+    @Test
+    public void testPercorrerTodas() {
+        Pessoa comEndereco = pessoaRepository.save(TestDataFactory.criarPessoaComEndereco());
+        Pessoa semSexo = TestDataFactory.criarPessoaSemEndereco();
+        semSexo.setId(null);
+        semSexo.setSexo(null);
+        semSexo = pessoaRepository.save(semSexo);
+        entityManager.flush();
+
+        List<Pessoa> lidas = new ArrayList<>();
+        pessoaJdbcRepository.percorrerTodas(1, lidas::add);
+
+        assertEquals(List.of(comEndereco.getId(), semSexo.getId()), lidas.stream().map(Pessoa::getId).toList());
+        assertEquals(ConstantsTestData.SEXO_VALIDO, lidas.get(0).getSexo());
+        assertEquals(ConstantsTestData.CIDADE, lidas.get(0).getEndereco().getCidade());
+        assertEquals(SexoEnum.NAO_DEFINIDO, lidas.get(1).getSexo(), "Sexo não informado deve ser persistido como não definido");
+        assertNotNull(lidas.get(1).getDataCadastro());
+    }
+
+    /**
+     * Testa a inclusão em lote: IDs gerados preenchidos e pessoas legíveis pelo JPA.
+     */
+    @Test
+    public void testInserirEmLote() {
+        Pessoa primeira = TestDataFactory.criarPessoaComEndereco();
+        primeira.setId(null);
+        Pessoa segunda = TestDataFactory.criarPessoaSemEndereco();
+        segunda.setId(null);
+        segunda.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        segunda.setSexo(null);
+
+        pessoaJdbcRepository.inserirEmLote(List.of(primeira, segunda));
+
+        assertNotNull(primeira.getId());
+        assertTrue(segunda.getId() > primeira.getId());
+        Pessoa lida = pessoaRepository.findById(primeira.getId()).orElseThrow();
+        assertEquals(ConstantsTestData.CIDADE, lida.getEndereco().getCidade());
+        assertNotNull(lida.getDataCadastro());
+        assertEquals(SexoEnum.NAO_DEFINIDO, pessoaRepository.findById(segunda.getId()).orElseThrow().getSexo());
+        assertArrayEquals(new long[]{Long.parseLong(ConstantsTestData.CPF_VALIDO_ALTERNATIVO)},
+                pessoaJdbcRepository.buscarCpfsCadastrados(new long[]{11144477735L,
+                        Long.parseLong(ConstantsTestData.CPF_VALIDO_ALTERNATIVO)}));
+    }
+
+    /**
+     * Testa o bloqueio com leitura dos CPFs, a atualização em lote e a remoção por IDs.
+     */
+    @Test
+    public void testAtualizarERemoverEmLote() {
+        Pessoa primeira = pessoaRepository.save(TestDataFactory.criarPessoaComEndereco());
+        Pessoa segunda = TestDataFactory.criarPessoaSemEndereco();
+        segunda.setId(null);
+        segunda.setCpf(ConstantsTestData.CPF_VALIDO_ALTERNATIVO);
+        segunda = pessoaRepository.save(segunda);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Map.of(primeira.getId(), ConstantsTestData.CPF_VALIDO), pessoaJdbcRepository.bloquearCpfsPorId(
+                List.of(primeira.getId(), Long.MAX_VALUE)));
+        assertEquals(Map.of(ConstantsTestData.CPF_VALIDO_ALTERNATIVO, segunda.getId()),
+                pessoaJdbcRepository.buscarIdsPorCpf(List.of(ConstantsTestData.CPF_VALIDO_ALTERNATIVO, "11144477735")));
+
+        Pessoa alterada = TestDataFactory.criarPessoaComEndereco();
+        alterada.setId(primeira.getId());
+        alterada.setNome(ConstantsTestData.NOME_ALTERNATIVO);
+        alterada.setCpf("11144477735");
+        pessoaJdbcRepository.atualizarEmLote(List.of(alterada));
+        assertEquals(1, pessoaJdbcRepository.removerPorIds(List.of(segunda.getId(), Long.MAX_VALUE)));
+
+        Pessoa lida = pessoaRepository.findById(primeira.getId()).orElseThrow();
+        assertEquals(ConstantsTestData.NOME_ALTERNATIVO, lida.getNome());
+        assertEquals("11144477735", lida.getCpf());
+        assertEquals(primeira.getDataCadastro().withNano(0), lida.getDataCadastro().withNano(0),
+                "A data de cadastro deve ser mantida");
+        assertFalse(pessoaRepository.existsById(segunda.getId()));
+    }
+}
@@ -0,0 +1,202 @@
+package com.softplan.cadastro_backend.presentation.controller;
+
+import com.softplan.cadastro_backend.infrastructure.persistence.RespostaIdempotenteRepository;
+import com.softplan.cadastro_backend.infrastructure.persistence.RespostaIdempotenteRepository.Resposta;
+import com.softplan.cadastro_backend.presentation.exception.ChaveIdempotenciaReutilizadaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link ExecucaoIdempotente}.
+ */
+public class ExecucaoIdempotenteTest {
+
+    private static final Map<String, String> CORPO = Map.of("nome", "João");
+
+    private final RespostaIdempotenteRepository repositorio = mock(RespostaIdempotenteRepository.class);
+    private final ExecutorService requisicoes = Executors.newFixedThreadPool(2);
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    /**
+     * Encerra as threads das requisições simuladas.
+     */
+    @AfterEach
+    public void tearDown() {
+        requisicoes.shutdownNow();
+    }
+
+    private ExecucaoIdempotente criar(boolean persistir) {
+        return new ExecucaoIdempotente(Jackson2ObjectMapperBuilder.json().build(), repositorio, persistir,
+                Duration.ofHours(1), 100);
+    }
+
+    private ResponseEntity<Map> criada() {
+        execucoes.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+    }
+
+    /**
+     * Testa que sem chave a requisição é sempre executada.
+     */
+    @Test
+    public void testSemChaveSempreExecuta() {
+        ExecucaoIdempotente execucao = criar(false);
+
+        execucao.executar("POST /x", null, CORPO, Map.class, this::criada);
+        execucao.executar("POST /x", null, CORPO, Map.class, this::criada);
+
+        assertEquals(2, execucoes.get());
+    }
+
+    /**
+     * Testa que a repetição reproduz a resposta guardada e que a mesma chave em outra rota é executada.
+     */
+    @Test
+    public void testRepeticaoReproduzResposta() {
+        ExecucaoIdempotente execucao = criar(false);
+
+        execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+        ResponseEntity<Map> repetida = execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+        execucao.executar("POST /y", "k", CORPO, Map.class, this::criada);
+
+        assertEquals(HttpStatus.CREATED, repetida.getStatusCode());
+        assertEquals(Map.of("id", 1), repetida.getBody());
+        assertEquals("true", repetida.getHeaders().getFirst(ExecucaoIdempotente.CABECALHO_REPETICAO));
+        assertEquals(2, execucoes.get());
+    }
+
+    /**
+     * Testa que a falha não é guardada: a repetição seguinte é executada.
+     */
+    @Test
+    public void testFalhaNaoEGuardada() {
+        ExecucaoIdempotente execucao = criar(false);
+
+        assertThrows(IllegalArgumentException.class, () -> execucao.executar("POST /x", "k", CORPO, Map.class,
+                () -> {
+                    throw new IllegalArgumentException("inválida");
+                }));
+        execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+
+        assertEquals(1, execucoes.get());
+    }
+
+    /**
+     * Testa que a repetição concorrente aguarda a execução em andamento e recebe a sua resposta.
+     */
+    @Test
+    public void testRepeticaoConcorrenteAguardaPrimeira() throws Exception {
+        ExecucaoIdempotente execucao = criar(false);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberada = new CountDownLatch(1);
+
+        Future<ResponseEntity<Map>> primeira = requisicoes.submit(() -> execucao.executar("POST /x", "k", CORPO,
+                Map.class, () -> {
+                    iniciada.countDown();
+                    try {
+                        liberada.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return criada();
+                }));
+        assertTrue(iniciada.await(10, TimeUnit.SECONDS));
+        Future<ResponseEntity<Map>> repetida = requisicoes.submit(() -> execucao.executar("POST /x", "k", CORPO,
+                Map.class, this::criada));
+        liberada.countDown();
+
+        assertEquals(Map.of("id", 1), primeira.get(10, TimeUnit.SECONDS).getBody());
+        assertEquals(Map.of("id", 1), repetida.get(10, TimeUnit.SECONDS).getBody());
+        assertEquals(1, execucoes.get());
+    }
+
+    /**
+     * Testa a gravação no banco e a reprodução de uma resposta gravada por outro nó.
+     */
+    @Test
+    public void testPersistencia() {
+        ExecucaoIdempotente execucao = criar(true);
+        when(repositorio.buscar(eq("POST /x gravada"), any()))
+                .thenReturn(Optional.of(new Resposta(201, "{\"id\":7}", null)));
+
+        execucao.executar("POST /x", "nova", CORPO, Map.class, this::criada);
+        ResponseEntity<Map> gravada = execucao.executar("POST /x", "gravada", CORPO, Map.class, this::criada);
+
+        verify(repositorio).gravar(eq("POST /x nova"), argThat(resposta -> resposta.status() == 201
+                && resposta.corpo().equals("{\"id\":1}") && resposta.hashRequisicao().length() == 64));
+        assertEquals(Map.of("id", 7), gravada.getBody());
+        assertEquals(1, execucoes.get());
+    }
+
+    /**
+     * Testa que a mesma chave com outro corpo é recusada, em memória e na resposta gravada por outro nó,
+     * sem executar a requisição nem descartar a resposta guardada.
+     */
+    @Test
+    public void testMesmaChaveOutroCorpo() {
+        ExecucaoIdempotente execucao = criar(true);
+        when(repositorio.buscar(eq("POST /x gravada"), any()))
+                .thenReturn(Optional.of(new Resposta(201, "{\"id\":7}", "0".repeat(64))));
+
+        execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> execucao.executar("POST /x", "k", Map.of("nome", "Maria"), Map.class, this::criada));
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> execucao.executar("POST /x", "gravada", CORPO, Map.class, this::criada));
+        ResponseEntity<Map> repetida = execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+
+        assertEquals(Map.of("id", 1), repetida.getBody());
+        assertEquals(1, execucoes.get());
+    }
+
+    /**
+     * Testa que a falha na gravação da resposta no banco não chega ao cliente, que recebe a resposta
+     * da execução já confirmada, e que a repetição é reproduzida pelo cache.
+     */
+    @Test
+    public void testFalhaNaGravacao() {
+        ExecucaoIdempotente execucao = criar(true);
+        when(repositorio.buscar(any(), any())).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("banco indisponível")).when(repositorio).gravar(any(), any());
+
+        ResponseEntity<Map> resposta = execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+        ResponseEntity<Map> repetida = execucao.executar("POST /x", "k", CORPO, Map.class, this::criada);
+
+        assertEquals(HttpStatus.CREATED, resposta.getStatusCode());
+        assertEquals("true", repetida.getHeaders().getFirst(ExecucaoIdempotente.CABECALHO_REPETICAO));
+        assertEquals(1, execucoes.get());
+    }
+
+    /**
+     * Testa a rejeição de chaves em branco ou longas demais.
+     */
+    @Test
+    public void testChaveInvalida() {
+        ExecucaoIdempotente execucao = criar(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> execucao.executar("POST /x", " ", CORPO, Map.class, this::criada));
+        assertThrows(IllegalArgumentException.class,
+                () -> execucao.executar("POST /x", "k".repeat(256), CORPO, Map.class, this::criada));
+        assertEquals(0, execucoes.get());
+    }
+}
@@ -5,10 +5,16 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.mapper.PessoaMapper;
+import com.softplan.cadastro_backend.application.pagination.PaginaCursor;
 import com.softplan.cadastro_backend.application.service.PessoaService;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.CampoPessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaCampos;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
+import com.softplan.cadastro_backend.presentation.exception.CpfJaCadastradoException;
 import com.softplan.cadastro_backend.presentation.exception.GlobalExceptionHandler;
 import com.softplan.cadastro_backend.presentation.exception.PessoaNaoEncontradaException;
+import com.softplan.cadastro_backend.presentation.exception.VersaoDesatualizadaException;
 import com.softplan.cadastro_backend.utils.ConstantsTestData;
 import com.softplan.cadastro_backend.utils.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,17 +22,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +70,13 @@ public class PessoaControllerTest {
     @Mock
     private PessoaMapper pessoaMapper;
 
+    @Spy
+    private ExecucaoIdempotente execucaoIdempotente = new ExecucaoIdempotente(
+            Jackson2ObjectMapperBuilder.json().build(), null, false, Duration.ofHours(1), 100);
+
+    private static final PessoaResumo RESUMO = TestDataFactory.criarPessoaResumo(ConstantsTestData.ID_VALIDO,
+            ConstantsTestData.NOME_VALIDO);
+
     private PessoaDTO pessoaDTO;
     private Pessoa pessoaValida;
 
@@ -86,6 +112,53 @@ public class PessoaControllerTest {
                 .andExpect(jsonPath("$.nome").value(ConstantsTestData.NOME_VALIDO));
     }
 
+    /**
+     * Testa que a repetição com a mesma Idempotency-Key reproduz a resposta, sem cadastrar novamente.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testCriarPessoa_IdempotencyKeyRepetida() throws Exception {
+        when(pessoaMapper.toEntity(any(PessoaDTO.class))).thenReturn(pessoaValida);
+        when(pessoaService.criarPessoa(any(Pessoa.class))).thenReturn(pessoaValida);
+        when(pessoaMapper.toDto(any(Pessoa.class))).thenReturn(pessoaDTO);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/pessoas")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(ExecucaoIdempotente.CABECALHO, "chave-1")
+                            .content(objectMapper.writeValueAsString(pessoaDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.nome").value(ConstantsTestData.NOME_VALIDO));
+        }
+        mockMvc.perform(post("/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(ExecucaoIdempotente.CABECALHO, "chave-1")
+                        .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(header().string(ExecucaoIdempotente.CABECALHO_REPETICAO, "true"));
+
+        verify(pessoaService, times(1)).criarPessoa(any(Pessoa.class));
+        verify(pessoaMapper, times(1)).toEntity(any(PessoaDTO.class));
+    }
+
+    /**
+     * Testa que a criação com CPF já cadastrado responde 409, sem consulta prévia ao CPF.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testCriarPessoa_CpfJaCadastrado() throws Exception {
+        when(pessoaMapper.toEntity(any(PessoaDTO.class))).thenReturn(pessoaValida);
+        when(pessoaService.criarPessoa(any(Pessoa.class)))
+                .thenThrow(new CpfJaCadastradoException(ConstantsTestData.CPF_VALIDO, null));
+
+        mockMvc.perform(post("/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Já existe uma pessoa com o CPF " + ConstantsTestData.CPF_VALIDO + "."));
+    }
+
     /**
      * Testa a busca de uma pessoa por CPF com sucesso.
      *
@@ -93,15 +166,51 @@ public class PessoaControllerTest {
      */
     @Test
     public void testBuscarPessoaPorCpf_Sucesso() throws Exception {
-        when(pessoaService.buscarPessoaPorCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(pessoaValida);
-        when(pessoaMapper.toDto(any(Pessoa.class))).thenReturn(pessoaDTO);
+        when(pessoaService.buscarResumoPorCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(RESUMO);
+        when(pessoaMapper.toDto(any(PessoaResumo.class))).thenReturn(pessoaDTO);
 
         mockMvc.perform(get("/pessoas/cpf/{cpf}", ConstantsTestData.CPF_VALIDO)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", PessoaETag.de(PessoaETag.V1, RESUMO)))
                 .andExpect(jsonPath("$.nome").value(ConstantsTestData.NOME_VALIDO));
     }
 
+    /**
+     * Testa se a busca por CPF responde 304, sem serializar a pessoa, quando a ETag informada é a atual.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testBuscarPessoaPorCpf_NaoModificada() throws Exception {
+        when(pessoaService.buscarResumoPorCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(RESUMO);
+
+        mockMvc.perform(get("/pessoas/cpf/{cpf}", ConstantsTestData.CPF_VALIDO)
+                        .header("If-None-Match", PessoaETag.de(PessoaETag.V1, RESUMO)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(pessoaService, times(1)).buscarResumoPorCpf(ConstantsTestData.CPF_VALIDO);
+        verifyNoInteractions(pessoaMapper);
+    }
+
+    /**
+     * Testa se a busca por CPF retorna o corpo quando a ETag informada é de uma versão anterior.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testBuscarPessoaPorCpf_Modificada() throws Exception {
+        String anterior = PessoaETag.de(PessoaETag.V1, ConstantsTestData.ID_VALIDO, RESUMO.versao() - 1);
+        when(pessoaService.buscarResumoPorCpf(ConstantsTestData.CPF_VALIDO)).thenReturn(RESUMO);
+        when(pessoaMapper.toDto(any(PessoaResumo.class))).thenReturn(pessoaDTO);
+
+        mockMvc.perform(get("/pessoas/cpf/{cpf}", ConstantsTestData.CPF_VALIDO)
+                        .header("If-None-Match", anterior))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", PessoaETag.de(PessoaETag.V1, RESUMO)));
+    }
+
     /**
      * Testa a atualização de uma pessoa com sucesso.
      * <p>
@@ -115,9 +224,8 @@ public class PessoaControllerTest {
         PessoaDTO dtoAtualizado = TestDataFactory.criarPessoaDTO();
         dtoAtualizado.setNome("Novo Nome");
 
-        when(pessoaService.buscarPessoaPorId(anyLong())).thenReturn(pessoaValida);
         when(pessoaMapper.toEntity(any(PessoaDTO.class))).thenReturn(pessoaValida);
-        when(pessoaService.atualizarPessoa(anyLong(), any(Pessoa.class)))
+        when(pessoaService.atualizarPessoa(anyLong(), any(Pessoa.class), isNull()))
                 .thenAnswer(invocation -> {
                     Pessoa input = invocation.getArgument(1);
                     input.setId(ConstantsTestData.ID_VALIDO);
@@ -129,9 +237,37 @@ public class PessoaControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(dtoAtualizado)))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1-" + ConstantsTestData.ID_VALIDO + "-0\""))
                 .andExpect(jsonPath("$.nome").value("Novo Nome"));
     }
 
+    /**
+     * Testa que a versão da ETag informada em If-Match é repassada à atualização e que a versão
+     * desatualizada resulta em 412.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testAtualizarPessoa_VersaoDesatualizada() throws Exception {
+        when(pessoaMapper.toEntity(any(PessoaDTO.class))).thenReturn(pessoaValida);
+        when(pessoaService.atualizarPessoa(eq(ConstantsTestData.ID_VALIDO), any(Pessoa.class), eq(RESUMO.versao())))
+                .thenThrow(new VersaoDesatualizadaException(ConstantsTestData.ID_VALIDO));
+
+        mockMvc.perform(put("/pessoas/{id}", ConstantsTestData.ID_VALIDO)
+                        .header("If-Match", PessoaETag.de(PessoaETag.V1, RESUMO))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        // ETag de outra representação ou de outra pessoa nunca corresponde à versão atual
+        mockMvc.perform(put("/pessoas/{id}", ConstantsTestData.ID_VALIDO)
+                        .header("If-Match", PessoaETag.de(PessoaETag.V2, RESUMO))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(status().isPreconditionFailed());
+        verify(pessoaService, times(1)).atualizarPessoa(anyLong(), any(Pessoa.class), any());
+    }
+
     /**
      * Testa a atualização de uma pessoa que não é encontrada.
      *
@@ -141,7 +277,8 @@ public class PessoaControllerTest {
     public void testAtualizarPessoa_NaoEncontrada() throws Exception {
         PessoaDTO dtoAtualizado = TestDataFactory.criarPessoaDTO();
 
-        when(pessoaService.buscarPessoaPorId(anyLong()))
+        when(pessoaMapper.toEntity(any(PessoaDTO.class))).thenReturn(pessoaValida);
+        when(pessoaService.atualizarPessoa(anyLong(), any(Pessoa.class), isNull()))
                 .thenThrow(new PessoaNaoEncontradaException(ConstantsTestData.ID_VALIDO));
 
         mockMvc.perform(put("/pessoas/{id}", ConstantsTestData.ID_VALIDO)
@@ -158,12 +295,11 @@ public class PessoaControllerTest {
      */
     @Test
     public void testRemoverPessoa_Sucesso() throws Exception {
-        doNothing().when(pessoaService).removerPessoa(ConstantsTestData.ID_VALIDO);
-
-        mockMvc.perform(delete("/pessoas/{id}", ConstantsTestData.ID_VALIDO))
+        mockMvc.perform(delete("/pessoas/{id}", ConstantsTestData.ID_VALIDO)
+                        .header("If-Match", PessoaETag.de(PessoaETag.V1, RESUMO)))
                 .andExpect(status().isNoContent());
 
-        verify(pessoaService, times(1)).removerPessoa(ConstantsTestData.ID_VALIDO);
+        verify(pessoaService, times(1)).removerPessoa(ConstantsTestData.ID_VALIDO, RESUMO.versao());
     }
 
     /**
@@ -174,7 +310,7 @@ public class PessoaControllerTest {
     @Test
     public void testRemoverPessoa_NaoEncontrada() throws Exception {
         doThrow(new PessoaNaoEncontradaException(ConstantsTestData.ID_VALIDO))
-                .when(pessoaService).removerPessoa(ConstantsTestData.ID_VALIDO);
+                .when(pessoaService).removerPessoa(ConstantsTestData.ID_VALIDO, null);
 
         mockMvc.perform(delete("/pessoas/{id}", ConstantsTestData.ID_VALIDO))
                 .andExpect(status().isNotFound())
@@ -182,24 +318,123 @@ public class PessoaControllerTest {
     }
 
     /**
-     * Testa a listagem de todas as pessoas cadastradas.
+     * Testa a listagem paginada das pessoas cadastradas (última página, sem próximo cursor).
      *
      * @throws Exception em caso de erro na execução do teste.
      */
     @Test
     public void testListarPessoas() throws Exception {
-        Pessoa pessoa1 = TestDataFactory.criarPessoaValida();
-        Pessoa pessoa2 = TestDataFactory.criarPessoaAlternativa();
+        PessoaResumo pessoa1 = TestDataFactory.criarPessoaResumo(1L, ConstantsTestData.NOME_VALIDO);
+        PessoaResumo pessoa2 = TestDataFactory.criarPessoaResumo(2L, ConstantsTestData.NOME_ALTERNATIVO);
 
-        when(pessoaService.listarTodasPessoas()).thenReturn(List.of(pessoa1, pessoa2));
+        when(pessoaService.listarResumos(null, 50, "id"))
+                .thenReturn(new PaginaCursor<>(List.of(pessoa1, pessoa2), null));
         when(pessoaMapper.toDto(pessoa1)).thenReturn(TestDataFactory.criarPessoaDTO());
         when(pessoaMapper.toDto(pessoa2)).thenReturn(TestDataFactory.criarPessoaDTOAlternativo());
 
         mockMvc.perform(get("/pessoas")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].nome").value(ConstantsTestData.NOME_VALIDO))
                 .andExpect(jsonPath("$[1].nome").value(ConstantsTestData.NOME_ALTERNATIVO));
     }
+
+    /**
+     * Testa se a listagem informa o cursor e o link da próxima página quando há mais registros.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testListarPessoas_ComProximaPagina() throws Exception {
+        PessoaResumo pessoa = TestDataFactory.criarPessoaResumo(1L, ConstantsTestData.NOME_VALIDO);
+
+        when(pessoaService.listarResumos("abc", 1, "nome"))
+                .thenReturn(new PaginaCursor<>(List.of(pessoa), "proximo"));
+        when(pessoaMapper.toDto(pessoa)).thenReturn(TestDataFactory.criarPessoaDTO());
+
+        mockMvc.perform(get("/pessoas")
+                        .param("after", "abc")
+                        .param("limit", "1")
+                        .param("sort", "nome")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "proximo"))
+                .andExpect(header().string("Link", containsString("after=proximo")))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    /**
+     * Testa se a listagem responde 304, sem serializar as pessoas, quando a página não mudou.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testListarPessoas_NaoModificada() throws Exception {
+        PaginaCursor<PessoaResumo> resumos = new PaginaCursor<>(List.of(RESUMO), null);
+        when(pessoaService.listarResumos(null, 50, "id")).thenReturn(resumos);
+
+        mockMvc.perform(get("/pessoas")
+                        .header("If-None-Match", PessoaETag.de(PessoaETag.V1, resumos)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(pessoaMapper);
+    }
+
+    /**
+     * Testa se parâmetros de paginação inválidos resultam em 400.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testListarPessoas_LimiteInvalido() throws Exception {
+        when(pessoaService.listarResumos(null, 0, "id"))
+                .thenThrow(new IllegalArgumentException("O limite deve estar entre 1 e 1000"));
+
+        mockMvc.perform(get("/pessoas").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("O limite deve estar entre 1 e 1000"));
+    }
+
+    /**
+     * Testa a listagem com {@code fields}, que deve retornar apenas os campos solicitados.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testListarPessoas_ComCampos() throws Exception {
+        Map<CampoPessoa, Object> valores = new EnumMap<>(CampoPessoa.class);
+        valores.put(CampoPessoa.ID, 1L);
+        valores.put(CampoPessoa.CPF, ConstantsTestData.CPF_VALIDO);
+        PessoaCampos pessoa = new PessoaCampos(1L, ConstantsTestData.NOME_VALIDO, valores);
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("id", 1L);
+        mapa.put("cpf", ConstantsTestData.CPF_VALIDO);
+
+        when(pessoaService.listarCampos(EnumSet.of(CampoPessoa.ID, CampoPessoa.CPF), null, 50, "id"))
+                .thenReturn(new PaginaCursor<>(List.of(pessoa), null));
+        when(pessoaMapper.toMapa(pessoa)).thenReturn(mapa);
+
+        mockMvc.perform(get("/pessoas").param("fields", "cpf,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].cpf").value(ConstantsTestData.CPF_VALIDO))
+                .andExpect(jsonPath("$[0].nome").doesNotExist());
+    }
+
+    /**
+     * Testa a rejeição do campo endereço na versão 1.
+     *
+     * @throws Exception em caso de erro na execução do teste.
+     */
+    @Test
+    public void testBuscarCamposPorCpf_CampoNaoSuportado() throws Exception {
+        mockMvc.perform(get("/pessoas/cpf/{cpf}", ConstantsTestData.CPF_VALIDO).param("fields", "id,endereco"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Campo não suportado: endereco"));
+
+        verifyNoInteractions(pessoaService);
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -47,4 +48,14 @@ public class DomainValidationExceptionTest {
         assertEquals("CPF inválido", exception.getErrors().get(0), "O erro armazenado deve ser 'CPF inválido'.");
         assertEquals("CPF inválido", exception.getMessage(), "A mensagem da exceção deve ser o próprio erro.");
     }
+
+    /**
+     * Testa que a exceção não captura a pilha de chamadas.
+     */
+    @Test
+    public void testSemPilhaDeChamadas() {
+        DomainValidationException exception = new DomainValidationException(List.of("CPF inválido"));
+
+        assertEquals(0, exception.getStackTrace().length, "A exceção não deve capturar a pilha de chamadas.");
+    }
 }
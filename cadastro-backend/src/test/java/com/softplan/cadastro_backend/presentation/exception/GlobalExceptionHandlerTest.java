@@ -1,10 +1,18 @@
 package com.softplan.cadastro_backend.presentation.exception;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -15,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
  */
 public class GlobalExceptionHandlerTest {
 
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
     private GlobalExceptionHandler exceptionHandler;
 
     /**
@@ -29,43 +38,103 @@ public class GlobalExceptionHandlerTest {
      * Testa o tratamento de exceção quando uma pessoa não é encontrada.
      */
     @Test
-    public void testHandlePessoaNaoEncontrada() {
+    public void testHandlePessoaNaoEncontrada() throws IOException {
         PessoaNaoEncontradaException ex = new PessoaNaoEncontradaException("15124127759");
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handlePessoaNaoEncontrada(ex);
+        ResponseEntity<byte[]> response = exceptionHandler.handlePessoaNaoEncontrada(ex);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), "Deveria retornar 404 Not Found");
         assertNotNull(response.getBody());
-        assertEquals("Pessoa com CPF 15124127759 não encontrada.", response.getBody().get("message"));
-        assertEquals(404, response.getBody().get("status"));
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+        Map<String, Object> body = corpo(response);
+        assertEquals("about:blank", body.get("type"));
+        assertEquals("Not Found", body.get("title"));
+        assertEquals(404, body.get("status"));
+        assertEquals("Pessoa com CPF 15124127759 não encontrada.", body.get("detail"));
+        assertEquals("Pessoa com CPF 15124127759 não encontrada.", body.get("message"));
+        assertNotNull(LocalDateTime.parse((String) body.get("timestamp")));
+        assertEquals(0, ex.getStackTrace().length, "A exceção não deve capturar a pilha de chamadas");
+    }
+
+    /**
+     * Testa que mensagens com caracteres especiais são escapadas no corpo JSON.
+     */
+    @Test
+    public void testMensagemEscapada() throws IOException {
+        String mensagem = "Campo \"nome\" inválido\n\\";
+
+        Map<String, Object> body = corpo(exceptionHandler.handleValidationException(new IllegalArgumentException(mensagem)));
+
+        assertEquals(mensagem, body.get("detail"));
+        assertEquals(mensagem, body.get("message"));
     }
 
     /**
      * Testa o tratamento genérico de exceções.
      */
     @Test
-    public void testHandleGenericException() {
+    public void testHandleGenericException() throws IOException {
         Exception ex = new RuntimeException("Erro desconhecido");
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleGenericException(ex);
+        ResponseEntity<byte[]> response = exceptionHandler.handleGenericException(ex);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode(), "Deveria retornar 500 Internal Server Error");
         assertNotNull(response.getBody());
-        assertEquals("Ocorreu um erro inesperado. Contate o suporte.", response.getBody().get("message"));
-        assertEquals(500, response.getBody().get("status"));
+        assertEquals("Ocorreu um erro inesperado. Contate o suporte.", corpo(response).get("message"));
+        assertEquals(500, corpo(response).get("status"));
+        assertNotNull(LocalDateTime.parse((String) corpo(response).get("timestamp")));
     }
 
     @Test
-    public void testHandleValidationException() {
+    public void testHandleValidationException() throws IOException {
         String errorMessage = "Nome é obrigatório";
         IllegalArgumentException ex = new IllegalArgumentException(errorMessage);
 
-        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleValidationException(ex);
+        ResponseEntity<byte[]> response = exceptionHandler.handleValidationException(ex);
 
         assertEquals(400, response.getStatusCodeValue());
 
-        Map<String, Object> body = response.getBody();
+        Map<String, Object> body = corpo(response);
         assertNotNull(body, "O corpo da resposta não deve ser nulo");
         assertEquals(400, body.get("status"));
         assertEquals("Bad Request", body.get("error"));
         assertEquals(errorMessage, body.get("message"));
     }
+
+    /**
+     * Testa o tratamento de violações das regras de validação, com todas as mensagens.
+     */
+    @Test
+    public void testHandleDomainValidationException() throws IOException {
+        List<String> erros = List.of("Nome é obrigatório", "CPF inválido");
+
+        ResponseEntity<byte[]> response =
+                exceptionHandler.handleDomainValidationException(new DomainValidationException(erros));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode(), "Deveria retornar 422 Unprocessable Entity");
+        assertNotNull(response.getBody());
+        assertEquals(422, corpo(response).get("status"));
+        assertEquals(erros, corpo(response).get("errors"));
+        assertNotNull(LocalDateTime.parse((String) corpo(response).get("timestamp")));
+        assertEquals("Nome é obrigatório; CPF inválido", corpo(response).get("message"));
+    }
+
+    /**
+     * Testa o tratamento de parâmetros de consulta que não puderam ser convertidos.
+     */
+    @Test
+    public void testHandleBindException() throws IOException {
+        BindException ex = new BindException(new Object(), "filtro");
+        ex.addError(new FieldError("filtro", "sexo", "valor inválido"));
+
+        ResponseEntity<byte[]> response = exceptionHandler.handleBindException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Parâmetros inválidos: sexo", corpo(response).get("message"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> corpo(ResponseEntity<byte[]> response) throws IOException {
+        assertNotNull(response.getBody(), "O corpo da resposta não deve ser nulo");
+        return objectMapper.readValue(response.getBody(), Map.class);
+    }
 }
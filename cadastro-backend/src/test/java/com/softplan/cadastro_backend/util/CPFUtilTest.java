@@ -89,4 +89,41 @@ public class CPFUtilTest {
         assertFalse(CPFUtil.isDigitosVerificadoresValidos("76570555970"));
         assertFalse(CPFUtil.isDigitosVerificadoresValidos("76570555971"));
     }
+
+    /**
+     * Testa que o CPF já limpo é devolvido sem cópia e que a limpeza descarta qualquer não dígito.
+     */
+    @Test
+    public void testLimparCPFSemCopia() {
+        String limpo = "52998224725";
+        assertSame(limpo, CPFUtil.limparCPF(limpo));
+        assertEquals("52998224725", CPFUtil.limparCPF(" 529 982 247/25x"));
+        assertEquals("", CPFUtil.limparCPF("abc"));
+        assertNull(CPFUtil.limparCPF("  "));
+    }
+
+    /**
+     * Testa a validação e conversão do CPF para número em uma única passagem.
+     */
+    @Test
+    public void testParaNumero() {
+        assertEquals(52998224725L, CPFUtil.paraNumero("529.982.247-25"));
+        assertEquals(52998224725L, CPFUtil.paraNumero("52998224725"));
+        assertEquals(191L, CPFUtil.paraNumero("000.000.001-91"));
+        assertEquals(CPFUtil.CPF_INVALIDO, CPFUtil.paraNumero("529.982.247-26"));
+        assertEquals(CPFUtil.CPF_INVALIDO, CPFUtil.paraNumero("111.111.111-11"));
+        assertEquals(CPFUtil.CPF_INVALIDO, CPFUtil.paraNumero("5299822472"));
+        assertEquals(CPFUtil.CPF_INVALIDO, CPFUtil.paraNumero("529982247250"));
+        assertEquals(CPFUtil.CPF_INVALIDO, CPFUtil.paraNumero(null));
+    }
+
+    /**
+     * Testa a conversão do CPF numérico para texto, com os zeros à esquerda.
+     */
+    @Test
+    public void testParaTexto() {
+        assertEquals("00000000191", CPFUtil.paraTexto(191L));
+        assertEquals("52998224725", CPFUtil.paraTexto(CPFUtil.paraNumero("529.982.247-25")));
+        assertThrows(IllegalArgumentException.class, () -> CPFUtil.paraTexto(CPFUtil.CPF_INVALIDO));
+    }
 }
@@ -0,0 +1,46 @@
+package com.softplan.cadastro_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os métodos utilitários de similaridade por trigramas.
+ */
+public class TrigramaUtilTest {
+
+    /**
+     * Testa a remoção de acentos e a conversão para minúsculas.
+     */
+    @Test
+    public void testNormalizar() {
+        assertEquals("joao conceicao", TrigramaUtil.normalizar("João Conceição"));
+        assertEquals("", TrigramaUtil.normalizar(null));
+    }
+
+    /**
+     * Testa a extração de trigramas com o mesmo preenchimento do pg_trgm.
+     */
+    @Test
+    public void testTrigramas() {
+        assertEquals(Set.of("  c", " ca", "cat", "at "), TrigramaUtil.trigramas("cat"));
+        assertTrue(TrigramaUtil.trigramas("  ").isEmpty());
+    }
+
+    /**
+     * Testa a similaridade entre nomes iguais, parecidos e diferentes.
+     */
+    @Test
+    public void testSimilaridade() {
+        Set<String> joao = TrigramaUtil.trigramas(TrigramaUtil.normalizar("João Silva"));
+
+        assertEquals(1.0, TrigramaUtil.similaridade(joao, TrigramaUtil.trigramas("joao silva")));
+        assertTrue(TrigramaUtil.similaridade(joao, TrigramaUtil.trigramas("joao silvz"))
+                >= TrigramaUtil.LIMIAR_SIMILARIDADE, "Erro de digitação deve continuar parecido");
+        assertTrue(TrigramaUtil.similaridade(joao, TrigramaUtil.trigramas("maria souza"))
+                < TrigramaUtil.LIMIAR_SIMILARIDADE);
+        assertEquals(0.0, TrigramaUtil.similaridade(joao, Set.of()));
+    }
+}
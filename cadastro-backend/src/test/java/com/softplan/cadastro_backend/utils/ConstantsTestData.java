@@ -19,6 +19,7 @@ public class ConstantsTestData {
     public static final String NATURALIDADE = "São Paulo";
     public static final String NACIONALIDADE = "Brasil";
     public static final SexoEnum SEXO_VALIDO = SexoEnum.MASCULINO;
+    public static final long VERSAO_VALIDA = 3L;
 
     public static final String CPF_INVALIDO = "123456789";
     public static final String EMAIL_INVALIDO = "joaoemail.com";
@@ -5,6 +5,8 @@ import com.softplan.cadastro_backend.application.dto.PessoaDTO;
 import com.softplan.cadastro_backend.application.dto.PessoaDTOV2;
 import com.softplan.cadastro_backend.domain.model.Endereco;
 import com.softplan.cadastro_backend.domain.model.Pessoa;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaDetalhe;
+import com.softplan.cadastro_backend.domain.repository.projection.PessoaResumo;
 
 /**
  * Fábrica de objetos para testes unitários.
@@ -206,4 +208,31 @@ public class TestDataFactory {
                 .endereco(null)
                 .build();
     }
+
+    /**
+     * Cria uma projeção {@link PessoaResumo} (colunas da versão 1).
+     *
+     * @param id   ID da pessoa.
+     * @param nome nome da pessoa.
+     * @return um resumo com os demais dados válidos
+     */
+    public static PessoaResumo criarPessoaResumo(Long id, String nome) {
+        return new PessoaResumo(id, nome, ConstantsTestData.SEXO_VALIDO, ConstantsTestData.EMAIL_VALIDO,
+                ConstantsTestData.DATA_NASCIMENTO_VALIDA, ConstantsTestData.NATURALIDADE,
+                ConstantsTestData.NACIONALIDADE, ConstantsTestData.CPF_VALIDO, ConstantsTestData.VERSAO_VALIDA);
+    }
+
+    /**
+     * Cria uma projeção {@link PessoaDetalhe} (colunas da versão 2, com endereço).
+     *
+     * @param id   ID da pessoa.
+     * @param nome nome da pessoa.
+     * @return um detalhe com os demais dados válidos
+     */
+    public static PessoaDetalhe criarPessoaDetalhe(Long id, String nome) {
+        return new PessoaDetalhe(id, nome, ConstantsTestData.SEXO_VALIDO, ConstantsTestData.EMAIL_VALIDO,
+                ConstantsTestData.DATA_NASCIMENTO_VALIDA, ConstantsTestData.NATURALIDADE,
+                ConstantsTestData.NACIONALIDADE, ConstantsTestData.CPF_VALIDO, ConstantsTestData.VERSAO_VALIDA,
+                criarEndereco());
+    }
 }